@@ -0,0 +1,65 @@
+package udistrital.avanzada.taller.control;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import udistrital.avanzada.taller.modelo.Jugador;
+
+/**
+ * Mide el reparto equilibrado de {@link ArmadorEquipos} sobre nóminas de
+ * distintos tamaños con calificaciones de distribución normal. La meta es
+ * repartir 100 000 jugadores en menos de un segundo; el tiempo medio de
+ * cada tamaño queda en milisegundos en el informe de JMH
+ * ({@code -Djmh.filtro=ArmadorEquiposBenchmark}).
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArmadorEquiposBenchmark {
+
+    @Param({"1000", "100000"})
+    private int cantidadJugadores;
+
+    private List<Jugador> jugadores;
+    private Map<Jugador, Double> calificaciones;
+    private ArmadorEquipos armador;
+
+    @Setup
+    public void preparar() {
+        Random random = new Random(2026);
+        jugadores = new ArrayList<>(cantidadJugadores);
+        calificaciones = new IdentityHashMap<>(cantidadJugadores);
+        for (int i = 0; i < cantidadJugadores; i++) {
+            Jugador j = new Jugador("Jugador" + i, "foto.jpg", "Apodo" + i);
+            jugadores.add(j);
+            calificaciones.put(j, 1500 + 300 * random.nextGaussian());
+        }
+        armador = new ArmadorEquipos(4);
+    }
+
+    @Benchmark
+    public List<List<Jugador>> armar() {
+        return armador.armar(jugadores, calificaciones::get, 7);
+    }
+}
@@ -0,0 +1,97 @@
+package udistrital.avanzada.taller.control;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import udistrital.avanzada.taller.modelo.EstadoPartida;
+
+/**
+ * Mide el costo de un lanzamiento de {@link ControlPartida}, con y sin
+ * construcción de texto, durante las manos normales y durante la muerte
+ * súbita.
+ *
+ * <p>Para medir la muerte súbita se busca una vez una partida que llegue a
+ * ella y se guarda como plantilla; cada vez que el desempate termina se
+ * continúa desde una copia de la plantilla.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PartidaBenchmark {
+
+    private Random random;
+    private ControlPartida partidaTexto;
+    private ControlPartida partidaSimulada;
+    private ControlPartida plantillaMuerteSubita;
+    private ControlPartida muerteSubitaTexto;
+    private ControlPartida muerteSubitaSimulada;
+
+    @Setup
+    public void preparar() {
+        random = new Random(2026);
+        partidaTexto = PartidasPrueba.crearPartida(1);
+        partidaSimulada = PartidasPrueba.crearPartida(2);
+
+        for (long semilla = 1; plantillaMuerteSubita == null; semilla++) {
+            ControlPartida candidata = PartidasPrueba.crearPartida(semilla);
+            while (candidata.isPartidaActiva() && !candidata.isMuerteSubitaActiva()) {
+                candidata.simularLanzamiento();
+            }
+            if (candidata.isMuerteSubitaActiva()) {
+                plantillaMuerteSubita = candidata;
+            }
+        }
+        muerteSubitaTexto = plantillaMuerteSubita.copiar(random);
+        muerteSubitaSimulada = plantillaMuerteSubita.copiar(random);
+    }
+
+    @Benchmark
+    public String lanzarArgolla() {
+        if (!partidaTexto.isPartidaActiva() || partidaTexto.isMuerteSubitaActiva()) {
+            partidaTexto.reiniciar();
+        }
+        return partidaTexto.lanzarArgolla();
+    }
+
+    @Benchmark
+    public EstadoPartida simularLanzamiento() {
+        if (!partidaSimulada.isPartidaActiva() || partidaSimulada.isMuerteSubitaActiva()) {
+            partidaSimulada.reiniciar();
+        }
+        partidaSimulada.simularLanzamiento();
+        return partidaSimulada.getEstado();
+    }
+
+    @Benchmark
+    public String lanzarArgollaMuerteSubita() {
+        if (!muerteSubitaTexto.isMuerteSubitaActiva()) {
+            muerteSubitaTexto = plantillaMuerteSubita.copiar(random);
+        }
+        return muerteSubitaTexto.lanzarArgolla();
+    }
+
+    @Benchmark
+    public EstadoPartida simularLanzamientoMuerteSubita() {
+        if (!muerteSubitaSimulada.isMuerteSubitaActiva()) {
+            muerteSubitaSimulada = plantillaMuerteSubita.copiar(random);
+        }
+        muerteSubitaSimulada.simularLanzamiento();
+        return muerteSubitaSimulada.getEstado();
+    }
+}
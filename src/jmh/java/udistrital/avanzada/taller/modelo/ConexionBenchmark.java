@@ -0,0 +1,62 @@
+package udistrital.avanzada.taller.modelo;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide {@link Conexion#leerTodo()} sobre archivos de registros de 304 bytes.
+ *
+ * @author Paula Martínez
+ * @version 1.0
+ * 19/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConexionBenchmark {
+
+    @Param({"1000", "10000"})
+    public int registros;
+
+    private File archivo;
+    private Conexion conexion;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        archivo = File.createTempFile("bench-conexion", ".dat");
+        conexion = new Conexion(archivo);
+        for (int i = 0; i < registros; i++) {
+            conexion.escribir(i, "Equipo " + (i % 512), "Carlos Rodriguez", "Maria Gutierrez",
+                    "Pedro Sanchez", "Ana Martinez", i % 2 == 0 ? "GANADOR" : "PERDEDOR");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void limpiar() {
+        conexion.cerrar();
+        archivo.delete();
+    }
+
+    @Benchmark
+    public ArrayList<String> leerTodo() {
+        return conexion.leerTodo();
+    }
+}
@@ -0,0 +1,59 @@
+package udistrital.avanzada.taller.modelo.persistencia;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import udistrital.avanzada.taller.modelo.Equipo;
+
+/**
+ * Mide {@link ControlPersistencia#cargarEquiposDesdeArchivo(File)} sobre
+ * archivos generados con {@link GeneradorDatos} con distintas cantidades de
+ * equipos; cada archivo trae además el doble de jugadores disponibles.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ControlPersistenciaBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int equipos;
+
+    private File archivo;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        archivo = File.createTempFile("bench-equipos", ".properties");
+        new GeneradorDatos(equipos).generarEquipos(archivo, equipos, equipos * 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void limpiar() {
+        archivo.delete();
+    }
+
+    @Benchmark
+    public List<Equipo> cargarEquipos() {
+        return new ControlPersistencia().cargarEquiposDesdeArchivo(archivo);
+    }
+}
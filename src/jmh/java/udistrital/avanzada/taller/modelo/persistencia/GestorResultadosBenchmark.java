@@ -0,0 +1,89 @@
+package udistrital.avanzada.taller.modelo.persistencia;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide la escritura por lotes y la lectura completa del archivo de
+ * resultados de 572 bytes por registro con 1k, 100k y 1M registros.
+ *
+ * <p>Cada operación recorre el archivo entero, por lo que se mide en modo de
+ * disparo único. Con un millón de registros la lectura arma cerca de un
+ * millón de textos, así que la JVM de la medición usa un montículo de 4 GB.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class GestorResultadosBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int registros;
+
+    private File directorio;
+    private List<RegistroResultado> lote;
+    private GestorResultados gestorLectura;
+    private GestorResultados gestorEscritura;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        directorio = Files.createTempDirectory("bench-resultados").toFile();
+        lote = new ArrayList<>(registros);
+        String[] jugadores = {"Carlos Rodriguez (El Trueno)", "Maria Gutierrez (La Reina)",
+            "Pedro Sanchez (El Tigre)", "Ana Martinez (La Flecha)"};
+        for (int i = 0; i < registros; i++) {
+            lote.add(new RegistroResultado(0, "Equipo " + (i % 512), jugadores,
+                    i % 2 == 0 ? "GANADOR" : "PERDEDOR", 21 + i % 8, 1 + i % 2));
+        }
+        File lectura = new File(directorio, "lectura.dat");
+        new GeneradorDatos(registros).generarResultados(lectura, registros, 512);
+        gestorLectura = new GestorResultados(lectura);
+        gestorEscritura = new GestorResultados(new File(directorio, "escritura.dat"));
+    }
+
+    @Setup(Level.Invocation)
+    public void vaciarArchivoEscritura() {
+        gestorEscritura.limpiarResultados();
+    }
+
+    @TearDown(Level.Trial)
+    public void limpiar() {
+        gestorLectura.limpiarResultados();
+        gestorEscritura.limpiarResultados();
+        directorio.delete();
+    }
+
+    @Benchmark
+    public int escribir() throws IOException {
+        gestorEscritura.guardarResultados(lote);
+        return gestorEscritura.getCantidadRegistros();
+    }
+
+    @Benchmark
+    public List<String> leer() throws IOException {
+        return gestorLectura.leerTodosLosResultados();
+    }
+}
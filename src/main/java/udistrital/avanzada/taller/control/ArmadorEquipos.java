@@ -0,0 +1,214 @@
+package udistrital.avanzada.taller.control;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+import udistrital.avanzada.taller.modelo.Jugador;
+
+/**
+ * Reparte una lista de jugadores en equipos del mismo tamaño con fuerzas
+ * parecidas, midiendo la fuerza de un equipo como la suma de las
+ * calificaciones de sus jugadores.
+ *
+ * <p>Primero se ordena a los jugadores por calificación y se reparten en
+ * serpiente (1..T, T..1, 1..T, ...), lo que ya equilibra los puestos de
+ * cada equipo. Después, en unas pocas pasadas, cada equipo fuerte se
+ * empareja con uno débil y se intercambia el par de jugadores que más
+ * acerca sus sumas, lo que reduce la varianza entre equipos. El costo es
+ * O(n log n) por el ordenamiento más O(T log T) por pasada, así que cien
+ * mil jugadores se reparten en milisegundos.</p>
+ *
+ * <p>La semilla sólo decide el orden entre jugadores con la misma
+ * calificación; con la misma lista y la misma semilla el resultado es
+ * siempre el mismo.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class ArmadorEquipos {
+
+    /** Pasadas de intercambio como máximo. */
+    private static final int MAXIMO_PASADAS = 16;
+
+    private final int tamanoEquipo;
+
+    /**
+     * Constructor
+     *
+     * @param tamanoEquipo jugadores por equipo
+     */
+    public ArmadorEquipos(int tamanoEquipo) {
+        if (tamanoEquipo <= 0) {
+            throw new IllegalArgumentException("El tamaño de los equipos debe ser positivo.");
+        }
+        this.tamanoEquipo = tamanoEquipo;
+    }
+
+    /**
+     * Reparte los jugadores en equipos. Si la cantidad no es múltiplo del
+     * tamaño de equipo, los de menor calificación quedan sin equipo.
+     *
+     * @param jugadores jugadores a repartir
+     * @param calificacion calificación de cada jugador
+     * @param semilla semilla para desempatar calificaciones iguales
+     * @return equipos formados; cada uno es una lista de jugadores
+     */
+    public List<List<Jugador>> armar(List<Jugador> jugadores, ToDoubleFunction<Jugador> calificacion, long semilla) {
+        if (jugadores == null || calificacion == null) {
+            throw new IllegalArgumentException("Se requieren los jugadores y su calificación.");
+        }
+        int n = jugadores.size();
+        int cantidadEquipos = n / tamanoEquipo;
+        if (cantidadEquipos == 0) {
+            return new ArrayList<>();
+        }
+
+        // Barajar según la semilla y ordenar de mayor a menor calificación;
+        // las calificaciones iguales quedan en el orden barajado
+        double[] valores = new double[n];
+        int[] barajados = new int[n];
+        for (int i = 0; i < n; i++) {
+            valores[i] = calificacion.applyAsDouble(jugadores.get(i));
+            barajados[i] = i;
+        }
+        Random random = new Random(semilla);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = barajados[i];
+            barajados[i] = barajados[j];
+            barajados[j] = tmp;
+        }
+        long[] claves = new long[n];
+        for (int i = 0; i < n; i++) {
+            claves[i] = clave(-valores[barajados[i]], i);
+        }
+        Arrays.sort(claves);
+        int[] orden = new int[n];
+        for (int i = 0; i < n; i++) {
+            orden[i] = barajados[(int) claves[i]];
+        }
+
+        // Reparto en serpiente: miembros[e * tamano + puesto] = índice del jugador
+        int[] miembros = new int[cantidadEquipos * tamanoEquipo];
+        double[] sumas = new double[cantidadEquipos];
+        for (int puesto = 0; puesto < tamanoEquipo; puesto++) {
+            for (int k = 0; k < cantidadEquipos; k++) {
+                int equipo = puesto % 2 == 0 ? k : cantidadEquipos - 1 - k;
+                int jugador = orden[puesto * cantidadEquipos + k];
+                miembros[equipo * tamanoEquipo + puesto] = jugador;
+                sumas[equipo] += valores[jugador];
+            }
+        }
+
+        for (int pasada = 0; pasada < MAXIMO_PASADAS; pasada++) {
+            if (!intercambiar(miembros, sumas, valores)) {
+                break;
+            }
+        }
+
+        List<List<Jugador>> equipos = new ArrayList<>(cantidadEquipos);
+        for (int e = 0; e < cantidadEquipos; e++) {
+            List<Jugador> equipo = new ArrayList<>(tamanoEquipo);
+            for (int p = 0; p < tamanoEquipo; p++) {
+                equipo.add(jugadores.get(miembros[e * tamanoEquipo + p]));
+            }
+            equipos.add(equipo);
+        }
+        return equipos;
+    }
+
+    /**
+     * Varianza de las sumas de calificación de unos equipos.
+     *
+     * @param equipos equipos formados
+     * @param calificacion calificación de cada jugador
+     * @return varianza poblacional de las sumas
+     */
+    public static double varianza(List<List<Jugador>> equipos, ToDoubleFunction<Jugador> calificacion) {
+        if (equipos.isEmpty()) {
+            return 0;
+        }
+        double[] sumas = new double[equipos.size()];
+        double media = 0;
+        for (int e = 0; e < sumas.length; e++) {
+            for (Jugador j : equipos.get(e)) {
+                sumas[e] += calificacion.applyAsDouble(j);
+            }
+            media += sumas[e];
+        }
+        media /= sumas.length;
+        double total = 0;
+        for (double s : sumas) {
+            total += (s - media) * (s - media);
+        }
+        return total / sumas.length;
+    }
+
+    /**
+     * Clave para ordenar con un {@code long[]} sin objetos: el valor, como
+     * float con los bits ordenables, en la parte alta y la posición en la
+     * parte baja, que desempata y permite recuperar el elemento.
+     */
+    private static long clave(double valor, int posicion) {
+        int bits = Float.floatToIntBits((float) valor);
+        bits ^= (bits >> 31) & 0x7fffffff;
+        return ((long) bits << 32) | (posicion & 0xffffffffL);
+    }
+
+    /**
+     * Una pasada de intercambios: empareja el k-ésimo equipo más fuerte con
+     * el k-ésimo más débil y aplica el mejor intercambio de un jugador por
+     * otro entre ellos, si acerca sus sumas.
+     *
+     * @return true si hubo al menos un intercambio
+     */
+    private boolean intercambiar(int[] miembros, double[] sumas, double[] valores) {
+        int cantidadEquipos = sumas.length;
+        long[] porSuma = new long[cantidadEquipos];
+        for (int e = 0; e < cantidadEquipos; e++) {
+            porSuma[e] = clave(sumas[e], e);
+        }
+        Arrays.sort(porSuma);
+
+        boolean mejoro = false;
+        for (int k = 0; k < cantidadEquipos / 2; k++) {
+            int debil = (int) porSuma[k];
+            int fuerte = (int) porSuma[cantidadEquipos - 1 - k];
+            double diferencia = sumas[fuerte] - sumas[debil];
+            if (diferencia <= 0) {
+                break;
+            }
+            // Pasar delta del fuerte al débil deja una diferencia |diferencia - 2 delta|
+            double mejorResto = diferencia;
+            int mejorF = -1;
+            int mejorD = -1;
+            for (int pf = 0; pf < tamanoEquipo; pf++) {
+                double vf = valores[miembros[fuerte * tamanoEquipo + pf]];
+                for (int pd = 0; pd < tamanoEquipo; pd++) {
+                    double delta = vf - valores[miembros[debil * tamanoEquipo + pd]];
+                    double resto = Math.abs(diferencia - 2 * delta);
+                    if (delta > 0 && resto < mejorResto) {
+                        mejorResto = resto;
+                        mejorF = pf;
+                        mejorD = pd;
+                    }
+                }
+            }
+            if (mejorF >= 0) {
+                int posF = fuerte * tamanoEquipo + mejorF;
+                int posD = debil * tamanoEquipo + mejorD;
+                double delta = valores[miembros[posF]] - valores[miembros[posD]];
+                int tmp = miembros[posF];
+                miembros[posF] = miembros[posD];
+                miembros[posD] = tmp;
+                sumas[fuerte] -= delta;
+                sumas[debil] += delta;
+                mejoro = true;
+            }
+        }
+        return mejoro;
+    }
+}
@@ -0,0 +1,196 @@
+package udistrital.avanzada.taller.control;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import udistrital.avanzada.taller.modelo.EstadoPartida;
+import udistrital.avanzada.taller.modelo.EventoLanzamiento;
+
+/**
+ * Reparte los eventos de una partida a escuchas lentas sin frenar el motor.
+ *
+ * <p>El bus se registra como una escucha más de {@link ControlPartida}. Cada
+ * suscriptor tiene su propia cola acotada y su propio hilo virtual que le
+ * entrega los eventos en orden. Si un suscriptor no da abasto y su cola se
+ * llena, los eventos nuevos para él se descartan y se cuentan; el hilo de la
+ * partida nunca espera y los demás suscriptores no se ven afectados.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class BusEventosPartida implements EscuchaPartida, AutoCloseable {
+
+    /** Capacidad por defecto de la cola de cada suscriptor. */
+    public static final int CAPACIDAD_POR_DEFECTO = 1024;
+
+    private final List<Suscripcion> suscripciones;
+    private volatile boolean cerrado;
+
+    /**
+     * Constructor
+     */
+    public BusEventosPartida() {
+        this.suscripciones = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Suscribe una escucha con la capacidad de cola por defecto.
+     * @param escucha escucha a suscribir
+     */
+    public void suscribir(EscuchaPartida escucha) {
+        suscribir(escucha, CAPACIDAD_POR_DEFECTO);
+    }
+
+    /**
+     * Suscribe una escucha con su propia cola acotada.
+     *
+     * @param escucha escucha a suscribir
+     * @param capacidad eventos pendientes que se guardan antes de descartar
+     */
+    public void suscribir(EscuchaPartida escucha, int capacidad) {
+        if (escucha == null || capacidad <= 0) {
+            throw new IllegalArgumentException("Se requiere una escucha y una capacidad positiva.");
+        }
+        if (cerrado) {
+            throw new IllegalStateException("El bus de eventos ya fue cerrado.");
+        }
+        suscripciones.add(new Suscripcion(escucha, capacidad));
+    }
+
+    /**
+     * Cancela la suscripción de una escucha. Los eventos que tenga pendientes
+     * se descartan.
+     *
+     * @param escucha escucha a retirar
+     * @return true si estaba suscrita
+     */
+    public boolean cancelar(EscuchaPartida escucha) {
+        for (Suscripcion s : suscripciones) {
+            if (s.escucha == escucha) {
+                suscripciones.remove(s);
+                s.detener();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtiene cuántos eventos se descartaron para una escucha porque su cola estaba llena.
+     * @param escucha escucha suscrita
+     * @return eventos descartados, o 0 si la escucha no está suscrita
+     */
+    public long getDescartados(EscuchaPartida escucha) {
+        for (Suscripcion s : suscripciones) {
+            if (s.escucha == escucha) {
+                return s.descartados.get();
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public void onLanzamiento(EventoLanzamiento evento) {
+        publicar(e -> e.onLanzamiento(evento));
+    }
+
+    @Override
+    public void onManoCompleta(int indiceEquipo, EstadoPartida estado) {
+        publicar(e -> e.onManoCompleta(indiceEquipo, estado));
+    }
+
+    @Override
+    public void onMuerteSubita(EstadoPartida estado) {
+        publicar(e -> e.onMuerteSubita(estado));
+    }
+
+    @Override
+    public void onRondaTerminada(int indiceGanador, EstadoPartida estado) {
+        publicar(e -> e.onRondaTerminada(indiceGanador, estado));
+    }
+
+    /**
+     * Deja de aceptar eventos y espera a que cada suscriptor procese los que
+     * tenía pendientes.
+     */
+    @Override
+    public void close() {
+        cerrado = true;
+        for (Suscripcion s : suscripciones) {
+            s.cerrar();
+        }
+        suscripciones.clear();
+    }
+
+    private void publicar(Consumer<EscuchaPartida> entrega) {
+        if (cerrado) {
+            return;
+        }
+        for (Suscripcion s : suscripciones) {
+            if (!s.cola.offer(entrega)) {
+                s.descartados.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Cola e hilo de entrega de un suscriptor.
+     */
+    private static final class Suscripcion {
+
+        private final EscuchaPartida escucha;
+        private final BlockingQueue<Consumer<EscuchaPartida>> cola;
+        private final AtomicLong descartados;
+        private final Thread hilo;
+        private volatile boolean activa;
+
+        Suscripcion(EscuchaPartida escucha, int capacidad) {
+            this.escucha = escucha;
+            this.cola = new ArrayBlockingQueue<>(capacidad);
+            this.descartados = new AtomicLong();
+            this.activa = true;
+            this.hilo = Thread.ofVirtual().name("bus-partida-" + escucha.getClass().getSimpleName())
+                    .start(this::entregar);
+        }
+
+        private void entregar() {
+            try {
+                while (activa || !cola.isEmpty()) {
+                    Consumer<EscuchaPartida> entrega = cola.poll(50, TimeUnit.MILLISECONDS);
+                    if (entrega != null) {
+                        try {
+                            entrega.accept(escucha);
+                        } catch (RuntimeException ex) {
+                            // Un suscriptor con errores no debe detener la entrega de los siguientes eventos
+                            System.err.println("Error en escucha de partida: " + ex.getMessage());
+                        }
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /** Termina de entregar los eventos pendientes y espera al hilo. */
+        void cerrar() {
+            activa = false;
+            try {
+                hilo.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /** Detiene la entrega sin procesar los eventos pendientes. */
+        void detener() {
+            activa = false;
+            cola.clear();
+            hilo.interrupt();
+        }
+    }
+}
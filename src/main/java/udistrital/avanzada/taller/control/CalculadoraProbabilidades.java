@@ -0,0 +1,442 @@
+package udistrital.avanzada.taller.control;
+
+import udistrital.avanzada.taller.modelo.ModeloLanzamiento;
+import udistrital.avanzada.taller.modelo.TipoLanzamiento;
+
+/**
+ * Calcula la probabilidad exacta de que cada equipo gane la ronda a partir
+ * de un estado de {@link ControlPartida}, mediante programación dinámica
+ * memorizada sobre el espacio de estados de la partida.
+ *
+ * <p>El estado normal es el puntaje de cada equipo (acotado al objetivo, pues
+ * por encima de él sólo importa haberlo alcanzado) y la posición dentro del
+ * ciclo de manos (equipo en turno y lanzamiento en la mano). El indicador de
+ * espera de fin de mano no se guarda: equivale a que algún equipo ya tenga el
+ * objetivo. La muerte súbita se modela por el conjunto de equipos
+ * participantes, el enfrentamiento en curso y el marcador de cada uno.</p>
+ *
+ * <p>Los ciclos del juego (un ciclo completo de lanzamientos sin puntos, o un
+ * empate perfecto que repite la muerte súbita) se resuelven en forma cerrada
+ * en lugar de iterar. Los resultados se guardan en tablas con claves
+ * {@code long} empaquetadas, de modo que tras el primer cálculo una consulta
+ * es una sola búsqueda en la tabla.</p>
+ *
+ * <p>El cálculo exacto es práctico para mesas pequeñas (el límite es de
+ * {@value #LIMITE_ESTADOS} estados normales). No es seguro para uso
+ * concurrente.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class CalculadoraProbabilidades {
+
+    public static final long LIMITE_ESTADOS = 4_000_000L;
+
+    private static final long BIT_MUERTE_SUBITA = 1L << 62;
+
+    private final ConfiguracionPartida configuracion;
+    private final int cantidadEquipos;
+    private final int tamanoMano;
+    private final int objetivo;
+    private final int enfrentamientos;
+    private final int posicionesCiclo;
+
+    // Tipos de lanzamiento que suman puntos y la probabilidad de no sumar
+    private final int[] puntosPositivos;
+    private final double[] probabilidadesPositivas;
+    private final double probabilidadCero;
+    // Probabilidad de que un participante dado gane un enfrentamiento entre k equipos
+    private final double[] victoriaEnfrentamiento;
+
+    private final int bitsPuntaje;
+    private final long mascaraPuntaje;
+    private final int bitsMarcador;
+
+    private final TablaMemo memo;
+    private final TablaMemo memoAfin;
+
+    /**
+     * Crea una calculadora para la configuración, cantidad de equipos y
+     * modelo de lanzamiento de una partida.
+     *
+     * @param partida partida de referencia (debe tener equipos asignados)
+     */
+    public CalculadoraProbabilidades(ControlPartida partida) {
+        this(partida.getConfiguracion(), partida.getCantidadEquipos(), partida.getModeloLanzamiento());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param configuracion configuración de la partida
+     * @param cantidadEquipos cantidad de equipos en la mesa
+     * @param modelo probabilidades de los tipos de lanzamiento
+     */
+    public CalculadoraProbabilidades(ConfiguracionPartida configuracion, int cantidadEquipos,
+            ModeloLanzamiento modelo) {
+        if (configuracion == null || modelo == null) {
+            throw new IllegalArgumentException("La configuración y el modelo no pueden ser nulos.");
+        }
+        if (cantidadEquipos < ConfiguracionPartida.MIN_EQUIPOS || cantidadEquipos > ConfiguracionPartida.MAX_EQUIPOS) {
+            throw new IllegalArgumentException("Cantidad de equipos fuera de rango: " + cantidadEquipos);
+        }
+        this.configuracion = new ConfiguracionPartida(configuracion);
+        this.cantidadEquipos = cantidadEquipos;
+        this.tamanoMano = configuracion.getJugadoresPorEquipo();
+        this.objetivo = configuracion.getPuntajeObjetivo();
+        this.enfrentamientos = configuracion.getEnfrentamientosDesempate();
+        this.posicionesCiclo = cantidadEquipos * tamanoMano;
+
+        // Distribución de puntos por lanzamiento
+        TipoLanzamiento[] tipos = TipoLanzamiento.values();
+        int positivos = 0;
+        double cero = 0;
+        for (TipoLanzamiento tipo : tipos) {
+            if (modelo.getProbabilidad(tipo) > 0) {
+                if (tipo.getPuntos() > 0) {
+                    positivos++;
+                } else {
+                    cero += modelo.getProbabilidad(tipo);
+                }
+            }
+        }
+        if (positivos == 0) {
+            throw new IllegalArgumentException("El modelo debe permitir lanzamientos que sumen puntos.");
+        }
+        this.puntosPositivos = new int[positivos];
+        this.probabilidadesPositivas = new double[positivos];
+        int j = 0;
+        for (TipoLanzamiento tipo : tipos) {
+            if (tipo.getPuntos() > 0 && modelo.getProbabilidad(tipo) > 0) {
+                puntosPositivos[j] = tipo.getPuntos();
+                probabilidadesPositivas[j] = modelo.getProbabilidad(tipo);
+                j++;
+            }
+        }
+        this.probabilidadCero = cero;
+        this.victoriaEnfrentamiento = calcularVictoriaEnfrentamiento(tipos, modelo);
+
+        // Empaquetado de claves
+        this.bitsPuntaje = 32 - Integer.numberOfLeadingZeros(objetivo);
+        this.mascaraPuntaje = (1L << bitsPuntaje) - 1;
+        int bitsPosicion = 32 - Integer.numberOfLeadingZeros(posicionesCiclo);
+        this.bitsMarcador = 32 - Integer.numberOfLeadingZeros(enfrentamientos);
+        if (cantidadEquipos * bitsPuntaje + bitsPosicion > 61
+                || ConfiguracionPartida.MAX_EQUIPOS + bitsMarcador * (cantidadEquipos + 1) > 62) {
+            throw new IllegalArgumentException("La configuración es demasiado grande para el cálculo exacto.");
+        }
+        double estados = Math.pow(objetivo + 1, cantidadEquipos) * posicionesCiclo;
+        if (estados > LIMITE_ESTADOS) {
+            throw new IllegalArgumentException("La mesa es demasiado grande para el cálculo exacto ("
+                    + (long) estados + " estados).");
+        }
+
+        this.memo = new TablaMemo(cantidadEquipos, 1024);
+        this.memoAfin = new TablaMemo(cantidadEquipos + 1, 256);
+    }
+
+    /**
+     * Calcula la probabilidad de victoria de cada equipo desde el estado
+     * actual de la partida.
+     *
+     * @param partida partida compatible con la configuración de la calculadora
+     * @return probabilidad de victoria indexada por posición del equipo
+     */
+    public double[] probabilidadesVictoria(ControlPartida partida) {
+        verificarCompatible(partida);
+        double[] resultado = new double[cantidadEquipos];
+
+        if (!partida.isPartidaActiva()) {
+            int ganador = partida.getIndiceGanador();
+            if (ganador >= 0) {
+                resultado[ganador] = 1.0;
+            }
+            return resultado;
+        }
+
+        if (partida.isMuerteSubitaActiva()) {
+            int participantes = 0;
+            long marcador = 0;
+            for (int i = 0; i < cantidadEquipos; i++) {
+                if (partida.isEnMuerteSubita(i)) {
+                    participantes |= 1 << i;
+                    marcador |= (long) partida.getPuntajeMuerteSubita(i) << (i * bitsMarcador);
+                }
+            }
+            return probabilidadesMuerteSubita(participantes, partida.getEnfrentamientoActual(), marcador);
+        }
+
+        int[] puntajes = new int[cantidadEquipos];
+        for (int i = 0; i < cantidadEquipos; i++) {
+            puntajes[i] = partida.getPuntaje(i);
+        }
+        return probabilidadesVictoria(puntajes, partida.getIndiceEquipoEnTurno(), partida.getLanzamientoEnMano());
+    }
+
+    /**
+     * Calcula la probabilidad de victoria de cada equipo desde un estado
+     * normal (fuera de muerte súbita).
+     *
+     * @param puntajes puntaje de cada equipo
+     * @param equipoEnTurno posición del equipo en turno
+     * @param lanzamientoEnMano lanzamientos ya realizados en la mano actual
+     * @return probabilidad de victoria indexada por posición del equipo
+     */
+    public double[] probabilidadesVictoria(int[] puntajes, int equipoEnTurno, int lanzamientoEnMano) {
+        if (puntajes == null || puntajes.length != cantidadEquipos) {
+            throw new IllegalArgumentException("Debe indicarse un puntaje por equipo.");
+        }
+        if (equipoEnTurno < 0 || equipoEnTurno >= cantidadEquipos
+                || lanzamientoEnMano < 0 || lanzamientoEnMano >= tamanoMano) {
+            throw new IllegalArgumentException("Turno o lanzamiento fuera de rango.");
+        }
+        long estado = 0;
+        boolean alguienLlego = false;
+        for (int i = 0; i < cantidadEquipos; i++) {
+            if (puntajes[i] < 0) {
+                throw new IllegalArgumentException("Los puntajes no pueden ser negativos.");
+            }
+            alguienLlego |= puntajes[i] >= objetivo;
+            estado = sumar(estado, i, puntajes[i]);
+        }
+        int posicion = equipoEnTurno * tamanoMano + lanzamientoEnMano;
+        if (posicion == 0 && alguienLlego) {
+            throw new IllegalArgumentException("Estado imposible: el ciclo debió resolverse.");
+        }
+        double[] resultado = new double[cantidadEquipos];
+        memo.copiar(valorNormal(estado, posicion), resultado);
+        return resultado;
+    }
+
+    /**
+     * Calcula el espacio de estados completo alcanzable desde el inicio de
+     * una ronda, para que las consultas posteriores sean inmediatas.
+     *
+     * @return probabilidad de victoria de cada equipo al inicio de la ronda
+     */
+    public double[] precalcular() {
+        return probabilidadesVictoria(new int[cantidadEquipos], 0, 0);
+    }
+
+    /**
+     * @return cantidad de estados memorizados hasta el momento
+     */
+    public int getEstadosMemorizados() {
+        return memo.tamano() + memoAfin.tamano();
+    }
+
+    // ================================================================
+    // Partida normal
+    // ================================================================
+
+    /**
+     * Valor del estado normal (puntajes empaquetados, posición en el ciclo).
+     * @return posición del vector de probabilidades en la tabla
+     */
+    private int valorNormal(long estado, int posicion) {
+        long clave = ((long) posicion << (cantidadEquipos * bitsPuntaje)) | estado;
+        int encontrado = memo.buscar(clave);
+        if (encontrado >= 0) {
+            return encontrado;
+        }
+
+        double[] acumulado = new double[cantidadEquipos];
+        if (posicion > 0) {
+            int equipo = posicion / tamanoMano;
+            for (int j = 0; j < puntosPositivos.length; j++) {
+                acumularSiguiente(acumulado, probabilidadesPositivas[j],
+                        sumar(estado, equipo, puntosPositivos[j]), posicion + 1);
+            }
+            if (probabilidadCero > 0) {
+                acumularSiguiente(acumulado, probabilidadCero, estado, posicion + 1);
+            }
+        } else {
+            // Inicio del ciclo: si todo el ciclo no suma puntos se vuelve a este
+            // mismo estado, así que se recorre esa cadena y se despeja el valor.
+            double probabilidadCadena = 1.0;
+            for (int k = 0; k < posicionesCiclo; k++) {
+                int equipo = k / tamanoMano;
+                for (int j = 0; j < puntosPositivos.length; j++) {
+                    acumularSiguiente(acumulado, probabilidadCadena * probabilidadesPositivas[j],
+                            sumar(estado, equipo, puntosPositivos[j]), k + 1);
+                }
+                probabilidadCadena *= probabilidadCero;
+            }
+            double factor = 1.0 / (1.0 - probabilidadCadena);
+            for (int i = 0; i < cantidadEquipos; i++) {
+                acumulado[i] *= factor;
+            }
+        }
+        return memo.insertar(clave, acumulado);
+    }
+
+    /**
+     * Acumula el valor del estado que sigue a un lanzamiento, resolviendo el
+     * fin del ciclo de manos cuando corresponde.
+     */
+    private void acumularSiguiente(double[] acumulado, double factor, long estado, int posicion) {
+        if (posicion < posicionesCiclo) {
+            memo.sumarEn(valorNormal(estado, posicion), factor, acumulado);
+            return;
+        }
+        int clasificados = 0;
+        int ultimo = -1;
+        for (int i = 0; i < cantidadEquipos; i++) {
+            if (puntaje(estado, i) >= objetivo) {
+                clasificados |= 1 << i;
+                ultimo = i;
+            }
+        }
+        if (clasificados == 0) {
+            memo.sumarEn(valorNormal(estado, 0), factor, acumulado);
+        } else if (Integer.bitCount(clasificados) == 1) {
+            acumulado[ultimo] += factor;
+        } else {
+            memo.sumarEn(valorMuerteSubita(clasificados), factor, acumulado);
+        }
+    }
+
+    private int puntaje(long estado, int equipo) {
+        return (int) ((estado >>> (equipo * bitsPuntaje)) & mascaraPuntaje);
+    }
+
+    private long sumar(long estado, int equipo, int puntos) {
+        int actual = puntaje(estado, equipo);
+        int nuevo = Math.min(objetivo, actual + puntos);
+        return estado + ((long) (nuevo - actual) << (equipo * bitsPuntaje));
+    }
+
+    // ================================================================
+    // Muerte súbita
+    // ================================================================
+
+    private double[] probabilidadesMuerteSubita(int participantes, int enfrentamiento, long marcador) {
+        double[] afin = new double[cantidadEquipos + 1];
+        double[] resultado = new double[cantidadEquipos];
+        int raiz = valorMuerteSubita(participantes);
+        memoAfin.copiar(valorAfin(participantes, enfrentamiento, marcador), afin);
+        for (int i = 0; i < cantidadEquipos; i++) {
+            resultado[i] = afin[i] + afin[cantidadEquipos] * memo.valor(raiz, i);
+        }
+        return resultado;
+    }
+
+    /**
+     * Valor del inicio de una muerte súbita entre los equipos indicados.
+     * @param participantes máscara de bits de los equipos participantes
+     * @return posición del vector de probabilidades en la tabla
+     */
+    private int valorMuerteSubita(int participantes) {
+        long clave = BIT_MUERTE_SUBITA | participantes;
+        int encontrado = memo.buscar(clave);
+        if (encontrado >= 0) {
+            return encontrado;
+        }
+        // valor = a + b * valor  →  valor = a / (1 - b)
+        int posicion = valorAfin(participantes, 0, 0L);
+        double b = memoAfin.valor(posicion, cantidadEquipos);
+        double[] valor = new double[cantidadEquipos];
+        for (int i = 0; i < cantidadEquipos; i++) {
+            valor[i] = memoAfin.valor(posicion, i) / (1.0 - b);
+        }
+        return memo.insertar(clave, valor);
+    }
+
+    /**
+     * Valor de un estado intermedio de la muerte súbita expresado como
+     * a + b·X, donde X es el valor del inicio de la misma muerte súbita
+     * (al que se regresa si todos los participantes empatan).
+     *
+     * @return posición en la tabla del vector (a, b)
+     */
+    private int valorAfin(int participantes, int enfrentamiento, long marcador) {
+        long clave = participantes
+                | ((long) enfrentamiento << ConfiguracionPartida.MAX_EQUIPOS)
+                | (marcador << (ConfiguracionPartida.MAX_EQUIPOS + bitsMarcador));
+        int encontrado = memoAfin.buscar(clave);
+        if (encontrado >= 0) {
+            return encontrado;
+        }
+
+        double[] afin = new double[cantidadEquipos + 1];
+        if (enfrentamiento >= enfrentamientos) {
+            resolverFinMuerteSubita(participantes, marcador, afin);
+        } else {
+            int k = Integer.bitCount(participantes);
+            double victoria = victoriaEnfrentamiento[k];
+            double empate = 1.0 - k * victoria;
+            for (int i = 0; i < cantidadEquipos; i++) {
+                if ((participantes & (1 << i)) != 0 && victoria > 0) {
+                    memoAfin.sumarEn(valorAfin(participantes, enfrentamiento + 1,
+                            marcador + (1L << (i * bitsMarcador))), victoria, afin);
+                }
+            }
+            if (empate > 1e-15) {
+                memoAfin.sumarEn(valorAfin(participantes, enfrentamiento + 1, marcador), empate, afin);
+            }
+        }
+        return memoAfin.insertar(clave, afin);
+    }
+
+    private void resolverFinMuerteSubita(int participantes, long marcador, double[] afin) {
+        long mascaraMarcador = (1L << bitsMarcador) - 1;
+        int maximo = -1;
+        int empatados = 0;
+        for (int i = 0; i < cantidadEquipos; i++) {
+            if ((participantes & (1 << i)) == 0) continue;
+            int ganados = (int) ((marcador >>> (i * bitsMarcador)) & mascaraMarcador);
+            if (ganados > maximo) {
+                maximo = ganados;
+                empatados = 1 << i;
+            } else if (ganados == maximo) {
+                empatados |= 1 << i;
+            }
+        }
+        if (Integer.bitCount(empatados) == 1) {
+            afin[Integer.numberOfTrailingZeros(empatados)] = 1.0;
+        } else if (empatados == participantes) {
+            afin[cantidadEquipos] = 1.0;
+        } else {
+            memo.copiar(valorMuerteSubita(empatados), afin);
+        }
+    }
+
+    /**
+     * Probabilidad de que un participante concreto gane un enfrentamiento
+     * (puntaje estrictamente mayor que el de los demás) entre k equipos.
+     */
+    private double[] calcularVictoriaEnfrentamiento(TipoLanzamiento[] tipos, ModeloLanzamiento modelo) {
+        double[] victoria = new double[cantidadEquipos + 1];
+        for (int k = 2; k <= cantidadEquipos; k++) {
+            double total = 0;
+            for (TipoLanzamiento tipo : tipos) {
+                double menor = 0;
+                for (TipoLanzamiento otro : tipos) {
+                    if (otro.getPuntos() < tipo.getPuntos()) {
+                        menor += modelo.getProbabilidad(otro);
+                    }
+                }
+                total += modelo.getProbabilidad(tipo) * Math.pow(menor, k - 1);
+            }
+            victoria[k] = total;
+        }
+        if (victoria[2] <= 0) {
+            throw new IllegalArgumentException("El modelo no permite desempatar una muerte súbita.");
+        }
+        return victoria;
+    }
+
+    private void verificarCompatible(ControlPartida partida) {
+        if (partida == null) {
+            throw new IllegalArgumentException("La partida no puede ser nula.");
+        }
+        ConfiguracionPartida otra = partida.getConfiguracion();
+        if (partida.getCantidadEquipos() != cantidadEquipos
+                || otra.getJugadoresPorEquipo() != configuracion.getJugadoresPorEquipo()
+                || otra.getPuntajeObjetivo() != configuracion.getPuntajeObjetivo()
+                || otra.getFormatoDesempate() != configuracion.getFormatoDesempate()) {
+            throw new IllegalArgumentException("La partida no corresponde a la configuración de la calculadora.");
+        }
+    }
+}
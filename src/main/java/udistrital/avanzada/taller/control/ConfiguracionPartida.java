@@ -0,0 +1,143 @@
+package udistrital.avanzada.taller.control;
+
+import udistrital.avanzada.taller.modelo.FormatoDesempate;
+
+/**
+ * Parámetros configurables del motor de partida: cantidad de jugadores por
+ * equipo (tamaño de la mano), puntaje objetivo, número de rondas y formato de
+ * desempate. La configuración por defecto corresponde a la partida clásica de
+ * dos equipos de 4 jugadores a 21 puntos.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class ConfiguracionPartida {
+
+    public static final int MIN_EQUIPOS = 2;
+    public static final int MAX_EQUIPOS = 8;
+
+    private int jugadoresPorEquipo;
+    private int puntajeObjetivo;
+    private int maximoRondas;
+    private FormatoDesempate formatoDesempate;
+
+    /**
+     * Constructor con la configuración clásica (4 jugadores, 21 puntos,
+     * 2 rondas, enfrentamientos uno por jugador).
+     */
+    public ConfiguracionPartida() {
+        this(4, 21, 2, FormatoDesempate.ENFRENTAMIENTOS);
+    }
+
+    /**
+     * Constructor con todos los parámetros.
+     *
+     * @param jugadoresPorEquipo jugadores por equipo (lanzamientos por mano)
+     * @param puntajeObjetivo puntaje que se debe alcanzar para ganar
+     * @param maximoRondas número máximo de rondas
+     * @param formatoDesempate formato de la muerte súbita
+     */
+    public ConfiguracionPartida(int jugadoresPorEquipo, int puntajeObjetivo,
+            int maximoRondas, FormatoDesempate formatoDesempate) {
+        setJugadoresPorEquipo(jugadoresPorEquipo);
+        setPuntajeObjetivo(puntajeObjetivo);
+        setMaximoRondas(maximoRondas);
+        setFormatoDesempate(formatoDesempate);
+    }
+
+    /**
+     * Constructor de copia.
+     *
+     * @param otra configuración a copiar
+     */
+    public ConfiguracionPartida(ConfiguracionPartida otra) {
+        this(otra.jugadoresPorEquipo, otra.puntajeObjetivo, otra.maximoRondas, otra.formatoDesempate);
+    }
+
+    /**
+     * Obtiene la cantidad de jugadores por equipo, que es también la
+     * cantidad de lanzamientos de cada mano.
+     * @return jugadores por equipo
+     */
+    public int getJugadoresPorEquipo() {
+        return jugadoresPorEquipo;
+    }
+
+    /**
+     * Establece la cantidad de jugadores por equipo
+     * @param jugadoresPorEquipo cantidad positiva de jugadores
+     */
+    public void setJugadoresPorEquipo(int jugadoresPorEquipo) {
+        if (jugadoresPorEquipo <= 0) {
+            throw new IllegalArgumentException("Cada equipo debe tener al menos un jugador.");
+        }
+        this.jugadoresPorEquipo = jugadoresPorEquipo;
+    }
+
+    /**
+     * Obtiene el puntaje objetivo
+     * @return puntaje objetivo
+     */
+    public int getPuntajeObjetivo() {
+        return puntajeObjetivo;
+    }
+
+    /**
+     * Establece el puntaje objetivo
+     * @param puntajeObjetivo puntaje positivo
+     */
+    public void setPuntajeObjetivo(int puntajeObjetivo) {
+        if (puntajeObjetivo <= 0) {
+            throw new IllegalArgumentException("El puntaje objetivo debe ser positivo.");
+        }
+        this.puntajeObjetivo = puntajeObjetivo;
+    }
+
+    /**
+     * Obtiene el número máximo de rondas
+     * @return máximo de rondas
+     */
+    public int getMaximoRondas() {
+        return maximoRondas;
+    }
+
+    /**
+     * Establece el número máximo de rondas
+     * @param maximoRondas cantidad positiva de rondas
+     */
+    public void setMaximoRondas(int maximoRondas) {
+        if (maximoRondas <= 0) {
+            throw new IllegalArgumentException("Debe jugarse al menos una ronda.");
+        }
+        this.maximoRondas = maximoRondas;
+    }
+
+    /**
+     * Obtiene el formato de desempate
+     * @return formato de desempate
+     */
+    public FormatoDesempate getFormatoDesempate() {
+        return formatoDesempate;
+    }
+
+    /**
+     * Establece el formato de desempate
+     * @param formatoDesempate formato no nulo
+     */
+    public void setFormatoDesempate(FormatoDesempate formatoDesempate) {
+        if (formatoDesempate == null) {
+            throw new IllegalArgumentException("El formato de desempate no puede ser nulo.");
+        }
+        this.formatoDesempate = formatoDesempate;
+    }
+
+    /**
+     * Cantidad de enfrentamientos que componen una muerte súbita según el
+     * formato: uno por jugador o un único lanzamiento por equipo.
+     * @return cantidad de enfrentamientos de la muerte súbita
+     */
+    public int getEnfrentamientosDesempate() {
+        return formatoDesempate == FormatoDesempate.ENFRENTAMIENTOS ? jugadoresPorEquipo : 1;
+    }
+}
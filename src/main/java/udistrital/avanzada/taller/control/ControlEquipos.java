@@ -6,12 +6,18 @@ package udistrital.avanzada.taller.control;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 import udistrital.avanzada.taller.modelo.Equipo;
 import udistrital.avanzada.taller.modelo.Jugador;
+import udistrital.avanzada.taller.modelo.MotorCalificaciones;
 
 /**
  * Clase creada para la creación y ajuste de equipos
  * Creación de métodos para crear equipos con los jugadores disponibles en el archivo de propiedades
+ *
+ * Los jugadores disponibles se llevan en un {@link RegistroJugadores}: tomar,
+ * devolver y buscar jugadores cuesta O(1), así que armar cientos de equipos
+ * con una nómina grande no se vuelve cuadrático.
  * 
  * Originalmente creada por Juan Ariza
  * Modificada por Juan Sebastián Bravo Rojas
@@ -23,23 +29,26 @@ import udistrital.avanzada.taller.modelo.Jugador;
 public class ControlEquipos {
     
     private List<Equipo> equipos;
-    private List<Jugador> jugadoresDisponibles;
+    private final RegistroJugadores registro;
     
     /**
      * Constructor que inicializa las listas
      */
     public ControlEquipos() {
         this.equipos = new ArrayList<>();
-        this.jugadoresDisponibles = new ArrayList<>();
+        this.registro = new RegistroJugadores();
     }
     
     /**
-     * Establece la lista de equipos cargados
+     * Establece la lista de equipos cargados. Sus jugadores pasan a la
+     * nómina del registro, sin cambiar la disponibilidad de los que ya
+     * estaban, para que los identificadores nuevos no choquen con los suyos.
      * @param equipos lista de equipos
      */
     public void setEquipos(List<Equipo> equipos) {
         if (equipos != null) {
             this.equipos = new ArrayList<>(equipos);
+            registrarJugadoresDeEquipos();
         }
     }
     
@@ -49,10 +58,57 @@ public class ControlEquipos {
      */
     public void setJugadoresDisponibles(List<Jugador> jugadores) {
         if (jugadores != null) {
-            this.jugadoresDisponibles = new ArrayList<>(jugadores);
+            registro.limpiar();
+            registrarJugadoresDeEquipos();
+            for (Jugador j : jugadores) {
+                registro.liberar(j);
+            }
+        }
+    }
+
+    private void registrarJugadoresDeEquipos() {
+        for (Equipo equipo : equipos) {
+            for (Jugador j : equipo.getJugadores()) {
+                registro.registrar(j);
+            }
         }
     }
     
+    /**
+     * Agrega a los disponibles un jugador que no venía en el archivo, por
+     * ejemplo uno creado desde código. Un jugador ya registrado conserva su
+     * disponibilidad.
+     *
+     * @param jugador jugador a agregar
+     * @return true si el jugador era nuevo
+     * @throws IllegalArgumentException si otro jugador ya tiene su identificador
+     */
+    public boolean agregarJugador(Jugador jugador) {
+        if (jugador == null) {
+            throw new IllegalArgumentException("El jugador no puede ser nulo.");
+        }
+        if (registro.posicion(jugador) >= 0) {
+            return false;
+        }
+        registro.liberar(jugador);
+        return true;
+    }
+
+    /**
+     * Crea un jugador con un identificador libre en la nómina cargada
+     * (equipos y disponibles) y lo agrega a los disponibles.
+     *
+     * @param nombre nombre real del jugador
+     * @param rutaFoto ruta de la foto del jugador
+     * @param apodo apodo del jugador
+     * @return jugador creado
+     */
+    public Jugador crearJugador(String nombre, String rutaFoto, String apodo) {
+        Jugador jugador = new Jugador(registro.siguienteId(), nombre, rutaFoto, apodo);
+        registro.liberar(jugador);
+        return jugador;
+    }
+
     /**
      * Crea un nuevo equipo con jugadores seleccionados
      * @param nombreEquipo nombre del equipo
@@ -70,8 +126,11 @@ public class ControlEquipos {
         }
         
         // Verificar que todos los jugadores estén disponibles
-        for (Jugador j : jugadores) {
-            if (!jugadoresDisponibles.contains(j)) {
+        int[] posiciones = new int[jugadores.size()];
+        for (int i = 0; i < posiciones.length; i++) {
+            Jugador j = jugadores.get(i);
+            posiciones[i] = registro.posicion(j);
+            if (!registro.isDisponible(posiciones[i])) {
                 throw new IllegalArgumentException("El jugador " + j.getNombre() + " no está disponible.");
             }
         }
@@ -79,13 +138,55 @@ public class ControlEquipos {
         // Crear el equipo (sin duplicar los jugadores)
         Equipo nuevoEquipo = new Equipo(nombreEquipo, new ArrayList<>(jugadores));
 
-        // Remover los jugadores de la lista de disponibles
-        jugadoresDisponibles.removeAll(jugadores);
+        // Sacar los jugadores de los disponibles
+        for (int posicion : posiciones) {
+            registro.setDisponible(posicion, false);
+        }
 
         equipos.add(nuevoEquipo);
         return nuevoEquipo;
     }
     
+    /**
+     * Reparte todos los jugadores disponibles en equipos de 4 con fuerzas
+     * parecidas (ver {@link ArmadorEquipos}). Los equipos se llaman
+     * "prefijo 1", "prefijo 2", etc.; si sobran jugadores, quedan
+     * disponibles los de menor calificación.
+     *
+     * @param prefijo prefijo del nombre de los equipos
+     * @param calificacion calificación de cada jugador
+     * @param semilla semilla para desempatar calificaciones iguales
+     * @return equipos creados
+     */
+    public List<Equipo> armarEquiposBalanceados(String prefijo, ToDoubleFunction<Jugador> calificacion,
+            long semilla) {
+        if (prefijo == null || prefijo.isBlank()) {
+            throw new IllegalArgumentException("El prefijo de los equipos no puede estar vacío.");
+        }
+        List<List<Jugador>> grupos = new ArmadorEquipos(4).armar(registro.getDisponibles(), calificacion, semilla);
+        List<Equipo> creados = new ArrayList<>(grupos.size());
+        for (List<Jugador> grupo : grupos) {
+            creados.add(crearEquipo(prefijo + " " + (equipos.size() + 1), grupo));
+        }
+        return creados;
+    }
+
+    /**
+     * Reparte los jugadores disponibles en equipos balanceados según su
+     * calificación en el historial de resultados.
+     *
+     * @param prefijo prefijo del nombre de los equipos
+     * @param motor calificaciones de los jugadores
+     * @param semilla semilla para desempatar calificaciones iguales
+     * @return equipos creados
+     */
+    public List<Equipo> armarEquiposBalanceados(String prefijo, MotorCalificaciones motor, long semilla) {
+        if (motor == null) {
+            throw new IllegalArgumentException("El motor de calificaciones no puede ser nulo.");
+        }
+        return armarEquiposBalanceados(prefijo, motor::calificacion, semilla);
+    }
+
     /**
      * Obtiene la lista de equipos
      * @return lista de equipos
@@ -99,7 +200,7 @@ public class ControlEquipos {
      * @return lista de jugadores disponibles
      */
     public List<Jugador> getJugadoresDisponibles() {
-        return new ArrayList<>(jugadoresDisponibles);
+        return registro.getDisponibles();
     }
     
     /**
@@ -107,7 +208,7 @@ public class ControlEquipos {
      * @return true si hay al menos 4 jugadores disponibles
      */
     public boolean haySuficientesJugadores() {
-        return jugadoresDisponibles.size() >= 4;
+        return registro.getCantidadDisponibles() >= 4;
     }
     
     /**
@@ -115,25 +216,22 @@ public class ControlEquipos {
      * @param equipo equipo a deshacer
      */
     public void deshacerEquipo(Equipo equipo) {
-        if (equipo != null && equipos.contains(equipo)) {
-            jugadoresDisponibles.addAll(equipo.getJugadores());
-            equipos.remove(equipo);
+        if (equipo != null && equipos.remove(equipo)) {
+            for (Jugador j : equipo.getJugadores()) {
+                registro.liberar(j);
+            }
         }
     }
     
     /**
-     * Obtiene un jugador disponible por su apodo
+     * Obtiene un jugador disponible por su apodo, sin distinguir mayúsculas.
+     * Si varios disponibles comparten apodo, devuelve el primero registrado.
      * @param apodo apodo del jugador
      * @return el jugador si existe, null si no
      */
     public Jugador buscarJugadorDisponible(String apodo) {
-        if (apodo == null) return null;
-        for (Jugador j : jugadoresDisponibles) {
-            if (j.getApodo().equalsIgnoreCase(apodo)) {
-                return j;
-            }
-        }
-        return null;
+        int posicion = registro.buscarDisponiblePorApodo(apodo);
+        return posicion >= 0 ? registro.getJugador(posicion) : null;
     }
     
     /**
@@ -141,7 +239,9 @@ public class ControlEquipos {
      */
     public void limpiarEquipos() {
         for (Equipo equipo : equipos) {
-            jugadoresDisponibles.addAll(equipo.getJugadores());
+            for (Jugador j : equipo.getJugadores()) {
+                registro.liberar(j);
+            }
         }
         equipos.clear();
     }
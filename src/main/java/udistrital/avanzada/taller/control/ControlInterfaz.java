@@ -1,14 +1,32 @@
 package udistrital.avanzada.taller.control;
 
+import java.awt.Component;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.KeyEvent;
 import java.io.File;
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import javax.swing.JOptionPane;
+import javax.swing.KeyStroke;
+import javax.swing.ProgressMonitor;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.EstadoPartida;
+import udistrital.avanzada.taller.modelo.FilaLiga;
 import udistrital.avanzada.taller.modelo.Jugador;
+import udistrital.avanzada.taller.modelo.MotorCalificaciones;
+import udistrital.avanzada.taller.modelo.TablaLiga;
+import udistrital.avanzada.taller.modelo.persistencia.EscuchaProgreso;
 import udistrital.avanzada.taller.modelo.persistencia.GestorResultados;
+import udistrital.avanzada.taller.modelo.persistencia.RegistroResultado;
 import udistrital.avanzada.taller.vista.Inicio;
 import udistrital.avanzada.taller.vista.VentanaPrincipal;
 import udistrital.avanzada.taller.vista.VentanaResultados;
@@ -22,16 +40,37 @@ import udistrital.avanzada.taller.vista.VentanaCrearEquipos;
  *
  * <p>Aplica el principio de responsabilidad única (SRP) separando las tareas de interfaz
  * de la lógica de negocio y persistencia.</p>
+ *
+ * <p>La carga de equipos y la lectura y escritura de resultados se hacen en
+ * segundo plano con {@link ServicioArchivos}; las operaciones largas muestran
+ * un {@link ProgressMonitor} que permite cancelarlas, y sólo la
+ * actualización final de la interfaz vuelve al hilo de eventos.</p>
+ *
+ * <p>Para demostraciones la partida puede jugarse sola con
+ * {@link ControlReproduccion}: la propiedad {@code argolla.demo}
+ * ({@code 1x}, {@code 10x} o {@code max}) activa el juego automático,
+ * {@code argolla.demo.guion} reproduce una partida grabada y
+ * {@code argolla.demo.grabar} guarda lo jugado al final de cada ronda.
+ * Durante la demostración, la barra espaciadora pausa, las teclas 1, 2 y 3
+ * cambian la velocidad y las flechas e Inicio saltan entre lanzamientos.</p>
  * 
  * @author Paula
- * @version 9.0 - 07/10/2025
+ * @version 10.0 - 19/10/2026
  */
 public class ControlInterfaz implements ActionListener {
 
+    /** Ejecuta la continuación de una operación de archivos en el hilo de eventos. */
+    private static final Executor EDT = SwingUtilities::invokeLater;
+
     private final ControlLogica cLogica;
     private final Inicio inicio;
     private VentanaPrincipal vPrincipal;
-    private final GestorResultados gestorResultados;
+    private final ServicioArchivos servicioArchivos;
+    private ControlReproduccion reproduccion;
+    /** True mientras se cierra una ronda de la demostración; sólo se usa en el hilo de eventos. */
+    private boolean cerrandoRonda;
+    private final TablaLiga liga;
+    private volatile MotorCalificaciones calificaciones;
 
     /**
      * Constructor: inicializa el controlador principal y muestra la ventana de inicio.
@@ -41,7 +80,22 @@ public class ControlInterfaz implements ActionListener {
     public ControlInterfaz(ControlLogica cLogica) {
         this.cLogica = cLogica;
         this.inicio = new Inicio();
-        this.gestorResultados = new GestorResultados();
+        this.servicioArchivos = new ServicioArchivos(cLogica.getControlPersistencia(), new GestorResultados());
+
+        // La tabla de la liga lee el historial una vez y luego sigue cada ronda guardada
+        this.liga = new TablaLiga();
+        this.servicioArchivos.seguirResultados(liga).whenComplete((nada, error) -> {
+            if (error != null) {
+                System.err.println("No se pudo leer el historial de la liga: " + causa(error).getMessage());
+            }
+        });
+        this.servicioArchivos.seguirCalificaciones().whenComplete((motor, error) -> {
+            if (error != null) {
+                System.err.println("No se pudieron cargar las calificaciones: " + causa(error).getMessage());
+            } else {
+                calificaciones = motor;
+            }
+        });
 
         // Mostrar ventana de inicio
         this.inicio.setVisible(true);
@@ -68,95 +122,123 @@ public class ControlInterfaz implements ActionListener {
                 return;
             }
 
-            try {
-                // Cargar equipos y jugadores
-                cLogica.cargarEquipos(archivo);
-                List<Equipo> equipos = cLogica.getEquipos();
+            // Cargar equipos y jugadores en segundo plano
+            inicio.getBotonJugar().setEnabled(false);
+            SeguimientoTarea seguimiento = new SeguimientoTarea(inicio, "Cargando equipos...", "equipos");
+            CompletableFuture<List<Equipo>> carga = servicioArchivos.cargarEquipos(archivo, seguimiento);
+            seguimiento.vigilar(carga);
+            carga.whenCompleteAsync((cargados, error) -> {
+                inicio.getBotonJugar().setEnabled(true);
+                if (error != null) {
+                    Throwable causa = causa(error);
+                    if (!(causa instanceof CancellationException)) {
+                        inicio.mostrarMensaje(causa.getMessage());
+                    }
+                    return;
+                }
+                continuarInicio(cargados);
+            }, EDT);
+        }
 
-                // Si existen resultados previos, ofrecer opciones
-                if (gestorResultados.existenResultadosPrevios()) {
-                    Object[] opciones = {
-                        "Ver resultados",
-                        "Crear nuevos equipos",
-                        "Continuar sin cambios"
-                    };
+        // ---- LANZAR ARGOLLA ----
+        if (vPrincipal != null
+                && (e.getSource() == vPrincipal.getBotonLanzarArgollaUno()
+                || e.getSource() == vPrincipal.getBotonLanzarArgollaDos())) {
+            ejecutarLanzamiento();
+        }
+    }
 
-                    int eleccion = JOptionPane.showOptionDialog(
-                        inicio,
-                        "Se encontraron resultados de partidas anteriores.\n¿Qué deseas hacer?",
-                        "Resultados Previos",
-                        JOptionPane.DEFAULT_OPTION,
-                        JOptionPane.QUESTION_MESSAGE,
-                        null,
-                        opciones,
-                        opciones[0]
-                    );
+    /**
+     * Continúa el inicio de la partida con los equipos ya cargados: ofrece
+     * ver resultados previos o crear equipos nuevos y abre la ventana
+     * principal.
+     *
+     * @param cargados equipos leídos del archivo
+     */
+    private void continuarInicio(List<Equipo> cargados) {
+        try {
+            List<Equipo> equipos = cLogica.usarEquiposCargados(cargados);
+
+            // Si existen resultados previos, ofrecer opciones
+            if (servicioArchivos.existenResultadosPrevios()) {
+                Object[] opciones = {
+                    "Ver resultados",
+                    "Crear nuevos equipos",
+                    "Continuar sin cambios"
+                };
+
+                int eleccion = JOptionPane.showOptionDialog(
+                    inicio,
+                    "Se encontraron resultados de partidas anteriores.\n¿Qué deseas hacer?",
+                    "Resultados Previos",
+                    JOptionPane.DEFAULT_OPTION,
+                    JOptionPane.QUESTION_MESSAGE,
+                    null,
+                    opciones,
+                    opciones[0]
+                );
+
+                // Opción 1: Ver resultados previos
+                if (eleccion == 0) {
+                    mostrarResultadosPrevios();
+                    return;
+                }
 
-                    // Opción 1: Ver resultados previos
-                    if (eleccion == 0) {
-                        mostrarResultadosPrevios();
+                // Opción 2: Crear nuevos equipos
+                else if (eleccion == 1) {
+                    List<Jugador> disponibles = cLogica.getJugadoresDisponibles();
+                    VentanaCrearEquipos dialog = new VentanaCrearEquipos(inicio, disponibles);
+                    dialog.setVisible(true);
+
+                    // Si se cancela, detener flujo
+                    if (dialog.isCancelado()) {
+                        JOptionPane.showMessageDialog(
+                            inicio,
+                            "Operación cancelada. Regresando al inicio.",
+                            "Cancelado",
+                            JOptionPane.INFORMATION_MESSAGE
+                        );
                         return;
                     }
 
-                    // Opción 2: Crear nuevos equipos
-                    else if (eleccion == 1) {
-                        List<Jugador> disponibles = cLogica.getJugadoresDisponibles();
-                        VentanaCrearEquipos dialog = new VentanaCrearEquipos(inicio, disponibles);
-                        dialog.setVisible(true);
-
-                        // Si se cancela, detener flujo
-                        if (dialog.isCancelado()) {
-                            JOptionPane.showMessageDialog(
-                                inicio,
-                                "Operación cancelada. Regresando al inicio.",
-                                "Cancelado",
-                                JOptionPane.INFORMATION_MESSAGE
-                            );
-                            return;
-                        }
-
-                        try {
-                            // Crear equipos desde el diálogo
-                            List<Equipo> nuevos = cLogica.crearEquiposDesdeDialogo(dialog);
-                            JOptionPane.showMessageDialog(
-                                inicio,
-                                "Se han creado dos nuevos equipos:\n" +
-                                nuevos.get(0).getNombre() + " y " + nuevos.get(1).getNombre(),
-                                "Equipos creados",
-                                JOptionPane.INFORMATION_MESSAGE
-                            );
-                            equipos = nuevos; // Actualiza los equipos activos
-                        } catch (Exception ex) {
-                            JOptionPane.showMessageDialog(
-                                inicio,
-                                "Error al crear equipos: " + ex.getMessage(),
-                                "Error",
-                                JOptionPane.ERROR_MESSAGE
-                            );
-                            return;
-                        }
+                    try {
+                        // Crear equipos desde el diálogo
+                        List<Equipo> nuevos = cLogica.crearEquipos(
+                                dialog.getNombreEquipo1(), dialog.getJugadoresEquipo1(),
+                                dialog.getNombreEquipo2(), dialog.getJugadoresEquipo2());
+                        JOptionPane.showMessageDialog(
+                            inicio,
+                            "Se han creado dos nuevos equipos:\n" +
+                            nuevos.get(0).getNombre() + " y " + nuevos.get(1).getNombre(),
+                            "Equipos creados",
+                            JOptionPane.INFORMATION_MESSAGE
+                        );
+                        equipos = nuevos; // Actualiza los equipos activos
+                    } catch (Exception ex) {
+                        JOptionPane.showMessageDialog(
+                            inicio,
+                            "Error al crear equipos: " + ex.getMessage(),
+                            "Error",
+                            JOptionPane.ERROR_MESSAGE
+                        );
+                        return;
                     }
                 }
+            }
 
-                // ---- Iniciar ventana principal ----
-                vPrincipal = new VentanaPrincipal(this, equipos);
-                inicio.dispose();
-                vPrincipal.setVisible(true);
+            // ---- Iniciar ventana principal ----
+            vPrincipal = new VentanaPrincipal(this, equipos);
+            inicio.dispose();
+            vPrincipal.setVisible(true);
 
-                // Listeners de botones
-                vPrincipal.getBotonLanzarArgollaUno().addActionListener(this);
-                vPrincipal.getBotonLanzarArgollaDos().addActionListener(this);
+            // Listeners de botones
+            vPrincipal.getBotonLanzarArgollaUno().addActionListener(this);
+            vPrincipal.getBotonLanzarArgollaDos().addActionListener(this);
 
-            } catch (IllegalArgumentException ex) {
-                inicio.mostrarMensaje(ex.getMessage());
-            }
-        }
+            iniciarDemostracion();
 
-        // ---- LANZAR ARGOLLA ----
-        if (vPrincipal != null
-                && (e.getSource() == vPrincipal.getBotonLanzarArgollaUno()
-                || e.getSource() == vPrincipal.getBotonLanzarArgollaDos())) {
-            ejecutarLanzamiento();
+        } catch (IllegalArgumentException ex) {
+            inicio.mostrarMensaje(ex.getMessage());
         }
     }
 
@@ -164,14 +246,17 @@ public class ControlInterfaz implements ActionListener {
     // Métodos auxiliares del flujo de partida
     // ================================================================
 
-    /** Ejecuta un lanzamiento de argolla y actualiza la interfaz. */
+    /**
+     * Ejecuta un lanzamiento de argolla. La ventana se pone al día en el
+     * próximo cuadro, junto con los demás lanzamientos que lleguen antes.
+     */
     private void ejecutarLanzamiento() {
         try {
             String resultado = cLogica.lanzarArgolla();
             vPrincipal.actualizarResultado(resultado);
-            vPrincipal.actualizarPuntajes();
 
             if (!cLogica.partidaActiva()) {
+                vPrincipal.refrescarAhora();
                 finalizarRonda();
             }
         } catch (IllegalStateException ex) {
@@ -179,6 +264,85 @@ public class ControlInterfaz implements ActionListener {
         }
     }
 
+    /**
+     * Inicia el juego automático o la reproducción de una grabación si así
+     * lo piden las propiedades {@code argolla.demo} y
+     * {@code argolla.demo.guion}.
+     */
+    private void iniciarDemostracion() {
+        String textoVelocidad = System.getProperty("argolla.demo");
+        String guion = System.getProperty("argolla.demo.guion");
+        if (textoVelocidad == null && guion == null) {
+            return;
+        }
+        ControlReproduccion.Velocidad velocidad;
+        try {
+            velocidad = textoVelocidad == null
+                    ? ControlReproduccion.Velocidad.NORMAL
+                    : ControlReproduccion.Velocidad.desde(textoVelocidad);
+        } catch (IllegalArgumentException ex) {
+            vPrincipal.mostrarMensaje(ex.getMessage());
+            return;
+        }
+        vPrincipal.getBotonLanzarArgollaUno().setEnabled(false);
+        vPrincipal.getBotonLanzarArgollaDos().setEnabled(false);
+
+        if (guion == null) {
+            empezarDemostracion(ControlReproduccion.juegoAutomatico(
+                    cLogica.getControlPartida(), velocidad, new EscuchaDemostracion()));
+            return;
+        }
+        servicioArchivos.leerGrabacion(new File(guion)).whenCompleteAsync((grabados, error) -> {
+            if (error != null) {
+                vPrincipal.mostrarMensaje("No se pudo leer la grabación: " + causa(error).getMessage());
+                vPrincipal.getBotonLanzarArgollaUno().setEnabled(true);
+                vPrincipal.getBotonLanzarArgollaDos().setEnabled(true);
+                return;
+            }
+            empezarDemostracion(ControlReproduccion.reproducir(
+                    cLogica.getControlPartida(), grabados, velocidad, new EscuchaDemostracion()));
+        }, EDT);
+    }
+
+    /** Registra los atajos de teclado de la demostración y la arranca. */
+    private void empezarDemostracion(ControlReproduccion nueva) {
+        reproduccion = nueva;
+        agregarAtajo(KeyEvent.VK_SPACE, r -> {
+            if (r.isPausada()) {
+                r.reanudar();
+            } else {
+                r.pausar();
+            }
+        });
+        agregarAtajo(KeyEvent.VK_1, r -> r.setVelocidad(ControlReproduccion.Velocidad.NORMAL));
+        agregarAtajo(KeyEvent.VK_2, r -> r.setVelocidad(ControlReproduccion.Velocidad.RAPIDA));
+        agregarAtajo(KeyEvent.VK_3, r -> r.setVelocidad(ControlReproduccion.Velocidad.MAXIMA));
+        agregarAtajo(KeyEvent.VK_HOME, r -> r.buscar(0));
+        agregarAtajo(KeyEvent.VK_LEFT, r -> r.buscar(Math.max(0, r.getPaso() - 1)));
+        agregarAtajo(KeyEvent.VK_RIGHT, r -> r.buscar(r.getPaso() + 1));
+        reproduccion.reanudar();
+    }
+
+    /**
+     * Registra un atajo de la demostración. Se ignora mientras se cierra
+     * una ronda o cuando la demostración ya terminó.
+     */
+    private void agregarAtajo(int tecla, Consumer<ControlReproduccion> accion) {
+        vPrincipal.agregarAtajo(KeyStroke.getKeyStroke(tecla, 0), () -> {
+            if (reproduccion != null && !cerrandoRonda) {
+                accion.accept(reproduccion);
+            }
+        });
+    }
+
+    /** Detiene la demostración y devuelve a la partida su modelo de lanzamiento. */
+    private void terminarDemostracion() {
+        if (reproduccion != null) {
+            reproduccion.close();
+            reproduccion = null;
+        }
+    }
+
     /** Finaliza la ronda actual, guarda los resultados y ofrece revancha. */
     private void finalizarRonda() {
         Equipo ganador = cLogica.getGanador();
@@ -186,14 +350,32 @@ public class ControlInterfaz implements ActionListener {
 
         int rondaActual = cLogica.getRondaActual();
 
-        try {
-            for (Equipo equipo : cLogica.getEquipos()) {
-                String resultado = equipo.equals(ganador) ? "GANADOR" : "PERDEDOR";
-                gestorResultados.guardarResultado(equipo, resultado, rondaActual);
-            }
-        } catch (IOException ex) {
-            vPrincipal.mostrarMensaje("Error al guardar resultados: " + ex.getMessage());
+        // La grabación de la demostración se guarda al final de cada ronda
+        String grabar = System.getProperty("argolla.demo.grabar");
+        if (reproduccion != null && grabar != null) {
+            servicioArchivos.guardarGrabacion(reproduccion.getGrabados(), new File(grabar))
+                    .whenCompleteAsync((nada, error) -> {
+                        if (error != null) {
+                            vPrincipal.mostrarMensaje("Error al guardar la grabación: " + causa(error).getMessage());
+                        }
+                    }, EDT);
+        }
+
+        // Los registros se toman ahora y se escriben en segundo plano
+        List<RegistroResultado> registros = new ArrayList<>();
+        List<Equipo> equipos = cLogica.getEquipos();
+        EstadoPartida estado = cLogica.getEstadoPartida();
+        for (int i = 0; i < equipos.size(); i++) {
+            Equipo equipo = equipos.get(i);
+            String resultado = RegistroResultado.resultado(equipo.equals(ganador), estado.isEnMuerteSubita(i));
+            registros.add(RegistroResultado.desde(equipo, resultado, rondaActual));
         }
+        servicioArchivos.guardarResultados(registros, EscuchaProgreso.NINGUNA)
+                .whenCompleteAsync((nada, error) -> {
+                    if (error != null) {
+                        vPrincipal.mostrarMensaje("Error al guardar resultados: " + causa(error).getMessage());
+                    }
+                }, EDT);
 
         // Mostrar resultados de la ronda
         VentanaResultados ventanaRes = new VentanaResultados(
@@ -217,30 +399,60 @@ public class ControlInterfaz implements ActionListener {
             if (opcion == JOptionPane.YES_OPTION) {
                 iniciarNuevaRonda();
             } else {
-                mostrarResultadosFinales();
-                System.exit(0);
+                terminarDemostracion();
+                mostrarResultadosFinales(() -> System.exit(0));
             }
         } else {
+            terminarDemostracion();
             vPrincipal.mostrarMensaje("Se han completado las 2 rondas. ¡Partida finalizada!");
-            mostrarResultadosFinales();
-            System.exit(0);
+            mostrarResultadosFinales(() -> System.exit(0));
         }
     }
 
     /** Inicia una nueva ronda y actualiza la interfaz. */
     private void iniciarNuevaRonda() {
+        if (reproduccion != null) {
+            // En la demostración sólo el hilo de la reproducción mueve la partida
+            limpiarResultados();
+            reproduccion.siguienteRonda().whenCompleteAsync((avanzo, error) -> {
+                if (error != null) {
+                    terminarDemostracion();
+                    vPrincipal.mostrarMensaje("No se pudo iniciar la nueva ronda: " + causa(error).getMessage());
+                } else if (avanzo) {
+                    cerrandoRonda = false;
+                    vPrincipal.refrescarAhora();
+                    vPrincipal.publicarAviso("¡Nueva ronda iniciada!");
+                } else {
+                    terminarDemostracion();
+                }
+            }, EDT);
+            return;
+        }
         if (cLogica.avanzarRonda()) {
             limpiarResultados();
-            vPrincipal.actualizarPuntajes();
-            vPrincipal.actualizarRonda();
+            vPrincipal.refrescarAhora();
             vPrincipal.mostrarMensaje("¡Nueva ronda iniciada!");
         }
     }
 
     /** Muestra los resultados previos almacenados. */
     private void mostrarResultadosPrevios() {
-        try {
-            List<String> resultados = gestorResultados.leerTodosLosResultados();
+        SeguimientoTarea seguimiento = new SeguimientoTarea(inicio, "Leyendo resultados...", "registros");
+        CompletableFuture<List<String>> lectura = servicioArchivos.leerResultados(seguimiento);
+        seguimiento.vigilar(lectura);
+        lectura.whenCompleteAsync((resultados, error) -> {
+            if (error != null) {
+                Throwable causa = causa(error);
+                if (!(causa instanceof CancellationException)) {
+                    JOptionPane.showMessageDialog(
+                        inicio,
+                        "Error al leer los resultados: " + causa.getMessage(),
+                        "Error",
+                        JOptionPane.ERROR_MESSAGE
+                    );
+                }
+                return;
+            }
             if (resultados.isEmpty()) {
                 JOptionPane.showMessageDialog(
                     inicio,
@@ -260,38 +472,78 @@ public class ControlInterfaz implements ActionListener {
                 "Resultados Previos",
                 JOptionPane.INFORMATION_MESSAGE
             );
-        } catch (IOException ex) {
-            JOptionPane.showMessageDialog(
-                inicio,
-                "Error al leer los resultados: " + ex.getMessage(),
-                "Error",
-                JOptionPane.ERROR_MESSAGE
-            );
-        }
+        }, EDT);
     }
 
-    /** Muestra todos los resultados finales. */
-    private void mostrarResultadosFinales() {
-        try {
-            List<String> resultados = gestorResultados.leerTodosLosResultados();
-            if (resultados.isEmpty()) return;
+    /**
+     * Muestra todos los resultados finales. La lectura va después de la
+     * escritura de la última ronda en el hilo de E/S, así que la incluye.
+     *
+     * @param despues acción a ejecutar al cerrar el mensaje (o si falla la lectura)
+     */
+    private void mostrarResultadosFinales(Runnable despues) {
+        SeguimientoTarea seguimiento = new SeguimientoTarea(vPrincipal, "Leyendo resultados...", "registros");
+        CompletableFuture<List<String>> lectura = servicioArchivos.leerResultados(seguimiento);
+        seguimiento.vigilar(lectura);
+        lectura.whenCompleteAsync((resultados, error) -> {
+            if (error != null) {
+                Throwable causa = causa(error);
+                if (!(causa instanceof CancellationException)) {
+                    vPrincipal.mostrarMensaje("Error al mostrar resultados finales: " + causa.getMessage());
+                }
+            } else if (!resultados.isEmpty()) {
+                StringBuilder sb = new StringBuilder();
+                sb.append("╔═══════════════════════════════════════════════════════╗\n");
+                sb.append("     RESULTADOS FINALES DE TODAS LAS RONDAS\n");
+                sb.append("╚═══════════════════════════════════════════════════════╝\n\n");
+
+                sb.append("TABLA DE LA LIGA (").append(liga.getCantidadEquipos()).append(" equipos)\n");
+                MotorCalificaciones motor = calificaciones;
+                for (FilaLiga fila : liga.getPrimeros(10)) {
+                    sb.append(fila);
+                    if (motor != null) {
+                        sb.append(String.format(" Calif:%.0f", motor.getCalificacionEquipo(fila.getEquipo())));
+                    }
+                    sb.append("\n");
+                }
+                sb.append("\n");
 
-            StringBuilder sb = new StringBuilder();
-            sb.append("╔═══════════════════════════════════════════════════════╗\n");
-            sb.append("     RESULTADOS FINALES DE TODAS LAS RONDAS\n");
-            sb.append("╚═══════════════════════════════════════════════════════╝\n\n");
+                for (String res : resultados) sb.append(res).append("\n");
 
-            for (String res : resultados) sb.append(res).append("\n");
+                JOptionPane.showMessageDialog(
+                    vPrincipal,
+                    sb.toString(),
+                    "Resultados Finales",
+                    JOptionPane.INFORMATION_MESSAGE
+                );
+            }
+            despues.run();
+        }, EDT);
+    }
 
-            JOptionPane.showMessageDialog(
-                vPrincipal,
-                sb.toString(),
-                "Resultados Finales",
-                JOptionPane.INFORMATION_MESSAGE
-            );
-        } catch (IOException ex) {
-            vPrincipal.mostrarMensaje("Error al mostrar resultados finales: " + ex.getMessage());
-        }
+    /**
+     * Obtiene la causa real del fallo de una operación en segundo plano.
+     */
+    private static Throwable causa(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /** Devuelve la última fotografía del estado de la partida. */
+    public EstadoPartida getEstadoPartida() {
+        return cLogica.getEstadoPartida();
+    }
+
+    /** Devuelve la tabla de la liga, que sigue cada ronda guardada. */
+    public TablaLiga getLiga() {
+        return liga;
+    }
+
+    /**
+     * Devuelve las calificaciones de los equipos, o null si aún no terminan
+     * de cargarse.
+     */
+    public MotorCalificaciones getCalificaciones() {
+        return calificaciones;
     }
 
     /** Devuelve la ronda actual. */
@@ -301,11 +553,92 @@ public class ControlInterfaz implements ActionListener {
 
     /** Limpia el área de resultados para iniciar una nueva ronda. */
     public void limpiarResultados() {
-        this.vPrincipal.getAreaResultados().setText(
-            "🔄 Nueva ronda iniciada...\n\n" +
-            "📌 Los puntajes se han reiniciado a 0\n" +
-            "🎯 ¡Que comience la revancha!\n\n"
-        );
+        this.vPrincipal.limpiarResultados();
     }
-}
 
+    /**
+     * Lleva los avisos de la demostración a la ventana principal. Los
+     * lanzamientos van directo a la ventana, que los agrupa por cuadro; el
+     * fin de ronda pasa al hilo de eventos.
+     */
+    private class EscuchaDemostracion implements EscuchaReproduccion {
+
+        @Override
+        public void onLanzamiento(String resultado, int paso) {
+            vPrincipal.actualizarResultado(resultado);
+        }
+
+        @Override
+        public void onBusqueda(int paso) {
+            vPrincipal.publicarAviso("⏩ Reproducción en el lanzamiento " + paso + " de la ronda");
+        }
+
+        @Override
+        public void onRondaTerminada() {
+            EDT.execute(() -> {
+                cerrandoRonda = true;
+                vPrincipal.refrescarAhora();
+                finalizarRonda();
+            });
+        }
+
+        @Override
+        public void onFinGrabacion() {
+            EDT.execute(() -> vPrincipal.mostrarMensaje("La grabación terminó antes que la ronda."));
+        }
+
+        @Override
+        public void onError(RuntimeException error) {
+            EDT.execute(() -> vPrincipal.mostrarMensaje("Error en la demostración: " + error.getMessage()));
+        }
+    }
+
+    /**
+     * Muestra el avance de una operación de archivos en un
+     * {@link ProgressMonitor} y la cancela si el usuario lo pide. El hilo de
+     * E/S sólo guarda el último avance; un temporizador de Swing lo pinta
+     * unas diez veces por segundo, por muchos registros que se procesen.
+     */
+    private static final class SeguimientoTarea implements EscuchaProgreso {
+
+        private final ProgressMonitor monitor;
+        private final String unidad;
+        private final AtomicLong hechos = new AtomicLong();
+        private final AtomicLong total = new AtomicLong();
+
+        SeguimientoTarea(Component padre, String mensaje, String unidad) {
+            this.monitor = new ProgressMonitor(padre, mensaje, null, 0, 100);
+            this.unidad = unidad;
+        }
+
+        @Override
+        public void onProgreso(long hechos, long total) {
+            this.total.set(total);
+            this.hechos.set(hechos);
+        }
+
+        /**
+         * Empieza a vigilar una operación hasta que termine.
+         * @param futuro operación en curso
+         */
+        void vigilar(CompletableFuture<?> futuro) {
+            Timer temporizador = new Timer(100, null);
+            temporizador.addActionListener(e -> {
+                if (futuro.isDone()) {
+                    temporizador.stop();
+                    monitor.close();
+                } else if (monitor.isCanceled()) {
+                    futuro.cancel(true);
+                } else {
+                    long t = total.get();
+                    long h = hechos.get();
+                    if (t > 0) {
+                        monitor.setNote(h + " de " + t + " " + unidad);
+                        monitor.setProgress((int) (100 * h / t));
+                    }
+                }
+            });
+            temporizador.start();
+        }
+    }
+}
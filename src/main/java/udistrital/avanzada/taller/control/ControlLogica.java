@@ -6,12 +6,15 @@ package udistrital.avanzada.taller.control;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import javax.swing.JOptionPane;
+import java.util.Set;
 import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.EstadoPartida;
+import udistrital.avanzada.taller.modelo.FormatoTorneo;
 import udistrital.avanzada.taller.modelo.Jugador;
 import udistrital.avanzada.taller.modelo.persistencia.ControlPersistencia;
-import udistrital.avanzada.taller.vista.VentanaCrearEquipos;
 
 /**
  * Clase principal de la capa de control que gestiona la lógica central del programa.
@@ -21,13 +24,16 @@ import udistrital.avanzada.taller.vista.VentanaCrearEquipos;
  * <p>Esta clase cumple con el principio de responsabilidad única (SRP) y
  * sirve de enlace entre la interfaz gráfica y las operaciones internas del sistema.</p>
  *
+ * <p>No depende de Swing: crearla no abre ventanas ni carga AWT, así que
+ * puede usarse sin pantalla (por ejemplo, desde un servidor). La interfaz
+ * se conecta aparte, con {@code new ControlInterfaz(logica)}.</p>
+ *
  * @author Juan Sebastián Bravo
  * @version 8.0 - 07/10/2025
  */
 public class ControlLogica {
 
     // Controladores auxiliares
-    private final ControlInterfaz cInterfaz;
     private final ControlPartida cPartida;
     private final ControlPersistencia cPersistencia;
     private final ControlEquipos cEquipos;
@@ -39,13 +45,12 @@ public class ControlLogica {
 
     /**
      * Constructor de la clase ControlLogica.
-     * Inicializa todos los controladores secundarios.
+     * Inicializa todos los controladores secundarios, sin interfaz gráfica.
      */
     public ControlLogica() {
         this.cPersistencia = new ControlPersistencia();
         this.cPartida = new ControlPartida();
         this.cEquipos = new ControlEquipos();
-        this.cInterfaz = new ControlInterfaz(this);
         this.jugadoresDisponibles = new ArrayList<>();
         this.equipos = new ArrayList<>();
     }
@@ -58,7 +63,18 @@ public class ControlLogica {
      * @return lista de equipos cargados
      */
     public List<Equipo> cargarEquipos(File archivo) {
-        this.equipos = cPersistencia.cargarEquiposDesdeArchivo(archivo);
+        return usarEquiposCargados(cPersistencia.cargarEquiposDesdeArchivo(archivo));
+    }
+
+    /**
+     * Configura la partida con equipos que ya se leyeron del archivo (por
+     * ejemplo, en segundo plano con {@link ServicioArchivos}).
+     *
+     * @param cargados equipos leídos por el controlador de persistencia
+     * @return lista de equipos cargados
+     */
+    public List<Equipo> usarEquiposCargados(List<Equipo> cargados) {
+        this.equipos = cargados;
 
         // 🔹 Guardar también los jugadores disponibles globalmente
         this.jugadoresDisponibles = cPersistencia.getJugadoresDisponibles();
@@ -72,86 +88,51 @@ public class ControlLogica {
     }
 
     /**
-     * Crea nuevos equipos seleccionando jugadores desde los disponibles.
-     * Llama a la ventana gráfica VentanaCrearEquipos y valida la selección.
+     * Crea dos nuevos equipos a partir de la selección del usuario (por
+     * ejemplo, la de {@code VentanaCrearEquipos}) y los deja como los
+     * equipos de la partida.
      *
-     * @return lista con los dos nuevos equipos creados
+     * @param nombreEquipo1 nombre del primer equipo
+     * @param jugadoresEquipo1 jugadores del primer equipo
+     * @param nombreEquipo2 nombre del segundo equipo
+     * @param jugadoresEquipo2 jugadores del segundo equipo
+     * @return lista con los dos equipos creados
+     * @throws IllegalArgumentException si algún equipo no tiene exactamente 4
+     *         jugadores o un jugador aparece más de una vez
      */
-    public List<Equipo> crearEquiposDesdeJugadoresDisponibles() {
-        // 🔹 Asegurarse de tener jugadores cargados
-        if (jugadoresDisponibles == null || jugadoresDisponibles.isEmpty()) {
-            jugadoresDisponibles = cPersistencia.getJugadoresDisponibles();
+    public List<Equipo> crearEquipos(String nombreEquipo1, List<Jugador> jugadoresEquipo1,
+            String nombreEquipo2, List<Jugador> jugadoresEquipo2) {
+        if (jugadoresEquipo1 == null || jugadoresEquipo2 == null
+                || jugadoresEquipo1.size() != 4 || jugadoresEquipo2.size() != 4) {
+            throw new IllegalArgumentException("Cada equipo debe tener exactamente 4 jugadores.");
         }
-
-        // Abrir la ventana para que el usuario seleccione
-        VentanaCrearEquipos dialog = new VentanaCrearEquipos(null, jugadoresDisponibles);
-        dialog.setVisible(true);
-
-        // Si el usuario canceló
-        if (dialog.isCancelado()) {
-            JOptionPane.showMessageDialog(
-                null,
-                "Operación cancelada. No se crearon equipos.",
-                "Cancelado",
-                JOptionPane.INFORMATION_MESSAGE
-            );
-            return new ArrayList<>();
+        Set<Jugador> elegidos = new HashSet<>();
+        for (List<Jugador> jugadores : List.of(jugadoresEquipo1, jugadoresEquipo2)) {
+            for (Jugador j : jugadores) {
+                if (j == null) {
+                    throw new IllegalArgumentException("Los equipos no pueden tener jugadores nulos.");
+                }
+                if (!elegidos.add(j)) {
+                    throw new IllegalArgumentException("El jugador " + j.getNombre()
+                            + " no puede estar dos veces en los equipos.");
+                }
+            }
         }
 
-        // 🔹 Si el usuario completó la creación correctamente
-        try {
-            return crearEquiposDesdeDialogo(dialog);
-        } catch (IllegalArgumentException ex) {
-            JOptionPane.showMessageDialog(
-                null,
-                ex.getMessage(),
-                "Error en la creación",
-                JOptionPane.ERROR_MESSAGE
-            );
-            return new ArrayList<>();
-        }
-    }
+        Equipo equipo1 = new Equipo(nombreEquipo1, new ArrayList<>(jugadoresEquipo1));
+        Equipo equipo2 = new Equipo(nombreEquipo2, new ArrayList<>(jugadoresEquipo2));
 
-    /**
-     * Crea dos nuevos equipos a partir de los datos seleccionados
-     * por el usuario en la ventana de creación de equipos.
-     *
-     * Este método respeta el patrón MVC, procesando la lógica del modelo
-     * a partir de la información de la vista (VentanaCrearEquipos).
-     *
-     * @param dialog Ventana de creación de equipos con los datos seleccionados
-     * @return Lista con los dos equipos creados
-     * @throws IllegalArgumentException si hay errores en la selección
-     */
-    /**
- * Crea dos equipos a partir de la ventana con la selección del usuario.
- */
-public List<Equipo> crearEquiposDesdeDialogo(VentanaCrearEquipos dialog) {
+        // reemplazar equipos en la lógica y en controles dependientes
+        this.equipos = new ArrayList<>();
+        this.equipos.add(equipo1);
+        this.equipos.add(equipo2);
 
-    // obtener listas de Jugador desde la vista (ya mapeadas)
-    List<Jugador> jugadoresEquipo1 = dialog.getJugadoresEquipo1();
-    List<Jugador> jugadoresEquipo2 = dialog.getJugadoresEquipo2();
+        cEquipos.setEquipos(this.equipos);
+        cPartida.setEquipos(this.equipos);
 
-    if (jugadoresEquipo1.size() != 4 || jugadoresEquipo2.size() != 4) {
-        throw new IllegalArgumentException("Cada equipo debe tener exactamente 4 jugadores.");
+        return Arrays.asList(equipo1, equipo2);
     }
 
-    // crear equipos (usar ArrayList explícito si el constructor lo exige)
-    Equipo equipo1 = new Equipo(dialog.getNombreEquipo1(), new ArrayList<>(jugadoresEquipo1));
-    Equipo equipo2 = new Equipo(dialog.getNombreEquipo2(), new ArrayList<>(jugadoresEquipo2));
-
-    // reemplazar equipos en la lógica y en controles dependientes
-    this.equipos = new ArrayList<>();
-    this.equipos.add(equipo1);
-    this.equipos.add(equipo2);
-
-    cEquipos.setEquipos(this.equipos);
-    cPartida.setEquipos(this.equipos);
-
-    return java.util.Arrays.asList(equipo1, equipo2);
-}
-
-
     // ============================
     // Métodos auxiliares
     // ============================
@@ -161,6 +142,11 @@ public List<Equipo> crearEquiposDesdeDialogo(VentanaCrearEquipos dialog) {
         return cPartida;
     }
 
+    /** @return Controlador de persistencia de equipos */
+    public ControlPersistencia getControlPersistencia() {
+        return cPersistencia;
+    }
+
     /** @return Controlador de equipos */
     public ControlEquipos getControlEquipos() {
         return cEquipos;
@@ -196,14 +182,19 @@ public List<Equipo> crearEquiposDesdeDialogo(VentanaCrearEquipos dialog) {
         return cPartida.getEquipoEnTurno();
     }
 
-    /** Avanza a la siguiente ronda */
+    /** Avanza a la siguiente ronda; sin equipos no hay ronda que avanzar */
     public boolean avanzarRonda() {
-        return cPartida.avanzarRonda();
+        return !equipos.isEmpty() && cPartida.avanzarRonda();
+    }
+
+    /** @return última fotografía inmutable del estado de la partida */
+    public EstadoPartida getEstadoPartida() {
+        return cPartida.getEstado();
     }
 
-    /** @return número de ronda actual */
+    /** @return número de ronda actual, o 0 si aún no hay equipos */
     public int getRondaActual() {
-        return cPartida.getRondaActual();
+        return equipos.isEmpty() ? 0 : cPartida.getRondaActual();
     }
 
     /** @return true si se pueden jugar más rondas */
@@ -216,6 +207,17 @@ public List<Equipo> crearEquiposDesdeDialogo(VentanaCrearEquipos dialog) {
         return cEquipos.crearEquipo(nombreEquipo, jugadores);
     }
 
+    /**
+     * Crea un torneo con los equipos cargados y la configuración de la partida actual.
+     *
+     * @param formato formato del torneo
+     * @param semilla semilla para sorteos y lanzamientos
+     * @return controlador del torneo, listo para jugarse
+     */
+    public ControlTorneo crearTorneo(FormatoTorneo formato, long semilla) {
+        return new ControlTorneo(equipos, cPartida.getConfiguracion(), formato, semilla);
+    }
+
     /** @return lista de jugadores disponibles para nuevos equipos */
     public List<Jugador> getJugadoresDisponibles() {
         return jugadoresDisponibles;
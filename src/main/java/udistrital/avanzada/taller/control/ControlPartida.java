@@ -1,67 +1,171 @@
 package udistrital.avanzada.taller.control;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.EstadoPartida;
+import udistrital.avanzada.taller.modelo.EventoLanzamiento;
 import udistrital.avanzada.taller.modelo.Jugador;
+import udistrital.avanzada.taller.modelo.ModeloLanzamiento;
 import udistrital.avanzada.taller.modelo.TipoLanzamiento;
+import udistrital.avanzada.taller.modelo.metricas.Contador;
+import udistrital.avanzada.taller.modelo.metricas.EventoLanzamientoJfr;
+import udistrital.avanzada.taller.modelo.metricas.EventoManoCompletaJfr;
+import udistrital.avanzada.taller.modelo.metricas.EventoMuerteSubitaJfr;
+import udistrital.avanzada.taller.modelo.metricas.HistogramaLatencia;
+import udistrital.avanzada.taller.modelo.metricas.RegistroMetricas;
 
 /**
  * Gestiona la lógica de la partida, turnos, lanzamientos por manos y desempates.
- * Implementa el sistema de manos: cada equipo lanza 4 veces (uno por jugador)
- * antes de pasar el turno al otro equipo.
- * 
+ * Implementa el sistema de manos: cada equipo lanza una vez por jugador
+ * antes de pasar el turno al siguiente equipo.
+ *
  * Reglas para ganar bien incorporadas y entrada a muerte súbita arreglada
  *
+ * Generalizada para mesas de 2 a 8 equipos: cuando un equipo alcanza el
+ * puntaje objetivo, los equipos restantes del ciclo terminan su mano. Si al
+ * cerrar el ciclo sólo un equipo llegó al objetivo, gana; si llegaron varios,
+ * se juega la muerte súbita entre ellos. Los puntajes y marcadores se llevan
+ * en arreglos primitivos indexados por equipo.
+ *
+ * Después de cada lanzamiento (y de cada cambio de ronda o reinicio) se
+ * publica un {@link EstadoPartida} inmutable a través de una referencia
+ * volátil, que los lectores de otros hilos consultan sin bloqueos. Las
+ * {@link EscuchaPartida} registradas reciben además los eventos tipados de
+ * cada lanzamiento, mano completa, muerte súbita y fin de ronda; si no hay
+ * ninguna registrada, no se construye ningún evento. La latencia de cada
+ * lanzamiento y los conteos de manos, muertes súbitas y rondas se registran en
+ * {@link RegistroMetricas#global()}, y los lanzamientos, cierres de mano y
+ * muertes súbitas de la partida interactiva se emiten como eventos de JFR
+ * (ver {@link EventoLanzamientoJfr}) para verlos junto al GC y la E/S.
+ *
  * @author Juan Ariza
- * @version 7.0 
- * 06/10/2025
+ * @version 9.0
+ * 19/10/2026
  */
 public class ControlPartida {
 
+    // Métricas compartidas por todas las partidas
+    private static final HistogramaLatencia LATENCIA_LANZAMIENTO =
+            RegistroMetricas.global().histograma("partida.lanzamiento");
+    private static final HistogramaLatencia LATENCIA_CIERRE_MANO =
+            RegistroMetricas.global().histograma("partida.cierreMano");
+    private static final Contador LANZAMIENTOS = RegistroMetricas.global().contador("partida.lanzamientos");
+    private static final Contador LANZAMIENTOS_SIMULADOS =
+            RegistroMetricas.global().contador("partida.lanzamientosSimulados");
+    private static final Contador MANOS = RegistroMetricas.global().contador("partida.manos");
+    private static final Contador MUERTES_SUBITAS = RegistroMetricas.global().contador("partida.muertesSubitas");
+    private static final Contador RONDAS = RegistroMetricas.global().contador("partida.rondas");
+
     private List<Equipo> equipos;
+    private int cantidadEquipos;
+    private final ConfiguracionPartida configuracion;
+    private int[] puntajes;
     private boolean partidaActiva;
-    private int puntajeObjetivo;
     private int equipoEnTurno;
     private int lanzamientoEnMano;
     private int rondaActual;
-    private int maximoRondas;
     private final Random random;
     private boolean muerteSubitaActiva;
     private boolean esperandoFinDeMano;
     private List<String> lanzamientosActuales;
     private int enfrentamientoActual;
     private int[] puntajesMuerteSubita;
+    private boolean[] enMuerteSubita;
+    private int[] puntosEnfrentamiento;
+    private TipoLanzamiento[] tiposEnfrentamiento;
+    private int indiceGanador;
+    private ModeloLanzamiento modeloLanzamiento;
+    private ModeloLanzamiento[] modelosEquipo;
+    private String[] nombresEquipos;
+    private long secuenciaEstado;
+    private volatile EstadoPartida estado;
+
+    // Escuchas y eventos del último lanzamiento pendientes de notificar
+    private final List<EscuchaPartida> escuchas;
+    private int[] equiposPendientes;
+    private int[] jugadoresPendientes;
+    private TipoLanzamiento[] tiposPendientes;
+    private int lanzamientosPendientes;
+    private boolean lanzamientosDeMuerteSubita;
+    private int manoCompletaPendiente;
+    private boolean muerteSubitaPendiente;
+    private boolean rondaTerminadaPendiente;
+    private boolean instrumentada;
+    private int ultimoEquipo;
+    private int ultimoJugador;
+    private TipoLanzamiento ultimoTipo;
 
     public ControlPartida() {
+        this(new ConfiguracionPartida());
+    }
+
+    /**
+     * Constructor con una configuración de partida específica.
+     *
+     * @param configuracion parámetros de la partida
+     */
+    public ControlPartida(ConfiguracionPartida configuracion) {
+        this(configuracion, new Random());
+    }
+
+    /**
+     * Constructor con configuración y generador aleatorio (útil para
+     * simulaciones reproducibles).
+     *
+     * @param configuracion parámetros de la partida
+     * @param random generador de los lanzamientos
+     */
+    public ControlPartida(ConfiguracionPartida configuracion, Random random) {
+        if (configuracion == null || random == null) {
+            throw new IllegalArgumentException("La configuración y el generador no pueden ser nulos.");
+        }
+        this.configuracion = new ConfiguracionPartida(configuracion);
         this.partidaActiva = false;
-        this.puntajeObjetivo = 21;
         this.equipoEnTurno = 0;
         this.lanzamientoEnMano = 0;
         this.rondaActual = 1;
-        this.maximoRondas = 2;
-        this.random = new Random();
+        this.random = random;
         this.muerteSubitaActiva = false;
         this.esperandoFinDeMano = false;
         this.lanzamientosActuales = new ArrayList<>();
         this.enfrentamientoActual = 0;
-        this.puntajesMuerteSubita = new int[2];
+        this.indiceGanador = -1;
+        this.modeloLanzamiento = ModeloLanzamiento.uniforme();
+        this.escuchas = new CopyOnWriteArrayList<>();
+        this.instrumentada = true;
+        this.manoCompletaPendiente = -1;
+        prepararArreglos(ConfiguracionPartida.MIN_EQUIPOS);
+        this.nombresEquipos = new String[0];
+        publicarEstado();
     }
 
     public void setEquipos(List<Equipo> equipos) {
-        if (equipos == null || equipos.size() < 2) {
+        if (equipos == null || equipos.size() < ConfiguracionPartida.MIN_EQUIPOS) {
             throw new IllegalArgumentException("Debe haber al menos dos equipos para iniciar la partida.");
         }
-        
+        if (equipos.size() > ConfiguracionPartida.MAX_EQUIPOS) {
+            throw new IllegalArgumentException("No puede haber más de "
+                    + ConfiguracionPartida.MAX_EQUIPOS + " equipos en una partida.");
+        }
+
+        int jugadoresPorEquipo = configuracion.getJugadoresPorEquipo();
         for (Equipo eq : equipos) {
-            if (eq.getJugadores() == null || eq.getJugadores().size() != 4) {
-                throw new IllegalArgumentException("Cada equipo debe tener exactamente 4 jugadores.");
+            if (eq.getJugadores() == null || eq.getJugadores().size() != jugadoresPorEquipo) {
+                throw new IllegalArgumentException("Cada equipo debe tener exactamente "
+                        + jugadoresPorEquipo + " jugadores.");
             }
         }
-        
+
         this.equipos = new ArrayList<>(equipos);
+        prepararArreglos(equipos.size());
+        this.nombresEquipos = new String[equipos.size()];
+        for (int i = 0; i < nombresEquipos.length; i++) {
+            nombresEquipos[i] = equipos.get(i).getNombre();
+        }
         this.partidaActiva = true;
         this.equipoEnTurno = 0;
         this.lanzamientoEnMano = 0;
@@ -69,200 +173,410 @@ public class ControlPartida {
         this.muerteSubitaActiva = false;
         this.esperandoFinDeMano = false;
         this.lanzamientosActuales.clear();
+        this.enfrentamientoActual = 0;
+        this.indiceGanador = -1;
         reiniciarPuntajes();
+        publicarEstado();
     }
 
     public String lanzarArgolla() {
+        long inicio = System.nanoTime();
+        EventoLanzamientoJfr evento = new EventoLanzamientoJfr();
+        evento.begin();
+        boolean deMuerteSubita = muerteSubitaActiva;
+        String resultado = lanzar(true);
+        publicarEstado();
+        notificarEscuchas();
+        if (instrumentada) {
+            LATENCIA_LANZAMIENTO.registrarDesde(inicio);
+            LANZAMIENTOS.incrementar();
+            if (evento.shouldCommit()) {
+                evento.setEquipo(nombresEquipos[ultimoEquipo]);
+                evento.setJugador(equipos.get(ultimoEquipo).getJugadores().get(ultimoJugador).getApodo());
+                evento.setTipo(ultimoTipo.getNombre());
+                evento.setPuntos(ultimoTipo.getPuntos());
+                evento.setMuerteSubita(deMuerteSubita);
+                evento.setRonda(rondaActual);
+                evento.commit();
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Realiza un lanzamiento sin construir el texto descriptivo. Aplica
+     * exactamente las mismas reglas que {@link #lanzarArgolla()} y está
+     * pensado para simulaciones donde nadie lee el resultado.
+     */
+    public void simularLanzamiento() {
+        lanzar(false);
+        publicarEstado();
+        notificarEscuchas();
+        if (instrumentada) {
+            LANZAMIENTOS_SIMULADOS.incrementar();
+        }
+    }
+
+    /**
+     * Ejecuta un lanzamiento aplicando las reglas de manos y desempate.
+     *
+     * @param conTexto si se debe construir el texto del resultado
+     * @return texto del resultado, o null si conTexto es false
+     */
+    private String lanzar(boolean conTexto) {
         if (!partidaActiva || equipos == null) {
             throw new IllegalStateException("No hay una partida activa.");
         }
 
         // Si estamos en muerte súbita, usar lógica especial
         if (muerteSubitaActiva) {
-            return lanzarArgollaMuerteSubita();
+            return lanzarArgollaMuerteSubita(conTexto);
         }
 
+        int tamanoMano = configuracion.getJugadoresPorEquipo();
+        int puntajeObjetivo = configuracion.getPuntajeObjetivo();
         Equipo equipo = equipos.get(equipoEnTurno);
         List<Jugador> jugadores = equipo.getJugadores();
-        
-        if (jugadores == null || jugadores.size() < 4) {
+
+        if (jugadores == null || jugadores.size() < tamanoMano) {
             throw new IllegalStateException("El equipo no tiene suficientes jugadores.");
         }
-        
+
         Jugador jugadorActual = jugadores.get(lanzamientoEnMano);
-        
+
         // Simular el lanzamiento
-        TipoLanzamiento[] tipos = TipoLanzamiento.values();
-        TipoLanzamiento tipoLanzamiento = tipos[random.nextInt(tipos.length)];
+        TipoLanzamiento tipoLanzamiento = modeloDe(equipoEnTurno).sortear(random);
         int puntos = tipoLanzamiento.getPuntos();
-        equipo.sumarPuntos(puntos);
+        sumarPuntos(equipoEnTurno, puntos);
+        registrarLanzamientoPendiente(equipoEnTurno, lanzamientoEnMano, tipoLanzamiento);
+        registrarUltimoLanzamiento(equipoEnTurno, lanzamientoEnMano, tipoLanzamiento);
 
         // Registrar el lanzamiento individual
-        String lanzamientoInfo = String.format("  Jugador: %-25s | Lanzamiento: %-12s | Puntos: %d", 
-            jugadorActual.getNombre() + " (" + jugadorActual.getApodo() + ")",
-            tipoLanzamiento.getNombre(),
-            puntos);
-        lanzamientosActuales.add(lanzamientoInfo);
+        if (conTexto) {
+            String lanzamientoInfo = String.format("  Jugador: %-25s | Lanzamiento: %-12s | Puntos: %d",
+                jugadorActual.getNombre() + " (" + jugadorActual.getApodo() + ")",
+                tipoLanzamiento.getNombre(),
+                puntos);
+            lanzamientosActuales.add(lanzamientoInfo);
+        }
 
         // Avanzar al siguiente lanzamiento en la mano
         lanzamientoEnMano++;
 
-        String resultado = "";
-        
-        // Si completamos una mano (4 lanzamientos)
-        if (lanzamientoEnMano >= 4) {
-            resultado = construirResultadoMano(equipo);
-            lanzamientoEnMano = 0;
-            lanzamientosActuales.clear();
-            
-            // CASO 1: Equipo 2 termina su mano después de que Equipo 1 llegó a 21
-            if (equipoEnTurno == 1 && esperandoFinDeMano) {
-                Equipo equipo1 = equipos.get(0);
-                Equipo equipo2 = equipos.get(1);
-                
-                // Si Equipo 2 NO llegó a 21 → Equipo 1 gana
-                if (equipo2.getPuntaje() < puntajeObjetivo) {
-                    partidaActiva = false;
-                    esperandoFinDeMano = false;
-                    resultado += "\n\n*** ¡" + equipo1.getNombre() + " ha GANADO la ronda " + rondaActual + "! ***";
-                    resultado += "\n(" + equipo1.getNombre() + ": " + equipo1.getPuntaje() + " pts vs " 
-                               + equipo2.getNombre() + ": " + equipo2.getPuntaje() + " pts)";
-                }
-                // Si Equipo 2 SÍ llegó a 21+ → MUERTE SÚBITA
-                else {
-                    activarMuerteSubita();
-                    resultado += "\n\n⚔⚔⚔ MUERTE SÚBITA ACTIVADA ⚔⚔⚔";
-                    resultado += "\nAmbos equipos han alcanzado " + puntajeObjetivo + " puntos!";
-                    resultado += "\n" + equipo1.getNombre() + ": " + equipo1.getPuntaje() + " pts";
-                    resultado += "\n" + equipo2.getNombre() + ": " + equipo2.getPuntaje() + " pts";
-                    resultado += "\n\n🎯 ENFRENTAMIENTOS 1 VS 1";
-                    resultado += "\nCada jugador se enfrentará a su contraparte.";
-                    resultado += "\nPresiona cualquier botón para iniciar el primer enfrentamiento.";
-                }
+        // Aún faltan lanzamientos en esta mano
+        if (lanzamientoEnMano < tamanoMano) {
+            return conTexto ? construirResultadoParcial(equipo, jugadorActual, tipoLanzamiento, puntos) : null;
+        }
+
+        // Se completó una mano
+        long inicioCierre = conTexto ? System.nanoTime() : 0;
+        EventoManoCompletaJfr eventoMano = new EventoManoCompletaJfr();
+        eventoMano.begin();
+        int equipoMano = equipoEnTurno;
+        manoCompletaPendiente = equipoEnTurno;
+        String resultado = conTexto ? construirResultadoMano(equipo) : null;
+        lanzamientoEnMano = 0;
+        lanzamientosActuales.clear();
+
+        boolean ultimoDelCiclo = equipoEnTurno == cantidadEquipos - 1;
+        boolean alcanzoObjetivo = puntajes[equipoEnTurno] >= puntajeObjetivo;
+
+        // CASO 1: el último equipo del ciclo termina su mano y alguien llegó al objetivo
+        if (ultimoDelCiclo && (esperandoFinDeMano || alcanzoObjetivo)) {
+            String desenlace = resolverFinDeCiclo(conTexto);
+            if (conTexto) {
+                resultado += desenlace;
             }
-            // CASO 2: Equipo 1 llega a 21 → marcar espera
-            else if (equipoEnTurno == 0 && equipo.getPuntaje() >= puntajeObjetivo) {
-                esperandoFinDeMano = true;
+        }
+        // CASO 2: un equipo llega al objetivo → los restantes terminan su mano
+        else if (alcanzoObjetivo) {
+            esperandoFinDeMano = true;
+            if (conTexto) {
                 resultado += "\n\n⚠⚠⚠ " + equipo.getNombre() + " ha alcanzado " + puntajeObjetivo + " puntos! ⚠⚠⚠";
-                resultado += "\nEsperando la mano del " + equipos.get(1).getNombre() + "...";
-                cambiarTurno();
+                resultado += "\nEsperando la mano del " + nombresRestantesDelCiclo() + "...";
             }
-            // CASO 3: Equipo 2 llega a 21 PRIMERO (sin que Equipo 1 haya llegado)
-            else if (equipoEnTurno == 1 && equipo.getPuntaje() >= puntajeObjetivo && !esperandoFinDeMano) {
-                partidaActiva = false;
-                resultado += "\n\n*** ¡" + equipo.getNombre() + " ha GANADO la ronda " + rondaActual + "! ***";
-                resultado += "\n(Llegó primero a " + puntajeObjetivo + " puntos con " + equipo.getPuntaje() + " pts)";
+            cambiarTurno();
+        }
+        // CASO 3: Nadie ha llegado al objetivo → cambiar turno normal
+        else {
+            cambiarTurno();
+        }
+
+        if (conTexto && instrumentada) {
+            LATENCIA_CIERRE_MANO.registrarDesde(inicioCierre);
+        }
+        if (instrumentada && eventoMano.shouldCommit()) {
+            eventoMano.setEquipo(nombresEquipos[equipoMano]);
+            eventoMano.setPuntaje(puntajes[equipoMano]);
+            eventoMano.setRonda(rondaActual);
+            eventoMano.commit();
+        }
+        return resultado;
+    }
+
+    /**
+     * Cierra el ciclo de manos: si sólo un equipo alcanzó el objetivo gana la
+     * ronda; si fueron varios, se activa la muerte súbita entre ellos.
+     *
+     * @param conTexto si se debe construir el texto del desenlace
+     * @return texto con el desenlace del ciclo, o null si conTexto es false
+     */
+    private String resolverFinDeCiclo(boolean conTexto) {
+        int puntajeObjetivo = configuracion.getPuntajeObjetivo();
+        int clasificados = 0;
+        int unico = -1;
+        for (int i = 0; i < cantidadEquipos; i++) {
+            if (puntajes[i] >= puntajeObjetivo) {
+                clasificados++;
+                unico = i;
             }
-            // CASO 4: Nadie ha llegado a 21 → cambiar turno normal
-            else {
-                cambiarTurno();
+        }
+
+        if (clasificados == 1) {
+            partidaActiva = false;
+            indiceGanador = unico;
+            rondaTerminadaPendiente = true;
+            String desenlace = conTexto ? construirVictoria(unico) : null;
+            esperandoFinDeMano = false;
+            return desenlace;
+        }
+
+        // Varios equipos alcanzaron el objetivo → MUERTE SÚBITA
+        for (int i = 0; i < cantidadEquipos; i++) {
+            enMuerteSubita[i] = puntajes[i] >= puntajeObjetivo;
+        }
+        activarMuerteSubita();
+        if (!conTexto) {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n\n⚔⚔⚔ MUERTE SÚBITA ACTIVADA ⚔⚔⚔");
+        sb.append("\n").append(clasificados == 2 ? "Ambos equipos" : clasificados + " equipos")
+          .append(" han alcanzado ").append(puntajeObjetivo).append(" puntos!");
+        for (int i = 0; i < cantidadEquipos; i++) {
+            if (enMuerteSubita[i]) {
+                sb.append("\n").append(equipos.get(i).getNombre()).append(": ").append(puntajes[i]).append(" pts");
             }
-        } else {
-            // Aún faltan lanzamientos en esta mano
-            resultado = construirResultadoParcial(equipo, jugadorActual, tipoLanzamiento, puntos);
         }
+        sb.append("\n\n🎯 ENFRENTAMIENTOS ").append(clasificados == 2 ? "1 VS 1" : "ENTRE " + clasificados + " EQUIPOS");
+        sb.append("\nCada jugador se enfrentará a su contraparte.");
+        sb.append("\nPresiona cualquier botón para iniciar el primer enfrentamiento.");
+        return sb.toString();
+    }
 
-        return resultado;
+    /**
+     * Construye el texto de la victoria de un equipo al cerrar el ciclo.
+     * @param ganador posición del equipo ganador
+     * @return texto de la victoria
+     */
+    private String construirVictoria(int ganador) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n\n*** ¡").append(equipos.get(ganador).getNombre()).append(" ha GANADO la ronda ")
+          .append(rondaActual).append("! ***");
+        if (!esperandoFinDeMano) {
+            // El último equipo del ciclo llegó primero al objetivo
+            sb.append("\n(Llegó primero a ").append(configuracion.getPuntajeObjetivo()).append(" puntos con ")
+              .append(puntajes[ganador]).append(" pts)");
+        } else {
+            sb.append("\n(");
+            for (int i = 0; i < cantidadEquipos; i++) {
+                if (i > 0) sb.append(" vs ");
+                sb.append(equipos.get(i).getNombre()).append(": ").append(puntajes[i]).append(" pts");
+            }
+            sb.append(")");
+        }
+        return sb.toString();
     }
-    
-    private String lanzarArgollaMuerteSubita() {
-        Equipo equipo1 = equipos.get(0);
-        Equipo equipo2 = equipos.get(1);
-        
-        Jugador jugador1 = equipo1.getJugadores().get(enfrentamientoActual);
-        Jugador jugador2 = equipo2.getJugadores().get(enfrentamientoActual);
-        
-        // Lanzamiento del jugador 1
-        TipoLanzamiento[] tipos = TipoLanzamiento.values();
-        TipoLanzamiento tipo1 = tipos[random.nextInt(tipos.length)];
-        int puntos1 = tipo1.getPuntos();
-        
-        // Lanzamiento del jugador 2
-        TipoLanzamiento tipo2 = tipos[random.nextInt(tipos.length)];
-        int puntos2 = tipo2.getPuntos();
-        
+
+    private String lanzarArgollaMuerteSubita(boolean conTexto) {
+        int enfrentamientos = configuracion.getEnfrentamientosDesempate();
+
+        // Lanzamiento de cada jugador participante, en orden de equipo
+        int mejorPuntaje = -1;
+        int mejorEquipo = -1;
+        boolean empate = false;
+        for (int i = 0; i < cantidadEquipos; i++) {
+            if (!enMuerteSubita[i]) continue;
+            tiposEnfrentamiento[i] = modeloDe(i).sortear(random);
+            puntosEnfrentamiento[i] = tiposEnfrentamiento[i].getPuntos();
+            registrarLanzamientoPendiente(i, enfrentamientoActual % configuracion.getJugadoresPorEquipo(),
+                    tiposEnfrentamiento[i]);
+            registrarUltimoLanzamiento(i, enfrentamientoActual % configuracion.getJugadoresPorEquipo(),
+                    tiposEnfrentamiento[i]);
+            if (puntosEnfrentamiento[i] > mejorPuntaje) {
+                mejorPuntaje = puntosEnfrentamiento[i];
+                mejorEquipo = i;
+                empate = false;
+            } else if (puntosEnfrentamiento[i] == mejorPuntaje) {
+                empate = true;
+            }
+        }
+
         // Determinar ganador del enfrentamiento
-        String ganadorEnfrentamiento;
-        if (puntos1 > puntos2) {
-            puntajesMuerteSubita[0]++;
-            ganadorEnfrentamiento = "⭐ " + equipo1.getNombre();
-        } else if (puntos2 > puntos1) {
-            puntajesMuerteSubita[1]++;
-            ganadorEnfrentamiento = "⭐ " + equipo2.getNombre();
-        } else {
-            ganadorEnfrentamiento = "🤝 EMPATE - No suma";
+        if (!empate) {
+            puntajesMuerteSubita[mejorEquipo]++;
         }
-        
-        // Construir resultado
+
+        StringBuilder sb = conTexto ? construirEnfrentamiento(empate ? -1 : mejorEquipo) : null;
+
+        // Avanzar al siguiente enfrentamiento
+        enfrentamientoActual++;
+
+        // Si completamos los enfrentamientos, determinar ganador
+        if (enfrentamientoActual >= enfrentamientos) {
+            if (conTexto) {
+                sb.append("\n\n");
+                sb.append("═══════════════════════════════════════════════════════════════\n");
+                sb.append("           FIN DE LA MUERTE SÚBITA\n");
+                sb.append("═══════════════════════════════════════════════════════════════\n");
+            }
+
+            int maximo = -1;
+            int empatados = 0;
+            int ganador = -1;
+            for (int i = 0; i < cantidadEquipos; i++) {
+                if (!enMuerteSubita[i]) continue;
+                if (puntajesMuerteSubita[i] > maximo) {
+                    maximo = puntajesMuerteSubita[i];
+                    ganador = i;
+                    empatados = 1;
+                } else if (puntajesMuerteSubita[i] == maximo) {
+                    empatados++;
+                }
+            }
+
+            if (empatados == 1) {
+                Equipo equipoGanador = equipos.get(ganador);
+                if (conTexto) {
+                    sb.append("\n*** ¡").append(equipoGanador.getNombre()).append(" GANA LA MUERTE SÚBITA! ***\n");
+                    sb.append("Enfrentamientos ganados: ").append(maximo);
+                    for (int i = 0; i < cantidadEquipos; i++) {
+                        if (enMuerteSubita[i] && i != ganador) {
+                            sb.append(" vs ").append(puntajesMuerteSubita[i]);
+                        }
+                    }
+                }
+                int puntajeFinal = configuracion.getPuntajeObjetivo() + 1;
+                equipoGanador.setPuntaje(puntajeFinal);
+                puntajes[ganador] = puntajeFinal;
+                indiceGanador = ganador;
+                rondaTerminadaPendiente = true;
+            } else {
+                // Sólo los equipos empatados en el máximo repiten la muerte súbita
+                if (conTexto) {
+                    sb.append("\n⚠ EMPATE PERFECTO (");
+                }
+                boolean primeroEmpatado = true;
+                for (int i = 0; i < cantidadEquipos; i++) {
+                    if (!enMuerteSubita[i]) continue;
+                    if (puntajesMuerteSubita[i] == maximo) {
+                        if (conTexto) {
+                            if (!primeroEmpatado) sb.append("-");
+                            sb.append(maximo);
+                        }
+                        primeroEmpatado = false;
+                    } else {
+                        enMuerteSubita[i] = false;
+                    }
+                }
+                if (conTexto) {
+                    sb.append(") ⚠\n");
+                    sb.append("Se repetirá la muerte súbita...");
+                }
+                enfrentamientoActual = 0;
+                Arrays.fill(puntajesMuerteSubita, 0);
+                muerteSubitaPendiente = true;
+                return conTexto ? sb.toString() : null;
+            }
+
+            partidaActiva = false;
+            muerteSubitaActiva = false;
+        }
+
+        return conTexto ? sb.toString() : null;
+    }
+
+    /**
+     * Construye el recuadro de un enfrentamiento de muerte súbita con los
+     * lanzamientos recién realizados.
+     *
+     * @param ganador posición del equipo ganador del enfrentamiento, o -1 si hubo empate
+     * @return texto del enfrentamiento
+     */
+    private StringBuilder construirEnfrentamiento(int ganador) {
+        int indiceJugador = enfrentamientoActual % configuracion.getJugadoresPorEquipo();
         StringBuilder sb = new StringBuilder();
         sb.append("╔═══════════════════════════════════════════════════════════════╗\n");
-        sb.append("  ⚔ MUERTE SÚBITA - ENFRENTAMIENTO ").append(enfrentamientoActual + 1).append(" de 4 ⚔\n");
+        sb.append("  ⚔ MUERTE SÚBITA - ENFRENTAMIENTO ").append(enfrentamientoActual + 1)
+          .append(" de ").append(configuracion.getEnfrentamientosDesempate()).append(" ⚔\n");
         sb.append("╠═══════════════════════════════════════════════════════════════╣\n");
-        sb.append(String.format("  %s: %s\n", equipo1.getNombre(), jugador1.getNombre()));
-        sb.append(String.format("    → %s = %d puntos\n", tipo1.getNombre(), puntos1));
-        sb.append("  -VS-\n");
-        sb.append(String.format("  %s: %s\n", equipo2.getNombre(), jugador2.getNombre()));
-        sb.append(String.format("    → %s = %d puntos\n", tipo2.getNombre(), puntos2));
+        boolean primero = true;
+        for (int i = 0; i < cantidadEquipos; i++) {
+            if (!enMuerteSubita[i]) continue;
+            if (!primero) sb.append("  -VS-\n");
+            primero = false;
+            Equipo equipo = equipos.get(i);
+            Jugador jugador = equipo.getJugadores().get(indiceJugador);
+            sb.append(String.format("  %s: %s\n", equipo.getNombre(), jugador.getNombre()));
+            sb.append(String.format("    → %s = %d puntos\n", tiposEnfrentamiento[i].getNombre(), puntosEnfrentamiento[i]));
+        }
+        String ganadorEnfrentamiento = ganador >= 0
+                ? "⭐ " + equipos.get(ganador).getNombre()
+                : "🤝 EMPATE - No suma";
         sb.append("╠═══════════════════════════════════════════════════════════════╣\n");
         sb.append("  Ganador del enfrentamiento: ").append(ganadorEnfrentamiento).append("\n");
         sb.append("╠═══════════════════════════════════════════════════════════════╣\n");
         sb.append("  MARCADOR MUERTE SÚBITA:\n");
-        sb.append(String.format("    %s: %d   |   %s: %d\n", 
-            equipo1.getNombre(), puntajesMuerteSubita[0],
-            equipo2.getNombre(), puntajesMuerteSubita[1]));
+        sb.append("    ").append(marcadorMuerteSubita()).append("\n");
         sb.append("╚═══════════════════════════════════════════════════════════════╝");
-        
-        // Avanzar al siguiente enfrentamiento
-        enfrentamientoActual++;
-        
-        // Si completamos los 4 enfrentamientos, determinar ganador
-        if (enfrentamientoActual >= 4) {
-            sb.append("\n\n");
-            sb.append("═══════════════════════════════════════════════════════════════\n");
-            sb.append("           FIN DE LA MUERTE SÚBITA\n");
-            sb.append("═══════════════════════════════════════════════════════════════\n");
-            
-            if (puntajesMuerteSubita[0] > puntajesMuerteSubita[1]) {
-                sb.append("\n*** ¡").append(equipo1.getNombre()).append(" GANA LA MUERTE SÚBITA! ***\n");
-                sb.append("Enfrentamientos ganados: ").append(puntajesMuerteSubita[0]).append(" vs ").append(puntajesMuerteSubita[1]);
-                equipo1.setPuntaje(puntajeObjetivo + 1);
-            } else if (puntajesMuerteSubita[1] > puntajesMuerteSubita[0]) {
-                sb.append("\n*** ¡").append(equipo2.getNombre()).append(" GANA LA MUERTE SÚBITA! ***\n");
-                sb.append("Enfrentamientos ganados: ").append(puntajesMuerteSubita[1]).append(" vs ").append(puntajesMuerteSubita[0]);
-                equipo2.setPuntaje(puntajeObjetivo + 1);
-            } else {
-                sb.append("\n⚠ EMPATE PERFECTO (").append(puntajesMuerteSubita[0]).append("-").append(puntajesMuerteSubita[0]).append(") ⚠\n");
-                sb.append("Se repetirá la muerte súbita...");
-                enfrentamientoActual = 0;
-                puntajesMuerteSubita[0] = 0;
-                puntajesMuerteSubita[1] = 0;
-                return sb.toString();
-            }
-            
-            partidaActiva = false;
-            muerteSubitaActiva = false;
+        return sb;
+    }
+
+    /**
+     * Construye la línea del marcador de muerte súbita de los equipos participantes.
+     * @return marcador con el formato "Equipo: n   |   Equipo: m"
+     */
+    private String marcadorMuerteSubita() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < cantidadEquipos; i++) {
+            if (!enMuerteSubita[i]) continue;
+            if (sb.length() > 0) sb.append("   |   ");
+            sb.append(equipos.get(i).getNombre()).append(": ").append(puntajesMuerteSubita[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Nombres de los equipos que aún deben lanzar su mano en el ciclo actual.
+     * @return nombres separados por coma
+     */
+    private String nombresRestantesDelCiclo() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = equipoEnTurno + 1; i < cantidadEquipos; i++) {
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(equipos.get(i).getNombre());
         }
-        
         return sb.toString();
     }
-    
+
     private String construirResultadoMano(Equipo equipo) {
         StringBuilder sb = new StringBuilder();
         sb.append("╔═══════════════════════════════════════════════════════════════╗\n");
         sb.append("  MANO COMPLETA - EQUIPO: ").append(equipo.getNombre()).append("\n");
         sb.append("╠═══════════════════════════════════════════════════════════════╣\n");
-        
+
         for (String lanzamiento : lanzamientosActuales) {
             sb.append(lanzamiento).append("\n");
         }
-        
+
         sb.append("╠═══════════════════════════════════════════════════════════════╣\n");
-        sb.append("  PUNTAJE TOTAL DEL EQUIPO: ").append(equipo.getPuntaje()).append(" / ").append(puntajeObjetivo).append("\n");
+        sb.append("  PUNTAJE TOTAL DEL EQUIPO: ").append(equipo.getPuntaje()).append(" / ").append(configuracion.getPuntajeObjetivo()).append("\n");
         sb.append("╚═══════════════════════════════════════════════════════════════╝");
-        
+
         return sb.toString();
     }
-    
+
     private String construirResultadoParcial(Equipo equipo, Jugador jugador, TipoLanzamiento tipo, int puntos) {
         StringBuilder sb = new StringBuilder();
         sb.append("╔═══════════════════════════════════════════════════════════════╗\n");
@@ -271,36 +585,161 @@ public class ControlPartida {
         sb.append("╠═══════════════════════════════════════════════════════════════╣\n");
         sb.append("  LANZAMIENTO: ").append(tipo.getNombre()).append("\n");
         sb.append("  PUNTOS OBTENIDOS: ").append(puntos).append("\n");
-        sb.append("  PUNTAJE ACTUAL: ").append(equipo.getPuntaje()).append(" / ").append(puntajeObjetivo).append("\n");
+        sb.append("  PUNTAJE ACTUAL: ").append(equipo.getPuntaje()).append(" / ").append(configuracion.getPuntajeObjetivo()).append("\n");
         sb.append("╠═══════════════════════════════════════════════════════════════╣\n");
-        sb.append("  Lanzamiento ").append(lanzamientoEnMano).append(" de 4 en esta mano\n");
+        sb.append("  Lanzamiento ").append(lanzamientoEnMano).append(" de ")
+          .append(configuracion.getJugadoresPorEquipo()).append(" en esta mano\n");
         sb.append("╚═══════════════════════════════════════════════════════════════╝");
-        
+
         return sb.toString();
     }
 
+    /**
+     * Suma puntos al equipo indicado, manteniendo el arreglo de puntajes y
+     * el objeto Equipo sincronizados.
+     */
+    private void sumarPuntos(int indiceEquipo, int puntos) {
+        puntajes[indiceEquipo] += puntos;
+        equipos.get(indiceEquipo).sumarPuntos(puntos);
+    }
+
+    /**
+     * Dimensiona los arreglos indexados por equipo.
+     * @param cantidad cantidad de equipos de la partida
+     */
+    private void prepararArreglos(int cantidad) {
+        this.cantidadEquipos = cantidad;
+        this.puntajes = new int[cantidad];
+        this.puntajesMuerteSubita = new int[cantidad];
+        this.enMuerteSubita = new boolean[cantidad];
+        this.puntosEnfrentamiento = new int[cantidad];
+        this.tiposEnfrentamiento = new TipoLanzamiento[cantidad];
+        this.equiposPendientes = new int[cantidad];
+        this.jugadoresPendientes = new int[cantidad];
+        this.tiposPendientes = new TipoLanzamiento[cantidad];
+        this.modelosEquipo = new ModeloLanzamiento[cantidad];
+    }
+
+    /**
+     * Publica una fotografía inmutable del estado actual. La escritura de la
+     * referencia volátil garantiza que quien la lea vea todos los valores
+     * copiados en ella.
+     */
+    private void publicarEstado() {
+        estado = new EstadoPartida(++secuenciaEstado, nombresEquipos, puntajes,
+                configuracion.getPuntajeObjetivo(), equipoEnTurno, lanzamientoEnMano,
+                rondaActual, partidaActiva, muerteSubitaActiva, esperandoFinDeMano,
+                enfrentamientoActual, puntajesMuerteSubita, enMuerteSubita, indiceGanador);
+    }
+
+    /**
+     * Guarda un lanzamiento para notificarlo a las escuchas una vez publicado
+     * el nuevo estado. Sin escuchas no se guarda nada.
+     */
+    private void registrarLanzamientoPendiente(int indiceEquipo, int indiceJugador, TipoLanzamiento tipo) {
+        if (escuchas.isEmpty()) {
+            return;
+        }
+        equiposPendientes[lanzamientosPendientes] = indiceEquipo;
+        jugadoresPendientes[lanzamientosPendientes] = indiceJugador;
+        tiposPendientes[lanzamientosPendientes] = tipo;
+        lanzamientosPendientes++;
+        lanzamientosDeMuerteSubita = muerteSubitaActiva;
+    }
+
+    /**
+     * Recuerda quién hizo el último lanzamiento y con qué resultado, para el
+     * evento de JFR de {@link #lanzarArgolla()}.
+     */
+    private void registrarUltimoLanzamiento(int indiceEquipo, int indiceJugador, TipoLanzamiento tipo) {
+        ultimoEquipo = indiceEquipo;
+        ultimoJugador = indiceJugador;
+        ultimoTipo = tipo;
+    }
+
+    /**
+     * Entrega a las escuchas los eventos del último lanzamiento, todos con
+     * el estado recién publicado.
+     */
+    private void notificarEscuchas() {
+        if (!escuchas.isEmpty()) {
+            EstadoPartida actual = estado;
+            for (int k = 0; k < lanzamientosPendientes; k++) {
+                int e = equiposPendientes[k];
+                EventoLanzamiento evento = new EventoLanzamiento(e, nombresEquipos[e],
+                        equipos.get(e).getJugadores().get(jugadoresPendientes[k]),
+                        tiposPendientes[k], lanzamientosDeMuerteSubita, actual);
+                for (EscuchaPartida escucha : escuchas) {
+                    escucha.onLanzamiento(evento);
+                }
+            }
+            for (EscuchaPartida escucha : escuchas) {
+                if (manoCompletaPendiente >= 0) {
+                    escucha.onManoCompleta(manoCompletaPendiente, actual);
+                }
+                if (muerteSubitaPendiente) {
+                    escucha.onMuerteSubita(actual);
+                }
+                if (rondaTerminadaPendiente) {
+                    escucha.onRondaTerminada(indiceGanador, actual);
+                }
+            }
+        }
+        if (instrumentada) {
+            if (manoCompletaPendiente >= 0) MANOS.incrementar();
+            if (muerteSubitaPendiente) {
+                MUERTES_SUBITAS.incrementar();
+                emitirMuerteSubitaJfr();
+            }
+            if (rondaTerminadaPendiente) RONDAS.incrementar();
+        }
+        lanzamientosPendientes = 0;
+        manoCompletaPendiente = -1;
+        muerteSubitaPendiente = false;
+        rondaTerminadaPendiente = false;
+    }
+
+    /**
+     * Emite el evento instantáneo de JFR de una muerte súbita que empieza o
+     * se repite, si la grabación lo tiene habilitado.
+     */
+    private void emitirMuerteSubitaJfr() {
+        EventoMuerteSubitaJfr evento = new EventoMuerteSubitaJfr();
+        if (evento.isEnabled()) {
+            int participantes = 0;
+            for (int i = 0; i < cantidadEquipos; i++) {
+                if (enMuerteSubita[i]) participantes++;
+            }
+            evento.setEquipos(participantes);
+            evento.setRonda(rondaActual);
+            evento.commit();
+        }
+    }
+
     private void cambiarTurno() {
         if (equipos != null && !equipos.isEmpty()) {
-            equipoEnTurno = (equipoEnTurno + 1) % equipos.size();
+            equipoEnTurno = (equipoEnTurno + 1) % cantidadEquipos;
         }
     }
-    
+
     private void activarMuerteSubita() {
         this.muerteSubitaActiva = true;
+        this.muerteSubitaPendiente = true;
         this.partidaActiva = true;
         this.esperandoFinDeMano = false;
         this.enfrentamientoActual = 0;
-        this.puntajesMuerteSubita[0] = 0;
-        this.puntajesMuerteSubita[1] = 0;
+        Arrays.fill(puntajesMuerteSubita, 0);
         this.lanzamientosActuales.clear();
     }
 
     public void reiniciarPuntajes() {
+        Arrays.fill(puntajes, 0);
         if (equipos != null) {
             for (Equipo e : equipos) {
                 e.reiniciarPuntaje();
             }
         }
+        publicarEstado();
     }
 
     public void reiniciar() {
@@ -312,12 +751,14 @@ public class ControlPartida {
         this.esperandoFinDeMano = false;
         this.lanzamientosActuales.clear();
         this.enfrentamientoActual = 0;
-        this.puntajesMuerteSubita[0] = 0;
-        this.puntajesMuerteSubita[1] = 0;
+        this.indiceGanador = -1;
+        Arrays.fill(puntajesMuerteSubita, 0);
+        Arrays.fill(enMuerteSubita, false);
+        publicarEstado();
     }
 
     public boolean avanzarRonda() {
-        if (rondaActual < maximoRondas) {
+        if (rondaActual < configuracion.getMaximoRondas()) {
             rondaActual++;
             reiniciar();
             return true;
@@ -333,22 +774,33 @@ public class ControlPartida {
         return partidaActiva;
     }
 
+    /**
+     * Obtiene el equipo ganador: el que resolvió la ronda si ya terminó, o
+     * el de mayor puntaje en caso contrario.
+     *
+     * @return equipo ganador o null si no hay equipos
+     */
     public Equipo getGanador() {
         if (equipos == null) return null;
-        return equipos.stream()
-                .max(Comparator.comparingInt(Equipo::getPuntaje))
-                .orElse(null);
+        if (indiceGanador >= 0) {
+            return equipos.get(indiceGanador);
+        }
+        Equipo mejor = null;
+        for (Equipo e : equipos) {
+            if (mejor == null || e.getPuntaje() > mejor.getPuntaje()) {
+                mejor = e;
+            }
+        }
+        return mejor;
     }
 
     public void setPuntajeObjetivo(int nuevoObjetivo) {
-        if (nuevoObjetivo <= 0) {
-            throw new IllegalArgumentException("El puntaje objetivo debe ser positivo.");
-        }
-        this.puntajeObjetivo = nuevoObjetivo;
+        configuracion.setPuntajeObjetivo(nuevoObjetivo);
+        publicarEstado();
     }
 
     public int getPuntajeObjetivo() {
-        return puntajeObjetivo;
+        return configuracion.getPuntajeObjetivo();
     }
 
     public Equipo getEquipoEnTurno() {
@@ -357,7 +809,7 @@ public class ControlPartida {
         }
         return equipos.get(equipoEnTurno);
     }
-    
+
     public int getLanzamientoEnMano() {
         return lanzamientoEnMano;
     }
@@ -367,10 +819,209 @@ public class ControlPartida {
     }
 
     public int getMaximoRondas() {
-        return maximoRondas;
+        return configuracion.getMaximoRondas();
     }
 
     public boolean puedeJugarOtraRonda() {
-        return rondaActual < maximoRondas;
+        return rondaActual < configuracion.getMaximoRondas();
+    }
+
+    /**
+     * Obtiene la última fotografía publicada del estado de la partida. Puede
+     * llamarse desde cualquier hilo.
+     *
+     * @return estado inmutable de la partida
+     */
+    public EstadoPartida getEstado() {
+        return estado;
+    }
+
+    /**
+     * Registra una escucha de eventos de la partida.
+     * @param escucha escucha a registrar
+     */
+    public void agregarEscucha(EscuchaPartida escucha) {
+        if (escucha == null) {
+            throw new IllegalArgumentException("La escucha no puede ser nula.");
+        }
+        escuchas.add(escucha);
+    }
+
+    /**
+     * Retira una escucha de eventos de la partida.
+     * @param escucha escucha a retirar
+     * @return true si estaba registrada
+     */
+    public boolean quitarEscucha(EscuchaPartida escucha) {
+        return escuchas.remove(escucha);
+    }
+
+    /**
+     * Obtiene una copia de la configuración de la partida.
+     * @return configuración actual
+     */
+    public ConfiguracionPartida getConfiguracion() {
+        return new ConfiguracionPartida(configuracion);
+    }
+
+    /**
+     * Obtiene la cantidad de equipos de la partida.
+     * @return cantidad de equipos
+     */
+    public int getCantidadEquipos() {
+        return cantidadEquipos;
+    }
+
+    /**
+     * Obtiene el puntaje de un equipo por su posición en la mesa.
+     * @param indiceEquipo posición del equipo
+     * @return puntaje del equipo
+     */
+    public int getPuntaje(int indiceEquipo) {
+        return puntajes[indiceEquipo];
+    }
+
+    /**
+     * Obtiene la posición en la mesa del equipo en turno.
+     * @return índice del equipo en turno
+     */
+    public int getIndiceEquipoEnTurno() {
+        return equipoEnTurno;
+    }
+
+    /**
+     * Indica si un equipo ya alcanzó el objetivo y los demás terminan su mano.
+     * @return true si se espera el fin del ciclo de manos
+     */
+    public boolean isEsperandoFinDeMano() {
+        return esperandoFinDeMano;
+    }
+
+    /**
+     * Obtiene el enfrentamiento de muerte súbita en curso (base 0).
+     * @return índice del enfrentamiento actual
+     */
+    public int getEnfrentamientoActual() {
+        return enfrentamientoActual;
+    }
+
+    /**
+     * Obtiene los enfrentamientos ganados por un equipo en la muerte súbita.
+     * @param indiceEquipo posición del equipo
+     * @return enfrentamientos ganados
+     */
+    public int getPuntajeMuerteSubita(int indiceEquipo) {
+        return puntajesMuerteSubita[indiceEquipo];
+    }
+
+    /**
+     * Indica si un equipo participa en la muerte súbita en curso.
+     * @param indiceEquipo posición del equipo
+     * @return true si el equipo disputa el desempate
+     */
+    public boolean isEnMuerteSubita(int indiceEquipo) {
+        return enMuerteSubita[indiceEquipo];
+    }
+
+    /**
+     * Obtiene la posición del equipo que ganó la ronda.
+     * @return índice del ganador, o -1 si la ronda no ha terminado
+     */
+    public int getIndiceGanador() {
+        return indiceGanador;
+    }
+
+    /**
+     * Obtiene el modelo de probabilidades de los lanzamientos.
+     * @return modelo de lanzamiento
+     */
+    public ModeloLanzamiento getModeloLanzamiento() {
+        return modeloLanzamiento;
+    }
+
+    /**
+     * Establece el modelo de probabilidades de los lanzamientos.
+     * @param modeloLanzamiento modelo no nulo
+     */
+    public void setModeloLanzamiento(ModeloLanzamiento modeloLanzamiento) {
+        if (modeloLanzamiento == null) {
+            throw new IllegalArgumentException("El modelo de lanzamiento no puede ser nulo.");
+        }
+        this.modeloLanzamiento = modeloLanzamiento;
+    }
+
+    /**
+     * Establece un modelo de lanzamiento propio para un equipo, por ejemplo
+     * uno ajustado a su calificación. Un guion de lanzamientos asignado con
+     * {@link #setModeloLanzamiento(ModeloLanzamiento)} tiene prioridad, y
+     * {@link CalculadoraProbabilidades} sólo considera el modelo común. Los
+     * modelos por equipo se descartan al asignar equipos nuevos.
+     *
+     * @param indiceEquipo posición del equipo
+     * @param modelo modelo del equipo, o null para usar el común
+     */
+    public void setModeloLanzamiento(int indiceEquipo, ModeloLanzamiento modelo) {
+        if (indiceEquipo < 0 || indiceEquipo >= cantidadEquipos) {
+            throw new IllegalArgumentException("Equipo fuera de la partida: " + indiceEquipo);
+        }
+        modelosEquipo[indiceEquipo] = modelo;
+    }
+
+    /**
+     * Obtiene el modelo con que lanza un equipo.
+     * @param indiceEquipo posición del equipo
+     * @return modelo propio del equipo, o el común si no tiene
+     */
+    public ModeloLanzamiento getModeloLanzamiento(int indiceEquipo) {
+        return modelosEquipo[indiceEquipo] != null ? modelosEquipo[indiceEquipo] : modeloLanzamiento;
+    }
+
+    private ModeloLanzamiento modeloDe(int equipo) {
+        if (modeloLanzamiento instanceof GuionLanzamientos) {
+            return modeloLanzamiento;
+        }
+        return getModeloLanzamiento(equipo);
+    }
+
+    /**
+     * Crea una copia independiente de la partida en su estado actual. Los
+     * equipos se duplican (comparten los jugadores) para que la copia pueda
+     * avanzar sin alterar los puntajes de la original.
+     *
+     * @param random generador de lanzamientos de la copia
+     * @return copia de la partida
+     */
+    ControlPartida copiar(Random random) {
+        ControlPartida copia = new ControlPartida(configuracion, random);
+        // Las copias son simulaciones internas: no se cuentan en las métricas
+        copia.instrumentada = false;
+        // Un guion tiene posición de lectura: la copia sortea con su modelo base
+        copia.modeloLanzamiento = modeloLanzamiento instanceof GuionLanzamientos
+                ? ((GuionLanzamientos) modeloLanzamiento).getModeloBase() : modeloLanzamiento;
+        if (equipos != null) {
+            copia.equipos = new ArrayList<>(cantidadEquipos);
+            for (Equipo e : equipos) {
+                Equipo duplicado = new Equipo(e.getNombre(), e.getJugadores());
+                duplicado.setPuntaje(e.getPuntaje());
+                copia.equipos.add(duplicado);
+            }
+            copia.prepararArreglos(cantidadEquipos);
+            copia.nombresEquipos = nombresEquipos;
+            System.arraycopy(puntajes, 0, copia.puntajes, 0, cantidadEquipos);
+            System.arraycopy(puntajesMuerteSubita, 0, copia.puntajesMuerteSubita, 0, cantidadEquipos);
+            System.arraycopy(enMuerteSubita, 0, copia.enMuerteSubita, 0, cantidadEquipos);
+            System.arraycopy(modelosEquipo, 0, copia.modelosEquipo, 0, cantidadEquipos);
+        }
+        copia.partidaActiva = partidaActiva;
+        copia.equipoEnTurno = equipoEnTurno;
+        copia.lanzamientoEnMano = lanzamientoEnMano;
+        copia.rondaActual = rondaActual;
+        copia.muerteSubitaActiva = muerteSubitaActiva;
+        copia.esperandoFinDeMano = esperandoFinDeMano;
+        copia.enfrentamientoActual = enfrentamientoActual;
+        copia.indiceGanador = indiceGanador;
+        copia.lanzamientosActuales.addAll(lanzamientosActuales);
+        copia.publicarEstado();
+        return copia;
     }
 }
@@ -0,0 +1,430 @@
+package udistrital.avanzada.taller.control;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import udistrital.avanzada.taller.modelo.EstadoPartida;
+import udistrital.avanzada.taller.modelo.ModeloLanzamiento;
+import udistrital.avanzada.taller.modelo.TipoLanzamiento;
+
+/**
+ * Juega una partida sola: lanza las argollas a un ritmo fijo, sin que nadie
+ * pulse los botones de lanzamiento.
+ *
+ * <p>Los tipos de lanzamiento salen de un {@link GuionLanzamientos}. En el
+ * juego automático el guion sortea con el modelo de la partida y graba lo
+ * que sale; en la reproducción entrega los tipos de una grabación. En
+ * ambos casos la ronda puede repetirse exacta, lo que permite saltar a
+ * cualquier lanzamiento: la partida se reinicia y los lanzamientos hasta
+ * ese punto se simulan sin texto.</p>
+ *
+ * <p>La partida se maneja desde un único hilo propio, así que los
+ * lanzamientos, las pausas, los saltos y el paso a la ronda siguiente se
+ * atienden en el orden en que se piden. Mientras la reproducción esté
+ * activa nadie más debe modificar la partida; la interfaz sólo lee su
+ * {@code EstadoPartida}. A velocidad
+ * máxima se lanza por lotes y la interfaz, que refresca a lo sumo una vez
+ * por cuadro, se salta los estados intermedios.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class ControlReproduccion implements AutoCloseable {
+
+    /**
+     * Ritmo de la reproducción.
+     */
+    public enum Velocidad {
+        /** Un lanzamiento cada 800 ms, como un juego en vivo. */
+        NORMAL(800),
+        /** Diez veces más rápido. */
+        RAPIDA(80),
+        /** Sin espera entre lanzamientos. */
+        MAXIMA(0);
+
+        private final long intervaloMs;
+
+        Velocidad(long intervaloMs) {
+            this.intervaloMs = intervaloMs;
+        }
+
+        /**
+         * @return espera entre lanzamientos en milisegundos
+         */
+        public long getIntervaloMs() {
+            return intervaloMs;
+        }
+
+        /**
+         * Interpreta una velocidad escrita como {@code 1x}, {@code 10x} o
+         * {@code max}.
+         *
+         * @param texto velocidad escrita
+         * @return velocidad correspondiente
+         */
+        public static Velocidad desde(String texto) {
+            switch (texto == null ? "" : texto.trim().toLowerCase()) {
+                case "1x":
+                    return NORMAL;
+                case "10x":
+                    return RAPIDA;
+                case "max":
+                    return MAXIMA;
+                default:
+                    throw new IllegalArgumentException("Velocidad desconocida: " + texto + " (use 1x, 10x o max).");
+            }
+        }
+    }
+
+    /** Lanzamientos por lote a velocidad máxima, entre los que se atienden pausas y saltos. */
+    private static final int LOTE_MAXIMO = 256;
+
+    private final ControlPartida partida;
+    private final GuionLanzamientos guion;
+    private final ModeloLanzamiento modeloAnterior;
+    private final EscuchaReproduccion escucha;
+    private final ScheduledExecutorService hilo;
+    private volatile Velocidad velocidad;
+    private volatile boolean pausada;
+    private volatile int paso;
+
+    // Sólo se usan en el hilo de la reproducción
+    private int inicioRonda;
+    private boolean terminada;
+    private ScheduledFuture<?> siguiente;
+
+    /**
+     * Constructor. La reproducción empieza en pausa; se arranca con
+     * {@link #reanudar()}.
+     *
+     * @param partida partida en curso, con los equipos ya asignados
+     * @param guion fuente de los tipos de lanzamiento
+     * @param velocidad ritmo inicial
+     * @param escucha avisos de la reproducción
+     */
+    public ControlReproduccion(ControlPartida partida, GuionLanzamientos guion, Velocidad velocidad,
+            EscuchaReproduccion escucha) {
+        if (partida == null || guion == null || velocidad == null || escucha == null) {
+            throw new IllegalArgumentException("Se requieren la partida, el guion, la velocidad y la escucha.");
+        }
+        this.partida = partida;
+        this.guion = guion;
+        this.velocidad = velocidad;
+        this.escucha = escucha;
+        this.pausada = true;
+        this.modeloAnterior = partida.getModeloLanzamiento();
+        this.inicioRonda = guion.getPosicion();
+        this.hilo = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "argolla-reproduccion");
+            t.setDaemon(true);
+            return t;
+        });
+        partida.setModeloLanzamiento(guion);
+    }
+
+    /**
+     * Crea un juego automático que sortea con el modelo de la partida y
+     * graba cada lanzamiento.
+     *
+     * @param partida partida en curso
+     * @param velocidad ritmo inicial
+     * @param escucha avisos de la reproducción
+     * @return reproducción en pausa
+     */
+    public static ControlReproduccion juegoAutomatico(ControlPartida partida, Velocidad velocidad,
+            EscuchaReproduccion escucha) {
+        return new ControlReproduccion(partida,
+                new GuionLanzamientos(List.of(), partida.getModeloLanzamiento()), velocidad, escucha);
+    }
+
+    /**
+     * Crea la reproducción de una partida grabada.
+     *
+     * @param partida partida en curso, con los mismos equipos de la grabación
+     * @param grabados tipos de lanzamiento grabados
+     * @param velocidad ritmo inicial
+     * @param escucha avisos de la reproducción
+     * @return reproducción en pausa
+     */
+    public static ControlReproduccion reproducir(ControlPartida partida, List<TipoLanzamiento> grabados,
+            Velocidad velocidad, EscuchaReproduccion escucha) {
+        return new ControlReproduccion(partida, new GuionLanzamientos(grabados), velocidad, escucha);
+    }
+
+    /**
+     * Arranca la reproducción o la saca de la pausa.
+     */
+    public void reanudar() {
+        pausada = false;
+        hilo.execute(this::programar);
+    }
+
+    /**
+     * Pone la reproducción en pausa después del lanzamiento en curso.
+     */
+    public void pausar() {
+        pausada = true;
+        hilo.execute(this::cancelarSiguiente);
+    }
+
+    /**
+     * Cambia el ritmo de la reproducción; el próximo lanzamiento ya usa el
+     * nuevo ritmo.
+     *
+     * @param velocidad nuevo ritmo
+     */
+    public void setVelocidad(Velocidad velocidad) {
+        if (velocidad == null) {
+            throw new IllegalArgumentException("La velocidad no puede ser nula.");
+        }
+        this.velocidad = velocidad;
+        hilo.execute(() -> {
+            cancelarSiguiente();
+            programar();
+        });
+    }
+
+    /**
+     * Salta a un lanzamiento de la ronda actual. La ronda se reinicia y los
+     * lanzamientos hasta ese punto se simulan sin pasar por la escucha;
+     * luego la reproducción sigue (o queda en pausa) como estaba.
+     *
+     * @param destino lanzamientos de la ronda que deben quedar hechos
+     * @return futuro con el lanzamiento en que quedó, que puede ser menor si
+     *         la ronda termina o la grabación se acaba antes; con la ronda ya
+     *         terminada no se salta y queda en el último lanzamiento
+     */
+    public CompletableFuture<Integer> buscar(int destino) {
+        if (destino < 0) {
+            throw new IllegalArgumentException("El lanzamiento de destino no puede ser negativo.");
+        }
+        CompletableFuture<Integer> resultado = new CompletableFuture<>();
+        hilo.execute(() -> {
+            try {
+                if (terminada) {
+                    // La ronda ya se está cerrando: no se toca la partida
+                    resultado.complete(paso);
+                    return;
+                }
+                cancelarSiguiente();
+                partida.reiniciar();
+                guion.setPosicion(inicioRonda);
+                terminada = false;
+                int hechos = 0;
+                while (hechos < destino && partida.isPartidaActiva() && guion.hayMas(lanzamientosDelTurno())) {
+                    partida.simularLanzamiento();
+                    hechos++;
+                }
+                paso = hechos;
+                escucha.onBusqueda(hechos);
+                if (!partida.isPartidaActiva()) {
+                    terminar();
+                } else {
+                    programar();
+                }
+                resultado.complete(hechos);
+            } catch (RuntimeException e) {
+                resultado.completeExceptionally(e);
+            }
+        });
+        return resultado;
+    }
+
+    /**
+     * Avanza la partida a la ronda siguiente y continúa la reproducción. El
+     * guion sigue desde donde quedó.
+     *
+     * @return futuro con true si la partida avanzó de ronda, o false si ya
+     *         no quedan rondas
+     */
+    public CompletableFuture<Boolean> siguienteRonda() {
+        CompletableFuture<Boolean> resultado = new CompletableFuture<>();
+        hilo.execute(() -> {
+            try {
+                if (!partida.avanzarRonda()) {
+                    resultado.complete(false);
+                    return;
+                }
+                inicioRonda = guion.getPosicion();
+                paso = 0;
+                terminada = false;
+                programar();
+                resultado.complete(true);
+            } catch (RuntimeException e) {
+                resultado.completeExceptionally(e);
+            }
+        });
+        return resultado;
+    }
+
+    /**
+     * Copia los tipos sorteados hasta ahora. Debe llamarse con la
+     * reproducción detenida (en pausa o con la ronda terminada).
+     *
+     * @return grabación de la partida
+     */
+    public List<TipoLanzamiento> getGrabados() {
+        return guion.getGrabados();
+    }
+
+    /**
+     * @return lanzamientos hechos en la ronda actual
+     */
+    public int getPaso() {
+        return paso;
+    }
+
+    /**
+     * @return true si la reproducción está en pausa
+     */
+    public boolean isPausada() {
+        return pausada;
+    }
+
+    /**
+     * @return ritmo actual
+     */
+    public Velocidad getVelocidad() {
+        return velocidad;
+    }
+
+    /**
+     * Detiene la reproducción y devuelve a la partida su modelo de
+     * lanzamiento original.
+     */
+    @Override
+    public void close() {
+        pausada = true;
+        hilo.shutdownNow();
+        try {
+            hilo.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        partida.setModeloLanzamiento(modeloAnterior);
+    }
+
+    /**
+     * Programa el próximo lanzamiento según la velocidad, si corresponde.
+     */
+    private void programar() {
+        if (pausada || terminada || siguiente != null) {
+            return;
+        }
+        if (!partida.isPartidaActiva()) {
+            terminar();
+            return;
+        }
+        if (velocidad == Velocidad.MAXIMA) {
+            siguiente = hilo.schedule(this::lanzarLote, 0, TimeUnit.MILLISECONDS);
+        } else {
+            siguiente = hilo.schedule(this::lanzarUno, velocidad.getIntervaloMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void lanzarUno() {
+        siguiente = null;
+        try {
+            if (lanzar()) {
+                programar();
+            }
+        } catch (RuntimeException e) {
+            fallar(e);
+        }
+    }
+
+    private void lanzarLote() {
+        siguiente = null;
+        try {
+            boolean seguir = true;
+            for (int i = 0; i < LOTE_MAXIMO && seguir && velocidad == Velocidad.MAXIMA; i++) {
+                seguir = lanzar();
+            }
+            if (seguir) {
+                programar();
+            }
+        } catch (RuntimeException e) {
+            fallar(e);
+        }
+    }
+
+    /**
+     * Hace un lanzamiento.
+     *
+     * @return true si la reproducción puede seguir
+     */
+    private boolean lanzar() {
+        if (pausada || terminada) {
+            return false;
+        }
+        // Un turno de muerte súbita sortea por cada equipo: se revisa antes
+        // para no dejar la partida a medio actualizar
+        if (!guion.hayMas(lanzamientosDelTurno())) {
+            finGrabacion();
+            return false;
+        }
+        String resultado;
+        try {
+            resultado = partida.lanzarArgolla();
+        } catch (FinGrabacionException e) {
+            finGrabacion();
+            return false;
+        }
+        paso++;
+        escucha.onLanzamiento(resultado, paso);
+        if (!partida.isPartidaActiva()) {
+            terminar();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return tipos que sortea el próximo lanzamiento: uno, o uno por cada
+     *         equipo que sigue en la muerte súbita
+     */
+    private int lanzamientosDelTurno() {
+        if (!partida.isMuerteSubitaActiva()) {
+            return 1;
+        }
+        EstadoPartida estado = partida.getEstado();
+        int participantes = 0;
+        for (int i = 0; i < estado.getCantidadEquipos(); i++) {
+            if (estado.isEnMuerteSubita(i)) {
+                participantes++;
+            }
+        }
+        return participantes;
+    }
+
+    private void finGrabacion() {
+        pausada = true;
+        escucha.onFinGrabacion();
+    }
+
+    /**
+     * Detiene la reproducción ante un error de la partida y lo entrega a la
+     * escucha; sin esto el error quedaría oculto en la tarea programada.
+     */
+    private void fallar(RuntimeException error) {
+        pausada = true;
+        cancelarSiguiente();
+        escucha.onError(error);
+    }
+
+    private void terminar() {
+        terminada = true;
+        escucha.onRondaTerminada();
+    }
+
+    private void cancelarSiguiente() {
+        if (siguiente != null) {
+            siguiente.cancel(false);
+            siguiente = null;
+        }
+    }
+}
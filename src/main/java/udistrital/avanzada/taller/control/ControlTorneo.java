@@ -0,0 +1,463 @@
+package udistrital.avanzada.taller.control;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import udistrital.avanzada.taller.modelo.Encuentro;
+import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.FormatoTorneo;
+import udistrital.avanzada.taller.modelo.ModeloLanzamiento;
+import udistrital.avanzada.taller.modelo.MotorCalificaciones;
+import udistrital.avanzada.taller.modelo.TablaPosiciones;
+import udistrital.avanzada.taller.modelo.persistencia.EscritorResultados;
+import udistrital.avanzada.taller.modelo.persistencia.RegistroResultado;
+
+/**
+ * Organiza y juega un torneo entre los equipos cargados, en formato todos
+ * contra todos, eliminación simple o sistema suizo.
+ *
+ * <p>Cada encuentro es una ronda de {@link ControlPartida} entre dos equipos.
+ * Los encuentros de una misma ronda del torneo son independientes y se juegan
+ * en paralelo sobre un {@link ExecutorService} (por defecto un pool de robo de
+ * trabajo con un hilo por núcleo; también se puede usar un ejecutor de hilos
+ * virtuales). Cada encuentro trabaja sobre copias de los equipos y con una
+ * semilla propia derivada de la del torneo, así que el resultado no depende
+ * del orden en que los hilos terminen.</p>
+ *
+ * <p>La tabla se lleva en una {@link TablaPosiciones}, con arreglos primitivos
+ * indexados por la posición del equipo, y se actualiza en el hilo que dirige
+ * el torneo con un lote por ronda.
+ * Si se asigna un {@link EscritorResultados}, cada encuentro jugado se envía
+ * a ese único escritor; el registro lleva la ronda de la partida, igual que
+ * los que guardan el juego y {@link LineaComandos}.</p>
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0
+ * 19/10/2026
+ */
+public class ControlTorneo {
+
+    private final List<Equipo> equipos;
+    private final ConfiguracionPartida configuracion;
+    private final FormatoTorneo formato;
+    private final long semilla;
+    private EscritorResultados escritor;
+    private MotorCalificaciones calificaciones;
+
+    private final TablaPosiciones tabla;
+    private final List<Encuentro> encuentros;
+    private int rondasJugadas;
+    private int campeon;
+    private long nanosJugando;
+
+    /**
+     * Constructor
+     *
+     * @param equipos equipos participantes (al menos 2)
+     * @param configuracion configuración de cada encuentro
+     * @param formato formato del torneo
+     * @param semilla semilla para sorteos y lanzamientos
+     */
+    public ControlTorneo(List<Equipo> equipos, ConfiguracionPartida configuracion,
+            FormatoTorneo formato, long semilla) {
+        if (equipos == null || equipos.size() < 2) {
+            throw new IllegalArgumentException("Un torneo requiere al menos dos equipos.");
+        }
+        if (configuracion == null || formato == null) {
+            throw new IllegalArgumentException("La configuración y el formato no pueden ser nulos.");
+        }
+        for (Equipo e : equipos) {
+            if (e.getJugadores() == null || e.getJugadores().size() != configuracion.getJugadoresPorEquipo()) {
+                throw new IllegalArgumentException("El equipo " + e.getNombre() + " debe tener exactamente "
+                        + configuracion.getJugadoresPorEquipo() + " jugadores.");
+            }
+        }
+        this.equipos = new ArrayList<>(equipos);
+        this.configuracion = new ConfiguracionPartida(configuracion);
+        this.formato = formato;
+        this.semilla = semilla;
+        this.tabla = new TablaPosiciones(equipos.size());
+        this.encuentros = new ArrayList<>();
+        this.campeon = -1;
+    }
+
+    /**
+     * Asigna el escritor al que se envían los resultados de cada encuentro.
+     * @param escritor escritor de resultados (null para no guardar)
+     */
+    public void setEscritor(EscritorResultados escritor) {
+        this.escritor = escritor;
+    }
+
+    /**
+     * Asigna las calificaciones con las que se ajusta el modelo de
+     * lanzamiento de cada equipo: los equipos mejor calificados aciertan más
+     * los lanzamientos de muchos puntos. Si la configuración tiene un guion,
+     * éste manda.
+     * @param calificaciones motor de calificaciones (null para el modelo de la configuración)
+     */
+    public void setCalificaciones(MotorCalificaciones calificaciones) {
+        this.calificaciones = calificaciones;
+    }
+
+    /**
+     * Juega el torneo completo en un pool de robo de trabajo con un hilo por núcleo.
+     *
+     * @return posición del equipo campeón
+     * @throws IOException si falla el guardado de resultados
+     */
+    public int jugar() throws IOException {
+        ExecutorService ejecutor = Executors.newWorkStealingPool();
+        try {
+            return jugar(ejecutor);
+        } finally {
+            ejecutor.shutdown();
+        }
+    }
+
+    /**
+     * Juega el torneo completo usando el ejecutor indicado, por ejemplo
+     * {@code Executors.newVirtualThreadPerTaskExecutor()}. El ejecutor no se cierra.
+     *
+     * @param ejecutor ejecutor donde se juegan los encuentros
+     * @return posición del equipo campeón
+     * @throws IOException si falla el guardado de resultados
+     */
+    public int jugar(ExecutorService ejecutor) throws IOException {
+        if (rondasJugadas > 0) {
+            throw new IllegalStateException("El torneo ya fue jugado.");
+        }
+        long inicio = System.nanoTime();
+        switch (formato) {
+            case TODOS_CONTRA_TODOS:
+                jugarTodosContraTodos(ejecutor);
+                campeon = tabla.getLider();
+                break;
+            case ELIMINACION_SIMPLE:
+                campeon = jugarEliminacion(ejecutor);
+                break;
+            case SUIZO:
+                jugarSuizo(ejecutor);
+                campeon = tabla.getLider();
+                break;
+            default:
+                throw new IllegalStateException("Formato no soportado: " + formato);
+        }
+        nanosJugando = System.nanoTime() - inicio;
+        return campeon;
+    }
+
+    // ================================================================
+    // Formatos
+    // ================================================================
+
+    /** Método del círculo: cada equipo enfrenta a todos los demás una vez. */
+    private void jugarTodosContraTodos(ExecutorService ejecutor) throws IOException {
+        int n = equipos.size();
+        int tamano = n % 2 == 0 ? n : n + 1;
+        int[] circulo = new int[tamano];
+        for (int i = 0; i < tamano; i++) {
+            circulo[i] = i < n ? i : Encuentro.DESCANSO;
+        }
+        for (int r = 0; r < tamano - 1; r++) {
+            List<Encuentro> ronda = new ArrayList<>(tamano / 2);
+            for (int i = 0; i < tamano / 2; i++) {
+                int a = circulo[i];
+                int b = circulo[tamano - 1 - i];
+                if (a != Encuentro.DESCANSO && b != Encuentro.DESCANSO) {
+                    ronda.add(new Encuentro(r + 1, a, b));
+                }
+            }
+            jugarRonda(ronda, ejecutor);
+            // Rotar todos menos el primero
+            int ultimo = circulo[tamano - 1];
+            System.arraycopy(circulo, 1, circulo, 2, tamano - 2);
+            circulo[1] = ultimo;
+        }
+    }
+
+    /** Llave de eliminación directa; los primeros sembrados descansan si faltan equipos. */
+    private int jugarEliminacion(ExecutorService ejecutor) throws IOException {
+        List<Integer> vivos = new ArrayList<>(equipos.size());
+        for (int i = 0; i < equipos.size(); i++) {
+            vivos.add(i);
+        }
+        Collections.shuffle(vivos, new Random(semilla));
+
+        int tamanoLlave = Integer.highestOneBit(vivos.size() - 1) << 1;
+        int descansos = tamanoLlave - vivos.size();
+        int numeroRonda = 1;
+        while (vivos.size() > 1) {
+            List<Encuentro> ronda = new ArrayList<>();
+            int i = 0;
+            for (; i < descansos; i++) {
+                ronda.add(new Encuentro(numeroRonda, vivos.get(i), Encuentro.DESCANSO));
+            }
+            for (; i + 1 < vivos.size(); i += 2) {
+                ronda.add(new Encuentro(numeroRonda, vivos.get(i), vivos.get(i + 1)));
+            }
+            jugarRonda(ronda, ejecutor);
+            vivos.clear();
+            for (Encuentro e : ronda) {
+                vivos.add(e.getGanador());
+            }
+            descansos = 0;
+            numeroRonda++;
+        }
+        return vivos.get(0);
+    }
+
+    /**
+     * Sistema suizo: ⌈log2 n⌉ rondas; en cada una se emparejan equipos con
+     * récord similar evitando revanchas cuando es posible.
+     */
+    private void jugarSuizo(ExecutorService ejecutor) throws IOException {
+        int n = equipos.size();
+        int rondas = 32 - Integer.numberOfLeadingZeros(n - 1);
+        Set<Long> jugados = new HashSet<>();
+        boolean[] descanso = new boolean[n];
+
+        for (int r = 1; r <= rondas; r++) {
+            int[] orden = tabla.getClasificacion();
+            boolean[] emparejado = new boolean[n];
+            List<Encuentro> ronda = new ArrayList<>(n / 2 + 1);
+
+            // Si hay número impar, descansa el peor clasificado que no haya descansado
+            if (n % 2 == 1) {
+                for (int k = n - 1; k >= 0; k--) {
+                    if (!descanso[orden[k]] || k == 0) {
+                        descanso[orden[k]] = true;
+                        emparejado[orden[k]] = true;
+                        ronda.add(new Encuentro(r, orden[k], Encuentro.DESCANSO));
+                        break;
+                    }
+                }
+            }
+
+            for (int k = 0; k < n; k++) {
+                int a = orden[k];
+                if (emparejado[a]) continue;
+                int rival = -1;
+                for (int m = k + 1; m < n; m++) {
+                    int b = orden[m];
+                    if (emparejado[b]) continue;
+                    if (rival < 0) {
+                        rival = b;
+                    }
+                    if (!jugados.contains(clavePareja(a, b))) {
+                        rival = b;
+                        break;
+                    }
+                }
+                if (rival >= 0) {
+                    emparejado[a] = true;
+                    emparejado[rival] = true;
+                    jugados.add(clavePareja(a, rival));
+                    ronda.add(new Encuentro(r, a, rival));
+                }
+            }
+            jugarRonda(ronda, ejecutor);
+        }
+    }
+
+    // ================================================================
+    // Ejecución de encuentros
+    // ================================================================
+
+    /**
+     * Juega en paralelo todos los encuentros de una ronda y registra sus
+     * resultados en la tabla como un solo lote.
+     */
+    private void jugarRonda(List<Encuentro> ronda, ExecutorService ejecutor) throws IOException {
+        List<Future<RegistroResultado[]>> pendientes = new ArrayList<>(ronda.size());
+        for (Encuentro encuentro : ronda) {
+            if (!encuentro.isDescanso()) {
+                long semillaEncuentro = new SplittableRandom(semilla ^ (encuentros.size() + pendientes.size()) * 0x9E3779B97F4A7C15L).nextLong();
+                pendientes.add(ejecutor.submit(crearTarea(encuentro, semillaEncuentro)));
+            }
+        }
+
+        int cantidad = pendientes.size();
+        int[] ganadores = new int[cantidad];
+        int[] perdedores = new int[cantidad];
+        int[] puntosGanadores = new int[cantidad];
+        int[] puntosPerdedores = new int[cantidad];
+        int i = 0;
+        for (Encuentro encuentro : ronda) {
+            if (encuentro.isDescanso()) {
+                encuentros.add(encuentro);
+                continue;
+            }
+            RegistroResultado[] jugados;
+            try {
+                jugados = pendientes.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Torneo interrumpido", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Error al jugar un encuentro: " + e.getCause().getMessage(), e.getCause());
+            }
+            boolean ganaLocal = encuentro.getGanador() == encuentro.getLocal();
+            ganadores[i] = encuentro.getGanador();
+            perdedores[i] = encuentro.getPerdedor();
+            puntosGanadores[i] = ganaLocal ? encuentro.getPuntajeLocal() : encuentro.getPuntajeVisitante();
+            puntosPerdedores[i] = ganaLocal ? encuentro.getPuntajeVisitante() : encuentro.getPuntajeLocal();
+            i++;
+            encuentros.add(encuentro);
+            if (escritor != null) {
+                escritor.encolar(jugados[0]);
+                escritor.encolar(jugados[1]);
+            }
+        }
+        tabla.registrarLote(ganadores, perdedores, puntosGanadores, puntosPerdedores, cantidad);
+        rondasJugadas++;
+    }
+
+    /**
+     * Crea la tarea que juega un encuentro sobre copias de los equipos.
+     * @return tarea que devuelve los registros del encuentro (local, visitante)
+     */
+    private Callable<RegistroResultado[]> crearTarea(Encuentro encuentro, long semillaEncuentro) {
+        Equipo local = equipos.get(encuentro.getLocal());
+        Equipo visitante = equipos.get(encuentro.getVisitante());
+        ModeloLanzamiento modeloLocal = calificaciones != null ? calificaciones.modeloLanzamiento(local.getNombre()) : null;
+        ModeloLanzamiento modeloVisitante = calificaciones != null
+                ? calificaciones.modeloLanzamiento(visitante.getNombre()) : null;
+        return () -> {
+            Equipo copiaLocal = new Equipo(local.getNombre(), local.getJugadores());
+            Equipo copiaVisitante = new Equipo(visitante.getNombre(), visitante.getJugadores());
+            ControlPartida partida = new ControlPartida(configuracion, new Random(semillaEncuentro));
+            partida.setEquipos(Arrays.asList(copiaLocal, copiaVisitante));
+            partida.setModeloLanzamiento(0, modeloLocal);
+            partida.setModeloLanzamiento(1, modeloVisitante);
+            while (partida.isPartidaActiva()) {
+                partida.simularLanzamiento();
+            }
+            boolean ganaLocal = partida.getIndiceGanador() == 0;
+            encuentro.registrarResultado(partida.getPuntaje(0), partida.getPuntaje(1),
+                    ganaLocal ? encuentro.getLocal() : encuentro.getVisitante());
+            // El registro guarda la ronda de la partida (1 ó 2), no la del torneo, como el resto del historial
+            return new RegistroResultado[]{
+                RegistroResultado.desde(copiaLocal,
+                        RegistroResultado.resultado(ganaLocal, partida.isEnMuerteSubita(0)), partida.getRondaActual()),
+                RegistroResultado.desde(copiaVisitante,
+                        RegistroResultado.resultado(!ganaLocal, partida.isEnMuerteSubita(1)), partida.getRondaActual())
+            };
+        };
+    }
+
+    // ================================================================
+    // Tabla de posiciones
+    // ================================================================
+
+    private static long clavePareja(int a, int b) {
+        return a < b ? ((long) a << 32) | b : ((long) b << 32) | a;
+    }
+
+    /**
+     * Obtiene la clasificación del torneo.
+     * @return posiciones de los equipos ordenadas de primero a último
+     */
+    public int[] getClasificacion() {
+        int[] clasificacion = tabla.getClasificacion();
+        if (formato == FormatoTorneo.ELIMINACION_SIMPLE && campeon >= 0) {
+            // En eliminación el campeón encabeza la tabla aunque tenga menos victorias que otro
+            for (int i = 0; i < clasificacion.length; i++) {
+                if (clasificacion[i] == campeon) {
+                    System.arraycopy(clasificacion, 0, clasificacion, 1, i);
+                    clasificacion[0] = campeon;
+                    break;
+                }
+            }
+        }
+        return clasificacion;
+    }
+
+    /**
+     * Obtiene el equipo campeón.
+     * @return campeón, o null si el torneo no se ha jugado
+     */
+    public Equipo getCampeon() {
+        return campeon >= 0 ? equipos.get(campeon) : null;
+    }
+
+    /**
+     * Obtiene los equipos del torneo en el orden de sus posiciones.
+     * @return lista de equipos
+     */
+    public List<Equipo> getEquipos() {
+        return new ArrayList<>(equipos);
+    }
+
+    /**
+     * Obtiene todos los encuentros jugados (incluidos los descansos).
+     * @return encuentros en orden de ronda
+     */
+    public List<Encuentro> getEncuentros() {
+        return new ArrayList<>(encuentros);
+    }
+
+    /**
+     * @param equipo posición del equipo
+     * @return victorias del equipo
+     */
+    public int getVictorias(int equipo) {
+        return tabla.getVictorias(equipo);
+    }
+
+    /**
+     * @param equipo posición del equipo
+     * @return derrotas del equipo
+     */
+    public int getDerrotas(int equipo) {
+        return tabla.getDerrotas(equipo);
+    }
+
+    /**
+     * @param equipo posición del equipo
+     * @return puntos anotados por el equipo
+     */
+    public int getPuntosAFavor(int equipo) {
+        return tabla.getPuntosAFavor(equipo);
+    }
+
+    /**
+     * @param equipo posición del equipo
+     * @return puntos anotados por los rivales del equipo
+     */
+    public int getPuntosEnContra(int equipo) {
+        return tabla.getPuntosEnContra(equipo);
+    }
+
+    /**
+     * @return tabla de posiciones del torneo
+     */
+    public TablaPosiciones getTabla() {
+        return tabla;
+    }
+
+    /**
+     * @return cantidad de rondas del torneo jugadas
+     */
+    public int getRondasJugadas() {
+        return rondasJugadas;
+    }
+
+    /**
+     * @return tiempo total de juego del torneo en nanosegundos
+     */
+    public long getNanosJugando() {
+        return nanosJugando;
+    }
+}
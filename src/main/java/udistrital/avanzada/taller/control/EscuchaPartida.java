@@ -0,0 +1,51 @@
+package udistrital.avanzada.taller.control;
+
+import udistrital.avanzada.taller.modelo.EstadoPartida;
+import udistrital.avanzada.taller.modelo.EventoLanzamiento;
+
+/**
+ * Recibe los eventos de una partida a medida que ocurren. Todos los métodos
+ * tienen una implementación vacía, así que cada escucha sólo sobrescribe los
+ * que le interesan.
+ *
+ * <p>Los métodos se invocan en el hilo que ejecuta los lanzamientos, por lo
+ * que deben ser rápidos. Las escuchas lentas (registro en disco, transmisión
+ * a espectadores) deben suscribirse a través de {@link BusEventosPartida}.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public interface EscuchaPartida {
+
+    /**
+     * Se invoca por cada lanzamiento, incluidos los de muerte súbita.
+     * @param evento lanzamiento realizado
+     */
+    default void onLanzamiento(EventoLanzamiento evento) {
+    }
+
+    /**
+     * Se invoca cuando un equipo completa su mano.
+     * @param indiceEquipo posición del equipo
+     * @param estado estado de la partida al completar la mano
+     */
+    default void onManoCompleta(int indiceEquipo, EstadoPartida estado) {
+    }
+
+    /**
+     * Se invoca cuando comienza una muerte súbita, o cuando se repite entre
+     * los equipos que quedaron empatados.
+     * @param estado estado de la partida; indica qué equipos la disputan
+     */
+    default void onMuerteSubita(EstadoPartida estado) {
+    }
+
+    /**
+     * Se invoca cuando la ronda tiene ganador.
+     * @param indiceGanador posición del equipo ganador
+     * @param estado estado final de la ronda
+     */
+    default void onRondaTerminada(int indiceGanador, EstadoPartida estado) {
+    }
+}
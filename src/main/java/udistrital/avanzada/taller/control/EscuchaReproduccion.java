@@ -0,0 +1,53 @@
+package udistrital.avanzada.taller.control;
+
+/**
+ * Recibe los avisos de una {@link ControlReproduccion}. Todos los métodos
+ * tienen una implementación vacía.
+ *
+ * <p>Los métodos se invocan en el hilo de la reproducción; quien actualice
+ * la interfaz debe pasar al hilo de eventos o usar métodos seguros entre
+ * hilos.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public interface EscuchaReproduccion {
+
+    /**
+     * Se invoca después de cada lanzamiento de la reproducción.
+     * @param resultado texto del lanzamiento
+     * @param paso lanzamientos hechos en la ronda
+     */
+    default void onLanzamiento(String resultado, int paso) {
+    }
+
+    /**
+     * Se invoca cuando termina un salto a otro lanzamiento de la ronda.
+     * @param paso lanzamiento en el que quedó la reproducción
+     */
+    default void onBusqueda(int paso) {
+    }
+
+    /**
+     * Se invoca cuando la ronda tiene ganador. La reproducción queda
+     * detenida hasta {@link ControlReproduccion#siguienteRonda()}.
+     */
+    default void onRondaTerminada() {
+    }
+
+    /**
+     * Se invoca cuando la grabación se acaba antes que la ronda. La
+     * reproducción queda en pausa.
+     */
+    default void onFinGrabacion() {
+    }
+
+    /**
+     * Se invoca cuando un lanzamiento falla por un error de la partida. La
+     * reproducción queda en pausa.
+     * @param error error de la partida
+     */
+    default void onError(RuntimeException error) {
+    }
+}
@@ -0,0 +1,20 @@
+package udistrital.avanzada.taller.control;
+
+/**
+ * Indica que un {@link GuionLanzamientos} sin modelo base ya entregó todos
+ * los lanzamientos grabados. Permite distinguir el fin de una grabación de
+ * cualquier otro error de la partida.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class FinGrabacionException extends IllegalStateException {
+
+    /**
+     * Constructor.
+     */
+    public FinGrabacionException() {
+        super("La grabación no tiene más lanzamientos.");
+    }
+}
@@ -0,0 +1,181 @@
+package udistrital.avanzada.taller.control;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import udistrital.avanzada.taller.modelo.ModeloLanzamiento;
+import udistrital.avanzada.taller.modelo.TipoLanzamiento;
+
+/**
+ * Modelo de lanzamiento que entrega los tipos de una grabación en orden.
+ *
+ * <p>Una partida sortea un tipo por cada argolla lanzada, incluidas las de
+ * muerte súbita, así que la lista de tipos sorteados basta para repetir una
+ * partida exacta con los mismos equipos. Si el guion tiene un modelo base,
+ * cuando se acaba la grabación sortea con ese modelo y agrega el resultado,
+ * de modo que también sirve para grabar una partida mientras se juega.</p>
+ *
+ * <p>Sin modelo base, pedir un tipo más allá de la grabación lanza
+ * {@link FinGrabacionException}.</p>
+ *
+ * <p>A diferencia de {@link ModeloLanzamiento}, el guion tiene estado (la
+ * posición de lectura) y no debe compartirse entre partidas.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class GuionLanzamientos extends ModeloLanzamiento {
+
+    private final List<TipoLanzamiento> tipos;
+    private final ModeloLanzamiento modeloBase;
+    private int posicion;
+
+    /**
+     * Construye un guion que sólo reproduce una grabación.
+     *
+     * @param grabados tipos sorteados, en orden
+     */
+    public GuionLanzamientos(List<TipoLanzamiento> grabados) {
+        this(grabados, null);
+    }
+
+    /**
+     * Construye un guion que reproduce una grabación y, cuando se acaba,
+     * sigue sorteando con un modelo base y grabando.
+     *
+     * @param grabados tipos sorteados, en orden
+     * @param modeloBase modelo para los lanzamientos que no están grabados, o null
+     */
+    public GuionLanzamientos(List<TipoLanzamiento> grabados, ModeloLanzamiento modeloBase) {
+        super(null);
+        if (grabados == null) {
+            throw new IllegalArgumentException("La grabación no puede ser nula.");
+        }
+        this.tipos = new ArrayList<>(grabados);
+        if (tipos.contains(null)) {
+            throw new IllegalArgumentException("La grabación no puede tener lanzamientos nulos.");
+        }
+        this.modeloBase = modeloBase;
+    }
+
+    /**
+     * Lee una grabación guardada con {@link #guardar(List, File)}.
+     *
+     * @param archivo archivo con un tipo de lanzamiento por línea
+     * @return tipos grabados, en orden
+     * @throws IOException si no se puede leer el archivo
+     */
+    public static List<TipoLanzamiento> leer(File archivo) throws IOException {
+        List<TipoLanzamiento> grabados = new ArrayList<>();
+        int numeroLinea = 0;
+        for (String linea : Files.readAllLines(archivo.toPath(), StandardCharsets.UTF_8)) {
+            numeroLinea++;
+            String nombre = linea.trim();
+            if (nombre.isEmpty() || nombre.startsWith("#")) {
+                continue;
+            }
+            try {
+                grabados.add(TipoLanzamiento.valueOf(nombre));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Lanzamiento desconocido en la línea " + numeroLinea + ": " + nombre);
+            }
+        }
+        return grabados;
+    }
+
+    /**
+     * Guarda una grabación, un tipo de lanzamiento por línea.
+     *
+     * @param grabados tipos sorteados, en orden
+     * @param archivo archivo de destino; se reemplaza si existe
+     * @throws IOException si no se puede escribir el archivo
+     */
+    public static void guardar(List<TipoLanzamiento> grabados, File archivo) throws IOException {
+        List<String> lineas = new ArrayList<>(grabados.size());
+        for (TipoLanzamiento tipo : grabados) {
+            lineas.add(tipo.name());
+        }
+        Files.write(archivo.toPath(), lineas, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public TipoLanzamiento sortear(Random random) {
+        if (posicion < tipos.size()) {
+            return tipos.get(posicion++);
+        }
+        if (modeloBase == null) {
+            throw new FinGrabacionException();
+        }
+        TipoLanzamiento tipo = modeloBase.sortear(random);
+        tipos.add(tipo);
+        posicion++;
+        return tipo;
+    }
+
+    @Override
+    public double getProbabilidad(TipoLanzamiento tipo) {
+        return modeloBase != null ? modeloBase.getProbabilidad(tipo) : super.getProbabilidad(tipo);
+    }
+
+    @Override
+    public boolean isUniforme() {
+        return modeloBase == null || modeloBase.isUniforme();
+    }
+
+    /**
+     * @return posición de lectura: cantidad de tipos ya entregados
+     */
+    public int getPosicion() {
+        return posicion;
+    }
+
+    /**
+     * Mueve la posición de lectura, por ejemplo para volver al inicio de
+     * una ronda.
+     *
+     * @param posicion nueva posición, entre 0 y la cantidad de tipos grabados
+     */
+    public void setPosicion(int posicion) {
+        if (posicion < 0 || posicion > tipos.size()) {
+            throw new IllegalArgumentException("Posición fuera de la grabación: " + posicion);
+        }
+        this.posicion = posicion;
+    }
+
+    /**
+     * @return true si quedan tipos grabados o hay un modelo base para seguir
+     */
+    public boolean hayMas() {
+        return hayMas(1);
+    }
+
+    /**
+     * Indica si el guion puede entregar varios tipos más, por ejemplo los
+     * de todos los equipos de un turno de muerte súbita.
+     *
+     * @param cantidad tipos que se van a pedir
+     * @return true si quedan al menos esos tipos grabados o hay un modelo base
+     */
+    public boolean hayMas(int cantidad) {
+        return modeloBase != null || tipos.size() - posicion >= cantidad;
+    }
+
+    /**
+     * @return copia de los tipos grabados hasta ahora
+     */
+    public List<TipoLanzamiento> getGrabados() {
+        return new ArrayList<>(tipos);
+    }
+
+    /**
+     * @return modelo base, o el uniforme si el guion sólo reproduce
+     */
+    public ModeloLanzamiento getModeloBase() {
+        return modeloBase != null ? modeloBase : ModeloLanzamiento.uniforme();
+    }
+}
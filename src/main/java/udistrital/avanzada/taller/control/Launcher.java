@@ -4,6 +4,13 @@
 
 package udistrital.avanzada.taller.control;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import javax.management.JMException;
+import udistrital.avanzada.taller.modelo.metricas.RegistroMetricas;
+import udistrital.avanzada.taller.modelo.persistencia.GestorResultados;
+
 /**
  *
  * @author Paula Martínez
@@ -15,7 +22,58 @@ package udistrital.avanzada.taller.control;
 public class Launcher {
 
     public static void main(String[] args) {
-        //El launcher solo abre el constructor de ControlLogica
-        new ControlLogica();
+        iniciarMetricas();
+        if (args.length > 0) {
+            // Con argumentos se simula sin ventanas (ver LineaComandos)
+            LineaComandos.main(args);
+            return;
+        }
+        //El launcher crea la lógica y le conecta la interfaz
+        ControlLogica cLogica = new ControlLogica();
+        new ControlInterfaz(cLogica);
+        iniciarMarcador(cLogica);
+    }
+
+    /**
+     * Si se indica la propiedad {@code argolla.marcador} con un puerto,
+     * publica el marcador de la partida por HTTP en ese puerto (ver
+     * {@link ServidorMarcador}).
+     */
+    private static void iniciarMarcador(ControlLogica cLogica) {
+        String puerto = System.getProperty("argolla.marcador");
+        if (puerto == null || puerto.isBlank()) {
+            return;
+        }
+        try {
+            ServidorMarcador marcador = new ServidorMarcador(cLogica.getControlPartida(),
+                    new GestorResultados(), new InetSocketAddress(Integer.parseInt(puerto.trim())));
+            marcador.iniciar();
+            Runtime.getRuntime().addShutdownHook(new Thread(marcador::close, "cerrar-marcador"));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("No se pudo iniciar el marcador en el puerto " + puerto + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Publica las métricas por JMX y, si se indica la propiedad
+     * {@code argolla.metricas}, las exporta a ese archivo al cerrar el programa.
+     */
+    private static void iniciarMetricas() {
+        RegistroMetricas metricas = RegistroMetricas.global();
+        try {
+            metricas.registrarJmx();
+        } catch (JMException e) {
+            System.err.println("No se pudieron publicar las métricas por JMX: " + e.getMessage());
+        }
+        String destino = System.getProperty("argolla.metricas");
+        if (destino != null && !destino.isBlank()) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    metricas.exportar(new File(destino));
+                } catch (IOException e) {
+                    System.err.println("No se pudieron exportar las métricas: " + e.getMessage());
+                }
+            }, "exportar-metricas"));
+        }
     }
 }
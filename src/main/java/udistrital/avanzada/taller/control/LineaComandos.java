@@ -0,0 +1,376 @@
+package udistrital.avanzada.taller.control;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.FormatoTorneo;
+import udistrital.avanzada.taller.modelo.persistencia.ConsultaResultados;
+import udistrital.avanzada.taller.modelo.persistencia.ControlPersistencia;
+import udistrital.avanzada.taller.modelo.persistencia.EscritorResultados;
+import udistrital.avanzada.taller.modelo.persistencia.FilaConsulta;
+import udistrital.avanzada.taller.modelo.persistencia.GestorResultados;
+import udistrital.avanzada.taller.modelo.persistencia.RegistroResultado;
+
+/**
+ * Punto de entrada sin interfaz gráfica, para simular partidas en lote en
+ * un servidor. Carga los equipos con {@link ControlPersistencia}, juega N
+ * partidas o un torneo, guarda los resultados con {@link GestorResultados}
+ * e imprime cuántas partidas por segundo se jugaron.
+ *
+ * <p>No usa ninguna clase de AWT ni de Swing, así que funciona con
+ * {@code -Djava.awt.headless=true}; si la propiedad no se indica, se activa
+ * al arrancar para que un uso accidental de la interfaz falle enseguida en
+ * lugar de buscar una pantalla.</p>
+ *
+ * <pre>
+ * LineaComandos partidas &lt;equipos.properties&gt; &lt;cantidad&gt; --resultados R [--semilla S] [--hilos H]
+ * LineaComandos torneo &lt;equipos.properties&gt; &lt;todos|eliminacion|suizo&gt; --resultados R [--semilla S] [--hilos H]
+ * LineaComandos consulta &lt;resultados.dat&gt; [opciones de ConsultaResultados]
+ * </pre>
+ *
+ * <p>Las simulaciones exigen {@code --resultados}: miles de partidas
+ * simuladas no deben mezclarse con el historial del juego, que alimenta la
+ * tabla de la liga y las calificaciones.</p>
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0
+ * 19/10/2026
+ */
+public class LineaComandos {
+
+    /** Partidas que se encargan al pool antes de guardar sus registros. */
+    private static final int TAM_BLOQUE = 4096;
+
+    private final PrintStream salida;
+    private long semilla = 1L;
+    private File resultados;
+    private int hilos = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Constructor
+     *
+     * @param salida donde se imprimen los reportes
+     */
+    public LineaComandos(PrintStream salida) {
+        if (salida == null) {
+            throw new IllegalArgumentException("La salida no puede ser nula.");
+        }
+        this.salida = salida;
+    }
+
+    /**
+     * Punto de entrada de la línea de comandos.
+     *
+     * @param args comando y sus argumentos
+     */
+    public static void main(String[] args) {
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+        int codigo = new LineaComandos(System.out).ejecutar(args);
+        if (codigo != 0) {
+            System.exit(codigo);
+        }
+    }
+
+    /**
+     * Ejecuta un comando. Primero se revisan todos los argumentos; sólo un
+     * error en ellos muestra el modo de uso.
+     *
+     * @param args comando y sus argumentos
+     * @return 0 si terminó bien, 1 si los argumentos son inválidos, 2 si
+     *         falló la E/S de resultados, 3 si fallaron la carga de equipos
+     *         o la simulación
+     */
+    public int ejecutar(String[] args) {
+        String comando = args.length > 0 ? args[0] : "";
+        int cantidad = 0;
+        FormatoTorneo formato = null;
+        ConsultaResultados consulta = null;
+        try {
+            if (args.length >= 3 && comando.equals("partidas")) {
+                leerOpciones(args, 3);
+                cantidad = cantidad(args[2]);
+                exigirResultados();
+            } else if (args.length >= 3 && comando.equals("torneo")) {
+                leerOpciones(args, 3);
+                formato = formato(args[2]);
+                exigirResultados();
+            } else if (args.length >= 2 && comando.equals("consulta")) {
+                consulta = ConsultaResultados.desdeArgumentos(args, 2);
+                if (!new File(args[1]).exists()) {
+                    throw new IllegalArgumentException("El archivo no existe: " + args[1]);
+                }
+            } else {
+                uso();
+                return 1;
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            uso();
+            return 1;
+        }
+
+        try {
+            switch (comando) {
+                case "partidas" -> jugarPartidas(cargarEquipos(args[1]), cantidad);
+                case "torneo" -> jugarTorneo(cargarEquipos(args[1]), formato);
+                default -> consultar(new File(args[1]), consulta);
+            }
+            return 0;
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Error de archivos: " + e.getMessage());
+            return 2;
+        } catch (RuntimeException e) {
+            System.err.println("Error: " + e.getMessage());
+            return 3;
+        }
+    }
+
+    /**
+     * Juega partidas entre parejas de equipos sorteadas con la semilla, en
+     * un pool de hilos, y guarda sus registros en orden. Cada partida es un
+     * enfrentamiento independiente y se guarda como ronda 1, igual que la
+     * primera ronda de una partida del juego.
+     *
+     * @param equipos equipos cargados (al menos 2)
+     * @param cantidad partidas a jugar
+     * @throws IOException si falla el guardado de resultados
+     */
+    public void jugarPartidas(List<Equipo> equipos, int cantidad) throws IOException {
+        if (equipos.size() < 2) {
+            throw new IllegalArgumentException("Se requieren al menos dos equipos.");
+        }
+        ConfiguracionPartida configuracion = new ConfiguracionPartida();
+        SplittableRandom sorteo = new SplittableRandom(semilla);
+        int[] victorias = new int[equipos.size()];
+        long inicio = System.nanoTime();
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        try (EscritorResultados escritor = new EscritorResultados(gestor())) {
+            List<Future<RegistroResultado[]>> pendientes = new ArrayList<>(Math.min(cantidad, TAM_BLOQUE));
+            int[] parejas = new int[2 * TAM_BLOQUE];  // local y visitante de cada partida del bloque
+            for (int desde = 0; desde < cantidad; desde += TAM_BLOQUE) {
+                int hasta = Math.min(cantidad, desde + TAM_BLOQUE);
+                pendientes.clear();
+                for (int i = desde; i < hasta; i++) {
+                    int local = sorteo.nextInt(equipos.size());
+                    int visitante = (local + 1 + sorteo.nextInt(equipos.size() - 1)) % equipos.size();
+                    parejas[2 * (i - desde)] = local;
+                    parejas[2 * (i - desde) + 1] = visitante;
+                    Equipo a = equipos.get(local);
+                    Equipo b = equipos.get(visitante);
+                    long semillaPartida = sorteo.nextLong();
+                    pendientes.add(ejecutor.submit(() -> jugarPartida(a, b, configuracion, semillaPartida)));
+                }
+                for (int i = 0; i < pendientes.size(); i++) {
+                    RegistroResultado[] registros = esperar(pendientes.get(i));
+                    victorias[parejas[2 * i + (registros[0].isGanador() ? 0 : 1)]]++;
+                    escritor.encolar(registros[0]);
+                    escritor.encolar(registros[1]);
+                }
+            }
+        } finally {
+            ejecutor.shutdown();
+        }
+        long nanos = System.nanoTime() - inicio;
+        imprimirRendimiento("partidas", cantidad, nanos);
+        int lider = 0;
+        for (int i = 1; i < victorias.length; i++) {
+            if (victorias[i] > victorias[lider]) {
+                lider = i;
+            }
+        }
+        salida.println("Más victorias: " + equipos.get(lider).getNombre() + " (" + victorias[lider] + ")");
+    }
+
+    /**
+     * Juega un torneo y guarda sus resultados.
+     *
+     * @param equipos equipos participantes
+     * @param formato formato del torneo
+     * @throws IOException si falla el guardado de resultados
+     */
+    public void jugarTorneo(List<Equipo> equipos, FormatoTorneo formato) throws IOException {
+        ControlTorneo torneo = new ControlTorneo(equipos, new ConfiguracionPartida(), formato, semilla);
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        try (EscritorResultados escritor = new EscritorResultados(gestor())) {
+            torneo.setEscritor(escritor);
+            torneo.jugar(ejecutor);
+        } finally {
+            ejecutor.shutdown();
+        }
+        salida.println("Torneo " + formato + ": " + equipos.size() + " equipos, "
+                + torneo.getRondasJugadas() + " rondas");
+        imprimirRendimiento("encuentros", torneo.getEncuentros().size(), torneo.getNanosJugando());
+        int[] clasificacion = torneo.getClasificacion();
+        for (int i = 0; i < Math.min(10, clasificacion.length); i++) {
+            int e = clasificacion[i];
+            salida.printf("%3d. %-25s G:%d P:%d PF:%d PC:%d%n", i + 1, torneo.getEquipos().get(e).getNombre(),
+                    torneo.getVictorias(e), torneo.getDerrotas(e), torneo.getPuntosAFavor(e), torneo.getPuntosEnContra(e));
+        }
+        salida.println("Campeón: " + torneo.getCampeon().getNombre());
+    }
+
+    /**
+     * Imprime el resultado de una consulta sobre un archivo de resultados.
+     *
+     * @param archivo archivo de resultados
+     * @param consulta consulta a ejecutar
+     * @throws IOException si hay error al leer
+     */
+    public void consultar(File archivo, ConsultaResultados consulta) throws IOException {
+        if (!archivo.exists()) {
+            throw new IllegalArgumentException("El archivo no existe: " + archivo);
+        }
+        salida.println(consulta.getAgrupacion().getNombre());
+        for (FilaConsulta fila : new GestorResultados(archivo).consultar(consulta)) {
+            salida.println(fila);
+        }
+    }
+
+    /**
+     * @param semilla semilla de sorteos y lanzamientos
+     */
+    public void setSemilla(long semilla) {
+        this.semilla = semilla;
+    }
+
+    /**
+     * @param resultados archivo donde se guardan los resultados de las
+     *         simulaciones; no debe ser el historial del juego
+     */
+    public void setResultados(File resultados) {
+        this.resultados = resultados;
+    }
+
+    /**
+     * @param hilos hilos con que se juegan las partidas
+     */
+    public void setHilos(int hilos) {
+        if (hilos <= 0) {
+            throw new IllegalArgumentException("La cantidad de hilos debe ser positiva.");
+        }
+        this.hilos = hilos;
+    }
+
+    /**
+     * Juega una partida completa sobre copias de los equipos.
+     * @return registros de la partida (local, visitante)
+     */
+    private static RegistroResultado[] jugarPartida(Equipo local, Equipo visitante, ConfiguracionPartida configuracion,
+            long semilla) {
+        Equipo copiaLocal = new Equipo(local.getNombre(), local.getJugadores());
+        Equipo copiaVisitante = new Equipo(visitante.getNombre(), visitante.getJugadores());
+        ControlPartida partida = new ControlPartida(configuracion, new Random(semilla));
+        partida.setEquipos(Arrays.asList(copiaLocal, copiaVisitante));
+        while (partida.isPartidaActiva()) {
+            partida.simularLanzamiento();
+        }
+        boolean ganaLocal = partida.getIndiceGanador() == 0;
+        return new RegistroResultado[]{
+            RegistroResultado.desde(copiaLocal,
+                    RegistroResultado.resultado(ganaLocal, partida.isEnMuerteSubita(0)), partida.getRondaActual()),
+            RegistroResultado.desde(copiaVisitante,
+                    RegistroResultado.resultado(!ganaLocal, partida.isEnMuerteSubita(1)), partida.getRondaActual())
+        };
+    }
+
+    private static RegistroResultado[] esperar(Future<RegistroResultado[]> futuro) {
+        try {
+            return futuro.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulación interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error al jugar una partida: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private List<Equipo> cargarEquipos(String ruta) {
+        List<Equipo> equipos;
+        try {
+            equipos = new ControlPersistencia().cargarEquiposDesdeArchivo(new File(ruta));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("No se pudieron cargar los equipos de " + ruta + ": " + e.getMessage(), e);
+        }
+        salida.println("Equipos cargados: " + equipos.size());
+        return equipos;
+    }
+
+    private GestorResultados gestor() {
+        if (resultados == null) {
+            throw new IllegalStateException("No se indicó el archivo de resultados de la simulación.");
+        }
+        return new GestorResultados(resultados);
+    }
+
+    private void exigirResultados() {
+        if (resultados == null) {
+            throw new IllegalArgumentException("Indique con --resultados el archivo donde guardar la simulación.");
+        }
+    }
+
+    private void imprimirRendimiento(String unidad, long cantidad, long nanos) {
+        double segundos = nanos / 1e9;
+        salida.printf("%d %s en %.3f s (%.0f %s/s, %d hilos)%n", cantidad, unidad, segundos,
+                segundos > 0 ? cantidad / segundos : 0, unidad, hilos);
+    }
+
+    private void leerOpciones(String[] args, int desde) {
+        for (int i = desde; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Falta el valor de " + args[i]);
+            }
+            String valor = args[i + 1];
+            switch (args[i]) {
+                case "--semilla" -> setSemilla(numero(valor));
+                case "--resultados" -> setResultados(new File(valor));
+                case "--hilos" -> setHilos((int) numero(valor));
+                default -> throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+            }
+        }
+    }
+
+    private static int cantidad(String valor) {
+        long n = numero(valor);
+        if (n <= 0 || n > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Cantidad de partidas inválida: " + valor);
+        }
+        return (int) n;
+    }
+
+    private static long numero(String valor) {
+        try {
+            return Long.parseLong(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Número inválido: " + valor);
+        }
+    }
+
+    private static FormatoTorneo formato(String valor) {
+        return switch (valor) {
+            case "todos" -> FormatoTorneo.TODOS_CONTRA_TODOS;
+            case "eliminacion" -> FormatoTorneo.ELIMINACION_SIMPLE;
+            case "suizo" -> FormatoTorneo.SUIZO;
+            default -> throw new IllegalArgumentException("Formato desconocido: " + valor);
+        };
+    }
+
+    private static void uso() {
+        System.err.println("Uso: LineaComandos partidas <equipos.properties> <cantidad> --resultados R [--semilla S] [--hilos H]");
+        System.err.println("     LineaComandos torneo <equipos.properties> <todos|eliminacion|suizo> --resultados R [--semilla S] [--hilos H]");
+        System.err.println("     LineaComandos consulta <resultados.dat> [--equipo E] [--jugador J] [--ronda N|A-B]");
+        System.err.println("                   [--resultado R] [--puntaje A-B] [--agrupar equipo|ronda|ninguna]");
+    }
+}
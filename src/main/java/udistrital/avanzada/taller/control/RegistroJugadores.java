@@ -0,0 +1,247 @@
+package udistrital.avanzada.taller.control;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import udistrital.avanzada.taller.modelo.Jugador;
+import udistrital.avanzada.taller.modelo.TablaIds;
+
+/**
+ * Índice de los jugadores conocidos por {@link ControlEquipos} y de cuáles
+ * están disponibles para formar equipos.
+ *
+ * <p>Cada jugador registrado recibe una posición fija (su número dentro del
+ * registro). La disponibilidad se guarda en un {@link BitSet} indexado por
+ * esa posición, así que tomar o devolver jugadores no mueve ninguna lista,
+ * y las búsquedas por jugador o por número cuestan O(1). Los jugadores se
+ * indexan por su identificador en una {@link TablaIds}, sin objetos por
+ * entrada. Los disponibles se recorren en el orden en que se registraron.</p>
+ *
+ * <p>Varios jugadores pueden compartir apodo. Cada apodo, sin distinguir
+ * mayúsculas igual que {@link String#equalsIgnoreCase(String)}, apunta a
+ * las posiciones de todos sus jugadores en un {@link BitSet}, así que
+ * buscar el primero disponible con un apodo sólo recorre esos jugadores.</p>
+ *
+ * <p>El registro es la fuente de identificadores de su nómina: a un
+ * jugador creado sin identificador le asigna {@link #siguienteId()} al
+ * registrarlo, y para crear jugadores que se sumen a la nómina ese mismo
+ * método da un identificador libre. Los identificadores sólo son únicos
+ * dentro de una nómina, así que el registro rechaza un jugador distinto
+ * (otro nombre o apodo) con el identificador de uno ya registrado, en vez
+ * de confundirlos.</p>
+ *
+ * <p>El apodo se indexa al registrar el jugador; si luego se cambia con
+ * {@link Jugador#setApodo(String)} hay que volver a registrar la lista.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class RegistroJugadores {
+
+    private final List<Jugador> jugadores;
+    private final TablaIds posiciones;
+    private final Map<String, BitSet> porApodo;
+    private final BitSet disponibles;
+    private int cantidadDisponibles;
+    private long mayorId;
+
+    /**
+     * Constructor de un registro vacío
+     */
+    public RegistroJugadores() {
+        this.jugadores = new ArrayList<>();
+        this.posiciones = new TablaIds(64);
+        this.porApodo = new HashMap<>();
+        this.disponibles = new BitSet();
+    }
+
+    /**
+     * Registra un jugador, si no lo estaba, sin cambiar su disponibilidad.
+     * Si el jugador no tiene identificador, recibe uno libre de este registro.
+     *
+     * @param jugador jugador a registrar
+     * @return número del jugador en el registro
+     * @throws IllegalArgumentException si ya hay otro jugador con su identificador
+     */
+    public int registrar(Jugador jugador) {
+        if (jugador == null) {
+            throw new IllegalArgumentException("El jugador no puede ser nulo.");
+        }
+        if (!jugador.tieneId()) {
+            jugador.asignarId(siguienteId());
+        }
+        int posicion = posiciones.obtener(jugador.getId());
+        if (posicion >= 0) {
+            Jugador registrado = jugadores.get(posicion);
+            if (!mismoJugador(registrado, jugador)) {
+                throw new IllegalArgumentException("El jugador " + jugador + " tiene el identificador "
+                        + jugador.getId() + ", que ya es de " + registrado + ".");
+            }
+            return posicion;
+        }
+        mayorId = Math.max(mayorId, jugador.getId());
+        int nueva = jugadores.size();
+        jugadores.add(jugador);
+        posiciones.poner(jugador.getId(), nueva);
+        porApodo.computeIfAbsent(clave(jugador.getApodo()), k -> new BitSet()).set(nueva);
+        return nueva;
+    }
+
+    /**
+     * Vacía el registro.
+     */
+    public void limpiar() {
+        jugadores.clear();
+        posiciones.limpiar();
+        porApodo.clear();
+        disponibles.clear();
+        cantidadDisponibles = 0;
+        mayorId = 0;
+    }
+
+    /**
+     * @return identificador que no usa ningún jugador registrado
+     */
+    public long siguienteId() {
+        return mayorId + 1;
+    }
+
+    /**
+     * @param jugador jugador buscado
+     * @return número del jugador, o -1 si no está registrado (o el
+     *         registrado con su identificador es otro jugador)
+     */
+    public int posicion(Jugador jugador) {
+        int posicion = jugador == null || !jugador.tieneId() ? -1 : posiciones.obtener(jugador.getId());
+        return posicion >= 0 && mismoJugador(jugadores.get(posicion), jugador) ? posicion : -1;
+    }
+
+    /**
+     * @param posicion número del jugador
+     * @return jugador registrado con ese número
+     */
+    public Jugador getJugador(int posicion) {
+        return jugadores.get(posicion);
+    }
+
+    /**
+     * Busca un jugador por identificador.
+     *
+     * @param id identificador del jugador
+     * @return número del jugador en el registro, o -1 si no está registrado
+     */
+    public int buscarPorId(long id) {
+        return posiciones.obtener(id);
+    }
+
+    /**
+     * Busca un jugador por apodo sin distinguir mayúsculas.
+     *
+     * @param apodo apodo buscado
+     * @return número del primer jugador registrado con ese apodo, o -1 si no hay ninguno
+     */
+    public int buscarPorApodo(String apodo) {
+        BitSet conApodo = apodo == null ? null : porApodo.get(clave(apodo));
+        return conApodo == null ? -1 : conApodo.nextSetBit(0);
+    }
+
+    /**
+     * Busca un jugador disponible por apodo sin distinguir mayúsculas.
+     *
+     * @param apodo apodo buscado
+     * @return número del primer jugador disponible con ese apodo, en orden
+     *         de registro, o -1 si no hay ninguno
+     */
+    public int buscarDisponiblePorApodo(String apodo) {
+        BitSet conApodo = apodo == null ? null : porApodo.get(clave(apodo));
+        if (conApodo == null) {
+            return -1;
+        }
+        for (int i = conApodo.nextSetBit(0); i >= 0; i = conApodo.nextSetBit(i + 1)) {
+            if (disponibles.get(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param posicion número del jugador
+     * @return true si el jugador está disponible
+     */
+    public boolean isDisponible(int posicion) {
+        return posicion >= 0 && disponibles.get(posicion);
+    }
+
+    /**
+     * Marca un jugador como disponible o no.
+     *
+     * @param posicion número del jugador
+     * @param disponible nueva disponibilidad
+     */
+    public void setDisponible(int posicion, boolean disponible) {
+        if (posicion < 0 || posicion >= jugadores.size()) {
+            throw new IllegalArgumentException("Jugador fuera del registro: " + posicion);
+        }
+        if (disponibles.get(posicion) != disponible) {
+            disponibles.set(posicion, disponible);
+            cantidadDisponibles += disponible ? 1 : -1;
+        }
+    }
+
+    /**
+     * Registra un jugador si hace falta y lo marca como disponible.
+     *
+     * @param jugador jugador a liberar
+     */
+    public void liberar(Jugador jugador) {
+        setDisponible(registrar(jugador), true);
+    }
+
+    /**
+     * @return cantidad de jugadores disponibles
+     */
+    public int getCantidadDisponibles() {
+        return cantidadDisponibles;
+    }
+
+    /**
+     * @return cantidad de jugadores registrados
+     */
+    public int getCantidad() {
+        return jugadores.size();
+    }
+
+    /**
+     * @return copia de los jugadores disponibles, en orden de registro
+     */
+    public List<Jugador> getDisponibles() {
+        List<Jugador> lista = new ArrayList<>(cantidadDisponibles);
+        for (int i = disponibles.nextSetBit(0); i >= 0; i = disponibles.nextSetBit(i + 1)) {
+            lista.add(jugadores.get(i));
+        }
+        return lista;
+    }
+
+    /** Dos objetos con el mismo identificador son el mismo jugador si coinciden nombre y apodo. */
+    private static boolean mismoJugador(Jugador registrado, Jugador jugador) {
+        return registrado == jugador || (registrado.getNombre().equals(jugador.getNombre())
+                && registrado.getApodo().equals(jugador.getApodo()));
+    }
+
+    /**
+     * Clave del apodo: dos apodos tienen la misma clave si y sólo si son
+     * iguales con {@link String#equalsIgnoreCase(String)}, que compara
+     * carácter por carácter pasando a mayúscula y luego a minúscula.
+     */
+    private static String clave(String apodo) {
+        StringBuilder sb = new StringBuilder(apodo.length());
+        for (int i = 0; i < apodo.length(); i++) {
+            sb.append(Character.toLowerCase(Character.toUpperCase(apodo.charAt(i))));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,214 @@
+package udistrital.avanzada.taller.control;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.MotorCalificaciones;
+import udistrital.avanzada.taller.modelo.TipoLanzamiento;
+import udistrital.avanzada.taller.modelo.persistencia.ConsultaResultados;
+import udistrital.avanzada.taller.modelo.persistencia.ControlPersistencia;
+import udistrital.avanzada.taller.modelo.persistencia.EscuchaProgreso;
+import udistrital.avanzada.taller.modelo.persistencia.EscuchaResultados;
+import udistrital.avanzada.taller.modelo.persistencia.FilaConsulta;
+import udistrital.avanzada.taller.modelo.persistencia.GestorResultados;
+import udistrital.avanzada.taller.modelo.persistencia.RegistroResultado;
+
+/**
+ * Ejecuta la lectura y escritura de archivos fuera del hilo de la interfaz.
+ *
+ * <p>Todas las operaciones van a un único hilo de E/S, de modo que se
+ * ejecutan en el orden en que se piden: un historial leído después de
+ * guardar una ronda ya incluye esa ronda. Cada operación devuelve un
+ * {@link CompletableFuture}; quien la pide decide en qué hilo atiende el
+ * resultado (la interfaz lo pasa al hilo de eventos de Swing sólo para la
+ * actualización final).</p>
+ *
+ * <p>Cancelar el futuro interrumpe el hilo de E/S. La carga de equipos y la
+ * lectura del historial revisan la interrupción y se detienen; la escritura
+ * de un lote no se corta a la mitad, para no dejar registros incompletos.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class ServicioArchivos implements AutoCloseable {
+
+    /** Registros de resultados entre dos instantáneas de las calificaciones. */
+    private static final int INSTANTANEA_CADA = 100;
+
+    private final ControlPersistencia persistencia;
+    private final GestorResultados gestor;
+    private final ExecutorService hiloES;
+
+    /**
+     * Constructor
+     *
+     * @param persistencia carga de equipos desde archivos .properties
+     * @param gestor archivo de resultados
+     */
+    public ServicioArchivos(ControlPersistencia persistencia, GestorResultados gestor) {
+        if (persistencia == null || gestor == null) {
+            throw new IllegalArgumentException("Se requieren la persistencia y el gestor de resultados.");
+        }
+        this.persistencia = persistencia;
+        this.gestor = gestor;
+        this.hiloES = Executors.newSingleThreadExecutor(r -> {
+            Thread hilo = new Thread(r, "argolla-es");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+    }
+
+    /**
+     * Carga los equipos de un archivo .properties.
+     *
+     * @param archivo archivo de equipos
+     * @param progreso escucha del avance, llamada desde el hilo de E/S
+     * @return futuro con los equipos cargados
+     */
+    public CompletableFuture<List<Equipo>> cargarEquipos(File archivo, EscuchaProgreso progreso) {
+        return enviar(() -> persistencia.cargarEquiposDesdeArchivo(archivo, progreso));
+    }
+
+    /**
+     * Guarda un lote de resultados al final del archivo.
+     *
+     * @param registros registros a guardar
+     * @param progreso escucha del avance, llamada desde el hilo de E/S
+     * @return futuro que termina cuando el lote está escrito
+     */
+    public CompletableFuture<Void> guardarResultados(List<RegistroResultado> registros, EscuchaProgreso progreso) {
+        List<RegistroResultado> copia = List.copyOf(registros);
+        return enviar(() -> {
+            gestor.guardarResultados(copia, progreso);
+            return null;
+        });
+    }
+
+    /**
+     * Lee todo el historial de resultados.
+     *
+     * @param progreso escucha del avance, llamada desde el hilo de E/S
+     * @return futuro con el texto de cada registro
+     */
+    public CompletableFuture<List<String>> leerResultados(EscuchaProgreso progreso) {
+        return enviar(() -> gestor.leerTodosLosResultados(progreso));
+    }
+
+    /**
+     * Ejecuta una consulta sobre el historial de resultados.
+     *
+     * @param consulta filtros, agrupación y agregados
+     * @return futuro con una fila por grupo
+     */
+    public CompletableFuture<List<FilaConsulta>> consultarResultados(ConsultaResultados consulta) {
+        return enviar(() -> gestor.consultar(consulta));
+    }
+
+    /**
+     * Registra una escucha de los resultados: primero recibe el historial
+     * guardado y después cada lote que se guarde.
+     *
+     * @param escucha escucha de los resultados, por ejemplo la tabla de la liga
+     * @return futuro que termina cuando la escucha recibió el historial
+     */
+    public CompletableFuture<Void> seguirResultados(EscuchaResultados escucha) {
+        return enviar(() -> {
+            gestor.agregarEscucha(escucha, true);
+            return null;
+        });
+    }
+
+    /**
+     * Carga las calificaciones de los equipos y las deja siguiendo los
+     * resultados. La instantánea se guarda junto a resultados.dat, así que
+     * al arrancar sólo se leen los registros posteriores a ella.
+     *
+     * @return futuro con el motor de calificaciones al día
+     */
+    public CompletableFuture<MotorCalificaciones> seguirCalificaciones() {
+        return enviar(() -> {
+            File instantanea = new File(gestor.getArchivo().getPath() + ".calificaciones");
+            MotorCalificaciones motor = MotorCalificaciones.cargar(instantanea);
+            motor.setInstantanea(instantanea, INSTANTANEA_CADA);
+            motor.seguir(gestor);
+            return motor;
+        });
+    }
+
+    /**
+     * Lee la grabación de una partida para reproducirla.
+     *
+     * @param archivo archivo escrito con {@link GuionLanzamientos#guardar(List, File)}
+     * @return futuro con los tipos grabados, en orden
+     */
+    public CompletableFuture<List<TipoLanzamiento>> leerGrabacion(File archivo) {
+        return enviar(() -> GuionLanzamientos.leer(archivo));
+    }
+
+    /**
+     * Guarda la grabación de una partida.
+     *
+     * @param grabados tipos sorteados, en orden
+     * @param archivo archivo de destino
+     * @return futuro que termina cuando la grabación está escrita
+     */
+    public CompletableFuture<Void> guardarGrabacion(List<TipoLanzamiento> grabados, File archivo) {
+        List<TipoLanzamiento> copia = List.copyOf(grabados);
+        return enviar(() -> {
+            GuionLanzamientos.guardar(copia, archivo);
+            return null;
+        });
+    }
+
+    /**
+     * @return true si ya hay resultados guardados
+     */
+    public boolean existenResultadosPrevios() {
+        return gestor.existenResultadosPrevios();
+    }
+
+    /**
+     * Detiene el hilo de E/S. Las operaciones pendientes se cancelan.
+     */
+    @Override
+    public void close() {
+        hiloES.shutdownNow();
+    }
+
+    /**
+     * Envía una operación al hilo de E/S y enlaza la cancelación del futuro
+     * con la interrupción de la operación.
+     */
+    private <T> CompletableFuture<T> enviar(OperacionArchivo<T> operacion) {
+        CompletableFuture<T> resultado = new CompletableFuture<>();
+        Future<?> ejecucion = hiloES.submit(() -> {
+            if (resultado.isDone()) {
+                return;
+            }
+            try {
+                resultado.complete(operacion.ejecutar());
+            } catch (Throwable e) {
+                resultado.completeExceptionally(e);
+            }
+        });
+        resultado.whenComplete((valor, error) -> {
+            if (resultado.isCancelled()) {
+                ejecucion.cancel(true);
+            }
+        });
+        return resultado;
+    }
+
+    /**
+     * Operación de archivo que se ejecuta en el hilo de E/S.
+     */
+    @FunctionalInterface
+    private interface OperacionArchivo<T> {
+        T ejecutar() throws Exception;
+    }
+}
@@ -0,0 +1,436 @@
+package udistrital.avanzada.taller.control;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import udistrital.avanzada.taller.modelo.EstadoPartida;
+import udistrital.avanzada.taller.modelo.EventoLanzamiento;
+import udistrital.avanzada.taller.modelo.Jugador;
+import udistrital.avanzada.taller.modelo.persistencia.ConsultaResultados;
+import udistrital.avanzada.taller.modelo.persistencia.FilaConsulta;
+import udistrital.avanzada.taller.modelo.persistencia.GestorResultados;
+
+/**
+ * Servidor HTTP local para que pantallas y teléfonos muestren el marcador
+ * sin abrir el juego. Usa el servidor del JDK ({@code com.sun.net.httpserver})
+ * y atiende cada petición en un hilo virtual.
+ *
+ * <ul>
+ * <li>{@code GET /estado}: estado actual de la partida, en JSON.</li>
+ * <li>{@code GET /resultados?equipo=&jugador=&ronda=&resultado=&puntaje=&agrupar=}:
+ * consulta sobre el historial (ver {@link ConsultaResultados}), en JSON.</li>
+ * <li>{@code GET /eventos}: flujo de eventos del servidor (SSE) con cada
+ * lanzamiento, mano completa, muerte súbita y fin de ronda.</li>
+ * </ul>
+ *
+ * <p>El servidor es una escucha de {@link ControlPartida}. Cada evento se
+ * convierte a texto una sola vez, en el hilo de la partida, y se guarda en
+ * un anillo de los últimos eventos; no hay una cola por suscriptor. Cada
+ * conexión de {@code /eventos} es un hilo virtual que espera al siguiente
+ * evento y escribe los que le falten, así que miles de suscriptores cuestan
+ * poco más que sus sockets. Un suscriptor tan lento que el anillo le pasa
+ * por encima salta a los eventos más recientes (y se cuentan los que
+ * perdió). Un cliente que se reconecta con {@code Last-Event-ID} recibe los
+ * eventos que se perdió si aún están en el anillo.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class ServidorMarcador implements EscuchaPartida, AutoCloseable {
+
+    /** Eventos recientes que se guardan para suscriptores atrasados o que se reconectan. */
+    private static final int CAPACIDAD_ANILLO = 1024;
+    /** Cada cuánto se envía un comentario a los suscriptores para mantener viva la conexión. */
+    private static final long LATIDO_MS = 15_000;
+
+    private final ControlPartida partida;
+    private final GestorResultados gestor;
+    private final HttpServer servidor;
+    private final ExecutorService hilos;
+
+    // Anillo de eventos ya convertidos a bytes, numerados desde 1
+    private final byte[][] anillo = new byte[CAPACIDAD_ANILLO][];
+    private final ReentrantLock candado = new ReentrantLock();
+    private final Condition hayEventos = candado.newCondition();
+    private long ultimoEvento;
+    private volatile boolean cerrado;
+
+    private final AtomicInteger suscriptores = new AtomicInteger();
+    private final AtomicLong perdidos = new AtomicLong();
+
+    /**
+     * Crea el servidor. No escucha la partida ni atiende peticiones hasta
+     * llamar a {@link #iniciar()}.
+     *
+     * @param partida partida cuyo estado y eventos se publican
+     * @param gestor historial de resultados para las consultas
+     * @param direccion dirección y puerto (puerto 0 para uno libre)
+     * @throws IOException si no se puede abrir el puerto
+     */
+    public ServidorMarcador(ControlPartida partida, GestorResultados gestor, InetSocketAddress direccion)
+            throws IOException {
+        if (partida == null || gestor == null || direccion == null) {
+            throw new IllegalArgumentException("Se requieren la partida, el gestor y la dirección.");
+        }
+        this.partida = partida;
+        this.gestor = gestor;
+        this.servidor = HttpServer.create(direccion, 0);
+        this.hilos = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("marcador-", 0).factory());
+        this.servidor.setExecutor(hilos);
+        this.servidor.createContext("/estado", this::atenderEstado);
+        this.servidor.createContext("/resultados", this::atenderResultados);
+        this.servidor.createContext("/eventos", this::atenderEventos);
+    }
+
+    /**
+     * Se registra como escucha de la partida y empieza a atender peticiones.
+     */
+    public void iniciar() {
+        partida.agregarEscucha(this);
+        servidor.start();
+    }
+
+    /**
+     * @return puerto en el que escucha el servidor
+     */
+    public int getPuerto() {
+        return servidor.getAddress().getPort();
+    }
+
+    /**
+     * @return suscriptores conectados a {@code /eventos}
+     */
+    public int getSuscriptores() {
+        return suscriptores.get();
+    }
+
+    /**
+     * @return eventos que algún suscriptor lento no alcanzó a recibir
+     */
+    public long getPerdidos() {
+        return perdidos.get();
+    }
+
+    /**
+     * Deja de escuchar la partida, cierra los flujos de eventos y detiene el servidor.
+     */
+    @Override
+    public void close() {
+        cerrado = true;
+        partida.quitarEscucha(this);
+        candado.lock();
+        try {
+            hayEventos.signalAll();
+        } finally {
+            candado.unlock();
+        }
+        servidor.stop(0);
+        hilos.shutdown();
+        try {
+            hilos.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ================================================================
+    // Eventos de la partida
+    // ================================================================
+
+    @Override
+    public void onLanzamiento(EventoLanzamiento evento) {
+        Jugador jugador = evento.getJugador();
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("{\"equipo\":").append(evento.getIndiceEquipo());
+        sb.append(",\"nombreEquipo\":");
+        texto(sb, evento.getNombreEquipo());
+        sb.append(",\"jugador\":");
+        texto(sb, jugador != null ? jugador.getNombre() : null);
+        sb.append(",\"apodo\":");
+        texto(sb, jugador != null ? jugador.getApodo() : null);
+        sb.append(",\"tipo\":\"").append(evento.getTipo().name()).append('"');
+        sb.append(",\"puntos\":").append(evento.getPuntos());
+        sb.append(",\"muerteSubita\":").append(evento.isMuerteSubita());
+        sb.append(",\"estado\":");
+        estado(sb, evento.getEstado());
+        publicar("lanzamiento", sb.append('}').toString());
+    }
+
+    @Override
+    public void onManoCompleta(int indiceEquipo, EstadoPartida estado) {
+        StringBuilder sb = new StringBuilder(192).append("{\"equipo\":").append(indiceEquipo).append(",\"estado\":");
+        estado(sb, estado);
+        publicar("mano", sb.append('}').toString());
+    }
+
+    @Override
+    public void onMuerteSubita(EstadoPartida estado) {
+        publicar("muerteSubita", estado(new StringBuilder(192), estado).toString());
+    }
+
+    @Override
+    public void onRondaTerminada(int indiceGanador, EstadoPartida estado) {
+        StringBuilder sb = new StringBuilder(192).append("{\"ganador\":").append(indiceGanador).append(",\"estado\":");
+        estado(sb, estado);
+        publicar("ronda", sb.append('}').toString());
+    }
+
+    /**
+     * Guarda un evento en el anillo y despierta a los suscriptores. Es lo
+     * único que hace el hilo de la partida: nunca escribe en un socket.
+     */
+    private void publicar(String tipo, String datos) {
+        candado.lock();
+        try {
+            long numero = ++ultimoEvento;
+            anillo[(int) (numero % CAPACIDAD_ANILLO)] = marco(numero, tipo, datos);
+            hayEventos.signalAll();
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    private static byte[] marco(long numero, String tipo, String datos) {
+        return ("id: " + numero + "\nevent: " + tipo + "\ndata: " + datos + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ================================================================
+    // Peticiones
+    // ================================================================
+
+    private void atenderEstado(HttpExchange intercambio) throws IOException {
+        try (intercambio) {
+            if (!esGet(intercambio)) {
+                return;
+            }
+            responder(intercambio, 200, estado(new StringBuilder(192), partida.getEstado()).toString());
+        }
+    }
+
+    private void atenderResultados(HttpExchange intercambio) throws IOException {
+        try (intercambio) {
+            if (!esGet(intercambio)) {
+                return;
+            }
+            List<FilaConsulta> filas;
+            try {
+                filas = gestor.consultar(consulta(intercambio.getRequestURI().getRawQuery()));
+            } catch (IllegalArgumentException e) {
+                StringBuilder error = new StringBuilder("{\"error\":");
+                texto(error, e.getMessage());
+                responder(intercambio, 400, error.append('}').toString());
+                return;
+            }
+            StringBuilder sb = new StringBuilder(64 + filas.size() * 96).append('[');
+            for (int i = 0; i < filas.size(); i++) {
+                FilaConsulta f = filas.get(i);
+                sb.append(i == 0 ? "{" : ",{").append("\"grupo\":");
+                texto(sb, f.getGrupo());
+                sb.append(",\"registros\":").append(f.getRegistros());
+                sb.append(",\"promedio\":").append(f.getPromedio());
+                sb.append(",\"maximo\":").append(f.getMaximo());
+                sb.append(",\"victorias\":").append(f.getVictorias());
+                sb.append(",\"tasaVictorias\":").append(f.getTasaVictorias()).append('}');
+            }
+            responder(intercambio, 200, sb.append(']').toString());
+        }
+    }
+
+    /**
+     * Mantiene abierto un flujo de eventos. El hilo virtual de la conexión
+     * espera en el anillo y escribe los eventos que le faltan.
+     */
+    private void atenderEventos(HttpExchange intercambio) throws IOException {
+        try (intercambio) {
+            if (!esGet(intercambio)) {
+                return;
+            }
+            intercambio.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            intercambio.getResponseHeaders().set("Cache-Control", "no-cache");
+            intercambio.sendResponseHeaders(200, 0);
+            OutputStream salida = intercambio.getResponseBody();
+            suscriptores.incrementAndGet();
+            try {
+                long enviado;
+                candado.lock();
+                try {
+                    enviado = desde(intercambio.getRequestHeaders().getFirst("Last-Event-ID"));
+                } finally {
+                    candado.unlock();
+                }
+                // Al conectarse, el estado actual para no esperar al siguiente lanzamiento
+                salida.write(("event: estado\ndata: " + estado(new StringBuilder(192), partida.getEstado())
+                        + "\n\n").getBytes(StandardCharsets.UTF_8));
+                salida.flush();
+                List<byte[]> pendientes = new ArrayList<>();
+                while (!cerrado) {
+                    enviado = esperarEventos(enviado, pendientes);
+                    if (pendientes.isEmpty()) {
+                        salida.write(": latido\n\n".getBytes(StandardCharsets.UTF_8));
+                    } else {
+                        for (byte[] marco : pendientes) {
+                            salida.write(marco);
+                        }
+                        pendientes.clear();
+                    }
+                    salida.flush();
+                }
+            } catch (IOException e) {
+                // El cliente cerró la conexión
+            } finally {
+                suscriptores.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Espera a que haya eventos posteriores al último enviado (o a que pase
+     * el latido) y copia sus marcos.
+     *
+     * @return número del último evento copiado
+     */
+    private long esperarEventos(long enviado, List<byte[]> pendientes) throws IOException {
+        candado.lock();
+        try {
+            long espera = TimeUnit.MILLISECONDS.toNanos(LATIDO_MS);
+            while (ultimoEvento == enviado && !cerrado && espera > 0) {
+                espera = hayEventos.awaitNanos(espera);
+            }
+            long primero = enviado + 1;
+            if (ultimoEvento - enviado > CAPACIDAD_ANILLO) {
+                // El anillo le pasó por encima: se salta a los más recientes
+                primero = ultimoEvento - CAPACIDAD_ANILLO + 1;
+                perdidos.addAndGet(primero - enviado - 1);
+            }
+            for (long n = primero; n <= ultimoEvento; n++) {
+                pendientes.add(anillo[(int) (n % CAPACIDAD_ANILLO)]);
+            }
+            return ultimoEvento;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Flujo de eventos interrumpido", e);
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    /**
+     * Primer evento que le falta a un suscriptor: el siguiente al que
+     * indica {@code Last-Event-ID}, o el próximo que ocurra si no lo indica
+     * o ya no está en el anillo.
+     */
+    private long desde(String ultimoVisto) {
+        if (ultimoVisto != null) {
+            try {
+                long visto = Long.parseLong(ultimoVisto.trim());
+                if (visto >= 0 && visto <= ultimoEvento && ultimoEvento - visto <= CAPACIDAD_ANILLO) {
+                    return visto;
+                }
+            } catch (NumberFormatException e) {
+                // Identificador inválido: se empieza por el siguiente evento
+            }
+        }
+        return ultimoEvento;
+    }
+
+    private static boolean esGet(HttpExchange intercambio) throws IOException {
+        if (!"GET".equals(intercambio.getRequestMethod())) {
+            intercambio.getResponseHeaders().set("Allow", "GET");
+            intercambio.sendResponseHeaders(405, -1);
+            return false;
+        }
+        return true;
+    }
+
+    private static void responder(HttpExchange intercambio, int codigo, String json) throws IOException {
+        byte[] cuerpo = json.getBytes(StandardCharsets.UTF_8);
+        intercambio.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        intercambio.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+        intercambio.sendResponseHeaders(codigo, cuerpo.length);
+        intercambio.getResponseBody().write(cuerpo);
+    }
+
+    /**
+     * Arma la consulta a partir de los parámetros de la URL, con los mismos
+     * nombres que las opciones de la línea de comandos.
+     */
+    static ConsultaResultados consulta(String parametros) {
+        List<String> args = new ArrayList<>();
+        if (parametros != null && !parametros.isEmpty()) {
+            for (String par : parametros.split("&")) {
+                int igual = par.indexOf('=');
+                if (igual <= 0) {
+                    throw new IllegalArgumentException("Parámetro inválido: " + par);
+                }
+                args.add("--" + URLDecoder.decode(par.substring(0, igual), StandardCharsets.UTF_8));
+                args.add(URLDecoder.decode(par.substring(igual + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return ConsultaResultados.desdeArgumentos(args.toArray(new String[0]), 0);
+    }
+
+    // ================================================================
+    // JSON
+    // ================================================================
+
+    private static StringBuilder estado(StringBuilder sb, EstadoPartida e) {
+        sb.append("{\"secuencia\":").append(e.getSecuencia());
+        sb.append(",\"ronda\":").append(e.getRondaActual());
+        sb.append(",\"partidaActiva\":").append(e.isPartidaActiva());
+        sb.append(",\"muerteSubita\":").append(e.isMuerteSubitaActiva());
+        sb.append(",\"puntajeObjetivo\":").append(e.getPuntajeObjetivo());
+        sb.append(",\"equipoEnTurno\":").append(e.getEquipoEnTurno());
+        sb.append(",\"lanzamientoEnMano\":").append(e.getLanzamientoEnMano());
+        sb.append(",\"ganador\":").append(e.getIndiceGanador());
+        sb.append(",\"equipos\":[");
+        for (int i = 0; i < e.getCantidadEquipos(); i++) {
+            sb.append(i == 0 ? "{" : ",{").append("\"nombre\":");
+            texto(sb, e.getNombreEquipo(i));
+            sb.append(",\"puntaje\":").append(e.getPuntaje(i));
+            sb.append(",\"enMuerteSubita\":").append(e.isEnMuerteSubita(i));
+            sb.append(",\"puntajeMuerteSubita\":").append(e.getPuntajeMuerteSubita(i)).append('}');
+        }
+        return sb.append("]}");
+    }
+
+    /** Agrega un texto como cadena JSON, o null. */
+    private static void texto(StringBuilder sb, String valor) {
+        if (valor == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
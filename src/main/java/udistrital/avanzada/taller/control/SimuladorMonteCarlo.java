@@ -0,0 +1,56 @@
+package udistrital.avanzada.taller.control;
+
+import java.util.Random;
+
+/**
+ * Estima por simulación de Monte Carlo la probabilidad de victoria de cada
+ * equipo a partir del estado actual de una partida. Cada simulación juega una
+ * copia independiente de la partida hasta el final, sin construir textos.
+ * Sirve como referencia para validar {@link CalculadoraProbabilidades}.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class SimuladorMonteCarlo {
+
+    private final Random random;
+
+    /**
+     * Constructor con semilla para obtener estimaciones reproducibles.
+     *
+     * @param semilla semilla del generador aleatorio
+     */
+    public SimuladorMonteCarlo(long semilla) {
+        this.random = new Random(semilla);
+    }
+
+    /**
+     * Estima la probabilidad de victoria de cada equipo.
+     *
+     * @param partida partida cuyo estado se toma como punto de partida (no se modifica)
+     * @param simulaciones cantidad de partidas a simular
+     * @return frecuencia de victoria indexada por posición del equipo
+     */
+    public double[] estimar(ControlPartida partida, int simulaciones) {
+        if (partida == null || simulaciones <= 0) {
+            throw new IllegalArgumentException("Se requiere una partida y al menos una simulación.");
+        }
+        if (!partida.isPartidaActiva() && partida.getIndiceGanador() < 0) {
+            throw new IllegalStateException("No hay una partida activa.");
+        }
+        int[] victorias = new int[partida.getCantidadEquipos()];
+        for (int s = 0; s < simulaciones; s++) {
+            ControlPartida copia = partida.copiar(random);
+            while (copia.isPartidaActiva()) {
+                copia.simularLanzamiento();
+            }
+            victorias[copia.getIndiceGanador()]++;
+        }
+        double[] frecuencias = new double[victorias.length];
+        for (int i = 0; i < victorias.length; i++) {
+            frecuencias[i] = (double) victorias[i] / simulaciones;
+        }
+        return frecuencias;
+    }
+}
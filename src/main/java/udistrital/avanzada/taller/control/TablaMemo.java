@@ -0,0 +1,142 @@
+package udistrital.avanzada.taller.control;
+
+/**
+ * Tabla de memorización con claves {@code long} y valores vectoriales de
+ * {@code double} de ancho fijo, usada por la calculadora de probabilidades.
+ * Usa direccionamiento abierto con sondeo lineal sobre arreglos primitivos,
+ * sin objetos por entrada. Los vectores se identifican por su posición en el
+ * arreglo de valores, que sigue siendo válida aunque la tabla crezca.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+class TablaMemo {
+
+    private final int ancho;
+    private long[] claves;      // clave + 1; 0 indica casilla vacía
+    private int[] posiciones;   // posición del vector en valores
+    private double[] valores;
+    private int tamano;
+
+    /**
+     * Constructor
+     * @param ancho cantidad de doubles de cada vector
+     * @param capacidadInicial cantidad esperada de entradas
+     */
+    TablaMemo(int ancho, int capacidadInicial) {
+        this.ancho = ancho;
+        int capacidad = Integer.highestOneBit(Math.max(16, capacidadInicial * 2 - 1)) << 1;
+        this.claves = new long[capacidad];
+        this.posiciones = new int[capacidad];
+        this.valores = new double[Math.max(16, capacidadInicial) * ancho];
+        this.tamano = 0;
+    }
+
+    /**
+     * Busca una clave.
+     * @param clave clave no negativa
+     * @return posición del vector asociado, o -1 si no existe
+     */
+    int buscar(long clave) {
+        long almacenada = clave + 1;
+        int mascara = claves.length - 1;
+        int i = mezclar(clave) & mascara;
+        while (claves[i] != 0) {
+            if (claves[i] == almacenada) {
+                return posiciones[i];
+            }
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserta un vector para una clave que aún no existe en la tabla.
+     * @param clave clave no negativa
+     * @param vector valores a copiar (de longitud igual al ancho)
+     * @return posición del vector almacenado
+     */
+    int insertar(long clave, double[] vector) {
+        if ((tamano + 1) * 2 > claves.length) {
+            redimensionar();
+        }
+        int posicion = tamano * ancho;
+        if (posicion + ancho > valores.length) {
+            double[] nuevos = new double[valores.length * 2];
+            System.arraycopy(valores, 0, nuevos, 0, valores.length);
+            valores = nuevos;
+        }
+        System.arraycopy(vector, 0, valores, posicion, ancho);
+        ubicar(clave + 1, posicion);
+        tamano++;
+        return posicion;
+    }
+
+    /**
+     * Obtiene un componente de un vector almacenado.
+     * @param posicion posición del vector
+     * @param indice componente
+     * @return valor del componente
+     */
+    double valor(int posicion, int indice) {
+        return valores[posicion + indice];
+    }
+
+    /**
+     * Suma {@code factor} veces el vector almacenado a un acumulador.
+     * @param posicion posición del vector
+     * @param factor factor de escala
+     * @param acumulador destino (de longitud igual al ancho)
+     */
+    void sumarEn(int posicion, double factor, double[] acumulador) {
+        for (int i = 0; i < ancho; i++) {
+            acumulador[i] += factor * valores[posicion + i];
+        }
+    }
+
+    /**
+     * Copia un vector almacenado.
+     * @param posicion posición del vector
+     * @param destino arreglo de destino
+     */
+    void copiar(int posicion, double[] destino) {
+        System.arraycopy(valores, posicion, destino, 0, ancho);
+    }
+
+    /**
+     * @return cantidad de entradas almacenadas
+     */
+    int tamano() {
+        return tamano;
+    }
+
+    private void ubicar(long almacenada, int posicion) {
+        int mascara = claves.length - 1;
+        int i = mezclar(almacenada - 1) & mascara;
+        while (claves[i] != 0) {
+            i = (i + 1) & mascara;
+        }
+        claves[i] = almacenada;
+        posiciones[i] = posicion;
+    }
+
+    private void redimensionar() {
+        long[] clavesViejas = claves;
+        int[] posicionesViejas = posiciones;
+        claves = new long[clavesViejas.length * 2];
+        posiciones = new int[clavesViejas.length * 2];
+        for (int i = 0; i < clavesViejas.length; i++) {
+            if (clavesViejas[i] != 0) {
+                ubicar(clavesViejas[i], posicionesViejas[i]);
+            }
+        }
+    }
+
+    private static int mezclar(long clave) {
+        long h = clave * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xC2B2AE3D27D4EB4FL;
+        return (int) (h ^ (h >>> 29));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package udistrital.avanzada.taller.modelo;
+
+/**
+ * Clase que representa un encuentro programado dentro de un torneo entre
+ * dos equipos, identificados por su posición en la lista del torneo.
+ * Una vez jugado almacena los puntajes y el ganador.
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0
+ * 19/10/2026
+ */
+public class Encuentro {
+
+    /** Valor de visitante que indica que el local descansa y avanza sin jugar. */
+    public static final int DESCANSO = -1;
+
+    private final int ronda;
+    private final int local;
+    private final int visitante;
+    private int puntajeLocal;
+    private int puntajeVisitante;
+    private int ganador;
+
+    /**
+     * Constructor clase Encuentro
+     *
+     * @param ronda ronda del torneo (desde 1)
+     * @param local posición del equipo local
+     * @param visitante posición del equipo visitante o {@link #DESCANSO}
+     */
+    public Encuentro(int ronda, int local, int visitante) {
+        this.ronda = ronda;
+        this.local = local;
+        this.visitante = visitante;
+        this.ganador = visitante == DESCANSO ? local : -1;
+    }
+
+    /**
+     * Registra el resultado del encuentro.
+     *
+     * @param puntajeLocal puntaje final del local
+     * @param puntajeVisitante puntaje final del visitante
+     * @param ganador posición del equipo ganador (local o visitante)
+     */
+    public void registrarResultado(int puntajeLocal, int puntajeVisitante, int ganador) {
+        if (ganador != local && ganador != visitante) {
+            throw new IllegalArgumentException("El ganador debe ser uno de los equipos del encuentro.");
+        }
+        this.puntajeLocal = puntajeLocal;
+        this.puntajeVisitante = puntajeVisitante;
+        this.ganador = ganador;
+    }
+
+    /**
+     * Obtiene la ronda del torneo en la que se juega el encuentro.
+     *
+     * @return ronda (desde 1)
+     */
+    public int getRonda() {
+        return ronda;
+    }
+
+    /**
+     * Obtiene la posición del equipo local.
+     *
+     * @return posición del local
+     */
+    public int getLocal() {
+        return local;
+    }
+
+    /**
+     * Obtiene la posición del equipo visitante.
+     *
+     * @return posición del visitante o {@link #DESCANSO}
+     */
+    public int getVisitante() {
+        return visitante;
+    }
+
+    /**
+     * Obtiene el puntaje final del equipo local.
+     *
+     * @return puntaje del local
+     */
+    public int getPuntajeLocal() {
+        return puntajeLocal;
+    }
+
+    /**
+     * Obtiene el puntaje final del equipo visitante.
+     *
+     * @return puntaje del visitante
+     */
+    public int getPuntajeVisitante() {
+        return puntajeVisitante;
+    }
+
+    /**
+     * @return posición del ganador, o -1 si aún no se ha jugado
+     */
+    public int getGanador() {
+        return ganador;
+    }
+
+    /**
+     * @return posición del perdedor, o -1 si no se ha jugado o fue descanso
+     */
+    public int getPerdedor() {
+        if (ganador < 0 || visitante == DESCANSO) {
+            return -1;
+        }
+        return ganador == local ? visitante : local;
+    }
+
+    /**
+     * @return true si el local descansa en esta ronda
+     */
+    public boolean isDescanso() {
+        return visitante == DESCANSO;
+    }
+
+    @Override
+    public String toString() {
+        return "Ronda " + ronda + ": " + local + " vs " + (isDescanso() ? "descanso" : visitante)
+                + (ganador >= 0 ? " → " + ganador : "");
+    }
+}
@@ -0,0 +1,197 @@
+package udistrital.avanzada.taller.modelo;
+
+import java.util.Arrays;
+
+/**
+ * Fotografía inmutable del estado de una partida en un instante dado:
+ * puntajes, turno, posición dentro de la mano, ronda y marcador de la muerte
+ * súbita. La partida publica una nueva después de cada lanzamiento, de modo
+ * que la interfaz u otros lectores pueden consultarla desde cualquier hilo
+ * sin sincronización ni riesgo de ver un estado a medio actualizar.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public final class EstadoPartida {
+
+    private final long secuencia;
+    private final String[] nombresEquipos;
+    private final int[] puntajes;
+    private final int puntajeObjetivo;
+    private final int equipoEnTurno;
+    private final int lanzamientoEnMano;
+    private final int rondaActual;
+    private final boolean partidaActiva;
+    private final boolean muerteSubitaActiva;
+    private final boolean esperandoFinDeMano;
+    private final int enfrentamientoActual;
+    private final int[] puntajesMuerteSubita;
+    private final boolean[] enMuerteSubita;
+    private final int indiceGanador;
+
+    /**
+     * Constructor. Los arreglos se copian, por lo que el llamador puede
+     * seguir modificando los suyos.
+     *
+     * @param secuencia número de publicación, creciente dentro de una partida
+     * @param nombresEquipos nombres de los equipos en orden de mesa
+     * @param puntajes puntajes de los equipos
+     * @param puntajeObjetivo puntaje para ganar la ronda
+     * @param equipoEnTurno posición del equipo en turno
+     * @param lanzamientoEnMano lanzamientos hechos en la mano actual
+     * @param rondaActual número de ronda
+     * @param partidaActiva si la ronda sigue en juego
+     * @param muerteSubitaActiva si se está jugando la muerte súbita
+     * @param esperandoFinDeMano si un equipo llegó al objetivo y los demás terminan su mano
+     * @param enfrentamientoActual enfrentamiento de muerte súbita en curso (base 0)
+     * @param puntajesMuerteSubita enfrentamientos ganados por cada equipo
+     * @param enMuerteSubita equipos que disputan la muerte súbita
+     * @param indiceGanador posición del ganador, o -1 si la ronda no ha terminado
+     */
+    public EstadoPartida(long secuencia, String[] nombresEquipos, int[] puntajes, int puntajeObjetivo,
+            int equipoEnTurno, int lanzamientoEnMano, int rondaActual, boolean partidaActiva,
+            boolean muerteSubitaActiva, boolean esperandoFinDeMano, int enfrentamientoActual,
+            int[] puntajesMuerteSubita, boolean[] enMuerteSubita, int indiceGanador) {
+        this.secuencia = secuencia;
+        this.nombresEquipos = nombresEquipos.clone();
+        this.puntajes = puntajes.clone();
+        this.puntajeObjetivo = puntajeObjetivo;
+        this.equipoEnTurno = equipoEnTurno;
+        this.lanzamientoEnMano = lanzamientoEnMano;
+        this.rondaActual = rondaActual;
+        this.partidaActiva = partidaActiva;
+        this.muerteSubitaActiva = muerteSubitaActiva;
+        this.esperandoFinDeMano = esperandoFinDeMano;
+        this.enfrentamientoActual = enfrentamientoActual;
+        this.puntajesMuerteSubita = puntajesMuerteSubita.clone();
+        this.enMuerteSubita = enMuerteSubita.clone();
+        this.indiceGanador = indiceGanador;
+    }
+
+    /**
+     * Obtiene el número de publicación. Dos fotografías con la misma
+     * secuencia describen el mismo estado.
+     * @return secuencia de la fotografía
+     */
+    public long getSecuencia() {
+        return secuencia;
+    }
+
+    /**
+     * @return cantidad de equipos de la partida
+     */
+    public int getCantidadEquipos() {
+        return puntajes.length;
+    }
+
+    /**
+     * @param indiceEquipo posición del equipo
+     * @return nombre del equipo, o null si la partida aún no tiene equipos
+     */
+    public String getNombreEquipo(int indiceEquipo) {
+        return indiceEquipo < nombresEquipos.length ? nombresEquipos[indiceEquipo] : null;
+    }
+
+    /**
+     * @param indiceEquipo posición del equipo
+     * @return puntaje del equipo
+     */
+    public int getPuntaje(int indiceEquipo) {
+        return puntajes[indiceEquipo];
+    }
+
+    /**
+     * @return copia de los puntajes de todos los equipos
+     */
+    public int[] getPuntajes() {
+        return puntajes.clone();
+    }
+
+    /**
+     * @return puntaje para ganar la ronda
+     */
+    public int getPuntajeObjetivo() {
+        return puntajeObjetivo;
+    }
+
+    /**
+     * @return posición del equipo en turno
+     */
+    public int getEquipoEnTurno() {
+        return equipoEnTurno;
+    }
+
+    /**
+     * @return lanzamientos hechos en la mano actual
+     */
+    public int getLanzamientoEnMano() {
+        return lanzamientoEnMano;
+    }
+
+    /**
+     * @return número de ronda
+     */
+    public int getRondaActual() {
+        return rondaActual;
+    }
+
+    /**
+     * @return true si la ronda sigue en juego
+     */
+    public boolean isPartidaActiva() {
+        return partidaActiva;
+    }
+
+    /**
+     * @return true si se está jugando la muerte súbita
+     */
+    public boolean isMuerteSubitaActiva() {
+        return muerteSubitaActiva;
+    }
+
+    /**
+     * @return true si un equipo llegó al objetivo y los demás terminan su mano
+     */
+    public boolean isEsperandoFinDeMano() {
+        return esperandoFinDeMano;
+    }
+
+    /**
+     * @return enfrentamiento de muerte súbita en curso (base 0)
+     */
+    public int getEnfrentamientoActual() {
+        return enfrentamientoActual;
+    }
+
+    /**
+     * @param indiceEquipo posición del equipo
+     * @return enfrentamientos de muerte súbita ganados por el equipo
+     */
+    public int getPuntajeMuerteSubita(int indiceEquipo) {
+        return puntajesMuerteSubita[indiceEquipo];
+    }
+
+    /**
+     * @param indiceEquipo posición del equipo
+     * @return true si el equipo disputa la muerte súbita
+     */
+    public boolean isEnMuerteSubita(int indiceEquipo) {
+        return enMuerteSubita[indiceEquipo];
+    }
+
+    /**
+     * @return posición del ganador, o -1 si la ronda no ha terminado
+     */
+    public int getIndiceGanador() {
+        return indiceGanador;
+    }
+
+    @Override
+    public String toString() {
+        return "EstadoPartida{secuencia=" + secuencia + ", ronda=" + rondaActual
+                + ", puntajes=" + Arrays.toString(puntajes) + ", turno=" + equipoEnTurno
+                + ", mano=" + lanzamientoEnMano + ", muerteSubita=" + muerteSubitaActiva
+                + ", ganador=" + indiceGanador + "}";
+    }
+}
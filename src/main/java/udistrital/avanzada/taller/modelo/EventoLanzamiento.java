@@ -0,0 +1,94 @@
+package udistrital.avanzada.taller.modelo;
+
+/**
+ * Evento inmutable que describe un lanzamiento realizado durante la partida,
+ * ya sea dentro de una mano o en un enfrentamiento de muerte súbita.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public final class EventoLanzamiento {
+
+    private final int indiceEquipo;
+    private final String nombreEquipo;
+    private final Jugador jugador;
+    private final TipoLanzamiento tipo;
+    private final boolean muerteSubita;
+    private final EstadoPartida estado;
+
+    /**
+     * Constructor
+     *
+     * @param indiceEquipo posición del equipo que lanzó
+     * @param nombreEquipo nombre del equipo que lanzó
+     * @param jugador jugador que lanzó
+     * @param tipo resultado del lanzamiento
+     * @param muerteSubita si el lanzamiento fue de muerte súbita
+     * @param estado estado de la partida después del lanzamiento
+     */
+    public EventoLanzamiento(int indiceEquipo, String nombreEquipo, Jugador jugador,
+            TipoLanzamiento tipo, boolean muerteSubita, EstadoPartida estado) {
+        this.indiceEquipo = indiceEquipo;
+        this.nombreEquipo = nombreEquipo;
+        this.jugador = jugador;
+        this.tipo = tipo;
+        this.muerteSubita = muerteSubita;
+        this.estado = estado;
+    }
+
+    /**
+     * @return posición del equipo que lanzó
+     */
+    public int getIndiceEquipo() {
+        return indiceEquipo;
+    }
+
+    /**
+     * @return nombre del equipo que lanzó
+     */
+    public String getNombreEquipo() {
+        return nombreEquipo;
+    }
+
+    /**
+     * @return jugador que lanzó
+     */
+    public Jugador getJugador() {
+        return jugador;
+    }
+
+    /**
+     * @return resultado del lanzamiento
+     */
+    public TipoLanzamiento getTipo() {
+        return tipo;
+    }
+
+    /**
+     * @return puntos del lanzamiento
+     */
+    public int getPuntos() {
+        return tipo.getPuntos();
+    }
+
+    /**
+     * @return true si el lanzamiento fue de muerte súbita
+     */
+    public boolean isMuerteSubita() {
+        return muerteSubita;
+    }
+
+    /**
+     * @return estado de la partida después del lanzamiento
+     */
+    public EstadoPartida getEstado() {
+        return estado;
+    }
+
+    @Override
+    public String toString() {
+        return nombreEquipo + " - " + jugador.getApodo() + ": " + tipo.getNombre()
+                + " (" + tipo.getPuntos() + ")" + (muerteSubita ? " [muerte súbita]" : "");
+    }
+}
@@ -0,0 +1,97 @@
+package udistrital.avanzada.taller.modelo;
+
+/**
+ * Fila de la tabla de la liga: la posición de un equipo y sus números en un
+ * momento dado. Es inmutable, así que puede leerse desde cualquier hilo
+ * aunque la tabla siga cambiando.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public final class FilaLiga {
+
+    private final int posicion;
+    private final String equipo;
+    private final int rondas;
+    private final int victorias;
+    private final int derrotas;
+    private final long puntos;
+    private final int victoriasMuerteSubita;
+    private final int derrotasMuerteSubita;
+
+    /**
+     * Constructor
+     *
+     * @param posicion posición en la tabla, desde 1
+     * @param equipo nombre del equipo
+     * @param rondas rondas jugadas
+     * @param victorias rondas ganadas
+     * @param derrotas rondas perdidas
+     * @param puntos puntos sumados en todas las rondas
+     * @param victoriasMuerteSubita muertes súbitas ganadas
+     * @param derrotasMuerteSubita muertes súbitas perdidas
+     */
+    public FilaLiga(int posicion, String equipo, int rondas, int victorias, int derrotas, long puntos,
+            int victoriasMuerteSubita, int derrotasMuerteSubita) {
+        this.posicion = posicion;
+        this.equipo = equipo;
+        this.rondas = rondas;
+        this.victorias = victorias;
+        this.derrotas = derrotas;
+        this.puntos = puntos;
+        this.victoriasMuerteSubita = victoriasMuerteSubita;
+        this.derrotasMuerteSubita = derrotasMuerteSubita;
+    }
+
+    /** @return posición en la tabla, desde 1 */
+    public int getPosicion() {
+        return posicion;
+    }
+
+    /** @return nombre del equipo */
+    public String getEquipo() {
+        return equipo;
+    }
+
+    /** @return rondas jugadas */
+    public int getRondas() {
+        return rondas;
+    }
+
+    /** @return rondas ganadas */
+    public int getVictorias() {
+        return victorias;
+    }
+
+    /** @return rondas perdidas */
+    public int getDerrotas() {
+        return derrotas;
+    }
+
+    /** @return puntos sumados en todas las rondas */
+    public long getPuntos() {
+        return puntos;
+    }
+
+    /** @return puntaje promedio por ronda */
+    public double getPromedio() {
+        return rondas == 0 ? 0 : (double) puntos / rondas;
+    }
+
+    /** @return muertes súbitas ganadas */
+    public int getVictoriasMuerteSubita() {
+        return victoriasMuerteSubita;
+    }
+
+    /** @return muertes súbitas perdidas */
+    public int getDerrotasMuerteSubita() {
+        return derrotasMuerteSubita;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%3d. %-25s G:%d P:%d Pts:%d Prom:%.1f MS:%d-%d", posicion, equipo, victorias,
+                derrotas, puntos, getPromedio(), victoriasMuerteSubita, derrotasMuerteSubita);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Enum.java to edit this template
+ */
+package udistrital.avanzada.taller.modelo;
+
+/**
+ * Enumeración que representa los formatos de desempate (muerte súbita)
+ * disponibles cuando varios equipos alcanzan el puntaje objetivo.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public enum FormatoDesempate {
+    ENFRENTAMIENTOS("Enfrentamientos uno por jugador"),
+    LANZAMIENTO_UNICO("Lanzamiento único");
+
+    private final String nombre;
+
+    /**
+     * Constructor del enum
+     * @param nombre nombre descriptivo del formato
+     */
+    FormatoDesempate(String nombre) {
+        this.nombre = nombre;
+    }
+
+    /**
+     * Obtiene el nombre del formato de desempate
+     * @return nombre del formato
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    @Override
+    public String toString() {
+        return nombre;
+    }
+}
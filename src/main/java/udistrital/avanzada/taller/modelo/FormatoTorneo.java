@@ -0,0 +1,41 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Enum.java to edit this template
+ */
+package udistrital.avanzada.taller.modelo;
+
+/**
+ * Enumeración que representa los formatos de torneo disponibles.
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0
+ * 19/10/2026
+ */
+public enum FormatoTorneo {
+    TODOS_CONTRA_TODOS("Todos contra todos"),
+    ELIMINACION_SIMPLE("Eliminación simple"),
+    SUIZO("Sistema suizo");
+
+    private final String nombre;
+
+    /**
+     * Constructor del enum
+     * @param nombre nombre descriptivo del formato
+     */
+    FormatoTorneo(String nombre) {
+        this.nombre = nombre;
+    }
+
+    /**
+     * Obtiene el nombre del formato de torneo
+     * @return nombre del formato
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    @Override
+    public String toString() {
+        return nombre;
+    }
+}
@@ -8,6 +8,15 @@ package udistrital.avanzada.taller.modelo;
  * Clase que representa a un jugador, extiende de Persona.
  * Cada jugador tiene un apodo y puede estar asociado a un equipo.
  *
+ * Cada jugador de una nómina tiene además un identificador numérico
+ * positivo que no cambia: se guarda en el archivo de equipos y es la base
+ * de la igualdad, así que dos jugadores con el mismo apodo son distintos y
+ * comparar o buscar jugadores no recorre ningún texto. El identificador es
+ * único dentro de una nómina y lo da la nómina: el archivo de equipos o el
+ * registro de jugadores de {@code ControlEquipos}, que le asigna uno libre
+ * al jugador creado sin identificador cuando lo registra. Mientras no
+ * tenga identificador, un jugador sólo es igual a sí mismo.
+ *
  * Originalmente creada por Paula Martínez
  * Modificada por Juan Sebastián Bravo Rojas
  * 
@@ -16,12 +25,17 @@ package udistrital.avanzada.taller.modelo;
  * 06/10/2025
  */
 public class Jugador extends Persona {
-    
+
+    /** Identificador de un jugador que todavía no pertenece a ninguna nómina. */
+    public static final long SIN_ID = 0;
+
+    private long id;
     private String apodo;
     private String rutaFoto;
 
     /**
-     * Construye un nuevo jugador con los datos especificados.
+     * Construye un nuevo jugador con los datos especificados, todavía sin
+     * identificador: lo recibe de la nómina en la que se registre.
      * 
      * @param nombre nombre real del jugador
      * @param rutaFoto ruta de la foto del jugador
@@ -29,10 +43,62 @@ public class Jugador extends Persona {
      */
     public Jugador(String nombre, String rutaFoto, String apodo) {
         super(nombre == null || nombre.isBlank() ? "Sin nombre" : nombre);
+        this.id = SIN_ID;
         this.apodo = (apodo != null && !apodo.isBlank()) ? apodo : "Sin apodo";
         this.rutaFoto = (rutaFoto != null && !rutaFoto.isBlank()) ? rutaFoto : "sin_foto.jpg";
     }
+
+    /**
+     * Construye un jugador con un identificador ya asignado (por ejemplo,
+     * leído del archivo de equipos).
+     *
+     * @param id identificador positivo
+     * @param nombre nombre real del jugador
+     * @param rutaFoto ruta de la foto del jugador
+     * @param apodo apodo del jugador
+     */
+    public Jugador(long id, String nombre, String rutaFoto, String apodo) {
+        this(nombre, rutaFoto, apodo);
+        if (id <= 0) {
+            throw new IllegalArgumentException("El identificador del jugador debe ser positivo.");
+        }
+        this.id = id;
+    }
     
+    /**
+     * Obtiene el identificador del jugador.
+     *
+     * @return identificador positivo, o {@link #SIN_ID} si aún no tiene
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * @return true si el jugador ya tiene identificador
+     */
+    public boolean tieneId() {
+        return id != SIN_ID;
+    }
+
+    /**
+     * Asigna el identificador a un jugador creado sin él. Lo usa la nómina
+     * al registrarlo; como la igualdad depende del identificador, debe
+     * asignarse antes de guardar el jugador en colecciones con hash.
+     *
+     * @param id identificador positivo
+     * @throws IllegalStateException si el jugador ya tenía identificador
+     */
+    public void asignarId(long id) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("El identificador del jugador debe ser positivo.");
+        }
+        if (this.id != SIN_ID) {
+            throw new IllegalStateException("El jugador " + this + " ya tiene el identificador " + this.id + ".");
+        }
+        this.id = id;
+    }
+
     /**
      * Obtiene el apodo del jugador.
      * 
@@ -82,12 +148,11 @@ public class Jugador extends Persona {
     public boolean equals(Object obj) {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
-        Jugador jugador = (Jugador) obj;
-        return apodo.equals(jugador.apodo);
+        return id != SIN_ID && id == ((Jugador) obj).id;
     }
     
     @Override
     public int hashCode() {
-        return apodo.hashCode();
+        return id != SIN_ID ? Long.hashCode(id) : System.identityHashCode(this);
     }
 }
\ No newline at end of file
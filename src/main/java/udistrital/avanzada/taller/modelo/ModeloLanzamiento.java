@@ -0,0 +1,110 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package udistrital.avanzada.taller.modelo;
+
+import java.util.Random;
+
+/**
+ * Distribución de probabilidad de los tipos de lanzamiento.
+ * Por defecto todos los tipos son igualmente probables, como en el juego
+ * original; también permite modelos ponderados. Es inmutable, por lo que una
+ * misma instancia puede compartirse entre varias partidas.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class ModeloLanzamiento {
+
+    private static final TipoLanzamiento[] TIPOS = TipoLanzamiento.values();
+    private static final ModeloLanzamiento UNIFORME = new ModeloLanzamiento(null);
+
+    private final double[] probabilidades;
+    private final double[] acumuladas;
+    private final boolean uniforme;
+
+    /**
+     * Construye un modelo ponderado. Los pesos se normalizan para que sumen 1.
+     *
+     * @param pesos peso de cada tipo, indexado por {@link TipoLanzamiento#ordinal()}
+     */
+    public ModeloLanzamiento(double[] pesos) {
+        this.probabilidades = new double[TIPOS.length];
+        this.acumuladas = new double[TIPOS.length];
+        if (pesos == null) {
+            this.uniforme = true;
+            for (int i = 0; i < TIPOS.length; i++) {
+                probabilidades[i] = 1.0 / TIPOS.length;
+            }
+        } else {
+            if (pesos.length != TIPOS.length) {
+                throw new IllegalArgumentException("Debe haber un peso por cada tipo de lanzamiento.");
+            }
+            double total = 0;
+            for (double p : pesos) {
+                if (p < 0 || Double.isNaN(p)) {
+                    throw new IllegalArgumentException("Los pesos no pueden ser negativos.");
+                }
+                total += p;
+            }
+            if (total <= 0) {
+                throw new IllegalArgumentException("Al menos un tipo de lanzamiento debe tener peso positivo.");
+            }
+            this.uniforme = false;
+            for (int i = 0; i < TIPOS.length; i++) {
+                probabilidades[i] = pesos[i] / total;
+            }
+        }
+        double acumulada = 0;
+        for (int i = 0; i < TIPOS.length; i++) {
+            acumulada += probabilidades[i];
+            acumuladas[i] = acumulada;
+        }
+        acumuladas[TIPOS.length - 1] = 1.0;
+    }
+
+    /**
+     * Modelo en el que todos los tipos de lanzamiento son igualmente probables.
+     * @return modelo uniforme compartido
+     */
+    public static ModeloLanzamiento uniforme() {
+        return UNIFORME;
+    }
+
+    /**
+     * Sortea un tipo de lanzamiento según el modelo.
+     * @param random generador aleatorio
+     * @return tipo de lanzamiento obtenido
+     */
+    public TipoLanzamiento sortear(Random random) {
+        if (uniforme) {
+            return TIPOS[random.nextInt(TIPOS.length)];
+        }
+        double u = random.nextDouble();
+        for (int i = 0; i < TIPOS.length; i++) {
+            if (u < acumuladas[i]) {
+                return TIPOS[i];
+            }
+        }
+        return TIPOS[TIPOS.length - 1];
+    }
+
+    /**
+     * Obtiene la probabilidad de un tipo de lanzamiento
+     * @param tipo tipo de lanzamiento
+     * @return probabilidad entre 0 y 1
+     */
+    public double getProbabilidad(TipoLanzamiento tipo) {
+        return probabilidades[tipo.ordinal()];
+    }
+
+    /**
+     * Indica si todos los tipos de lanzamiento son igualmente probables
+     * @return true si el modelo es uniforme
+     */
+    public boolean isUniforme() {
+        return uniforme;
+    }
+}
@@ -0,0 +1,476 @@
+package udistrital.avanzada.taller.modelo;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import udistrital.avanzada.taller.modelo.persistencia.EscuchaResultados;
+import udistrital.avanzada.taller.modelo.persistencia.GestorResultados;
+import udistrital.avanzada.taller.modelo.persistencia.RegistroResultado;
+
+/**
+ * Calificaciones de equipos y jugadores según el sistema Glicko: cada uno
+ * tiene una calificación (1500 al empezar) y una desviación que mide qué
+ * tan segura es; las victorias contra rivales fuertes suben más y la
+ * desviación baja a medida que se juega.
+ *
+ * <p>Los encuentros se leen del historial de resultados: el juego, el
+ * torneo y el generador de datos guardan los dos equipos de un encuentro
+ * uno detrás del otro, así que cada par de registros seguidos de la misma
+ * ronda con un ganador y un perdedor es un encuentro. Un registro que no
+ * forma par se descarta. Los jugadores se identifican con el texto del
+ * registro, "nombre (apodo)", y se califican como equipo: la expectativa
+ * se calcula con el promedio de los jugadores de cada lado y cada jugador
+ * recibe su propio ajuste.</p>
+ *
+ * <p>El motor se registra como escucha de {@link GestorResultados}: lee el
+ * historial una vez y después aplica cada lote guardado. Para no releer
+ * todo al arrancar guarda instantáneas con las calificaciones y la
+ * cantidad de registros ya aplicados; al arrancar se carga la última y
+ * sólo se leen los registros posteriores.</p>
+ *
+ * <p>Los métodos son sincronizados: el motor se actualiza desde el hilo
+ * que guarda resultados y se consulta desde cualquier otro.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class MotorCalificaciones implements EscuchaResultados {
+
+    /** Calificación de quien aún no ha jugado. */
+    public static final double CALIFICACION_INICIAL = 1500;
+    /** Desviación de quien aún no ha jugado. */
+    public static final double DESVIACION_INICIAL = 350;
+    /** Desviación mínima, para que las calificaciones sigan respondiendo. */
+    public static final double DESVIACION_MINIMA = 50;
+    /** Cuánto inclina la calificación el modelo de lanzamiento de un equipo. */
+    private static final double INFLUENCIA_LANZAMIENTO = 1.0;
+
+    /** Largo de los nombres en resultados.dat; los más largos se recortan. */
+    private static final int LONGITUD_NOMBRE = 50;
+
+    private static final double Q = Math.log(10) / 400;
+
+    private final Tabla equipos = new Tabla();
+    private final Tabla jugadores = new Tabla();
+    private long registros;
+    private RegistroResultado pendiente;
+    private long pendienteEn;
+
+    private File instantanea;
+    private int cadaRegistros;
+    private long ultimaInstantanea;
+
+    /**
+     * Carga las calificaciones de una instantánea. Si el archivo no existe
+     * devuelve un motor vacío.
+     *
+     * @param archivo instantánea escrita con {@link #guardar(File)}
+     * @return motor con las calificaciones guardadas
+     * @throws IOException si el archivo existe pero no se puede leer
+     */
+    public static MotorCalificaciones cargar(File archivo) throws IOException {
+        MotorCalificaciones motor = new MotorCalificaciones();
+        if (archivo == null || !archivo.exists()) {
+            return motor;
+        }
+        Properties props = new Properties();
+        try (FileInputStream fis = new FileInputStream(archivo)) {
+            props.load(fis);
+        }
+        try {
+            motor.registros = Long.parseLong(props.getProperty("registros", "0"));
+            for (String clave : props.stringPropertyNames()) {
+                Tabla tabla = clave.startsWith("equipo.") ? motor.equipos
+                        : clave.startsWith("jugador.") ? motor.jugadores : null;
+                if (tabla == null) {
+                    continue;
+                }
+                String[] partes = props.getProperty(clave).split(",");
+                int i = tabla.indice(clave.substring(clave.indexOf('.') + 1));
+                tabla.calificacion[i] = Double.parseDouble(partes[0]);
+                tabla.desviacion[i] = Double.parseDouble(partes[1]);
+                tabla.partidas[i] = Integer.parseInt(partes[2]);
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Instantánea de calificaciones inválida: " + archivo.getName(), e);
+        }
+        motor.ultimaInstantanea = motor.registros;
+        return motor;
+    }
+
+    /**
+     * Hace que el motor guarde una instantánea cada cierta cantidad de
+     * registros aplicados. El guardado se hace en el hilo que aplica los
+     * registros; si falla, se informa y se sigue.
+     *
+     * @param archivo archivo de la instantánea
+     * @param cadaRegistros registros entre una instantánea y la siguiente
+     */
+    public synchronized void setInstantanea(File archivo, int cadaRegistros) {
+        if (archivo == null || cadaRegistros <= 0) {
+            throw new IllegalArgumentException("Se requiere un archivo y una frecuencia positiva.");
+        }
+        this.instantanea = archivo;
+        this.cadaRegistros = cadaRegistros;
+    }
+
+    /**
+     * Registra el motor en un gestor de resultados: aplica los registros
+     * guardados después de su instantánea y luego cada lote nuevo. Si el
+     * archivo de resultados tiene menos registros que la instantánea (se
+     * limpió), el motor empieza de cero.
+     *
+     * @param gestor gestor de resultados
+     * @throws IOException si hay error al leer el historial
+     */
+    public void seguir(GestorResultados gestor) throws IOException {
+        long desde;
+        synchronized (this) {
+            if (registros > gestor.getCantidadRegistros()) {
+                limpiar();
+            }
+            desde = registros;
+        }
+        gestor.agregarEscucha(this, desde);
+    }
+
+    @Override
+    public synchronized void onGuardados(List<RegistroResultado> lote) {
+        for (RegistroResultado registro : lote) {
+            registrar(registro);
+        }
+        if (instantanea != null && getRegistrosEstables() - ultimaInstantanea >= cadaRegistros) {
+            try {
+                guardar(instantanea);
+            } catch (IOException e) {
+                System.err.println("No se pudo guardar la instantánea de calificaciones: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Aplica un registro. Si completa un encuentro con el registro anterior,
+     * actualiza las calificaciones de ambos equipos y sus jugadores.
+     *
+     * @param registro resultado de un equipo en una ronda
+     */
+    public synchronized void registrar(RegistroResultado registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("El registro no puede ser nulo.");
+        }
+        registros++;
+        if (pendiente != null && pendiente.getRonda() == registro.getRonda()
+                && pendiente.isGanador() != registro.isGanador()) {
+            RegistroResultado ganador = pendiente.isGanador() ? pendiente : registro;
+            RegistroResultado perdedor = pendiente.isGanador() ? registro : pendiente;
+            pendiente = null;
+            aplicarEncuentro(ganador, perdedor);
+        } else {
+            pendiente = registro;
+            pendienteEn = registros;
+        }
+    }
+
+    /**
+     * @param equipo nombre del equipo
+     * @return calificación del equipo
+     */
+    public synchronized double getCalificacionEquipo(String equipo) {
+        return equipos.calificacion(equipo);
+    }
+
+    /**
+     * @param equipo nombre del equipo
+     * @return desviación de la calificación del equipo
+     */
+    public synchronized double getDesviacionEquipo(String equipo) {
+        return equipos.desviacion(equipo);
+    }
+
+    /**
+     * @param descripcion jugador como aparece en los registros, "nombre (apodo)"
+     * @return calificación del jugador
+     */
+    public synchronized double getCalificacionJugador(String descripcion) {
+        return jugadores.calificacion(descripcion);
+    }
+
+    /**
+     * Calificación de un jugador, para usar como criterio al armar equipos
+     * balanceados.
+     *
+     * @param jugador jugador
+     * @return calificación del jugador
+     */
+    public double calificacion(Jugador jugador) {
+        return getCalificacionJugador(descripcion(jugador));
+    }
+
+    /**
+     * Probabilidad de que un equipo le gane a otro según sus calificaciones.
+     *
+     * @param equipo equipo del que se pide la probabilidad
+     * @param rival equipo contrario
+     * @return probabilidad entre 0 y 1
+     */
+    public synchronized double probabilidadVictoria(String equipo, String rival) {
+        return esperado(equipos.calificacion(equipo), equipos.calificacion(rival), equipos.desviacion(rival));
+    }
+
+    /**
+     * Modelo de lanzamiento de un equipo ajustado a su calificación: parte
+     * del uniforme y pasa probabilidad hacia los lanzamientos de más puntos
+     * cuanto más arriba de la calificación inicial esté el equipo (y al
+     * revés si está abajo).
+     *
+     * @param equipo nombre del equipo
+     * @return modelo del equipo; uniforme si aún no ha jugado
+     */
+    public ModeloLanzamiento modeloLanzamiento(String equipo) {
+        double ventaja;
+        synchronized (this) {
+            if (equipos.buscar(equipo) < 0) {
+                return ModeloLanzamiento.uniforme();
+            }
+            ventaja = (equipos.calificacion(equipo) - CALIFICACION_INICIAL) / 400;
+        }
+        ventaja = Math.max(-2, Math.min(2, ventaja)) * INFLUENCIA_LANZAMIENTO;
+        TipoLanzamiento[] tipos = TipoLanzamiento.values();
+        double media = 0;
+        for (TipoLanzamiento tipo : tipos) {
+            media += tipo.getPuntos();
+        }
+        media /= tipos.length;
+        double[] pesos = new double[tipos.length];
+        for (TipoLanzamiento tipo : tipos) {
+            pesos[tipo.ordinal()] = Math.exp(ventaja * (tipo.getPuntos() - media) / TipoLanzamiento.MONONA.getPuntos());
+        }
+        return new ModeloLanzamiento(pesos);
+    }
+
+    /**
+     * @return registros aplicados, incluido uno que aún espera su par
+     */
+    public synchronized long getRegistros() {
+        return registros;
+    }
+
+    /**
+     * @return cantidad de equipos calificados
+     */
+    public synchronized int getCantidadEquipos() {
+        return equipos.cantidad;
+    }
+
+    /**
+     * Guarda una instantánea de las calificaciones. Se escribe a un archivo
+     * temporal y se reemplaza el anterior, para no dejar una instantánea a
+     * medias. Un registro que espera su par no se cuenta, así que se vuelve
+     * a leer al cargar la instantánea.
+     *
+     * @param archivo archivo de destino
+     * @throws IOException si no se puede escribir
+     */
+    public synchronized void guardar(File archivo) throws IOException {
+        Properties props = new Properties();
+        props.setProperty("registros", String.valueOf(getRegistrosEstables()));
+        equipos.escribir(props, "equipo.");
+        jugadores.escribir(props, "jugador.");
+        File temporal = new File(archivo.getPath() + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(temporal)) {
+            props.store(fos, "Calificaciones Glicko - Argolla Llanera");
+        }
+        Files.move(temporal.toPath(), archivo.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        ultimaInstantanea = getRegistrosEstables();
+    }
+
+    /**
+     * Vacía las calificaciones.
+     */
+    public synchronized void limpiar() {
+        equipos.limpiar();
+        jugadores.limpiar();
+        registros = 0;
+        pendiente = null;
+        ultimaInstantanea = 0;
+    }
+
+    /**
+     * Registros aplicados hasta el último encuentro completo.
+     */
+    private long getRegistrosEstables() {
+        return pendiente != null ? pendienteEn - 1 : registros;
+    }
+
+    private void aplicarEncuentro(RegistroResultado ganador, RegistroResultado perdedor) {
+        int g = equipos.indice(ganador.getNombreEquipo());
+        int p = equipos.indice(perdedor.getNombreEquipo());
+        if (g == p) {
+            return;
+        }
+        double rg = equipos.calificacion[g];
+        double dg = equipos.desviacion[g];
+        double rp = equipos.calificacion[p];
+        double dp = equipos.desviacion[p];
+        equipos.actualizar(g, rp, dp, 1);
+        equipos.actualizar(p, rg, dg, 0);
+
+        // Jugadores: cada lado se enfrenta al promedio del otro
+        int[] deGanador = jugadores(ganador);
+        int[] dePerdedor = jugadores(perdedor);
+        double promedioG = jugadores.promedioCalificacion(deGanador);
+        double promedioP = jugadores.promedioCalificacion(dePerdedor);
+        double desviacionG = jugadores.promedioDesviacion(deGanador);
+        double desviacionP = jugadores.promedioDesviacion(dePerdedor);
+        for (int j : deGanador) {
+            jugadores.actualizar(j, promedioP, desviacionP, 1);
+        }
+        for (int j : dePerdedor) {
+            jugadores.actualizar(j, promedioG, desviacionG, 0);
+        }
+    }
+
+    private int[] jugadores(RegistroResultado registro) {
+        int[] indices = new int[4];
+        int cantidad = 0;
+        for (int i = 0; i < 4; i++) {
+            String descripcion = registro.getJugador(i);
+            if (descripcion != null && !descripcion.isEmpty() && !descripcion.equals("---")) {
+                indices[cantidad++] = jugadores.indice(descripcion);
+            }
+        }
+        return Arrays.copyOf(indices, cantidad);
+    }
+
+    private static String descripcion(Jugador j) {
+        // Mismo formato que RegistroResultado.desde
+        return (j.getNombre() != null ? j.getNombre() : "Sin nombre")
+                + " (" + (j.getApodo() != null ? j.getApodo() : "Sin apodo") + ")";
+    }
+
+    /**
+     * Nombre tal como queda al leerlo de resultados.dat, para que un equipo
+     * recibido en memoria y el mismo leído del archivo sean uno solo.
+     */
+    private static String clave(String nombre) {
+        return nombre.length() > LONGITUD_NOMBRE ? nombre.substring(0, LONGITUD_NOMBRE).trim() : nombre.trim();
+    }
+
+    private static double g(double desviacion) {
+        return 1 / Math.sqrt(1 + 3 * Q * Q * desviacion * desviacion / (Math.PI * Math.PI));
+    }
+
+    private static double esperado(double calificacion, double rival, double desviacionRival) {
+        return 1 / (1 + Math.pow(10, -g(desviacionRival) * (calificacion - rival) / 400));
+    }
+
+    /**
+     * Calificaciones de un tipo de participante en arreglos primitivos
+     * indexados por el número que se le asigna al aparecer.
+     */
+    private static final class Tabla {
+
+        private final Map<String, Integer> porNombre = new HashMap<>();
+        private String[] nombres = new String[16];
+        private double[] calificacion = new double[16];
+        private double[] desviacion = new double[16];
+        private int[] partidas = new int[16];
+        private int cantidad;
+
+        int buscar(String nombre) {
+            Integer i = porNombre.get(clave(nombre));
+            return i == null ? -1 : i;
+        }
+
+        int indice(String nombre) {
+            int i = buscar(nombre);
+            if (i >= 0) {
+                return i;
+            }
+            if (cantidad == nombres.length) {
+                nombres = Arrays.copyOf(nombres, cantidad * 2);
+                calificacion = Arrays.copyOf(calificacion, cantidad * 2);
+                desviacion = Arrays.copyOf(desviacion, cantidad * 2);
+                partidas = Arrays.copyOf(partidas, cantidad * 2);
+            }
+            i = cantidad++;
+            nombres[i] = clave(nombre);
+            porNombre.put(nombres[i], i);
+            calificacion[i] = CALIFICACION_INICIAL;
+            desviacion[i] = DESVIACION_INICIAL;
+            partidas[i] = 0;
+            return i;
+        }
+
+        double calificacion(String nombre) {
+            int i = buscar(nombre);
+            return i < 0 ? CALIFICACION_INICIAL : calificacion[i];
+        }
+
+        double desviacion(String nombre) {
+            int i = buscar(nombre);
+            return i < 0 ? DESVIACION_INICIAL : desviacion[i];
+        }
+
+        double promedioCalificacion(int[] indices) {
+            if (indices.length == 0) {
+                return CALIFICACION_INICIAL;
+            }
+            double suma = 0;
+            for (int i : indices) {
+                suma += calificacion[i];
+            }
+            return suma / indices.length;
+        }
+
+        double promedioDesviacion(int[] indices) {
+            if (indices.length == 0) {
+                return DESVIACION_INICIAL;
+            }
+            double suma = 0;
+            for (int i : indices) {
+                suma += desviacion[i];
+            }
+            return suma / indices.length;
+        }
+
+        /**
+         * Actualización de Glicko para un único encuentro.
+         *
+         * @param i participante
+         * @param rival calificación del rival
+         * @param desviacionRival desviación del rival
+         * @param resultado 1 si ganó, 0 si perdió
+         */
+        void actualizar(int i, double rival, double desviacionRival, double resultado) {
+            double gRival = g(desviacionRival);
+            double e = esperado(calificacion[i], rival, desviacionRival);
+            double d2 = 1 / (Q * Q * gRival * gRival * e * (1 - e));
+            double inversa = 1 / (desviacion[i] * desviacion[i]) + 1 / d2;
+            calificacion[i] += Q / inversa * gRival * (resultado - e);
+            desviacion[i] = Math.max(DESVIACION_MINIMA, Math.sqrt(1 / inversa));
+            partidas[i]++;
+        }
+
+        void escribir(Properties props, String prefijo) {
+            for (int i = 0; i < cantidad; i++) {
+                props.setProperty(prefijo + nombres[i], calificacion[i] + "," + desviacion[i] + "," + partidas[i]);
+            }
+        }
+
+        void limpiar() {
+            porNombre.clear();
+            Arrays.fill(nombres, 0, cantidad, null);
+            cantidad = 0;
+        }
+    }
+}
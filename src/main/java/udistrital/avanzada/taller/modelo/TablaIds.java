@@ -0,0 +1,109 @@
+package udistrital.avanzada.taller.modelo;
+
+import java.util.Arrays;
+
+/**
+ * Tabla de identificadores {@code long} positivos a valores {@code int}.
+ * Usa direccionamiento abierto con sondeo lineal sobre arreglos primitivos,
+ * sin objetos por entrada, para indexar jugadores por su identificador.
+ * No permite borrar entradas, sólo vaciar la tabla.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public final class TablaIds {
+
+    private long[] claves;      // 0 indica casilla vacía
+    private int[] valores;
+    private int tamano;
+
+    /**
+     * Constructor
+     * @param capacidadInicial cantidad esperada de entradas
+     */
+    public TablaIds(int capacidadInicial) {
+        int capacidad = Integer.highestOneBit(Math.max(16, capacidadInicial * 2 - 1)) << 1;
+        this.claves = new long[capacidad];
+        this.valores = new int[capacidad];
+    }
+
+    /**
+     * Busca un identificador.
+     * @param id identificador positivo
+     * @return valor asociado, o -1 si no existe
+     */
+    public int obtener(long id) {
+        int mascara = claves.length - 1;
+        int i = mezclar(id) & mascara;
+        while (claves[i] != 0) {
+            if (claves[i] == id) {
+                return valores[i];
+            }
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+
+    /**
+     * Asocia un valor a un identificador, reemplazando el anterior si existía.
+     * @param id identificador positivo
+     * @param valor valor a guardar
+     */
+    public void poner(long id, int valor) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("El identificador debe ser positivo.");
+        }
+        if ((tamano + 1) * 2 > claves.length) {
+            crecer();
+        }
+        int mascara = claves.length - 1;
+        int i = mezclar(id) & mascara;
+        while (claves[i] != 0 && claves[i] != id) {
+            i = (i + 1) & mascara;
+        }
+        if (claves[i] == 0) {
+            claves[i] = id;
+            tamano++;
+        }
+        valores[i] = valor;
+    }
+
+    /**
+     * @return cantidad de identificadores guardados
+     */
+    public int getTamano() {
+        return tamano;
+    }
+
+    /**
+     * Vacía la tabla conservando su capacidad.
+     */
+    public void limpiar() {
+        Arrays.fill(claves, 0);
+        tamano = 0;
+    }
+
+    private void crecer() {
+        long[] viejasClaves = claves;
+        int[] viejosValores = valores;
+        claves = new long[viejasClaves.length * 2];
+        valores = new int[viejasClaves.length * 2];
+        int mascara = claves.length - 1;
+        for (int j = 0; j < viejasClaves.length; j++) {
+            if (viejasClaves[j] != 0) {
+                int i = mezclar(viejasClaves[j]) & mascara;
+                while (claves[i] != 0) {
+                    i = (i + 1) & mascara;
+                }
+                claves[i] = viejasClaves[j];
+                valores[i] = viejosValores[j];
+            }
+        }
+    }
+
+    private static int mezclar(long clave) {
+        long h = clave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,332 @@
+package udistrital.avanzada.taller.modelo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import udistrital.avanzada.taller.modelo.persistencia.EscuchaResultados;
+import udistrital.avanzada.taller.modelo.persistencia.RegistroResultado;
+
+/**
+ * Tabla de la liga: victorias, derrotas, puntos, promedio por ronda y
+ * récord en muerte súbita de cada equipo que aparece en el historial.
+ *
+ * <p>La tabla se alimenta registro por registro, sin volver a leer el
+ * archivo: se registra como escucha de {@code GestorResultados}, que le
+ * entrega primero el historial y luego cada lote guardado. Los números se
+ * guardan en arreglos primitivos indexados por el número del equipo, y el
+ * orden se mantiene en un árbol de estadística de orden (un treap sobre
+ * los mismos números, con el tamaño de cada subárbol). Cada registro saca
+ * al equipo del árbol, actualiza sus números y lo vuelve a insertar en
+ * O(log n); la posición de un equipo cuesta O(log n) y los N primeros
+ * O(N + log n).</p>
+ *
+ * <p>El orden es por victorias, luego por puntos y luego por orden de
+ * aparición. Los métodos son sincronizados: la tabla se actualiza desde el
+ * hilo que guarda resultados y se consulta desde cualquier otro.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class TablaLiga implements EscuchaResultados {
+
+    private static final int NINGUNO = -1;
+
+    private final Map<String, Integer> porNombre = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom(0x5EED);
+    private String[] nombres = new String[16];
+    private int[] rondas = new int[16];
+    private int[] victorias = new int[16];
+    private int[] derrotas = new int[16];
+    private long[] puntos = new long[16];
+    private int[] victoriasMuerteSubita = new int[16];
+    private int[] derrotasMuerteSubita = new int[16];
+
+    // Treap: hijos, prioridad y tamaño de subárbol por número de equipo
+    private int[] izquierdo = new int[16];
+    private int[] derecho = new int[16];
+    private int[] prioridad = new int[16];
+    private int[] tamano = new int[16];
+    private int raiz = NINGUNO;
+    private int cantidad;
+    private long registros;
+
+    @Override
+    public synchronized void onGuardados(List<RegistroResultado> lote) {
+        for (RegistroResultado registro : lote) {
+            registrar(registro);
+        }
+    }
+
+    /**
+     * Aplica un registro a la tabla.
+     *
+     * @param registro resultado de un equipo en una ronda
+     */
+    public synchronized void registrar(RegistroResultado registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("El registro no puede ser nulo.");
+        }
+        Integer numero = porNombre.get(registro.getNombreEquipo());
+        int equipo;
+        if (numero == null) {
+            equipo = agregarEquipo(registro.getNombreEquipo());
+        } else {
+            equipo = numero;
+            raiz = quitar(raiz, equipo);
+        }
+        rondas[equipo]++;
+        puntos[equipo] += registro.getPuntaje();
+        if (registro.isGanador()) {
+            victorias[equipo]++;
+            if (registro.isMuerteSubita()) {
+                victoriasMuerteSubita[equipo]++;
+            }
+        } else {
+            derrotas[equipo]++;
+            if (registro.isMuerteSubita()) {
+                derrotasMuerteSubita[equipo]++;
+            }
+        }
+        izquierdo[equipo] = NINGUNO;
+        derecho[equipo] = NINGUNO;
+        tamano[equipo] = 1;
+        raiz = insertar(raiz, equipo);
+        registros++;
+    }
+
+    /**
+     * Obtiene la fila de un equipo.
+     *
+     * @param equipo nombre del equipo
+     * @return fila con su posición y sus números, o null si no ha jugado
+     */
+    public synchronized FilaLiga getFila(String equipo) {
+        Integer numero = porNombre.get(equipo);
+        return numero == null ? null : fila(numero, posicion(numero));
+    }
+
+    /**
+     * Obtiene la posición de un equipo.
+     *
+     * @param equipo nombre del equipo
+     * @return posición desde 1, o -1 si no ha jugado
+     */
+    public synchronized int getPosicion(String equipo) {
+        Integer numero = porNombre.get(equipo);
+        return numero == null ? -1 : posicion(numero);
+    }
+
+    /**
+     * Obtiene las primeras filas de la tabla.
+     *
+     * @param n cantidad de filas pedidas
+     * @return filas de la primera a la n-ésima (o menos si hay menos equipos)
+     */
+    public synchronized List<FilaLiga> getPrimeros(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("La cantidad no puede ser negativa.");
+        }
+        List<FilaLiga> filas = new ArrayList<>(Math.min(n, cantidad));
+        // Recorrido en orden con pila explícita, que se corta en la fila n
+        int[] pila = new int[64];
+        int tope = 0;
+        int nodo = raiz;
+        while ((nodo != NINGUNO || tope > 0) && filas.size() < n) {
+            while (nodo != NINGUNO) {
+                if (tope == pila.length) {
+                    pila = Arrays.copyOf(pila, tope * 2);
+                }
+                pila[tope++] = nodo;
+                nodo = izquierdo[nodo];
+            }
+            nodo = pila[--tope];
+            filas.add(fila(nodo, filas.size() + 1));
+            nodo = derecho[nodo];
+        }
+        return filas;
+    }
+
+    /**
+     * @return cantidad de equipos en la tabla
+     */
+    public synchronized int getCantidadEquipos() {
+        return cantidad;
+    }
+
+    /**
+     * @return cantidad de registros aplicados
+     */
+    public synchronized long getRegistros() {
+        return registros;
+    }
+
+    /**
+     * Vacía la tabla.
+     */
+    public synchronized void limpiar() {
+        porNombre.clear();
+        Arrays.fill(nombres, 0, cantidad, null);
+        raiz = NINGUNO;
+        cantidad = 0;
+        registros = 0;
+    }
+
+    private FilaLiga fila(int equipo, int posicion) {
+        return new FilaLiga(posicion, nombres[equipo], rondas[equipo], victorias[equipo], derrotas[equipo],
+                puntos[equipo], victoriasMuerteSubita[equipo], derrotasMuerteSubita[equipo]);
+    }
+
+    private int agregarEquipo(String nombre) {
+        if (cantidad == nombres.length) {
+            int capacidad = cantidad * 2;
+            nombres = Arrays.copyOf(nombres, capacidad);
+            rondas = Arrays.copyOf(rondas, capacidad);
+            victorias = Arrays.copyOf(victorias, capacidad);
+            derrotas = Arrays.copyOf(derrotas, capacidad);
+            puntos = Arrays.copyOf(puntos, capacidad);
+            victoriasMuerteSubita = Arrays.copyOf(victoriasMuerteSubita, capacidad);
+            derrotasMuerteSubita = Arrays.copyOf(derrotasMuerteSubita, capacidad);
+            izquierdo = Arrays.copyOf(izquierdo, capacidad);
+            derecho = Arrays.copyOf(derecho, capacidad);
+            prioridad = Arrays.copyOf(prioridad, capacidad);
+            tamano = Arrays.copyOf(tamano, capacidad);
+        }
+        int equipo = cantidad++;
+        porNombre.put(nombre, equipo);
+        nombres[equipo] = nombre;
+        rondas[equipo] = 0;
+        victorias[equipo] = 0;
+        derrotas[equipo] = 0;
+        puntos[equipo] = 0;
+        victoriasMuerteSubita[equipo] = 0;
+        derrotasMuerteSubita[equipo] = 0;
+        prioridad[equipo] = random.nextInt();
+        return equipo;
+    }
+
+    /**
+     * Compara dos equipos por victorias, luego por puntos y luego por orden
+     * de aparición.
+     *
+     * @return negativo si a va por delante de b
+     */
+    private int comparar(int a, int b) {
+        if (victorias[a] != victorias[b]) {
+            return Integer.compare(victorias[b], victorias[a]);
+        }
+        if (puntos[a] != puntos[b]) {
+            return Long.compare(puntos[b], puntos[a]);
+        }
+        return Integer.compare(a, b);
+    }
+
+    // ================================================================
+    // Treap
+    // ================================================================
+
+    private int posicion(int equipo) {
+        int antes = 0;
+        int nodo = raiz;
+        while (nodo != NINGUNO) {
+            int c = comparar(equipo, nodo);
+            if (c < 0) {
+                nodo = izquierdo[nodo];
+            } else {
+                antes += tamanoDe(izquierdo[nodo]);
+                if (c == 0) {
+                    return antes + 1;
+                }
+                antes++;
+                nodo = derecho[nodo];
+            }
+        }
+        throw new IllegalStateException("Equipo fuera de la tabla: " + nombres[equipo]);
+    }
+
+    private int insertar(int nodo, int equipo) {
+        if (nodo == NINGUNO) {
+            return equipo;
+        }
+        if (prioridad[equipo] > prioridad[nodo]) {
+            // El nuevo sube a esta posición: se parten los de abajo a sus lados
+            int[] partes = new int[2];
+            partir(nodo, equipo, partes);
+            izquierdo[equipo] = partes[0];
+            derecho[equipo] = partes[1];
+            actualizar(equipo);
+            return equipo;
+        }
+        if (comparar(equipo, nodo) < 0) {
+            izquierdo[nodo] = insertar(izquierdo[nodo], equipo);
+        } else {
+            derecho[nodo] = insertar(derecho[nodo], equipo);
+        }
+        actualizar(nodo);
+        return nodo;
+    }
+
+    /** Parte el subárbol en los que van antes del equipo y los que van después. */
+    private void partir(int nodo, int equipo, int[] partes) {
+        if (nodo == NINGUNO) {
+            partes[0] = NINGUNO;
+            partes[1] = NINGUNO;
+            return;
+        }
+        if (comparar(nodo, equipo) < 0) {
+            partir(derecho[nodo], equipo, partes);
+            derecho[nodo] = partes[0];
+            actualizar(nodo);
+            partes[0] = nodo;
+        } else {
+            partir(izquierdo[nodo], equipo, partes);
+            izquierdo[nodo] = partes[1];
+            actualizar(nodo);
+            partes[1] = nodo;
+        }
+    }
+
+    private int quitar(int nodo, int equipo) {
+        if (nodo == NINGUNO) {
+            throw new IllegalStateException("Equipo fuera de la tabla: " + nombres[equipo]);
+        }
+        if (nodo == equipo) {
+            return unir(izquierdo[nodo], derecho[nodo]);
+        }
+        if (comparar(equipo, nodo) < 0) {
+            izquierdo[nodo] = quitar(izquierdo[nodo], equipo);
+        } else {
+            derecho[nodo] = quitar(derecho[nodo], equipo);
+        }
+        actualizar(nodo);
+        return nodo;
+    }
+
+    private int unir(int a, int b) {
+        if (a == NINGUNO) {
+            return b;
+        }
+        if (b == NINGUNO) {
+            return a;
+        }
+        if (prioridad[a] > prioridad[b]) {
+            derecho[a] = unir(derecho[a], b);
+            actualizar(a);
+            return a;
+        }
+        izquierdo[b] = unir(a, izquierdo[b]);
+        actualizar(b);
+        return b;
+    }
+
+    private void actualizar(int nodo) {
+        tamano[nodo] = 1 + tamanoDe(izquierdo[nodo]) + tamanoDe(derecho[nodo]);
+    }
+
+    private int tamanoDe(int nodo) {
+        return nodo == NINGUNO ? 0 : tamano[nodo];
+    }
+}
@@ -0,0 +1,305 @@
+package udistrital.avanzada.taller.modelo;
+
+/**
+ * Tabla de posiciones de un torneo guardada como arreglos primitivos
+ * indexados por la posición del equipo: victorias, derrotas, puntos a favor
+ * y puntos en contra, sin un objeto por equipo.
+ *
+ * <p>Los equipos se ordenan por victorias, luego por diferencia de puntos y
+ * por último por posición. Un montículo indexado mantiene ese orden: cada
+ * resultado reubica a los dos equipos en O(log n), el líder se consulta en
+ * O(1) y los k primeros en O(k log k), sin recorrer toda la tabla. Un lote
+ * grande de resultados se aplica a los arreglos y el montículo se rehace
+ * una sola vez en O(n).</p>
+ *
+ * <p>No es segura entre hilos; se actualiza desde un único hilo.</p>
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0
+ * 19/10/2026
+ */
+public final class TablaPosiciones {
+
+    private final int[] victorias;
+    private final int[] derrotas;
+    private final int[] puntosAFavor;
+    private final int[] puntosEnContra;
+    private final int[] monticulo;  // equipo en cada casilla del montículo
+    private final int[] casilla;    // casilla de cada equipo en el montículo
+
+    /**
+     * Constructor
+     * @param equipos cantidad de equipos
+     */
+    public TablaPosiciones(int equipos) {
+        if (equipos <= 0) {
+            throw new IllegalArgumentException("La tabla requiere al menos un equipo.");
+        }
+        this.victorias = new int[equipos];
+        this.derrotas = new int[equipos];
+        this.puntosAFavor = new int[equipos];
+        this.puntosEnContra = new int[equipos];
+        this.monticulo = new int[equipos];
+        this.casilla = new int[equipos];
+        for (int i = 0; i < equipos; i++) {
+            monticulo[i] = i;
+            casilla[i] = i;
+        }
+    }
+
+    /**
+     * Registra el resultado de un encuentro.
+     *
+     * @param ganador posición del equipo ganador
+     * @param perdedor posición del equipo perdedor
+     * @param puntosGanador puntaje del ganador en el encuentro
+     * @param puntosPerdedor puntaje del perdedor en el encuentro
+     */
+    public void registrar(int ganador, int perdedor, int puntosGanador, int puntosPerdedor) {
+        aplicar(ganador, perdedor, puntosGanador, puntosPerdedor);
+        reubicar(casilla[ganador]);
+        reubicar(casilla[perdedor]);
+    }
+
+    /**
+     * Registra un lote de resultados, por ejemplo los de una ronda completa
+     * del torneo. Si el lote es grande frente a la tabla, el montículo se
+     * rehace una vez en lugar de reubicar equipo por equipo.
+     *
+     * @param ganadores posiciones de los ganadores
+     * @param perdedores posiciones de los perdedores
+     * @param puntosGanadores puntaje de cada ganador
+     * @param puntosPerdedores puntaje de cada perdedor
+     * @param cantidad resultados del lote a registrar
+     */
+    public void registrarLote(int[] ganadores, int[] perdedores, int[] puntosGanadores,
+            int[] puntosPerdedores, int cantidad) {
+        if (cantidad < 0 || cantidad > ganadores.length || cantidad > perdedores.length
+                || cantidad > puntosGanadores.length || cantidad > puntosPerdedores.length) {
+            throw new IllegalArgumentException("Cantidad de resultados inválida: " + cantidad);
+        }
+        for (int i = 0; i < cantidad; i++) {
+            aplicar(ganadores[i], perdedores[i], puntosGanadores[i], puntosPerdedores[i]);
+        }
+        int log = 32 - Integer.numberOfLeadingZeros(monticulo.length);
+        if ((long) cantidad * 2 * log > monticulo.length) {
+            rehacer();
+        } else {
+            for (int i = 0; i < cantidad; i++) {
+                reubicar(casilla[ganadores[i]]);
+                reubicar(casilla[perdedores[i]]);
+            }
+        }
+    }
+
+    /**
+     * Compara dos equipos por victorias, luego por diferencia de puntos y
+     * luego por posición.
+     *
+     * @param a posición de un equipo
+     * @param b posición del otro
+     * @return negativo si a va por delante de b
+     */
+    public int comparar(int a, int b) {
+        if (victorias[a] != victorias[b]) {
+            return Integer.compare(victorias[b], victorias[a]);
+        }
+        int diferenciaA = puntosAFavor[a] - puntosEnContra[a];
+        int diferenciaB = puntosAFavor[b] - puntosEnContra[b];
+        if (diferenciaA != diferenciaB) {
+            return Integer.compare(diferenciaB, diferenciaA);
+        }
+        return Integer.compare(a, b);
+    }
+
+    /**
+     * @return posición del equipo que encabeza la tabla
+     */
+    public int getLider() {
+        return monticulo[0];
+    }
+
+    /**
+     * Obtiene los primeros k equipos de la tabla sin ordenarla completa:
+     * recorre el montículo desde la raíz con una frontera de candidatos.
+     *
+     * @param k cantidad de equipos pedidos
+     * @return posiciones de los equipos, de primero a k-ésimo
+     */
+    public int[] getPrimeros(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("La cantidad no puede ser negativa.");
+        }
+        int n = monticulo.length;
+        k = Math.min(k, n);
+        int[] primeros = new int[k];
+        // Frontera: casillas del montículo candidatas, ordenada como montículo
+        int[] frontera = new int[k + 1];
+        int tamano = 0;
+        if (k > 0) {
+            frontera[tamano++] = 0;
+        }
+        for (int i = 0; i < k; i++) {
+            int raiz = frontera[0];
+            primeros[i] = monticulo[raiz];
+            frontera[0] = frontera[--tamano];
+            bajarFrontera(frontera, tamano, 0);
+            for (int hijo = 2 * raiz + 1; hijo <= 2 * raiz + 2 && hijo < n; hijo++) {
+                frontera[tamano] = hijo;
+                subirFrontera(frontera, tamano++);
+            }
+        }
+        return primeros;
+    }
+
+    /**
+     * @return posiciones de todos los equipos, de primero a último
+     */
+    public int[] getClasificacion() {
+        return getPrimeros(monticulo.length);
+    }
+
+    /**
+     * @return cantidad de equipos de la tabla
+     */
+    public int getCantidad() {
+        return monticulo.length;
+    }
+
+    /**
+     * @param equipo posición del equipo
+     * @return victorias del equipo
+     */
+    public int getVictorias(int equipo) {
+        return victorias[equipo];
+    }
+
+    /**
+     * @param equipo posición del equipo
+     * @return derrotas del equipo
+     */
+    public int getDerrotas(int equipo) {
+        return derrotas[equipo];
+    }
+
+    /**
+     * @param equipo posición del equipo
+     * @return puntos anotados por el equipo
+     */
+    public int getPuntosAFavor(int equipo) {
+        return puntosAFavor[equipo];
+    }
+
+    /**
+     * @param equipo posición del equipo
+     * @return puntos anotados por los rivales del equipo
+     */
+    public int getPuntosEnContra(int equipo) {
+        return puntosEnContra[equipo];
+    }
+
+    private void aplicar(int ganador, int perdedor, int puntosGanador, int puntosPerdedor) {
+        if (ganador < 0 || ganador >= victorias.length || perdedor < 0 || perdedor >= victorias.length
+                || ganador == perdedor) {
+            throw new IllegalArgumentException("Encuentro inválido: " + ganador + " contra " + perdedor);
+        }
+        victorias[ganador]++;
+        derrotas[perdedor]++;
+        puntosAFavor[ganador] += puntosGanador;
+        puntosEnContra[ganador] += puntosPerdedor;
+        puntosAFavor[perdedor] += puntosPerdedor;
+        puntosEnContra[perdedor] += puntosGanador;
+    }
+
+    // ================================================================
+    // Montículo indexado
+    // ================================================================
+
+    private void rehacer() {
+        for (int i = monticulo.length / 2 - 1; i >= 0; i--) {
+            bajar(i);
+        }
+    }
+
+    private void reubicar(int i) {
+        if (!subir(i)) {
+            bajar(i);
+        }
+    }
+
+    /** @return true si el equipo de la casilla subió */
+    private boolean subir(int i) {
+        int equipo = monticulo[i];
+        int inicio = i;
+        while (i > 0) {
+            int padre = (i - 1) / 2;
+            if (comparar(equipo, monticulo[padre]) >= 0) {
+                break;
+            }
+            poner(i, monticulo[padre]);
+            i = padre;
+        }
+        poner(i, equipo);
+        return i != inicio;
+    }
+
+    private void bajar(int i) {
+        int n = monticulo.length;
+        int equipo = monticulo[i];
+        while (true) {
+            int hijo = 2 * i + 1;
+            if (hijo >= n) {
+                break;
+            }
+            if (hijo + 1 < n && comparar(monticulo[hijo + 1], monticulo[hijo]) < 0) {
+                hijo++;
+            }
+            if (comparar(monticulo[hijo], equipo) >= 0) {
+                break;
+            }
+            poner(i, monticulo[hijo]);
+            i = hijo;
+        }
+        poner(i, equipo);
+    }
+
+    private void poner(int i, int equipo) {
+        monticulo[i] = equipo;
+        casilla[equipo] = i;
+    }
+
+    private void subirFrontera(int[] frontera, int i) {
+        int valor = frontera[i];
+        while (i > 0) {
+            int padre = (i - 1) / 2;
+            if (comparar(monticulo[valor], monticulo[frontera[padre]]) >= 0) {
+                break;
+            }
+            frontera[i] = frontera[padre];
+            i = padre;
+        }
+        frontera[i] = valor;
+    }
+
+    private void bajarFrontera(int[] frontera, int tamano, int i) {
+        if (tamano == 0) {
+            return;
+        }
+        int valor = frontera[i];
+        while (true) {
+            int hijo = 2 * i + 1;
+            if (hijo >= tamano) {
+                break;
+            }
+            if (hijo + 1 < tamano && comparar(monticulo[frontera[hijo + 1]], monticulo[frontera[hijo]]) < 0) {
+                hijo++;
+            }
+            if (comparar(monticulo[frontera[hijo]], monticulo[valor]) >= 0) {
+                break;
+            }
+            frontera[i] = frontera[hijo];
+            i = hijo;
+        }
+        frontera[i] = valor;
+    }
+}
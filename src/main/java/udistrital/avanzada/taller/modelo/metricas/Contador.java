@@ -0,0 +1,63 @@
+package udistrital.avanzada.taller.modelo.metricas;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contador monotónico de eventos. Usa un {@link LongAdder}, de modo que
+ * varios hilos pueden incrementarlo a la vez sin competir por una sola
+ * variable.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public final class Contador {
+
+    private final String nombre;
+    private final LongAdder valor;
+
+    /**
+     * Constructor
+     * @param nombre nombre de la métrica
+     */
+    Contador(String nombre) {
+        this.nombre = nombre;
+        this.valor = new LongAdder();
+    }
+
+    /**
+     * Suma uno al contador.
+     */
+    public void incrementar() {
+        valor.increment();
+    }
+
+    /**
+     * Suma una cantidad al contador.
+     * @param cantidad cantidad no negativa
+     */
+    public void sumar(long cantidad) {
+        valor.add(cantidad);
+    }
+
+    /**
+     * @return valor acumulado
+     */
+    public long getValor() {
+        return valor.sum();
+    }
+
+    /**
+     * @return nombre de la métrica
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Vuelve el contador a cero.
+     */
+    void reiniciar() {
+        valor.reset();
+    }
+}
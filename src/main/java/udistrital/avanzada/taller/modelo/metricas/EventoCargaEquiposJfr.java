@@ -0,0 +1,56 @@
+package udistrital.avanzada.taller.modelo.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento de JFR de la carga de equipos y jugadores desde un archivo
+ * .properties. Por defecto sólo se graban las cargas de más de 20 ms.
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0
+ * 19/10/2026
+ */
+@Name("udistrital.argolla.CargaEquipos")
+@Label("Carga de equipos")
+@Category({"Argolla Llanera", "Persistencia"})
+@Description("Carga de equipos y jugadores desde un archivo .properties")
+@StackTrace(false)
+@Threshold("20 ms")
+public final class EventoCargaEquiposJfr extends Event {
+
+    @Label("Archivo")
+    private String archivo;
+
+    @Label("Equipos")
+    private int equipos;
+
+    @Label("Jugadores disponibles")
+    private int jugadoresDisponibles;
+
+    /**
+     * @param archivo archivo
+     */
+    public void setArchivo(String archivo) {
+        this.archivo = archivo;
+    }
+
+    /**
+     * @param equipos equipos
+     */
+    public void setEquipos(int equipos) {
+        this.equipos = equipos;
+    }
+
+    /**
+     * @param jugadoresDisponibles jugadores disponibles
+     */
+    public void setJugadoresDisponibles(int jugadoresDisponibles) {
+        this.jugadoresDisponibles = jugadoresDisponibles;
+    }
+}
@@ -0,0 +1,46 @@
+package udistrital.avanzada.taller.modelo.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento de JFR de la escritura de un lote de registros en el archivo de
+ * resultados. Por defecto sólo se graban las escrituras de más de 5 ms.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+@Name("udistrital.argolla.GuardarResultados")
+@Label("Guardar resultados")
+@Category({"Argolla Llanera", "Persistencia"})
+@Description("Escritura de un lote de registros en el archivo de resultados")
+@StackTrace(false)
+@Threshold("5 ms")
+public final class EventoGuardarResultadosJfr extends Event {
+
+    @Label("Archivo")
+    private String archivo;
+
+    @Label("Registros")
+    private int registros;
+
+    /**
+     * @param archivo archivo
+     */
+    public void setArchivo(String archivo) {
+        this.archivo = archivo;
+    }
+
+    /**
+     * @param registros registros
+     */
+    public void setRegistros(int registros) {
+        this.registros = registros;
+    }
+}
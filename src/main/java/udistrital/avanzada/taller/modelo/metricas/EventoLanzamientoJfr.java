@@ -0,0 +1,87 @@
+package udistrital.avanzada.taller.modelo.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento de JFR de un lanzamiento de argolla. Por defecto sólo se graban
+ * los lanzamientos que tardan más de 1 ms, es decir, los que se notan como
+ * un tirón en la mesa.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+@Name("udistrital.argolla.Lanzamiento")
+@Label("Lanzamiento")
+@Category({"Argolla Llanera", "Partida"})
+@Description("Lanzamiento de argolla en la partida interactiva")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class EventoLanzamientoJfr extends Event {
+
+    @Label("Equipo")
+    private String equipo;
+
+    @Label("Jugador")
+    private String jugador;
+
+    @Label("Tipo de lanzamiento")
+    private String tipo;
+
+    @Label("Puntos")
+    private int puntos;
+
+    @Label("Muerte súbita")
+    private boolean muerteSubita;
+
+    @Label("Ronda")
+    private int ronda;
+
+    /**
+     * @param equipo equipo
+     */
+    public void setEquipo(String equipo) {
+        this.equipo = equipo;
+    }
+
+    /**
+     * @param jugador jugador
+     */
+    public void setJugador(String jugador) {
+        this.jugador = jugador;
+    }
+
+    /**
+     * @param tipo tipo de lanzamiento
+     */
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    /**
+     * @param puntos puntos
+     */
+    public void setPuntos(int puntos) {
+        this.puntos = puntos;
+    }
+
+    /**
+     * @param muerteSubita true si fue de muerte súbita
+     */
+    public void setMuerteSubita(boolean muerteSubita) {
+        this.muerteSubita = muerteSubita;
+    }
+
+    /**
+     * @param ronda ronda
+     */
+    public void setRonda(int ronda) {
+        this.ronda = ronda;
+    }
+}
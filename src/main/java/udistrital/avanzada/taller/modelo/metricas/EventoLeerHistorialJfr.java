@@ -0,0 +1,46 @@
+package udistrital.avanzada.taller.modelo.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento de JFR de la lectura completa del historial de resultados. Por
+ * defecto sólo se graban las lecturas de más de 20 ms.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+@Name("udistrital.argolla.LeerHistorial")
+@Label("Leer historial")
+@Category({"Argolla Llanera", "Persistencia"})
+@Description("Lectura completa del historial de resultados")
+@StackTrace(false)
+@Threshold("20 ms")
+public final class EventoLeerHistorialJfr extends Event {
+
+    @Label("Archivo")
+    private String archivo;
+
+    @Label("Registros")
+    private int registros;
+
+    /**
+     * @param archivo archivo
+     */
+    public void setArchivo(String archivo) {
+        this.archivo = archivo;
+    }
+
+    /**
+     * @param registros registros
+     */
+    public void setRegistros(int registros) {
+        this.registros = registros;
+    }
+}
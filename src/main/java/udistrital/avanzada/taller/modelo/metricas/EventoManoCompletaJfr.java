@@ -0,0 +1,57 @@
+package udistrital.avanzada.taller.modelo.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento de JFR del cierre de la mano de un equipo: resolución del ciclo,
+ * activación de la muerte súbita o victoria. Por defecto sólo se graban los
+ * cierres que tardan más de 1 ms.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+@Name("udistrital.argolla.ManoCompleta")
+@Label("Mano completa")
+@Category({"Argolla Llanera", "Partida"})
+@Description("Cierre de la mano de un equipo")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class EventoManoCompletaJfr extends Event {
+
+    @Label("Equipo")
+    private String equipo;
+
+    @Label("Puntaje")
+    private int puntaje;
+
+    @Label("Ronda")
+    private int ronda;
+
+    /**
+     * @param equipo equipo
+     */
+    public void setEquipo(String equipo) {
+        this.equipo = equipo;
+    }
+
+    /**
+     * @param puntaje puntaje
+     */
+    public void setPuntaje(int puntaje) {
+        this.puntaje = puntaje;
+    }
+
+    /**
+     * @param ronda ronda
+     */
+    public void setRonda(int ronda) {
+        this.ronda = ronda;
+    }
+}
@@ -0,0 +1,45 @@
+package udistrital.avanzada.taller.modelo.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento instantáneo de JFR que marca el inicio (o la repetición) de una
+ * muerte súbita. Es poco frecuente, así que se graba siempre que el evento
+ * esté habilitado.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+@Name("udistrital.argolla.MuerteSubita")
+@Label("Muerte súbita")
+@Category({"Argolla Llanera", "Partida"})
+@Description("Inicio o repetición de una muerte súbita")
+@StackTrace(false)
+public final class EventoMuerteSubitaJfr extends Event {
+
+    @Label("Equipos en disputa")
+    private int equipos;
+
+    @Label("Ronda")
+    private int ronda;
+
+    /**
+     * @param equipos equipos en disputa
+     */
+    public void setEquipos(int equipos) {
+        this.equipos = equipos;
+    }
+
+    /**
+     * @param ronda ronda
+     */
+    public void setRonda(int ronda) {
+        this.ronda = ronda;
+    }
+}
@@ -0,0 +1,134 @@
+package udistrital.avanzada.taller.modelo.metricas;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias en nanosegundos con cubetas log-lineales, al
+ * estilo de HdrHistogram: cada potencia de dos se divide en 32 cubetas
+ * iguales, lo que da un error relativo máximo de alrededor del 3 % en
+ * cualquier rango, desde nanosegundos hasta horas, con un arreglo fijo de
+ * menos de 2000 posiciones.
+ *
+ * <p>Registrar un valor es un cálculo de índice con desplazamientos de bits
+ * y un incremento atómico, sin asignar memoria. Los percentiles se calculan
+ * al tomar una {@link InstantaneaHistograma}.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public final class HistogramaLatencia {
+
+    /** Bits de precisión dentro de cada potencia de dos (32 cubetas). */
+    static final int BITS_SUBCUBETA = 5;
+    static final int SUBCUBETAS = 1 << BITS_SUBCUBETA;
+    static final int CANTIDAD_CUBETAS = (63 - BITS_SUBCUBETA) * SUBCUBETAS + 2 * SUBCUBETAS;
+
+    private final String nombre;
+    private final AtomicLongArray cubetas;
+    private final LongAdder suma;
+    private final AtomicLong maximo;
+
+    /**
+     * Constructor
+     * @param nombre nombre de la métrica
+     */
+    HistogramaLatencia(String nombre) {
+        this.nombre = nombre;
+        this.cubetas = new AtomicLongArray(CANTIDAD_CUBETAS);
+        this.suma = new LongAdder();
+        this.maximo = new AtomicLong();
+    }
+
+    /**
+     * Registra una duración.
+     * @param nanos duración en nanosegundos (los negativos cuentan como 0)
+     */
+    public void registrar(long nanos) {
+        long valor = Math.max(0, nanos);
+        cubetas.getAndIncrement(indice(valor));
+        suma.add(valor);
+        if (valor > maximo.get()) {
+            maximo.accumulateAndGet(valor, Math::max);
+        }
+    }
+
+    /**
+     * Registra el tiempo transcurrido desde un instante tomado con {@link System#nanoTime()}.
+     * @param inicioNanos instante de inicio
+     */
+    public void registrarDesde(long inicioNanos) {
+        registrar(System.nanoTime() - inicioNanos);
+    }
+
+    /**
+     * Toma una copia de los valores registrados hasta el momento. Los
+     * registros concurrentes pueden quedar o no incluidos.
+     *
+     * @return instantánea del histograma
+     */
+    public InstantaneaHistograma instantanea() {
+        long[] copia = new long[CANTIDAD_CUBETAS];
+        long cuenta = 0;
+        for (int i = 0; i < CANTIDAD_CUBETAS; i++) {
+            copia[i] = cubetas.get(i);
+            cuenta += copia[i];
+        }
+        return new InstantaneaHistograma(nombre, copia, cuenta, suma.sum(), maximo.get());
+    }
+
+    /**
+     * @return nombre de la métrica
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * @return cantidad de valores registrados
+     */
+    public long getTotal() {
+        long cuenta = 0;
+        for (int i = 0; i < CANTIDAD_CUBETAS; i++) {
+            cuenta += cubetas.get(i);
+        }
+        return cuenta;
+    }
+
+    /**
+     * Vacía el histograma.
+     */
+    void reiniciar() {
+        for (int i = 0; i < CANTIDAD_CUBETAS; i++) {
+            cubetas.set(i, 0);
+        }
+        suma.reset();
+        maximo.set(0);
+    }
+
+    /**
+     * Calcula la cubeta de un valor no negativo.
+     */
+    static int indice(long valor) {
+        if (valor < SUBCUBETAS) {
+            return (int) valor;
+        }
+        int exponente = 63 - Long.numberOfLeadingZeros(valor);
+        int desplazamiento = exponente - BITS_SUBCUBETA;
+        return desplazamiento * SUBCUBETAS + (int) (valor >>> desplazamiento);
+    }
+
+    /**
+     * Valor más alto que cae en una cubeta.
+     */
+    static long limiteSuperior(int indice) {
+        if (indice < 2 * SUBCUBETAS) {
+            return indice;
+        }
+        int desplazamiento = indice / SUBCUBETAS - 1;
+        long mantisa = indice % SUBCUBETAS + SUBCUBETAS;
+        return ((mantisa + 1) << desplazamiento) - 1;
+    }
+}
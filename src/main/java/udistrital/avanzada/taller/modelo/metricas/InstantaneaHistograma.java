@@ -0,0 +1,90 @@
+package udistrital.avanzada.taller.modelo.metricas;
+
+/**
+ * Copia inmutable de un {@link HistogramaLatencia} en un instante dado, con
+ * el cálculo de percentiles, media y máximo.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public final class InstantaneaHistograma {
+
+    private final String nombre;
+    private final long[] cubetas;
+    private final long total;
+    private final long suma;
+    private final long maximo;
+
+    InstantaneaHistograma(String nombre, long[] cubetas, long total, long suma, long maximo) {
+        this.nombre = nombre;
+        this.cubetas = cubetas;
+        this.total = total;
+        this.suma = suma;
+        this.maximo = maximo;
+    }
+
+    /**
+     * Obtiene el valor por debajo del cual cae el porcentaje indicado de los
+     * registros, con la precisión de las cubetas.
+     *
+     * @param percentil percentil entre 0 y 100
+     * @return valor del percentil en nanosegundos, o 0 si no hay registros
+     */
+    public long getPercentil(double percentil) {
+        if (percentil < 0 || percentil > 100) {
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 100.");
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long objetivo = Math.max(1, (long) Math.ceil(total * percentil / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i < cubetas.length; i++) {
+            acumulado += cubetas[i];
+            if (acumulado >= objetivo) {
+                return Math.min(HistogramaLatencia.limiteSuperior(i), maximo);
+            }
+        }
+        return maximo;
+    }
+
+    /**
+     * @return nombre de la métrica
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * @return cantidad de registros
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * @return media en nanosegundos
+     */
+    public double getMedia() {
+        return total == 0 ? 0 : (double) suma / total;
+    }
+
+    /**
+     * @return valor máximo registrado en nanosegundos
+     */
+    public long getMaximo() {
+        return maximo;
+    }
+
+    @Override
+    public String toString() {
+        return nombre + " total=" + total
+                + " media=" + Math.round(getMedia())
+                + " p50=" + getPercentil(50)
+                + " p90=" + getPercentil(90)
+                + " p99=" + getPercentil(99)
+                + " p999=" + getPercentil(99.9)
+                + " max=" + maximo;
+    }
+}
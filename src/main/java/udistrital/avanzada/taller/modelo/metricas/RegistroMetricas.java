@@ -0,0 +1,203 @@
+package udistrital.avanzada.taller.modelo.metricas;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registro central de métricas de la aplicación: contadores de eventos e
+ * histogramas de latencia identificados por nombre.
+ *
+ * <p>Las clases instrumentadas obtienen sus métricas una sola vez (por
+ * ejemplo en un campo estático) y luego sólo incrementan o registran, sin
+ * búsquedas en mapas ni bloqueos en el camino caliente. Los valores se pueden
+ * exportar a un archivo de texto o publicar por JMX bajo
+ * {@value #NOMBRE_JMX}.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public final class RegistroMetricas {
+
+    /** Nombre del MBean con el que se publican las métricas. */
+    public static final String NOMBRE_JMX = "udistrital.avanzada.taller:type=Metricas";
+
+    private static final RegistroMetricas GLOBAL = new RegistroMetricas();
+
+    private final ConcurrentMap<String, Contador> contadores;
+    private final ConcurrentMap<String, HistogramaLatencia> histogramas;
+
+    /**
+     * Constructor de un registro independiente (útil en pruebas).
+     */
+    public RegistroMetricas() {
+        this.contadores = new ConcurrentHashMap<>();
+        this.histogramas = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return registro compartido por toda la aplicación
+     */
+    public static RegistroMetricas global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Obtiene un contador, creándolo si no existe.
+     * @param nombre nombre de la métrica
+     * @return contador con ese nombre
+     */
+    public Contador contador(String nombre) {
+        return contadores.computeIfAbsent(nombre, Contador::new);
+    }
+
+    /**
+     * Obtiene un histograma de latencias, creándolo si no existe.
+     * @param nombre nombre de la métrica
+     * @return histograma con ese nombre
+     */
+    public HistogramaLatencia histograma(String nombre) {
+        return histogramas.computeIfAbsent(nombre, HistogramaLatencia::new);
+    }
+
+    /**
+     * Toma una instantánea de todas las métricas, ordenadas por nombre.
+     * Los contadores aparecen como {@code nombre=valor}; cada histograma
+     * aporta {@code nombre.total}, {@code .media}, {@code .p50}, {@code .p90},
+     * {@code .p99}, {@code .p999} y {@code .max} en nanosegundos.
+     *
+     * @return valores de las métricas por nombre
+     */
+    public Map<String, Number> instantanea() {
+        Map<String, Number> valores = new TreeMap<>();
+        for (Contador c : contadores.values()) {
+            valores.put(c.getNombre(), c.getValor());
+        }
+        for (HistogramaLatencia h : histogramas.values()) {
+            InstantaneaHistograma i = h.instantanea();
+            valores.put(h.getNombre() + ".total", i.getTotal());
+            valores.put(h.getNombre() + ".media", Math.round(i.getMedia()));
+            valores.put(h.getNombre() + ".p50", i.getPercentil(50));
+            valores.put(h.getNombre() + ".p90", i.getPercentil(90));
+            valores.put(h.getNombre() + ".p99", i.getPercentil(99));
+            valores.put(h.getNombre() + ".p999", i.getPercentil(99.9));
+            valores.put(h.getNombre() + ".max", i.getMaximo());
+        }
+        return valores;
+    }
+
+    /**
+     * Escribe una instantánea de las métricas en un archivo de texto con una
+     * línea {@code nombre=valor} por métrica. Se escribe primero en un
+     * archivo temporal y luego se reemplaza, para que un lector nunca vea el
+     * archivo a medias.
+     *
+     * @param archivo archivo de destino
+     * @throws IOException si hay error al escribir
+     */
+    public void exportar(File archivo) throws IOException {
+        File temporal = new File(archivo.getPath() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temporal.toPath(), StandardCharsets.UTF_8)) {
+            out.write("# Metricas Argolla Llanera - " + System.currentTimeMillis() + "\n");
+            for (Map.Entry<String, Number> e : instantanea().entrySet()) {
+                out.write(e.getKey() + "=" + e.getValue() + "\n");
+            }
+        }
+        Files.move(temporal.toPath(), archivo.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Publica el registro como MBean en el servidor de la plataforma. Cada
+     * métrica aparece como un atributo de sólo lectura.
+     *
+     * @throws JMException si el MBean no se puede registrar
+     */
+    public void registrarJmx() throws JMException {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        ObjectName nombre = new ObjectName(NOMBRE_JMX);
+        if (!servidor.isRegistered(nombre)) {
+            servidor.registerMBean(new MBeanMetricas(), nombre);
+        }
+    }
+
+    /**
+     * Vuelve a cero todas las métricas registradas.
+     */
+    public void reiniciar() {
+        contadores.values().forEach(Contador::reiniciar);
+        histogramas.values().forEach(HistogramaLatencia::reiniciar);
+    }
+
+    /**
+     * MBean dinámico cuyos atributos son las métricas del registro.
+     */
+    private final class MBeanMetricas implements DynamicMBean {
+
+        @Override
+        public Object getAttribute(String atributo) throws AttributeNotFoundException {
+            Number valor = instantanea().get(atributo);
+            if (valor == null) {
+                throw new AttributeNotFoundException(atributo);
+            }
+            return valor.longValue();
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] atributos) {
+            Map<String, Number> valores = instantanea();
+            AttributeList lista = new AttributeList();
+            for (String a : atributos) {
+                Number valor = valores.get(a);
+                if (valor != null) {
+                    lista.add(new Attribute(a, valor.longValue()));
+                }
+            }
+            return lista;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) {
+            throw new UnsupportedOperationException("Las métricas son de sólo lectura.");
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) {
+            throw new UnsupportedOperationException("El MBean de métricas no tiene operaciones.");
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            List<MBeanAttributeInfo> atributos = new ArrayList<>();
+            for (String nombre : instantanea().keySet()) {
+                atributos.add(new MBeanAttributeInfo(nombre, "long", nombre, true, false, false));
+            }
+            return new MBeanInfo(RegistroMetricas.class.getName(), "Métricas de Argolla Llanera",
+                    atributos.toArray(new MBeanAttributeInfo[0]), null, null, null);
+        }
+    }
+}
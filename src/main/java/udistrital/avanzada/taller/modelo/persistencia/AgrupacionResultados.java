@@ -0,0 +1,38 @@
+package udistrital.avanzada.taller.modelo.persistencia;
+
+/**
+ * Enumeración que representa cómo se agrupan los registros en una
+ * consulta de resultados.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public enum AgrupacionResultados {
+    NINGUNA("Total"),
+    EQUIPO("Equipo"),
+    RONDA("Ronda");
+
+    private final String nombre;
+
+    /**
+     * Constructor del enum
+     * @param nombre nombre de la columna del grupo
+     */
+    AgrupacionResultados(String nombre) {
+        this.nombre = nombre;
+    }
+
+    /**
+     * Obtiene el nombre de la columna del grupo
+     * @return nombre de la agrupación
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    @Override
+    public String toString() {
+        return nombre;
+    }
+}
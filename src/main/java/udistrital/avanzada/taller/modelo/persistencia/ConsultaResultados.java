@@ -0,0 +1,363 @@
+package udistrital.avanzada.taller.modelo.persistencia;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consulta sobre el historial de resultados: filtra por equipo, jugador,
+ * ronda, resultado o rango de puntaje, agrupa por equipo o por ronda y
+ * calcula cantidad, promedio, máximo y tasa de victorias de cada grupo.
+ *
+ * <p>{@link GestorResultados#consultar(ConsultaResultados)} la evalúa
+ * recorriendo el archivo una sola vez. Los filtros se comparan contra los
+ * bytes del registro, empezando por los números, y el texto del equipo
+ * sólo se decodifica cuando se agrupa por equipo; así, en un historial
+ * grande, casi ningún registro descartado cuesta más que leer dos
+ * enteros.</p>
+ *
+ * <p>Los textos se comparan como quedan en el archivo: el equipo completo,
+ * el jugador por su nombre o por "nombre (apodo)", y el resultado por su
+ * comienzo, de modo que "GANADOR" también incluye las victorias en muerte
+ * súbita.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class ConsultaResultados {
+
+    private static final byte[] GANADOR = RegistroResultado.GANADOR.getBytes(StandardCharsets.UTF_16BE);
+
+    private String equipo;
+    private String jugador;
+    private int rondaMinima = Integer.MIN_VALUE;
+    private int rondaMaxima = Integer.MAX_VALUE;
+    private String resultado;
+    private int puntajeMinimo = Integer.MIN_VALUE;
+    private int puntajeMaximo = Integer.MAX_VALUE;
+    private AgrupacionResultados agrupacion = AgrupacionResultados.NINGUNA;
+
+    /**
+     * Deja sólo los registros de un equipo.
+     * @param equipo nombre del equipo
+     * @return esta consulta
+     */
+    public ConsultaResultados equipo(String equipo) {
+        this.equipo = texto(equipo, "El equipo");
+        return this;
+    }
+
+    /**
+     * Deja sólo los registros en que participa un jugador.
+     * @param jugador nombre del jugador, o "nombre (apodo)"
+     * @return esta consulta
+     */
+    public ConsultaResultados jugador(String jugador) {
+        this.jugador = texto(jugador, "El jugador");
+        return this;
+    }
+
+    /**
+     * Deja sólo los registros de una ronda.
+     * @param ronda número de ronda
+     * @return esta consulta
+     */
+    public ConsultaResultados ronda(int ronda) {
+        return ronda(ronda, ronda);
+    }
+
+    /**
+     * Deja sólo los registros de un rango de rondas.
+     * @param desde primera ronda, incluida
+     * @param hasta última ronda, incluida
+     * @return esta consulta
+     */
+    public ConsultaResultados ronda(int desde, int hasta) {
+        if (desde > hasta) {
+            throw new IllegalArgumentException("Rango de rondas vacío: " + desde + "-" + hasta);
+        }
+        this.rondaMinima = desde;
+        this.rondaMaxima = hasta;
+        return this;
+    }
+
+    /**
+     * Deja sólo los registros cuyo resultado empieza con un texto.
+     * @param resultado por ejemplo {@link RegistroResultado#GANADOR}
+     * @return esta consulta
+     */
+    public ConsultaResultados resultado(String resultado) {
+        this.resultado = texto(resultado, "El resultado");
+        return this;
+    }
+
+    /**
+     * Deja sólo los registros con puntaje en un rango.
+     * @param minimo puntaje mínimo, incluido
+     * @param maximo puntaje máximo, incluido
+     * @return esta consulta
+     */
+    public ConsultaResultados puntaje(int minimo, int maximo) {
+        if (minimo > maximo) {
+            throw new IllegalArgumentException("Rango de puntaje vacío: " + minimo + "-" + maximo);
+        }
+        this.puntajeMinimo = minimo;
+        this.puntajeMaximo = maximo;
+        return this;
+    }
+
+    /**
+     * Agrupa los registros.
+     * @param agrupacion criterio de agrupación
+     * @return esta consulta
+     */
+    public ConsultaResultados agruparPor(AgrupacionResultados agrupacion) {
+        if (agrupacion == null) {
+            throw new IllegalArgumentException("La agrupación no puede ser nula.");
+        }
+        this.agrupacion = agrupacion;
+        return this;
+    }
+
+    /**
+     * @return criterio de agrupación
+     */
+    public AgrupacionResultados getAgrupacion() {
+        return agrupacion;
+    }
+
+    /**
+     * Arma una consulta a partir de opciones de línea de comandos:
+     * {@code --equipo}, {@code --jugador}, {@code --ronda N|A-B},
+     * {@code --resultado}, {@code --puntaje A-B} y
+     * {@code --agrupar equipo|ronda|ninguna}.
+     *
+     * @param args argumentos
+     * @param desde posición de la primera opción
+     * @return consulta armada
+     * @throws IllegalArgumentException si una opción no existe o le falta su valor
+     */
+    public static ConsultaResultados desdeArgumentos(String[] args, int desde) {
+        ConsultaResultados consulta = new ConsultaResultados();
+        for (int i = desde; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Falta el valor de " + args[i]);
+            }
+            String valor = args[i + 1];
+            switch (args[i]) {
+                case "--equipo" -> consulta.equipo(valor);
+                case "--jugador" -> consulta.jugador(valor);
+                case "--resultado" -> consulta.resultado(valor);
+                case "--ronda" -> {
+                    int[] rango = rango(valor);
+                    consulta.ronda(rango[0], rango[1]);
+                }
+                case "--puntaje" -> {
+                    int[] rango = rango(valor);
+                    consulta.puntaje(rango[0], rango[1]);
+                }
+                case "--agrupar" -> consulta.agruparPor(AgrupacionResultados.valueOf(valor.toUpperCase()));
+                default -> throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+            }
+        }
+        return consulta;
+    }
+
+    /**
+     * Prepara la evaluación de la consulta con sus filtros ya codificados.
+     * La evaluación es independiente: cambiar la consulta después no la
+     * afecta.
+     */
+    Evaluacion evaluar() {
+        return new Evaluacion(this);
+    }
+
+    private static String texto(String valor, String campo) {
+        if (valor == null || valor.isBlank()) {
+            throw new IllegalArgumentException(campo + " no puede estar vacío.");
+        }
+        return valor.trim();
+    }
+
+    private static int[] rango(String valor) {
+        int guion = valor.indexOf('-', 1);
+        try {
+            if (guion < 0) {
+                int n = Integer.parseInt(valor);
+                return new int[]{n, n};
+            }
+            return new int[]{Integer.parseInt(valor.substring(0, guion)), Integer.parseInt(valor.substring(guion + 1))};
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Rango inválido: " + valor);
+        }
+    }
+
+    /**
+     * Texto tal como queda en un campo de longitud fija del archivo.
+     */
+    private static byte[] campoFijo(String texto, int longitud) {
+        StringBuilder sb = new StringBuilder(texto);
+        if (sb.length() > longitud) {
+            sb.setLength(longitud);
+        }
+        while (sb.length() < longitud) {
+            sb.append(' ');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_16BE);
+    }
+
+    private static boolean empiezaCon(byte[] registro, int posicion, byte[] prefijo, int longitudCampo) {
+        return prefijo.length <= longitudCampo * 2
+                && Arrays.equals(registro, posicion, posicion + prefijo.length, prefijo, 0, prefijo.length);
+    }
+
+    /**
+     * Filtros codificados y agregados de una consulta en curso.
+     */
+    static final class Evaluacion {
+
+        private final int rondaMinima;
+        private final int rondaMaxima;
+        private final int puntajeMinimo;
+        private final int puntajeMaximo;
+        private final byte[] resultado;
+        private final byte[] equipo;
+        private final byte[] jugador;
+        private final byte[] jugadorConApodo;
+        private final AgrupacionResultados agrupacion;
+
+        private final Map<ClaveGrupo, long[]> grupos = new HashMap<>();
+
+        private Evaluacion(ConsultaResultados consulta) {
+            rondaMinima = consulta.rondaMinima;
+            rondaMaxima = consulta.rondaMaxima;
+            puntajeMinimo = consulta.puntajeMinimo;
+            puntajeMaximo = consulta.puntajeMaximo;
+            resultado = consulta.resultado == null ? null
+                    : consulta.resultado.getBytes(StandardCharsets.UTF_16BE);
+            equipo = consulta.equipo == null ? null
+                    : campoFijo(consulta.equipo, GestorResultados.LONGITUD_NOMBRE_EQUIPO);
+            jugador = consulta.jugador == null ? null
+                    : campoFijo(consulta.jugador, GestorResultados.LONGITUD_NOMBRE_JUGADOR);
+            jugadorConApodo = consulta.jugador == null ? null
+                    : (consulta.jugador + " (").getBytes(StandardCharsets.UTF_16BE);
+            agrupacion = consulta.agrupacion;
+        }
+
+        /**
+         * Evalúa un registro y, si pasa los filtros, lo suma a su grupo.
+         *
+         * @param buffer registro completo, posicionado al inicio
+         */
+        void acumular(ByteBuffer buffer) {
+            // Primero los enteros, que no requieren decodificar nada
+            int ronda = buffer.getInt(GestorResultados.POSICION_RONDA);
+            if (ronda < rondaMinima || ronda > rondaMaxima) {
+                return;
+            }
+            int puntaje = buffer.getInt(GestorResultados.POSICION_PUNTAJE);
+            if (puntaje < puntajeMinimo || puntaje > puntajeMaximo) {
+                return;
+            }
+            byte[] registro = buffer.array();
+            if (resultado != null && !empiezaCon(registro, GestorResultados.POSICION_RESULTADO, resultado,
+                    GestorResultados.LONGITUD_RESULTADO)) {
+                return;
+            }
+            if (equipo != null && !empiezaCon(registro, GestorResultados.POSICION_EQUIPO, equipo,
+                    GestorResultados.LONGITUD_NOMBRE_EQUIPO)) {
+                return;
+            }
+            if (jugador != null && !tieneJugador(registro)) {
+                return;
+            }
+
+            long[] acumulado = grupo(buffer, ronda);
+            acumulado[0]++;
+            acumulado[1] += puntaje;
+            acumulado[2] = Math.max(acumulado[2], puntaje);
+            if (empiezaCon(registro, GestorResultados.POSICION_RESULTADO, GANADOR,
+                    GestorResultados.LONGITUD_RESULTADO)) {
+                acumulado[3]++;
+            }
+        }
+
+        private boolean tieneJugador(byte[] registro) {
+            for (int i = 0; i < 4; i++) {
+                int posicion = GestorResultados.POSICION_JUGADORES + i * GestorResultados.LONGITUD_NOMBRE_JUGADOR * 2;
+                if (empiezaCon(registro, posicion, jugador, GestorResultados.LONGITUD_NOMBRE_JUGADOR)
+                        || empiezaCon(registro, posicion, jugadorConApodo, GestorResultados.LONGITUD_NOMBRE_JUGADOR)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Acumulado del grupo del registro: cantidad, suma, máximo y victorias.
+         */
+        private long[] grupo(ByteBuffer buffer, int ronda) {
+            ClaveGrupo clave = switch (agrupacion) {
+                case EQUIPO -> {
+                    buffer.position(GestorResultados.POSICION_EQUIPO);
+                    yield new ClaveGrupo(0, GestorResultados.campo(buffer, GestorResultados.LONGITUD_NOMBRE_EQUIPO));
+                }
+                case RONDA -> new ClaveGrupo(ronda, null);
+                default -> ClaveGrupo.TOTAL;
+            };
+            long[] acumulado = grupos.get(clave);
+            if (acumulado == null) {
+                acumulado = nuevo();
+                grupos.put(clave, acumulado);
+            }
+            return acumulado;
+        }
+
+        private static long[] nuevo() {
+            return new long[]{0, 0, Integer.MIN_VALUE, 0};
+        }
+
+        /**
+         * Filas de los grupos: por ronda en orden de ronda y por equipo en
+         * orden alfabético.
+         *
+         * @return una fila por grupo; vacía si ningún registro pasó los filtros
+         */
+        List<FilaConsulta> getFilas() {
+            List<ClaveGrupo> claves = new ArrayList<>(grupos.keySet());
+            claves.sort(ClaveGrupo.ORDEN);
+            List<FilaConsulta> filas = new ArrayList<>(claves.size());
+            for (ClaveGrupo clave : claves) {
+                long[] a = grupos.get(clave);
+                filas.add(new FilaConsulta(clave.etiqueta(), a[0], a[1], (int) a[2], a[3]));
+            }
+            return filas;
+        }
+    }
+
+    /**
+     * Clave de un grupo: la ronda cuando se agrupa por ronda, o el texto
+     * del equipo (o del total) en los demás casos.
+     *
+     * @param ronda número de ronda; 0 si el grupo es por texto
+     * @param texto nombre del grupo; null si el grupo es por ronda
+     */
+    private record ClaveGrupo(int ronda, String texto) {
+
+        private static final ClaveGrupo TOTAL = new ClaveGrupo(0, AgrupacionResultados.NINGUNA.getNombre());
+
+        /** Por ronda en orden de ronda y por texto en orden alfabético. */
+        private static final Comparator<ClaveGrupo> ORDEN = Comparator.comparingInt(ClaveGrupo::ronda)
+                .thenComparing(ClaveGrupo::texto, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        private String etiqueta() {
+            return texto != null ? texto : String.valueOf(ronda);
+        }
+    }
+}
@@ -2,13 +2,25 @@ package udistrital.avanzada.taller.modelo.persistencia;
 
 import udistrital.avanzada.taller.modelo.Equipo;
 import udistrital.avanzada.taller.modelo.Jugador;
+import udistrital.avanzada.taller.modelo.TablaIds;
+import udistrital.avanzada.taller.modelo.metricas.Contador;
+import udistrital.avanzada.taller.modelo.metricas.EventoCargaEquiposJfr;
+import udistrital.avanzada.taller.modelo.metricas.HistogramaLatencia;
+import udistrital.avanzada.taller.modelo.metricas.RegistroMetricas;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.CancellationException;
 
 /**
  * Maneja la carga y guardado de datos desde un archivo .properties.
- * Lee equipos, jugadores disponibles con sus atributos (nombre, apodo, foto).
+ * Lee equipos, jugadores disponibles con sus atributos (id, nombre, apodo, foto).
+ *
+ * <p>El id de cada jugador es un número único dentro del archivo. A los
+ * jugadores que no lo traen se les asigna, sólo en memoria, uno mayor que
+ * todos los del archivo, en el orden del archivo; cargar no modifica el
+ * archivo del usuario. Los ids asignados quedan escritos cuando la nómina
+ * se guarda con {@link #guardarResultados(File, List)}.</p>
  *
  * @author Juan Sebastián Bravo Rojas
  * @version 7.0 
@@ -16,6 +28,10 @@ import java.util.*;
  */
 public class ControlPersistencia {
 
+    private static final HistogramaLatencia LATENCIA_CARGA =
+            RegistroMetricas.global().histograma("equipos.carga");
+    private static final Contador EQUIPOS_CARGADOS = RegistroMetricas.global().contador("equipos.cargados");
+
     private List<Jugador> jugadoresDisponibles;
     
     /**
@@ -33,6 +49,23 @@ public class ControlPersistencia {
      * @return lista de equipos cargados
      */
     public List<Equipo> cargarEquiposDesdeArchivo(File archivo) {
+        return cargarEquiposDesdeArchivo(archivo, EscuchaProgreso.NINGUNA);
+    }
+
+    /**
+     * Carga los equipos informando el avance en equipos procesados. Si el
+     * hilo que carga es interrumpido, la carga se detiene antes del
+     * siguiente equipo.
+     *
+     * @param archivo archivo .properties seleccionado por el usuario
+     * @param progreso escucha del avance
+     * @return lista de equipos cargados
+     * @throws CancellationException si la carga se canceló
+     */
+    public List<Equipo> cargarEquiposDesdeArchivo(File archivo, EscuchaProgreso progreso) {
+        long inicio = System.nanoTime();
+        EventoCargaEquiposJfr evento = new EventoCargaEquiposJfr();
+        evento.begin();
         List<Equipo> equipos = new ArrayList<>();
         jugadoresDisponibles.clear();
 
@@ -49,6 +82,7 @@ public class ControlPersistencia {
         }
 
         Set<String> keys = props.stringPropertyNames();
+        AsignadorIds ids = new AsignadorIds(props);
         
         // Cargar equipos predefinidos
         Set<Integer> indicesEquipos = new TreeSet<>();
@@ -66,7 +100,12 @@ public class ControlPersistencia {
         }
 
         // Cargar cada equipo
+        int procesados = 0;
         for (Integer indice : indicesEquipos) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Carga de equipos cancelada.");
+            }
+            progreso.onProgreso(procesados++, indicesEquipos.size());
             String prefix = "equipo" + indice;
             String nombreEquipo = props.getProperty(prefix + ".nombre");
 
@@ -84,7 +123,7 @@ public class ControlPersistencia {
                 String foto = props.getProperty(base + ".foto");
 
                 if (nombreJugador != null && apodo != null && foto != null) {
-                    jugadores.add(new Jugador(nombreJugador.trim(), foto.trim(), apodo.trim()));
+                    jugadores.add(new Jugador(ids.id(props, base), nombreJugador.trim(), foto.trim(), apodo.trim()));
                 }
             }
 
@@ -100,20 +139,30 @@ public class ControlPersistencia {
         }
 
         // Cargar jugadores disponibles (no asignados a equipos)
-        cargarJugadoresDisponibles(props);
+        cargarJugadoresDisponibles(props, ids);
 
         if (equipos.isEmpty()) {
             throw new IllegalStateException("No se encontraron equipos con jugadores válidos.");
         }
+        progreso.onProgreso(indicesEquipos.size(), indicesEquipos.size());
 
+        LATENCIA_CARGA.registrarDesde(inicio);
+        EQUIPOS_CARGADOS.sumar(equipos.size());
+        if (evento.shouldCommit()) {
+            evento.setArchivo(archivo.getPath());
+            evento.setEquipos(equipos.size());
+            evento.setJugadoresDisponibles(jugadoresDisponibles.size());
+            evento.commit();
+        }
         return equipos;
     }
     
     /**
      * Carga los jugadores disponibles desde el archivo properties
      * @param props propiedades cargadas
+     * @param ids asignador de ids de la carga
      */
-    private void cargarJugadoresDisponibles(Properties props) {
+    private void cargarJugadoresDisponibles(Properties props, AsignadorIds ids) {
         Set<String> keys = props.stringPropertyNames();
         Set<Integer> indicesDisponibles = new TreeSet<>();
         
@@ -135,7 +184,7 @@ public class ControlPersistencia {
             String foto = props.getProperty(base + ".foto");
             
             if (nombre != null && apodo != null && foto != null) {
-                jugadoresDisponibles.add(new Jugador(nombre.trim(), foto.trim(), apodo.trim()));
+                jugadoresDisponibles.add(new Jugador(ids.id(props, base), nombre.trim(), foto.trim(), apodo.trim()));
             }
         }
     }
@@ -172,6 +221,9 @@ public class ControlPersistencia {
             for (int j = 0; j < jugadores.size(); j++) {
                 Jugador jugador = jugadores.get(j);
                 String base = prefix + ".jugador" + (j + 1);
+                if (jugador.tieneId()) {
+                    props.setProperty(base + ".id", String.valueOf(jugador.getId()));
+                }
                 props.setProperty(base + ".nombre", jugador.getNombre() != null ? jugador.getNombre() : "Sin nombre");
                 props.setProperty(base + ".apodo", jugador.getApodo() != null ? jugador.getApodo() : "Sin apodo");
                 props.setProperty(base + ".foto", jugador.getRutaFoto() != null ? jugador.getRutaFoto() : "sin_foto.jpg");
@@ -184,4 +236,52 @@ public class ControlPersistencia {
             throw new RuntimeException("Error al guardar el archivo: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Lee los ids de los jugadores de una carga y asigna en memoria los que faltan.
+     */
+    private static final class AsignadorIds {
+
+        private final TablaIds usados = new TablaIds(64);
+        private long siguiente = 1;
+
+        AsignadorIds(Properties props) {
+            for (String key : props.stringPropertyNames()) {
+                if (key.endsWith(".id")) {
+                    siguiente = Math.max(siguiente, leer(props, key) + 1);
+                }
+            }
+        }
+
+        /**
+         * @param props propiedades cargadas
+         * @param base prefijo del jugador, por ejemplo {@code equipo1.jugador2}
+         * @return id del jugador, leído del archivo o recién asignado
+         */
+        long id(Properties props, String base) {
+            String key = base + ".id";
+            long id;
+            if (props.getProperty(key) == null) {
+                id = siguiente++;
+            } else {
+                id = leer(props, key);
+            }
+            if (usados.obtener(id) >= 0) {
+                throw new IllegalStateException("El id " + id + " de " + base + " está repetido.");
+            }
+            usados.poner(id, 1);
+            return id;
+        }
+
+        private static long leer(Properties props, String key) {
+            String valor = props.getProperty(key).trim();
+            try {
+                long id = Long.parseLong(valor);
+                if (id > 0) {
+                    return id;
+                }
+            } catch (NumberFormatException ignored) {}
+            throw new IllegalStateException("Id de jugador inválido en " + key + ": " + valor);
+        }
+    }
+}
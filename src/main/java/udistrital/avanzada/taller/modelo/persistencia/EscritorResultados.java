@@ -0,0 +1,176 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package udistrital.avanzada.taller.modelo.persistencia;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escritor único de resultados para partidas que se juegan en paralelo.
+ * Los hilos productores encolan registros y un solo hilo los guarda por
+ * lotes a través de {@link GestorResultados}, de modo que el archivo nunca
+ * se escribe de forma concurrente y las claves quedan consecutivas.
+ *
+ * <p>La cola es acotada: si el disco no da abasto, los productores esperan
+ * en lugar de acumular registros sin límite en memoria. Si el hilo
+ * escritor falla (error de E/S, excepción inesperada o interrupción), el
+ * fallo se guarda: los productores que esperaban y los siguientes reciben
+ * el error en lugar de quedarse bloqueados, y {@link #close()} lo relanza.</p>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class EscritorResultados implements AutoCloseable {
+
+    private static final int TAM_LOTE = 1024;
+    /** Cada cuánto revisa un productor en espera si el escritor falló. */
+    private static final long ESPERA_MS = 50;
+    private static final RegistroResultado FIN = new RegistroResultado(
+            -1, "", new String[]{"", "", "", ""}, "", 0, 0);
+
+    private final GestorResultados gestor;
+    private final BlockingQueue<RegistroResultado> cola;
+    private final Thread hiloEscritor;
+    private volatile Exception error;
+    private volatile boolean cerrado;
+    private long registrosEscritos;
+
+    /**
+     * Constructor con capacidad de cola por defecto.
+     *
+     * @param gestor gestor de resultados sobre el que se escribe
+     */
+    public EscritorResultados(GestorResultados gestor) {
+        this(gestor, 16 * TAM_LOTE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param gestor gestor de resultados sobre el que se escribe
+     * @param capacidad cantidad máxima de registros pendientes
+     */
+    public EscritorResultados(GestorResultados gestor, int capacidad) {
+        if (gestor == null || capacidad <= 0) {
+            throw new IllegalArgumentException("Se requiere un gestor y una capacidad positiva.");
+        }
+        this.gestor = gestor;
+        this.cola = new ArrayBlockingQueue<>(capacidad);
+        this.hiloEscritor = new Thread(this::escribirPendientes, "escritor-resultados");
+        this.hiloEscritor.setDaemon(true);
+        this.hiloEscritor.start();
+    }
+
+    /**
+     * Encola un registro para ser guardado. Espera si la cola está llena,
+     * pero deja de esperar si el escritor falla mientras tanto.
+     *
+     * @param registro registro a guardar
+     * @throws IOException si el escritor falló por un error de E/S o fue interrumpido
+     * @throws IllegalStateException si el escritor está cerrado o falló por un error inesperado
+     */
+    public void encolar(RegistroResultado registro) throws IOException {
+        if (registro == null) {
+            throw new IllegalArgumentException("El registro no puede ser nulo");
+        }
+        if (cerrado) {
+            throw new IllegalStateException("El escritor de resultados ya fue cerrado.");
+        }
+        verificarError();
+        try {
+            esperarLugar(registro);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrumpido al encolar el resultado", e);
+        }
+    }
+
+    /**
+     * Espera a que se guarden todos los registros pendientes y detiene el hilo escritor.
+     *
+     * @throws IOException si hubo un error al guardar algún lote o el escritor fue interrumpido
+     * @throws IllegalStateException si el escritor falló por un error inesperado
+     */
+    @Override
+    public void close() throws IOException {
+        if (!cerrado) {
+            cerrado = true;
+            try {
+                if (error == null) {
+                    esperarLugar(FIN);
+                }
+                hiloEscritor.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrumpido al cerrar el escritor", e);
+            }
+        }
+        verificarError();
+    }
+
+    /**
+     * Obtiene la cantidad de registros guardados hasta el momento.
+     * @return registros escritos en el archivo
+     */
+    public synchronized long getRegistrosEscritos() {
+        return registrosEscritos;
+    }
+
+    /**
+     * Pone un elemento en la cola esperando lugar, y revisa cada poco si el
+     * escritor falló para no quedarse esperando a un hilo que ya no consume.
+     */
+    private void esperarLugar(RegistroResultado registro) throws IOException, InterruptedException {
+        while (!cola.offer(registro, ESPERA_MS, TimeUnit.MILLISECONDS)) {
+            verificarError();
+        }
+    }
+
+    private void escribirPendientes() {
+        List<RegistroResultado> lote = new ArrayList<>(TAM_LOTE);
+        boolean terminar = false;
+        try {
+            while (!terminar) {
+                lote.add(cola.take());
+                cola.drainTo(lote, TAM_LOTE - 1);
+                int fin = lote.indexOf(FIN);
+                if (fin >= 0) {
+                    terminar = true;
+                    lote.subList(fin, lote.size()).clear();
+                }
+                if (!lote.isEmpty()) {
+                    gestor.guardarResultados(lote);
+                    synchronized (this) {
+                        registrosEscritos += lote.size();
+                    }
+                }
+                lote.clear();
+            }
+        } catch (InterruptedException e) {
+            error = new InterruptedIOException("El escritor de resultados fue interrumpido");
+        } catch (IOException | RuntimeException e) {
+            error = e;
+        } catch (Error e) {
+            error = new IllegalStateException("El escritor de resultados terminó inesperadamente", e);
+            throw e;
+        }
+    }
+
+    private void verificarError() throws IOException {
+        Exception fallo = error;
+        if (fallo instanceof IOException) {
+            throw new IOException("Error al guardar resultados: " + fallo.getMessage(), fallo);
+        }
+        if (fallo != null) {
+            throw new IllegalStateException("Error al guardar resultados: " + fallo.getMessage(), fallo);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package udistrital.avanzada.taller.modelo.persistencia;
+
+/**
+ * Recibe el avance de una operación larga de lectura o escritura de
+ * archivos. Se invoca desde el hilo que hace la operación, cada cierta
+ * cantidad de elementos y una última vez al terminar; quien la implemente
+ * debe pasar el valor a la interfaz por su cuenta.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+@FunctionalInterface
+public interface EscuchaProgreso {
+
+    /** Escucha que ignora el avance. */
+    EscuchaProgreso NINGUNA = (hechos, total) -> { };
+
+    /**
+     * Informa el avance de la operación.
+     *
+     * @param hechos elementos procesados hasta ahora
+     * @param total elementos totales de la operación
+     */
+    void onProgreso(long hechos, long total);
+}
@@ -0,0 +1,23 @@
+package udistrital.avanzada.taller.modelo.persistencia;
+
+import java.util.List;
+
+/**
+ * Recibe los registros que {@link GestorResultados} acaba de guardar. Se
+ * invoca desde el hilo que guardó el lote, después de escribirlo, así que
+ * quien la implemente debe ser seguro entre hilos y no bloquear.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+@FunctionalInterface
+public interface EscuchaResultados {
+
+    /**
+     * Informa un lote de registros guardados.
+     *
+     * @param registros registros guardados, en el orden del archivo
+     */
+    void onGuardados(List<RegistroResultado> registros);
+}
@@ -0,0 +1,71 @@
+package udistrital.avanzada.taller.modelo.persistencia;
+
+/**
+ * Fila del resultado de una consulta: los agregados de un grupo de
+ * registros. Es inmutable.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public final class FilaConsulta {
+
+    private final String grupo;
+    private final long registros;
+    private final long puntos;
+    private final int maximo;
+    private final long victorias;
+
+    /**
+     * Constructor
+     *
+     * @param grupo valor del grupo (equipo, ronda o "Total")
+     * @param registros registros del grupo
+     * @param puntos suma de los puntajes del grupo
+     * @param maximo puntaje más alto del grupo
+     * @param victorias registros ganadores del grupo
+     */
+    public FilaConsulta(String grupo, long registros, long puntos, int maximo, long victorias) {
+        this.grupo = grupo;
+        this.registros = registros;
+        this.puntos = puntos;
+        this.maximo = maximo;
+        this.victorias = victorias;
+    }
+
+    /** @return valor del grupo */
+    public String getGrupo() {
+        return grupo;
+    }
+
+    /** @return cantidad de registros del grupo */
+    public long getRegistros() {
+        return registros;
+    }
+
+    /** @return puntaje promedio del grupo */
+    public double getPromedio() {
+        return registros == 0 ? 0 : (double) puntos / registros;
+    }
+
+    /** @return puntaje más alto del grupo */
+    public int getMaximo() {
+        return maximo;
+    }
+
+    /** @return registros ganadores del grupo */
+    public long getVictorias() {
+        return victorias;
+    }
+
+    /** @return fracción de registros ganadores, entre 0 y 1 */
+    public double getTasaVictorias() {
+        return registros == 0 ? 0 : (double) victorias / registros;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-25s N:%d Prom:%.2f Max:%d Vict:%.1f%%", grupo, registros, getPromedio(), maximo,
+                getTasaVictorias() * 100);
+    }
+}
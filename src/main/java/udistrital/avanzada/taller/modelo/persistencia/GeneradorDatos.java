@@ -0,0 +1,210 @@
+package udistrital.avanzada.taller.modelo.persistencia;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+/**
+ * Genera archivos sintéticos para pruebas de carga: archivos de equipos con
+ * el formato .properties que lee {@link ControlPersistencia} y archivos de
+ * resultados con el mismo formato de registros de 572 bytes que usa
+ * {@link GestorResultados}.
+ *
+ * <p>La generación es determinista (la misma semilla produce el mismo archivo,
+ * byte a byte) y se hace en flujo: cada equipo o registro se escribe apenas se
+ * genera, así que la memoria usada no depende del tamaño del archivo.</p>
+ *
+ * <p>Uso desde la línea de comandos:</p>
+ * <pre>
+ * GeneradorDatos equipos    &lt;archivo&gt; &lt;equipos&gt; &lt;disponibles&gt; [semilla]
+ * GeneradorDatos resultados &lt;archivo&gt; &lt;registros&gt; [semilla]
+ * </pre>
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class GeneradorDatos {
+
+    /** Tamaño de un registro de resultados en bytes. */
+    public static final int TAM_REGISTRO = 572;
+
+    private static final int LONGITUD_NOMBRE_EQUIPO = 50;
+    private static final int LONGITUD_NOMBRE_JUGADOR = 50;
+    private static final int LONGITUD_RESULTADO = 30;
+    private static final int TAM_BUFFER = 1 << 16;
+    private static final String FOTO = "/Images/Maluma.jpg";
+
+    private static final String[] NOMBRES = {
+        "Carlos", "Maria", "Pedro", "Ana", "Luis", "Sofia", "Jorge", "Camila",
+        "Andres", "Valentina", "Diego", "Laura", "Felipe", "Daniela", "Juan", "Paula",
+        "Miguel", "Natalia", "Santiago", "Juliana", "Oscar", "Carolina", "Hernan", "Lucia"
+    };
+    private static final String[] APELLIDOS = {
+        "Rodriguez", "Gutierrez", "Sanchez", "Martinez", "Fernandez", "Lopez", "Gomez", "Diaz",
+        "Herrera", "Castro", "Rojas", "Moreno", "Vargas", "Ramirez", "Torres", "Ariza",
+        "Bravo", "Suarez", "Pardo", "Mejia", "Cardenas", "Rincon", "Ospina", "Galindo"
+    };
+    private static final String[] APODOS = {
+        "El Trueno", "La Reina", "El Tigre", "La Flecha", "El Rayo", "La Gacela", "El Toro",
+        "La Garza", "El Coplero", "La Palma", "El Caballo", "La Brisa", "El Gaban", "La Sabana"
+    };
+    private static final String[] PREFIJOS_EQUIPO = {
+        "Los Llaneros", "Los Campeones", "Los Coleadores", "Las Garzas", "Los Toros",
+        "Los Joroperos", "Las Palmas", "Los Centauros", "Los Arpistas", "Los Morichales"
+    };
+
+    private final long semilla;
+
+    /**
+     * Constructor
+     *
+     * @param semilla semilla de la generación
+     */
+    public GeneradorDatos(long semilla) {
+        this.semilla = semilla;
+    }
+
+    /**
+     * Escribe un archivo de equipos con equipos completos de 4 jugadores y
+     * jugadores disponibles. Los apodos son únicos en todo el archivo.
+     *
+     * @param archivo archivo de destino (se sobrescribe)
+     * @param equipos cantidad de equipos
+     * @param disponibles cantidad de jugadores disponibles
+     * @throws IOException si hay error al escribir
+     */
+    public void generarEquipos(File archivo, int equipos, int disponibles) throws IOException {
+        if (archivo == null || equipos < 0 || disponibles < 0) {
+            throw new IllegalArgumentException("Se requiere un archivo y cantidades no negativas.");
+        }
+        SplittableRandom random = new SplittableRandom(semilla);
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(archivo), StandardCharsets.ISO_8859_1), TAM_BUFFER)) {
+            out.write("# Archivo de equipos generado (semilla " + semilla + ")\n");
+            out.write("# " + equipos + " equipos, " + disponibles + " jugadores disponibles\n");
+            long apodo = 0;
+            for (int e = 1; e <= equipos; e++) {
+                String prefijo = "equipo" + e;
+                out.write(prefijo + ".nombre=" + nombreEquipo(e) + "\n");
+                for (int j = 1; j <= 4; j++) {
+                    escribirJugador(out, prefijo + ".jugador" + j, random, ++apodo);
+                }
+            }
+            for (int d = 1; d <= disponibles; d++) {
+                escribirJugador(out, "jugador.disponible" + d, random, ++apodo);
+            }
+        }
+    }
+
+    /**
+     * Escribe un archivo de resultados con registros de 572 bytes. Los
+     * registros vienen en parejas, como los guarda una ronda jugada: el
+     * equipo ganador seguido del perdedor.
+     *
+     * @param archivo archivo de destino (se sobrescribe)
+     * @param registros cantidad de registros
+     * @param equipos cantidad de equipos distintos entre los que se reparten
+     * @throws IOException si hay error al escribir
+     */
+    public void generarResultados(File archivo, long registros, int equipos) throws IOException {
+        if (archivo == null || registros < 0 || equipos < 2) {
+            throw new IllegalArgumentException("Se requiere un archivo, registros no negativos y al menos dos equipos.");
+        }
+        SplittableRandom random = new SplittableRandom(semilla);
+        // Los registros se codifican en un buffer de bloque (big-endian, como RandomAccessFile)
+        ByteBuffer bloque = ByteBuffer.allocate(TAM_BUFFER / TAM_REGISTRO * TAM_REGISTRO);
+        try (OutputStream out = new FileOutputStream(archivo)) {
+            int ganador = 0;
+            int ronda = 1;
+            for (long r = 0; r < registros; r++) {
+                boolean esGanador = r % 2 == 0;
+                int equipo;
+                int puntaje;
+                if (esGanador) {
+                    ganador = random.nextInt(equipos);
+                    ronda = 1 + random.nextInt(2);
+                    equipo = ganador;
+                    puntaje = 21 + random.nextInt(8);
+                } else {
+                    equipo = (ganador + 1 + random.nextInt(equipos - 1)) % equipos;
+                    puntaje = random.nextInt(29);
+                }
+
+                if (bloque.remaining() < TAM_REGISTRO) {
+                    out.write(bloque.array(), 0, bloque.position());
+                    bloque.clear();
+                }
+                bloque.putInt((int) (r + 1));
+                escribirCampo(bloque, nombreEquipo(equipo + 1), LONGITUD_NOMBRE_EQUIPO);
+                for (int j = 1; j <= 4; j++) {
+                    escribirCampo(bloque, nombreCompleto(equipo, j) + " (" + APODOS[(equipo + j) % APODOS.length] + ")",
+                            LONGITUD_NOMBRE_JUGADOR);
+                }
+                escribirCampo(bloque, esGanador ? "GANADOR" : "PERDEDOR", LONGITUD_RESULTADO);
+                bloque.putInt(puntaje);
+                bloque.putInt(ronda);
+            }
+            out.write(bloque.array(), 0, bloque.position());
+        }
+    }
+
+    private void escribirJugador(Writer out, String base, SplittableRandom random, long numero) throws IOException {
+        out.write(base + ".id=" + numero + "\n");
+        out.write(base + ".nombre=" + NOMBRES[random.nextInt(NOMBRES.length)] + " "
+                + APELLIDOS[random.nextInt(APELLIDOS.length)] + "\n");
+        out.write(base + ".apodo=" + APODOS[random.nextInt(APODOS.length)] + " " + numero + "\n");
+        out.write(base + ".foto=" + FOTO + "\n");
+    }
+
+    /**
+     * Escribe un texto como campo de longitud fija en UTF-16, rellenando con
+     * espacios igual que {@link GestorResultados}.
+     */
+    private static void escribirCampo(ByteBuffer bloque, String texto, int longitud) {
+        int n = Math.min(texto.length(), longitud);
+        for (int i = 0; i < n; i++) {
+            bloque.putChar(texto.charAt(i));
+        }
+        for (int i = n; i < longitud; i++) {
+            bloque.putChar(' ');
+        }
+    }
+
+    private static String nombreEquipo(int numero) {
+        return PREFIJOS_EQUIPO[(numero - 1) % PREFIJOS_EQUIPO.length] + " " + numero;
+    }
+
+    private static String nombreCompleto(int equipo, int jugador) {
+        return NOMBRES[(equipo * 4 + jugador) % NOMBRES.length] + " "
+                + APELLIDOS[(equipo * 7 + jugador) % APELLIDOS.length];
+    }
+
+    /**
+     * Punto de entrada para generar archivos desde la línea de comandos.
+     *
+     * @param args tipo de archivo, destino, cantidades y semilla opcional
+     * @throws IOException si hay error al escribir
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 4 && args[0].equals("equipos")) {
+            long semilla = args.length > 4 ? Long.parseLong(args[4]) : 1L;
+            new GeneradorDatos(semilla).generarEquipos(new File(args[1]),
+                    Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+        } else if (args.length >= 3 && args[0].equals("resultados")) {
+            long semilla = args.length > 3 ? Long.parseLong(args[3]) : 1L;
+            new GeneradorDatos(semilla).generarResultados(new File(args[1]), Long.parseLong(args[2]), 1000);
+        } else {
+            System.err.println("Uso: GeneradorDatos equipos <archivo> <equipos> <disponibles> [semilla]");
+            System.err.println("     GeneradorDatos resultados <archivo> <registros> [semilla]");
+            System.exit(1);
+        }
+    }
+}
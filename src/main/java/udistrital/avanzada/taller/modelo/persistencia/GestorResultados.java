@@ -4,13 +4,29 @@
  */
 package udistrital.avanzada.taller.modelo.persistencia;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import udistrital.avanzada.taller.modelo.Equipo;
-import udistrital.avanzada.taller.modelo.Jugador;
+import udistrital.avanzada.taller.modelo.metricas.Contador;
+import udistrital.avanzada.taller.modelo.metricas.EventoGuardarResultadosJfr;
+import udistrital.avanzada.taller.modelo.metricas.EventoLeerHistorialJfr;
+import udistrital.avanzada.taller.modelo.metricas.HistogramaLatencia;
+import udistrital.avanzada.taller.modelo.metricas.RegistroMetricas;
 
 /**
  * Clase encargada de gestionar la persistencia de resultados
@@ -34,6 +50,10 @@ import udistrital.avanzada.taller.modelo.Jugador;
  * - Ronda (int): 4 bytes
  * 
  * Total: 572 bytes por registro
+ *
+ * Las escuchas registradas con {@link #agregarEscucha(EscuchaResultados, boolean)}
+ * reciben cada lote después de guardarlo, de modo que una tabla de
+ * posiciones puede actualizarse sin volver a leer el archivo.
  * 
  * @author Juan Ariza
  * @version 8.0
@@ -42,12 +62,34 @@ import udistrital.avanzada.taller.modelo.Jugador;
 public class GestorResultados {
     
     private static final String NOMBRE_ARCHIVO = "resultados.dat";
-    private static final int TAM_REGISTRO = 572;
-    private static final int LONGITUD_NOMBRE_EQUIPO = 50;
-    private static final int LONGITUD_NOMBRE_JUGADOR = 50;
-    private static final int LONGITUD_RESULTADO = 30;
+    static final int TAM_REGISTRO = 572;
+    static final int LONGITUD_NOMBRE_EQUIPO = 50;
+    static final int LONGITUD_NOMBRE_JUGADOR = 50;
+    static final int LONGITUD_RESULTADO = 30;
+    // Posición de cada campo dentro del registro, en bytes
+    static final int POSICION_EQUIPO = 4;
+    static final int POSICION_JUGADORES = POSICION_EQUIPO + LONGITUD_NOMBRE_EQUIPO * 2;
+    static final int POSICION_RESULTADO = POSICION_JUGADORES + 4 * LONGITUD_NOMBRE_JUGADOR * 2;
+    static final int POSICION_PUNTAJE = POSICION_RESULTADO + LONGITUD_RESULTADO * 2;
+    static final int POSICION_RONDA = POSICION_PUNTAJE + 4;
+    /** Cada cuántos registros se informa el avance. */
+    private static final int PASO_PROGRESO = 1024;
+
+    private static final HistogramaLatencia LATENCIA_GUARDAR =
+            RegistroMetricas.global().histograma("resultados.guardar");
+    private static final HistogramaLatencia LATENCIA_LEER =
+            RegistroMetricas.global().histograma("resultados.leer");
+    private static final Contador REGISTROS_GUARDADOS =
+            RegistroMetricas.global().contador("resultados.registrosGuardados");
+    private static final Contador REGISTROS_LEIDOS =
+            RegistroMetricas.global().contador("resultados.registrosLeidos");
     
     private File archivo;
+    private final List<EscuchaResultados> escuchas = new CopyOnWriteArrayList<>();
+    // Turnos para avisar a las escuchas en el orden en que se escribieron los lotes
+    private final Object avisos = new Object();
+    private long siguienteTurno;
+    private long turnoAviso;
     
     /**
      * Constructor que inicializa el archivo de resultados.
@@ -62,6 +104,18 @@ public class GestorResultados {
     }
 
     
+    /**
+     * Constructor que usa un archivo de resultados específico.
+     *
+     * @param archivo archivo de resultados
+     */
+    public GestorResultados(File archivo) {
+        if (archivo == null) {
+            throw new IllegalArgumentException("El archivo no puede ser nulo");
+        }
+        this.archivo = archivo;
+    }
+
     /**
      * Guarda el resultado de un equipo en el archivo.
      * 
@@ -74,47 +128,280 @@ public class GestorResultados {
         if (equipo == null) {
             throw new IllegalArgumentException("El equipo no puede ser nulo");
         }
-        
-        try (RandomAccessFile raf = new RandomAccessFile(archivo, "rw")) {
-            // Ir al final del archivo
-            raf.seek(raf.length());
-            
+        guardarResultados(Collections.singletonList(RegistroResultado.desde(equipo, resultado, ronda)));
+    }
+
+    /**
+     * Guarda un lote de registros abriendo el archivo una sola vez.
+     * Las claves se asignan de forma consecutiva al final del archivo.
+     *
+     * @param registros registros a guardar
+     * @throws IOException si hay error al escribir
+     */
+    public void guardarResultados(List<RegistroResultado> registros) throws IOException {
+        guardarResultados(registros, EscuchaProgreso.NINGUNA);
+    }
+
+    /**
+     * Guarda un lote de registros informando el avance. El lote se codifica
+     * completo en memoria y se escribe al archivo de una sola vez, así que
+     * se guarda completo o falla por error de E/S.
+     *
+     * <p>Las escuchas se avisan después de soltar el archivo, de modo que
+     * una escucha lenta no detiene a los demás escritores; los avisos
+     * conservan el orden del archivo. Si una escucha falla, el error se
+     * informa y el lote sigue contando como guardado.</p>
+     *
+     * @param registros registros a guardar
+     * @param progreso escucha del avance, en registros escritos
+     * @throws IOException si hay error al escribir
+     */
+    public void guardarResultados(List<RegistroResultado> registros, EscuchaProgreso progreso) throws IOException {
+        if (registros == null || registros.isEmpty()) {
+            return;
+        }
+
+        long turno;
+        List<EscuchaResultados> destinatarios;
+        synchronized (this) {
+            escribirLote(registros, progreso);
+            // Las escuchas que se agreguen desde aquí ya leen este lote del archivo
+            destinatarios = List.copyOf(escuchas);
+            turno = siguienteTurno++;
+        }
+        avisarEnOrden(turno, destinatarios, Collections.unmodifiableList(registros));
+    }
+
+    /**
+     * Escribe un lote al final del archivo. Debe llamarse con el candado del gestor.
+     */
+    private void escribirLote(List<RegistroResultado> registros, EscuchaProgreso progreso) throws IOException {
+        long inicio = System.nanoTime();
+        EventoGuardarResultadosJfr evento = new EventoGuardarResultadosJfr();
+        evento.begin();
+        try (FileChannel canal = FileChannel.open(archivo.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long posicion = canal.size();
+
             // Calcular clave (número de registro)
-            int clave = (int) (raf.length() / TAM_REGISTRO) + 1;
-            
-            // Escribir clave
-            raf.writeInt(clave);
-            
-            // Escribir nombre del equipo
-            escribirString(raf, equipo.getNombre(), LONGITUD_NOMBRE_EQUIPO);
-            
-            // Escribir jugadores (máximo 4)
-            List<Jugador> jugadores = equipo.getJugadores();
-            if (jugadores == null) {
-                jugadores = new ArrayList<>();
+            int clave = (int) (posicion / TAM_REGISTRO) + 1;
+
+            ByteBuffer buffer = ByteBuffer.allocate(registros.size() * TAM_REGISTRO);
+            int codificados = 0;
+            for (RegistroResultado registro : registros) {
+                if (++codificados % PASO_PROGRESO == 0) {
+                    progreso.onProgreso(codificados, registros.size());
+                }
+                buffer.putInt(clave++);
+                escribirString(buffer, registro.getNombreEquipo(), LONGITUD_NOMBRE_EQUIPO);
+                for (int i = 0; i < 4; i++) {
+                    escribirString(buffer, registro.getJugador(i), LONGITUD_NOMBRE_JUGADOR);
+                }
+                escribirString(buffer, registro.getResultado(), LONGITUD_RESULTADO);
+                buffer.putInt(registro.getPuntaje());
+                buffer.putInt(registro.getRonda());
             }
-            
-            for (int i = 0; i < 4; i++) {
-                if (i < jugadores.size() && jugadores.get(i) != null) {
-                    Jugador j = jugadores.get(i);
-                    String nombreCompleto = (j.getNombre() != null ? j.getNombre() : "Sin nombre") + 
-                                          " (" + (j.getApodo() != null ? j.getApodo() : "Sin apodo") + ")";
-                    escribirString(raf, nombreCompleto, LONGITUD_NOMBRE_JUGADOR);
-                } else {
-                    escribirString(raf, "---", LONGITUD_NOMBRE_JUGADOR);
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                posicion += canal.write(buffer, posicion);
+            }
+        }
+        progreso.onProgreso(registros.size(), registros.size());
+        LATENCIA_GUARDAR.registrarDesde(inicio);
+        REGISTROS_GUARDADOS.sumar(registros.size());
+        if (evento.shouldCommit()) {
+            evento.setArchivo(archivo.getPath());
+            evento.setRegistros(registros.size());
+            evento.commit();
+        }
+    }
+
+    /**
+     * Entrega un lote a las escuchas cuando le llega su turno, para que los
+     * avisos de escritores concurrentes lleguen en el orden del archivo. El
+     * turno se cede aunque el hilo sea interrumpido mientras espera.
+     */
+    private void avisarEnOrden(long turno, List<EscuchaResultados> destinatarios, List<RegistroResultado> lote) {
+        boolean interrumpido = false;
+        synchronized (avisos) {
+            while (turnoAviso != turno) {
+                try {
+                    avisos.wait();
+                } catch (InterruptedException e) {
+                    interrumpido = true;
                 }
             }
-            
-            // Escribir resultado
-            escribirString(raf, resultado != null ? resultado : "DESCONOCIDO", LONGITUD_RESULTADO);
-            
-            // Escribir puntaje final
-            raf.writeInt(equipo.getPuntaje());
-            
-            // Escribir ronda
-            raf.writeInt(ronda);
+        }
+        try {
+            for (EscuchaResultados escucha : destinatarios) {
+                try {
+                    escucha.onGuardados(lote);
+                } catch (RuntimeException ex) {
+                    // El lote ya está en el archivo; una escucha con errores no lo invalida
+                    System.err.println("Error en escucha de resultados: " + ex.getMessage());
+                }
+            }
+        } finally {
+            synchronized (avisos) {
+                turnoAviso++;
+                avisos.notifyAll();
+            }
+            if (interrumpido) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Registra una escucha de los lotes guardados. Si se pide el historial,
+     * antes de registrarla se le entregan los registros que ya están en el
+     * archivo; mientras tanto no se guarda nada, así que la escucha no se
+     * pierde ni repite ningún registro.
+     *
+     * @param escucha escucha a registrar
+     * @param conHistorial true para entregarle primero los registros existentes
+     * @throws IOException si hay error al leer el historial
+     */
+    public void agregarEscucha(EscuchaResultados escucha, boolean conHistorial) throws IOException {
+        agregarEscucha(escucha, conHistorial ? 0 : Long.MAX_VALUE);
+    }
+
+    /**
+     * Registra una escucha de los lotes guardados entregándole antes los
+     * registros del archivo a partir de uno dado, por ejemplo los que se
+     * guardaron después de la última instantánea de la escucha.
+     *
+     * @param escucha escucha a registrar
+     * @param desde número del primer registro a entregar, desde 0
+     * @throws IOException si hay error al leer el historial
+     */
+    public synchronized void agregarEscucha(EscuchaResultados escucha, long desde) throws IOException {
+        if (escucha == null) {
+            throw new IllegalArgumentException("La escucha no puede ser nula");
+        }
+        if (desde < 0) {
+            throw new IllegalArgumentException("El primer registro no puede ser negativo");
+        }
+        if (desde < getCantidadRegistros()) {
+            List<RegistroResultado> lote = new ArrayList<>(PASO_PROGRESO);
+            recorrerResultados(desde, registro -> {
+                lote.add(registro);
+                if (lote.size() == PASO_PROGRESO) {
+                    escucha.onGuardados(Collections.unmodifiableList(lote));
+                    lote.clear();
+                }
+            });
+            if (!lote.isEmpty()) {
+                escucha.onGuardados(Collections.unmodifiableList(lote));
+            }
+        }
+        escuchas.add(escucha);
+    }
+
+    /**
+     * Quita una escucha de los lotes guardados.
+     *
+     * @param escucha escucha a quitar
+     * @return true si estaba registrada
+     */
+    public boolean quitarEscucha(EscuchaResultados escucha) {
+        return escuchas.remove(escucha);
+    }
+
+    /**
+     * Recorre los registros del archivo en orden, de principio a fin, con
+     * una lectura secuencial en bloques y sin armar el texto de cada uno.
+     * Si el hilo es interrumpido, el recorrido se detiene.
+     *
+     * @param destino recibe cada registro leído
+     * @throws InterruptedIOException si el recorrido se canceló
+     * @throws IOException si hay error al leer
+     */
+    public void recorrerResultados(Consumer<RegistroResultado> destino) throws IOException {
+        recorrerResultados(0, destino);
+    }
+
+    /**
+     * Recorre los registros del archivo a partir de uno dado.
+     *
+     * @param desde número del primer registro a recorrer, desde 0
+     * @param destino recibe cada registro leído
+     * @throws InterruptedIOException si el recorrido se canceló
+     * @throws IOException si hay error al leer
+     */
+    public void recorrerResultados(long desde, Consumer<RegistroResultado> destino) throws IOException {
+        recorrerBloques(desde, buffer -> {
+            int clave = buffer.getInt();
+            String nombreEquipo = campo(buffer, LONGITUD_NOMBRE_EQUIPO);
+            String[] jugadores = new String[4];
+            for (int j = 0; j < 4; j++) {
+                jugadores[j] = campo(buffer, LONGITUD_NOMBRE_JUGADOR);
+            }
+            String resultado = campo(buffer, LONGITUD_RESULTADO);
+            int puntaje = buffer.getInt();
+            int ronda = buffer.getInt();
+            destino.accept(new RegistroResultado(clave, nombreEquipo, jugadores, resultado, puntaje, ronda));
+        });
+    }
+
+    /**
+     * Ejecuta una consulta sobre el archivo. Los filtros se evalúan sobre
+     * los bytes de cada registro y los textos sólo se decodifican si la
+     * consulta los necesita (ver {@link ConsultaResultados}).
+     *
+     * @param consulta filtros, agrupación y agregados
+     * @return una fila por grupo
+     * @throws InterruptedIOException si la consulta se canceló
+     * @throws IOException si hay error al leer
+     */
+    public List<FilaConsulta> consultar(ConsultaResultados consulta) throws IOException {
+        if (consulta == null) {
+            throw new IllegalArgumentException("La consulta no puede ser nula");
+        }
+        ConsultaResultados.Evaluacion evaluacion = consulta.evaluar();
+        recorrerBloques(0, evaluacion::acumular);
+        return evaluacion.getFilas();
+    }
+
+    /**
+     * Lee los registros del archivo en bloques secuenciales y entrega cada
+     * uno como un buffer posicionado al inicio del registro. El buffer se
+     * reutiliza, así que no debe guardarse.
+     */
+    private void recorrerBloques(long desde, Consumer<ByteBuffer> destino) throws IOException {
+        if (!archivo.exists()) {
+            return;
+        }
+        long cantidad = archivo.length() / TAM_REGISTRO;
+        byte[] bloque = new byte[TAM_REGISTRO];
+        ByteBuffer buffer = ByteBuffer.wrap(bloque);
+        try (FileInputStream fis = new FileInputStream(archivo);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(fis, 64 * TAM_REGISTRO))) {
+            fis.getChannel().position(Math.max(0, desde) * TAM_REGISTRO);
+            for (long i = Math.max(0, desde); i < cantidad; i++) {
+                if (i % PASO_PROGRESO == 0 && Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Lectura de resultados cancelada.");
+                }
+                try {
+                    in.readFully(bloque);
+                } catch (EOFException e) {
+                    // El archivo se recortó mientras se leía
+                    return;
+                }
+                buffer.clear();
+                destino.accept(buffer);
+            }
         }
     }
+
+    /**
+     * Lee un campo de texto de longitud fija de un bloque ya leído.
+     */
+    static String campo(ByteBuffer buffer, int longitud) {
+        int inicio = buffer.position();
+        buffer.position(inicio + longitud * 2);
+        return new String(buffer.array(), inicio, longitud * 2, StandardCharsets.UTF_16BE).trim();
+    }
     
     /**
      * Lee todos los resultados almacenados en el archivo.
@@ -123,16 +410,38 @@ public class GestorResultados {
      * @throws IOException si hay error al leer
      */
     public List<String> leerTodosLosResultados() throws IOException {
+        return leerTodosLosResultados(EscuchaProgreso.NINGUNA);
+    }
+
+    /**
+     * Lee todos los resultados informando el avance. Si el hilo que lee es
+     * interrumpido, la lectura se detiene en el siguiente registro.
+     *
+     * @param progreso escucha del avance, en registros leídos
+     * @return lista de strings con la información de cada registro
+     * @throws InterruptedIOException si la lectura se canceló
+     * @throws IOException si hay error al leer
+     */
+    public List<String> leerTodosLosResultados(EscuchaProgreso progreso) throws IOException {
         List<String> resultados = new ArrayList<>();
         
         if (!archivo.exists() || archivo.length() == 0) {
             return resultados;
         }
         
+        long inicio = System.nanoTime();
+        EventoLeerHistorialJfr evento = new EventoLeerHistorialJfr();
+        evento.begin();
         try (RandomAccessFile raf = new RandomAccessFile(archivo, "r")) {
             long cantidadRegistros = raf.length() / TAM_REGISTRO;
             
             for (int i = 0; i < cantidadRegistros; i++) {
+                if (i % PASO_PROGRESO == 0) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new InterruptedIOException("Lectura de resultados cancelada.");
+                    }
+                    progreso.onProgreso(i, cantidadRegistros);
+                }
                 raf.seek(i * TAM_REGISTRO);
                 
                 // Leer clave
@@ -174,37 +483,38 @@ public class GestorResultados {
                 
                 resultados.add(sb.toString());
             }
+            progreso.onProgreso(cantidadRegistros, cantidadRegistros);
+        }
+        LATENCIA_LEER.registrarDesde(inicio);
+        REGISTROS_LEIDOS.sumar(resultados.size());
+        if (evento.shouldCommit()) {
+            evento.setArchivo(archivo.getPath());
+            evento.setRegistros(resultados.size());
+            evento.commit();
         }
         
         return resultados;
     }
     
     /**
-     * Escribe un String de longitud fija en el archivo.
+     * Escribe un String de longitud fija en el buffer del lote, completando
+     * con espacios o recortando.
      * 
-     * @param raf archivo de acceso aleatorio
+     * @param buffer buffer donde se codifica el registro
      * @param texto texto a escribir
      * @param longitud longitud fija en caracteres
-     * @throws IOException si hay error al escribir
      */
-    private void escribirString(RandomAccessFile raf, String texto, int longitud) throws IOException {
+    private static void escribirString(ByteBuffer buffer, String texto, int longitud) {
         if (texto == null) {
             texto = "";
         }
-        
-        StringBuilder sb = new StringBuilder(texto);
-        
-        // Ajustar la longitud
-        if (sb.length() > longitud) {
-            sb.setLength(longitud);
-        } else {
-            while (sb.length() < longitud) {
-                sb.append(' ');
-            }
+        int largo = Math.min(texto.length(), longitud);
+        for (int i = 0; i < largo; i++) {
+            buffer.putChar(texto.charAt(i));
+        }
+        for (int i = largo; i < longitud; i++) {
+            buffer.putChar(' ');
         }
-        
-        // Escribir cada carácter
-        raf.writeChars(sb.toString());
     }
     
     /**
@@ -241,6 +551,15 @@ public class GestorResultados {
         }
     }
     
+    /**
+     * Obtiene el archivo de resultados.
+     * 
+     * @return archivo donde se guardan los registros
+     */
+    public File getArchivo() {
+        return archivo;
+    }
+
     /**
      * Obtiene la cantidad de registros guardados.
      * 
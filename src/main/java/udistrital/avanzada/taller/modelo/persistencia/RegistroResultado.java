@@ -0,0 +1,164 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package udistrital.avanzada.taller.modelo.persistencia;
+
+import java.util.List;
+import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.Jugador;
+
+/**
+ * Clase que representa un registro del archivo de resultados con sus campos
+ * ya separados: equipo, jugadores, resultado, puntaje final y ronda.
+ * Es inmutable, de modo que puede pasarse entre hilos sin copiarla.
+ *
+ * El resultado empieza con GANADOR o PERDEDOR; si la ronda se definió en
+ * muerte súbita y el equipo la jugó, lleva además el sufijo
+ * {@value #SUFIJO_MUERTE_SUBITA}.
+ *
+ * @author Juan Ariza
+ * @version 1.0
+ * 19/10/2026
+ */
+public class RegistroResultado {
+
+    /** Resultado del equipo que ganó la ronda. */
+    public static final String GANADOR = "GANADOR";
+    /** Resultado de los demás equipos. */
+    public static final String PERDEDOR = "PERDEDOR";
+    /** Sufijo del resultado de los equipos que jugaron la muerte súbita. */
+    public static final String SUFIJO_MUERTE_SUBITA = " (MUERTE SUBITA)";
+
+    private final int clave;
+    private final String nombreEquipo;
+    private final String[] jugadores;
+    private final String resultado;
+    private final int puntaje;
+    private final int ronda;
+
+    /**
+     * Constructor con todos los campos del registro.
+     *
+     * @param clave número de registro (0 si aún no se ha guardado)
+     * @param nombreEquipo nombre del equipo
+     * @param jugadores descripción de los 4 jugadores
+     * @param resultado resultado de la ronda (GANADOR/PERDEDOR)
+     * @param puntaje puntaje final del equipo
+     * @param ronda número de ronda
+     */
+    public RegistroResultado(int clave, String nombreEquipo, String[] jugadores,
+            String resultado, int puntaje, int ronda) {
+        if (jugadores == null || jugadores.length != 4) {
+            throw new IllegalArgumentException("El registro debe tener exactamente 4 jugadores.");
+        }
+        this.clave = clave;
+        this.nombreEquipo = nombreEquipo;
+        this.jugadores = jugadores.clone();
+        this.resultado = resultado;
+        this.puntaje = puntaje;
+        this.ronda = ronda;
+    }
+
+    /**
+     * Crea un registro nuevo (sin clave) a partir del estado actual de un equipo.
+     *
+     * @param equipo equipo a registrar
+     * @param resultado resultado de la ronda
+     * @param ronda número de ronda
+     * @return registro listo para guardarse
+     */
+    public static RegistroResultado desde(Equipo equipo, String resultado, int ronda) {
+        if (equipo == null) {
+            throw new IllegalArgumentException("El equipo no puede ser nulo");
+        }
+        List<Jugador> lista = equipo.getJugadores();
+        String[] jugadores = new String[4];
+        for (int i = 0; i < 4; i++) {
+            if (lista != null && i < lista.size() && lista.get(i) != null) {
+                Jugador j = lista.get(i);
+                jugadores[i] = (j.getNombre() != null ? j.getNombre() : "Sin nombre")
+                        + " (" + (j.getApodo() != null ? j.getApodo() : "Sin apodo") + ")";
+            } else {
+                jugadores[i] = "---";
+            }
+        }
+        return new RegistroResultado(0, equipo.getNombre(), jugadores,
+                resultado != null ? resultado : "DESCONOCIDO", equipo.getPuntaje(), ronda);
+    }
+
+    /**
+     * Arma el texto del resultado de un equipo.
+     *
+     * @param gano true si el equipo ganó la ronda
+     * @param muerteSubita true si el equipo jugó la muerte súbita que definió la ronda
+     * @return GANADOR o PERDEDOR, con el sufijo de muerte súbita si corresponde
+     */
+    public static String resultado(boolean gano, boolean muerteSubita) {
+        String base = gano ? GANADOR : PERDEDOR;
+        return muerteSubita ? base + SUFIJO_MUERTE_SUBITA : base;
+    }
+
+    /**
+     * Obtiene el número de registro
+     * @return clave del registro
+     */
+    public int getClave() {
+        return clave;
+    }
+
+    /**
+     * Obtiene el nombre del equipo
+     * @return nombre del equipo
+     */
+    public String getNombreEquipo() {
+        return nombreEquipo;
+    }
+
+    /**
+     * Obtiene la descripción de un jugador
+     * @param indice posición del jugador (0 a 3)
+     * @return nombre y apodo del jugador
+     */
+    public String getJugador(int indice) {
+        return jugadores[indice];
+    }
+
+    /**
+     * Obtiene el resultado de la ronda
+     * @return GANADOR, PERDEDOR u otro resultado
+     */
+    public String getResultado() {
+        return resultado;
+    }
+
+    /**
+     * @return true si el resultado es una victoria
+     */
+    public boolean isGanador() {
+        return resultado != null && resultado.startsWith(GANADOR);
+    }
+
+    /**
+     * @return true si el equipo jugó la muerte súbita que definió la ronda
+     */
+    public boolean isMuerteSubita() {
+        return resultado != null && resultado.endsWith(SUFIJO_MUERTE_SUBITA);
+    }
+
+    /**
+     * Obtiene el puntaje final
+     * @return puntaje final del equipo
+     */
+    public int getPuntaje() {
+        return puntaje;
+    }
+
+    /**
+     * Obtiene la ronda
+     * @return número de ronda
+     */
+    public int getRonda() {
+        return ronda;
+    }
+}
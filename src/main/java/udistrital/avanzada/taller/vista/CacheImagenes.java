@@ -0,0 +1,296 @@
+package udistrital.avanzada.taller.vista;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.imageio.ImageIO;
+
+/**
+ * Caché compartida de imágenes de recursos ya escaladas al tamaño en que se
+ * pintan.
+ *
+ * <p>Cada imagen se decodifica una sola vez y cada tamaño pedido se escala
+ * una sola vez sobre una imagen compatible con la pantalla, de modo que
+ * repintar un panel es copiar un bloque de píxeles. Las entradas se guardan
+ * con {@link SoftReference}, así que el recolector puede liberarlas si falta
+ * memoria, y la caché descarta las menos usadas cuando el total de píxeles
+ * pasa del límite (por ejemplo, al redimensionar una ventana).</p>
+ *
+ * <p>Las rutas se buscan primero como recursos de la aplicación y, si no
+ * existen, como archivos del disco (las fotos de los jugadores pueden venir
+ * de cualquiera de los dos lugares).</p>
+ *
+ * @author Paula Martínez
+ * @version 1.0
+ * 19/10/2026
+ */
+public final class CacheImagenes {
+
+    /** Límite por defecto: unos 64 MB de píxeles ARGB. */
+    public static final long PIXELES_POR_DEFECTO = 16L * 1024 * 1024;
+
+    private static final CacheImagenes GLOBAL = new CacheImagenes(PIXELES_POR_DEFECTO);
+
+    private final long limitePixeles;
+    private final LinkedHashMap<Clave, Entrada> entradas;
+    private long pixelesEnUso;
+
+    /**
+     * Constructor de una caché independiente (útil en pruebas).
+     *
+     * @param limitePixeles cantidad máxima de píxeles guardados entre todas las imágenes
+     */
+    public CacheImagenes(long limitePixeles) {
+        if (limitePixeles <= 0) {
+            throw new IllegalArgumentException("El límite de la caché debe ser positivo.");
+        }
+        this.limitePixeles = limitePixeles;
+        this.entradas = new LinkedHashMap<>(64, 0.75f, true);
+    }
+
+    /**
+     * @return caché compartida por todas las ventanas
+     */
+    public static CacheImagenes global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Obtiene una imagen de recurso escalada a un tamaño.
+     *
+     * @param ruta ruta del recurso, por ejemplo {@code /Images/Logo.png}
+     * @param ancho ancho en píxeles
+     * @param alto alto en píxeles
+     * @param configuracion configuración gráfica de destino; si es null se usa ARGB
+     * @return imagen escalada, o null si el recurso no existe o no se puede leer
+     */
+    public BufferedImage obtener(String ruta, int ancho, int alto, GraphicsConfiguration configuracion) {
+        if (ruta == null || ancho <= 0 || alto <= 0) {
+            return null;
+        }
+        Clave clave = new Clave(ruta, ancho, alto, false);
+        BufferedImage escalada = buscar(clave);
+        if (escalada != null) {
+            return escalada;
+        }
+        BufferedImage original = obtenerOriginal(ruta);
+        if (original == null) {
+            return null;
+        }
+        escalada = escalar(original, ancho, alto, configuracion);
+        guardar(clave, escalada);
+        return escalada;
+    }
+
+    /**
+     * Obtiene una miniatura cuadrada: el centro de la imagen recortado al
+     * cuadrado más grande posible y escalado al lado pedido, sin deformarla.
+     *
+     * @param ruta ruta del recurso o archivo
+     * @param lado lado de la miniatura en píxeles
+     * @param configuracion configuración gráfica de destino; si es null se usa ARGB
+     * @return miniatura, o null si la imagen no existe o no se puede leer
+     */
+    public BufferedImage obtenerMiniatura(String ruta, int lado, GraphicsConfiguration configuracion) {
+        if (ruta == null || lado <= 0) {
+            return null;
+        }
+        Clave clave = new Clave(ruta, lado, lado, true);
+        BufferedImage miniatura = buscar(clave);
+        if (miniatura != null) {
+            return miniatura;
+        }
+        BufferedImage original = obtenerOriginal(ruta);
+        if (original == null) {
+            return null;
+        }
+        int corte = Math.min(original.getWidth(), original.getHeight());
+        BufferedImage centro = original.getSubimage((original.getWidth() - corte) / 2,
+                (original.getHeight() - corte) / 2, corte, corte);
+        miniatura = escalar(centro, lado, lado, configuracion);
+        guardar(clave, miniatura);
+        return miniatura;
+    }
+
+    /**
+     * Consulta una miniatura sin decodificar ni escalar nada.
+     *
+     * @param ruta ruta del recurso o archivo
+     * @param lado lado de la miniatura
+     * @return miniatura si ya está en la caché, o null
+     */
+    public BufferedImage consultarMiniatura(String ruta, int lado) {
+        return ruta == null ? null : buscar(new Clave(ruta, lado, lado, true));
+    }
+
+    /**
+     * Obtiene la imagen decodificada a su tamaño original.
+     *
+     * @param ruta ruta del recurso
+     * @return imagen original, o null si el recurso no existe o no se puede leer
+     */
+    public BufferedImage obtenerOriginal(String ruta) {
+        Clave clave = new Clave(ruta, -1, -1, false);
+        BufferedImage original = buscar(clave);
+        if (original == null) {
+            original = decodificar(ruta);
+            if (original != null) {
+                guardar(clave, original);
+            }
+        }
+        return original;
+    }
+
+    /**
+     * @return cantidad de imágenes en la caché
+     */
+    public synchronized int getCantidad() {
+        return entradas.size();
+    }
+
+    /**
+     * @return píxeles ocupados por las imágenes en la caché
+     */
+    public synchronized long getPixelesEnUso() {
+        return pixelesEnUso;
+    }
+
+    /**
+     * Vacía la caché.
+     */
+    public synchronized void limpiar() {
+        entradas.clear();
+        pixelesEnUso = 0;
+    }
+
+    private synchronized BufferedImage buscar(Clave clave) {
+        Entrada entrada = entradas.get(clave);
+        if (entrada == null) {
+            return null;
+        }
+        BufferedImage imagen = entrada.imagen.get();
+        if (imagen == null) {
+            // El recolector la liberó
+            entradas.remove(clave);
+            pixelesEnUso -= entrada.pixeles;
+        }
+        return imagen;
+    }
+
+    private synchronized void guardar(Clave clave, BufferedImage imagen) {
+        long pixeles = (long) imagen.getWidth() * imagen.getHeight();
+        Entrada anterior = entradas.put(clave, new Entrada(imagen, pixeles));
+        if (anterior != null) {
+            pixelesEnUso -= anterior.pixeles;
+        }
+        pixelesEnUso += pixeles;
+
+        // Descartar las menos usadas, sin sacar la recién guardada
+        Iterator<Map.Entry<Clave, Entrada>> it = entradas.entrySet().iterator();
+        while (pixelesEnUso > limitePixeles && entradas.size() > 1) {
+            Map.Entry<Clave, Entrada> e = it.next();
+            pixelesEnUso -= e.getValue().pixeles;
+            it.remove();
+        }
+    }
+
+    private BufferedImage decodificar(String ruta) {
+        try (InputStream in = CacheImagenes.class.getResourceAsStream(ruta)) {
+            if (in != null) {
+                return ImageIO.read(in);
+            }
+            File archivo = new File(ruta);
+            return archivo.isFile() ? ImageIO.read(archivo) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Escala una imagen sobre una imagen compatible con la pantalla. Para
+     * reducciones grandes se reduce a la mitad por pasos, lo que evita el
+     * aliasing de un solo paso bilineal.
+     */
+    static BufferedImage escalar(BufferedImage original, int ancho, int alto, GraphicsConfiguration configuracion) {
+        BufferedImage actual = original;
+        int w = original.getWidth();
+        int h = original.getHeight();
+        while (w / 2 >= ancho && h / 2 >= alto) {
+            w /= 2;
+            h /= 2;
+            actual = dibujar(actual, w, h, new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB));
+        }
+        BufferedImage destino = configuracion != null
+                ? configuracion.createCompatibleImage(ancho, alto, original.getColorModel().getTransparency())
+                : new BufferedImage(ancho, alto, original.getColorModel().getTransparency() == Transparency.OPAQUE
+                        ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        return dibujar(actual, ancho, alto, destino);
+    }
+
+    private static BufferedImage dibujar(BufferedImage origen, int ancho, int alto, BufferedImage destino) {
+        Graphics2D g = destino.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(origen, 0, 0, ancho, alto, null);
+        } finally {
+            g.dispose();
+        }
+        return destino;
+    }
+
+    /**
+     * Identifica una imagen por ruta, tamaño y si está recortada; el tamaño
+     * -1 es la original.
+     */
+    private static final class Clave {
+
+        private final String ruta;
+        private final int ancho;
+        private final int alto;
+        private final boolean recortada;
+
+        Clave(String ruta, int ancho, int alto, boolean recortada) {
+            this.ruta = ruta;
+            this.ancho = ancho;
+            this.alto = alto;
+            this.recortada = recortada;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Clave)) {
+                return false;
+            }
+            Clave otra = (Clave) o;
+            return ancho == otra.ancho && alto == otra.alto && recortada == otra.recortada
+                    && ruta.equals(otra.ruta);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ruta, ancho, alto, recortada);
+        }
+    }
+
+    private static final class Entrada {
+
+        private final SoftReference<BufferedImage> imagen;
+        private final long pixeles;
+
+        Entrada(BufferedImage imagen, long pixeles) {
+            this.imagen = new SoftReference<>(imagen);
+            this.pixeles = pixeles;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package udistrital.avanzada.taller.vista;
+
+/**
+ * Entrada inmutable de la bitácora de lanzamientos de la ventana principal.
+ * El texto se guarda ya partido en líneas para que pintarla no tenga que
+ * volver a recorrerlo.
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0
+ * 19/10/2026
+ */
+public final class EntradaBitacora {
+
+    /**
+     * Clase de suceso que registra la entrada.
+     */
+    public enum Tipo {
+        /** Lanzamiento dentro de una mano. */
+        LANZAMIENTO,
+        /** Lanzamiento que cerró la mano de un equipo. */
+        MANO_COMPLETA,
+        /** Enfrentamiento de muerte súbita. */
+        MUERTE_SUBITA,
+        /** Lanzamiento que terminó la ronda. */
+        FIN_RONDA,
+        /** Aviso de la interfaz, como el inicio de una ronda. */
+        AVISO
+    }
+
+    private final long numero;
+    private final int ronda;
+    private final Tipo tipo;
+    private final String[] lineas;
+    private final int maximoCaracteres;
+
+    /**
+     * Constructor
+     *
+     * @param numero número de la entrada, creciente en toda la partida
+     * @param ronda ronda en la que ocurrió
+     * @param tipo clase de suceso
+     * @param texto texto del suceso, posiblemente de varias líneas
+     */
+    public EntradaBitacora(long numero, int ronda, Tipo tipo, String texto) {
+        if (tipo == null || texto == null) {
+            throw new IllegalArgumentException("El tipo y el texto no pueden ser nulos.");
+        }
+        this.numero = numero;
+        this.ronda = ronda;
+        this.tipo = tipo;
+        this.lineas = texto.strip().split("\n", -1);
+        int maximo = 0;
+        for (String linea : lineas) {
+            maximo = Math.max(maximo, linea.length());
+        }
+        this.maximoCaracteres = maximo;
+    }
+
+    /**
+     * @return número de la entrada
+     */
+    public long getNumero() {
+        return numero;
+    }
+
+    /**
+     * @return ronda en la que ocurrió
+     */
+    public int getRonda() {
+        return ronda;
+    }
+
+    /**
+     * @return clase de suceso
+     */
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    /**
+     * @return cantidad de líneas del texto
+     */
+    public int getCantidadLineas() {
+        return lineas.length;
+    }
+
+    /**
+     * @param i índice de la línea
+     * @return línea del texto
+     */
+    public String getLinea(int i) {
+        return lineas[i];
+    }
+
+    /**
+     * @return longitud de la línea más larga
+     */
+    public int getMaximoCaracteres() {
+        return maximoCaracteres;
+    }
+
+    /**
+     * @return texto completo de la entrada
+     */
+    public String getTexto() {
+        return String.join("\n", lineas);
+    }
+
+    @Override
+    public String toString() {
+        return getTexto();
+    }
+}
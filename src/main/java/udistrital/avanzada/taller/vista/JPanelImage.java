@@ -5,8 +5,7 @@
 package udistrital.avanzada.taller.vista;
 
 import java.awt.Graphics;
-import java.awt.Image;
-import javax.swing.ImageIcon;
+import java.awt.image.BufferedImage;
 import javax.swing.JPanel;
 
 /**
@@ -18,6 +17,9 @@ import javax.swing.JPanel;
  * poner imagenes en paneles
  * 
  * //Codigo modificado desde https://www.youtube.com/watch?v=wdoiH4c44pA&t=2s
+ *
+ * La imagen se pide a {@link CacheImagenes} ya escalada al tamaño del
+ * panel, así que repintar no vuelve a decodificar ni a escalar.
  */
 
 
@@ -33,8 +35,10 @@ public class JPanelImage extends JPanel {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        ImageIcon icon = new ImageIcon(getClass().getResource(path));
-        Image img = icon.getImage();
-        g.drawImage(img, 0, 0, getWidth(), getHeight(), this);
+        BufferedImage img = CacheImagenes.global().obtener(path, getWidth(), getHeight(),
+                getGraphicsConfiguration());
+        if (img != null) {
+            g.drawImage(img, 0, 0, this);
+        }
     }
 }
@@ -0,0 +1,317 @@
+package udistrital.avanzada.taller.vista;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.swing.AbstractListModel;
+
+/**
+ * Modelo de lista de la bitácora de lanzamientos, sobre un búfer circular
+ * de capacidad fija.
+ *
+ * <p>Agregar una entrada cuesta lo mismo sin importar cuántas haya: cuando
+ * el búfer está lleno se descarta la más vieja. Si se indica un archivo de
+ * derrame, las entradas descartadas (y las que se borran al limpiar) se
+ * escriben ahí en un hilo aparte, de modo que la historia completa queda en
+ * disco sin ocupar memoria ni frenar el hilo de eventos. El hilo de
+ * derrame mantiene el archivo abierto y escribe por lotes lo que encuentre
+ * pendiente. La cola de pendientes es acotada: si el disco no da abasto,
+ * las entradas que no caben se cuentan como no derramadas en lugar de
+ * acumularse en memoria o detener el hilo de eventos.</p>
+ *
+ * <p>Para ráfagas, {@link #agregarTodas(List)} agrega un lote con un solo
+ * aviso a la lista: del lote sólo entran las últimas entradas que caben y
+ * las demás van directo al derrame.</p>
+ *
+ * <p>Como todo modelo de Swing, se usa desde el hilo de eventos; sólo
+ * {@link #derramarDirecto(EntradaBitacora)} puede llamarse desde otro hilo.</p>
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0
+ * 19/10/2026
+ */
+public class ModeloBitacora extends AbstractListModel<EntradaBitacora> {
+
+    /** Capacidad por defecto del búfer. */
+    public static final int CAPACIDAD_POR_DEFECTO = 500;
+    /** Entradas que pueden esperar a ser derramadas, por defecto. */
+    public static final int PENDIENTES_POR_DEFECTO = 8192;
+    private static final int TAM_LOTE = 512;
+    private static final EntradaBitacora FIN = new EntradaBitacora(-1, 0, EntradaBitacora.Tipo.LANZAMIENTO, "");
+
+    private final EntradaBitacora[] entradas;
+    private final File derrame;
+    private final BlockingQueue<EntradaBitacora> pendientes;
+    private final Thread escritor;
+    private volatile boolean cerrada;
+    private int inicio;
+    private int tamano;
+    private final AtomicLong descartadas = new AtomicLong();
+    private final AtomicLong sinDerramar = new AtomicLong();
+
+    /**
+     * Constructor
+     *
+     * @param capacidad entradas que se conservan en memoria
+     * @param derrame archivo donde se agregan las entradas descartadas, o null para perderlas
+     */
+    public ModeloBitacora(int capacidad, File derrame) {
+        this(capacidad, derrame, PENDIENTES_POR_DEFECTO);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param capacidad entradas que se conservan en memoria
+     * @param derrame archivo donde se agregan las entradas descartadas, o null para perderlas
+     * @param maximoPendientes entradas que pueden esperar a ser escritas en el derrame
+     */
+    public ModeloBitacora(int capacidad, File derrame, int maximoPendientes) {
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException("La capacidad de la bitácora debe ser positiva.");
+        }
+        if (maximoPendientes <= 0) {
+            throw new IllegalArgumentException("La cola del derrame debe ser positiva.");
+        }
+        this.entradas = new EntradaBitacora[capacidad];
+        this.derrame = derrame;
+        if (derrame == null) {
+            this.pendientes = null;
+            this.escritor = null;
+        } else {
+            this.pendientes = new ArrayBlockingQueue<>(maximoPendientes);
+            this.escritor = new Thread(this::escribirDerrame, "bitacora-derrame");
+            this.escritor.setDaemon(true);
+            this.escritor.start();
+        }
+    }
+
+    /**
+     * Agrega una entrada al final; si el búfer está lleno, descarta la más vieja.
+     *
+     * @param entrada entrada a agregar
+     */
+    public void agregar(EntradaBitacora entrada) {
+        if (entrada == null) {
+            throw new IllegalArgumentException("La entrada no puede ser nula.");
+        }
+        if (tamano == entradas.length) {
+            EntradaBitacora vieja = entradas[inicio];
+            entradas[inicio] = entrada;
+            inicio = (inicio + 1) % entradas.length;
+            descartadas.incrementAndGet();
+            derramar(vieja);
+            fireIntervalRemoved(this, 0, 0);
+        } else {
+            entradas[(inicio + tamano) % entradas.length] = entrada;
+            tamano++;
+        }
+        fireIntervalAdded(this, tamano - 1, tamano - 1);
+    }
+
+    /**
+     * Agrega un lote de entradas al final con un solo aviso a la lista. Si
+     * el lote no cabe, sólo entran sus últimas entradas y las anteriores se
+     * descartan de una vez, como si hubieran entrado y salido; el derrame
+     * conserva el orden.
+     *
+     * @param lote entradas a agregar, de la más vieja a la más nueva
+     */
+    public void agregarTodas(List<EntradaBitacora> lote) {
+        if (lote == null) {
+            throw new IllegalArgumentException("El lote no puede ser nulo.");
+        }
+        for (EntradaBitacora entrada : lote) {
+            if (entrada == null) {
+                throw new IllegalArgumentException("La entrada no puede ser nula.");
+            }
+        }
+        if (lote.isEmpty()) {
+            return;
+        }
+        int nuevas = Math.min(lote.size(), entradas.length);
+        int sobrantes = lote.size() - nuevas;
+        int desplazadas = Math.max(0, tamano + nuevas - entradas.length);
+        for (int i = 0; i < desplazadas; i++) {
+            derramar(entradas[inicio]);
+            entradas[inicio] = null;
+            inicio = (inicio + 1) % entradas.length;
+            tamano--;
+        }
+        for (int i = 0; i < sobrantes; i++) {
+            derramar(lote.get(i));
+        }
+        descartadas.addAndGet(desplazadas + sobrantes);
+        int antes = tamano;
+        for (int i = sobrantes; i < lote.size(); i++) {
+            entradas[(inicio + tamano) % entradas.length] = lote.get(i);
+            tamano++;
+        }
+        if (desplazadas > 0) {
+            // Las posiciones se corrieron: un solo aviso de cambio de toda la lista
+            fireContentsChanged(this, 0, tamano - 1);
+        } else {
+            fireIntervalAdded(this, antes, tamano - 1);
+        }
+    }
+
+    /**
+     * Manda una entrada al derrame sin pasar por la lista, para entradas que
+     * ya no alcanzarían a mostrarse. Cuenta como descartada. Puede llamarse
+     * desde cualquier hilo.
+     *
+     * @param entrada entrada a derramar
+     */
+    public void derramarDirecto(EntradaBitacora entrada) {
+        if (entrada == null) {
+            throw new IllegalArgumentException("La entrada no puede ser nula.");
+        }
+        descartadas.incrementAndGet();
+        derramar(entrada);
+    }
+
+    /**
+     * Vacía la bitácora. Las entradas se derraman al archivo si hay uno.
+     */
+    public void limpiar() {
+        if (tamano == 0) {
+            return;
+        }
+        for (int i = 0; i < tamano; i++) {
+            derramar(getElementAt(i));
+        }
+        int anterior = tamano;
+        Arrays.fill(entradas, null);
+        inicio = 0;
+        tamano = 0;
+        fireIntervalRemoved(this, 0, anterior - 1);
+    }
+
+    @Override
+    public int getSize() {
+        return tamano;
+    }
+
+    @Override
+    public EntradaBitacora getElementAt(int indice) {
+        if (indice < 0 || indice >= tamano) {
+            throw new IndexOutOfBoundsException("Índice fuera de la bitácora: " + indice);
+        }
+        return entradas[(inicio + indice) % entradas.length];
+    }
+
+    /**
+     * @return entradas que se conservan en memoria como máximo
+     */
+    public int getCapacidad() {
+        return entradas.length;
+    }
+
+    /**
+     * @return entradas descartadas por falta de espacio
+     */
+    public long getDescartadas() {
+        return descartadas.get();
+    }
+
+    /**
+     * @return entradas que debían derramarse pero no cupieron en la cola del derrame
+     */
+    public long getSinDerramar() {
+        return sinDerramar.get();
+    }
+
+    /**
+     * Espera a que se escriban las entradas derramadas pendientes y detiene
+     * el hilo de escritura.
+     */
+    public void cerrar() {
+        if (escritor == null || cerrada) {
+            return;
+        }
+        cerrada = true;
+        try {
+            if (pendientes.offer(FIN, 5, TimeUnit.SECONDS)) {
+                escritor.join(5000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Deja una entrada en la cola del derrame sin esperar; si la cola está
+     * llena, la entrada se cuenta como no derramada.
+     */
+    private void derramar(EntradaBitacora entrada) {
+        if (pendientes == null || cerrada) {
+            return;
+        }
+        if (!pendientes.offer(entrada)) {
+            sinDerramar.incrementAndGet();
+        }
+    }
+
+    /**
+     * Hilo de derrame: mantiene el archivo abierto y escribe por lotes las
+     * entradas pendientes, vaciando el búfer cuando no queda nada por escribir.
+     */
+    private void escribirDerrame() {
+        List<EntradaBitacora> lote = new ArrayList<>(TAM_LOTE);
+        BufferedWriter out = null;
+        try {
+            boolean terminar = false;
+            while (!terminar) {
+                lote.add(pendientes.take());
+                pendientes.drainTo(lote, TAM_LOTE - 1);
+                try {
+                    if (out == null) {
+                        out = Files.newBufferedWriter(derrame.toPath(), StandardCharsets.UTF_8,
+                                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                    }
+                    for (EntradaBitacora e : lote) {
+                        if (e == FIN) {
+                            terminar = true;
+                            break;
+                        }
+                        out.write("# " + e.getNumero() + " ronda=" + e.getRonda() + " " + e.getTipo() + "\n");
+                        out.write(e.getTexto());
+                        out.write("\n\n");
+                    }
+                    if (pendientes.isEmpty()) {
+                        out.flush();
+                    }
+                } catch (IOException ex) {
+                    System.err.println("No se pudo escribir la bitácora en " + derrame + ": " + ex.getMessage());
+                    out = cerrarArchivo(out);
+                }
+                lote.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            cerrarArchivo(out);
+        }
+    }
+
+    private BufferedWriter cerrarArchivo(BufferedWriter out) {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException ex) {
+                System.err.println("No se pudo cerrar la bitácora " + derrame + ": " + ex.getMessage());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,116 @@
+package udistrital.avanzada.taller.vista;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import udistrital.avanzada.taller.modelo.Jugador;
+
+/**
+ * Panel que muestra la foto de un jugador.
+ *
+ * <p>La foto se pide a {@link ServicioFotos}; mientras llega se dibuja un
+ * marcador con la inicial del apodo. Si el panel cambia de jugador antes de
+ * que llegue la foto anterior, esa foto se ignora.</p>
+ *
+ * @author Paula Martínez
+ * @version 1.0
+ * 19/10/2026
+ */
+public class PanelFoto extends JPanel {
+
+    private static final Color COLOR_MARCADOR = new Color(205, 190, 160);
+    private static final Color COLOR_INICIAL = new Color(139, 69, 19);
+
+    private final int lado;
+    private final Font fuenteInicial;
+    private Jugador jugador;
+    private BufferedImage foto;
+
+    /**
+     * Constructor
+     *
+     * @param lado lado de la foto en píxeles
+     */
+    public PanelFoto(int lado) {
+        this.lado = lado;
+        this.fuenteInicial = new Font("Arial Black", Font.BOLD, Math.max(8, lado / 2));
+        setPreferredSize(new Dimension(lado, lado));
+        setOpaque(false);
+    }
+
+    /**
+     * Muestra la foto de un jugador. Debe llamarse desde el hilo de eventos.
+     *
+     * @param jugador jugador a mostrar, o null para dejar el panel vacío
+     */
+    public void mostrar(Jugador jugador) {
+        if (jugador == this.jugador) {
+            return;
+        }
+        this.jugador = jugador;
+        this.foto = null;
+        if (jugador != null) {
+            ServicioFotos servicio = ServicioFotos.global();
+            foto = servicio.consultar(jugador.getRutaFoto(), lado);
+            if (foto == null) {
+                servicio.miniatura(jugador.getRutaFoto(), lado).thenAccept(imagen ->
+                        SwingUtilities.invokeLater(() -> {
+                            if (this.jugador == jugador) {
+                                foto = imagen;
+                                repaint();
+                            }
+                        }));
+            }
+        }
+        repaint();
+    }
+
+    /**
+     * @return jugador mostrado
+     */
+    public Jugador getJugador() {
+        return jugador;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (jugador == null) {
+            return;
+        }
+        int x = (getWidth() - lado) / 2;
+        int y = (getHeight() - lado) / 2;
+        if (foto != null) {
+            g.drawImage(foto, x, y, this);
+            return;
+        }
+        dibujarMarcador((Graphics2D) g.create(), x, y);
+    }
+
+    /**
+     * Dibuja un círculo con la inicial del apodo mientras carga la foto.
+     */
+    private void dibujarMarcador(Graphics2D g, int x, int y) {
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setColor(COLOR_MARCADOR);
+            g.fillOval(x, y, lado, lado);
+            String apodo = jugador.getApodo();
+            String inicial = apodo == null || apodo.isBlank() ? "?" : apodo.substring(0, 1).toUpperCase();
+            g.setColor(COLOR_INICIAL);
+            g.setFont(fuenteInicial);
+            FontMetrics fm = g.getFontMetrics();
+            g.drawString(inicial, x + (lado - fm.stringWidth(inicial)) / 2,
+                    y + (lado - fm.getHeight()) / 2 + fm.getAscent());
+        } finally {
+            g.dispose();
+        }
+    }
+}
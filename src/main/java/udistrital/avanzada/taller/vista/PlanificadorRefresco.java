@@ -0,0 +1,106 @@
+package udistrital.avanzada.taller.vista;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Agrupa las solicitudes de refresco de una ventana en a lo sumo un refresco
+ * por cuadro.
+ *
+ * <p>Cada cambio del motor llama a {@link #solicitar()}, desde cualquier
+ * hilo. Si ya hay un refresco pendiente la solicitud no hace nada; si no,
+ * se programa uno en el hilo de eventos para el próximo cuadro, respetando
+ * el intervalo mínimo entre cuadros. El refresco lee el estado más reciente,
+ * así que los estados intermedios de una ráfaga de lanzamientos nunca se
+ * pintan.</p>
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0
+ * 19/10/2026
+ */
+public final class PlanificadorRefresco {
+
+    /** Cuadros por segundo por defecto. */
+    public static final int CUADROS_POR_SEGUNDO = 60;
+
+    private final Runnable refresco;
+    private final long periodoNanos;
+    private final Timer temporizador;
+    private final AtomicBoolean pendiente;
+    private long ultimoCuadro;
+    private long cuadros;
+
+    /**
+     * Constructor
+     *
+     * @param cuadrosPorSegundo refrescos por segundo como máximo
+     * @param refresco acción que actualiza la interfaz; se ejecuta en el hilo de eventos
+     */
+    public PlanificadorRefresco(int cuadrosPorSegundo, Runnable refresco) {
+        if (cuadrosPorSegundo <= 0 || refresco == null) {
+            throw new IllegalArgumentException("Se requieren una acción de refresco y una frecuencia positiva.");
+        }
+        this.refresco = refresco;
+        this.periodoNanos = 1_000_000_000L / cuadrosPorSegundo;
+        this.pendiente = new AtomicBoolean();
+        this.temporizador = new Timer(0, e -> ejecutar());
+        this.temporizador.setRepeats(false);
+        this.ultimoCuadro = System.nanoTime() - periodoNanos;
+    }
+
+    /**
+     * Pide un refresco. Puede llamarse desde cualquier hilo y tantas veces
+     * como se quiera: las solicitudes hechas antes del próximo cuadro se
+     * atienden con un solo refresco.
+     */
+    public void solicitar() {
+        if (pendiente.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::programar);
+        }
+    }
+
+    /**
+     * Ejecuta ya el refresco pendiente, si lo hay. Se usa antes de mostrar
+     * un diálogo para que la ventana de atrás quede al día. Debe llamarse
+     * desde el hilo de eventos.
+     */
+    public void refrescarAhora() {
+        if (pendiente.get()) {
+            temporizador.stop();
+            ejecutar();
+        }
+    }
+
+    /**
+     * @return refrescos ejecutados hasta ahora
+     */
+    public long getCuadros() {
+        return cuadros;
+    }
+
+    /**
+     * Programa el refresco para el próximo cuadro libre.
+     */
+    private void programar() {
+        if (!pendiente.get() || temporizador.isRunning()) {
+            return;
+        }
+        long espera = ultimoCuadro + periodoNanos - System.nanoTime();
+        if (espera <= 0) {
+            ejecutar();
+        } else {
+            temporizador.setInitialDelay((int) Math.max(1, espera / 1_000_000));
+            temporizador.restart();
+        }
+    }
+
+    private void ejecutar() {
+        if (!pendiente.getAndSet(false)) {
+            return;
+        }
+        ultimoCuadro = System.nanoTime();
+        cuadros++;
+        refresco.run();
+    }
+}
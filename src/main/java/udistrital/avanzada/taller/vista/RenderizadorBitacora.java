@@ -0,0 +1,95 @@
+package udistrital.avanzada.taller.vista;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.swing.JComponent;
+import javax.swing.JList;
+import javax.swing.ListCellRenderer;
+
+/**
+ * Pinta una {@link EntradaBitacora} como un bloque de líneas de texto
+ * monoespaciado, con una franja de color según el tipo de suceso.
+ *
+ * <p>El tamaño de cada celda sale de la cantidad de líneas y de la línea
+ * más larga, sin medir el texto, así que la lista puede calcular la altura
+ * de cientos de entradas sin costo apreciable. Sólo se pintan las celdas
+ * visibles.</p>
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0
+ * 19/10/2026
+ */
+public class RenderizadorBitacora extends JComponent implements ListCellRenderer<EntradaBitacora> {
+
+    private static final int MARGEN = 6;
+    private static final int FRANJA = 4;
+    private static final Color FONDO = new Color(255, 255, 240);
+    private static final Color FONDO_SELECCION = new Color(238, 232, 205);
+    private static final Map<EntradaBitacora.Tipo, Color> COLORES = new EnumMap<>(EntradaBitacora.Tipo.class);
+
+    static {
+        COLORES.put(EntradaBitacora.Tipo.LANZAMIENTO, new Color(205, 190, 160));
+        COLORES.put(EntradaBitacora.Tipo.MANO_COMPLETA, new Color(102, 205, 170));
+        COLORES.put(EntradaBitacora.Tipo.MUERTE_SUBITA, new Color(220, 20, 60));
+        COLORES.put(EntradaBitacora.Tipo.FIN_RONDA, new Color(139, 69, 19));
+        COLORES.put(EntradaBitacora.Tipo.AVISO, new Color(70, 130, 180));
+    }
+
+    private final FontMetrics metricas;
+    private EntradaBitacora entrada;
+    private boolean seleccionada;
+
+    /**
+     * Constructor
+     *
+     * @param fuente fuente monoespaciada del texto
+     */
+    public RenderizadorBitacora(Font fuente) {
+        setFont(fuente);
+        this.metricas = getFontMetrics(fuente);
+        setOpaque(true);
+    }
+
+    @Override
+    public Component getListCellRendererComponent(JList<? extends EntradaBitacora> lista, EntradaBitacora valor,
+            int indice, boolean seleccionada, boolean conFoco) {
+        this.entrada = valor;
+        this.seleccionada = seleccionada;
+        return this;
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (entrada == null) {
+            return new Dimension(0, 0);
+        }
+        int ancho = FRANJA + 2 * MARGEN + entrada.getMaximoCaracteres() * metricas.charWidth('M');
+        int alto = 2 * MARGEN + entrada.getCantidadLineas() * metricas.getHeight();
+        return new Dimension(ancho, alto);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        g.setColor(seleccionada ? FONDO_SELECCION : FONDO);
+        g.fillRect(0, 0, getWidth(), getHeight());
+        if (entrada == null) {
+            return;
+        }
+        g.setColor(COLORES.get(entrada.getTipo()));
+        g.fillRect(0, 0, FRANJA, getHeight());
+
+        g.setColor(Color.BLACK);
+        g.setFont(getFont());
+        int y = MARGEN + metricas.getAscent();
+        for (int i = 0; i < entrada.getCantidadLineas(); i++) {
+            g.drawString(entrada.getLinea(i), FRANJA + MARGEN, y);
+            y += metricas.getHeight();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package udistrital.avanzada.taller.vista;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Carga las fotos de los jugadores en segundo plano.
+ *
+ * <p>Las fotos se decodifican y se reducen a miniaturas en un grupo pequeño
+ * de hilos, nunca en el hilo de eventos de Swing. Las miniaturas quedan en
+ * {@link CacheImagenes#global()}, de modo que todas las ventanas comparten la
+ * misma imagen decodificada; si dos ventanas piden la misma miniatura
+ * mientras se carga, ambas esperan la misma tarea.</p>
+ *
+ * @author Paula Martínez
+ * @version 1.0
+ * 19/10/2026
+ */
+public final class ServicioFotos {
+
+    /** Lado de las miniaturas de la ventana principal. */
+    public static final int LADO_GRANDE = 170;
+    /** Lado de las miniaturas de listas y resultados. */
+    public static final int LADO_PEQUENO = 64;
+
+    private static final ServicioFotos GLOBAL = new ServicioFotos(CacheImagenes.global(), 2);
+
+    private final CacheImagenes cache;
+    private final ExecutorService hilos;
+    private final ConcurrentMap<String, CompletableFuture<BufferedImage>> enCurso;
+
+    /**
+     * Constructor de un servicio independiente (útil en pruebas).
+     *
+     * @param cache caché donde quedan las miniaturas
+     * @param cantidadHilos hilos que decodifican fotos
+     */
+    public ServicioFotos(CacheImagenes cache, int cantidadHilos) {
+        if (cache == null || cantidadHilos <= 0) {
+            throw new IllegalArgumentException("Se requieren una caché y al menos un hilo.");
+        }
+        this.cache = cache;
+        this.enCurso = new ConcurrentHashMap<>();
+        AtomicInteger numero = new AtomicInteger();
+        this.hilos = Executors.newFixedThreadPool(cantidadHilos, r -> {
+            Thread hilo = new Thread(r, "argolla-fotos-" + numero.incrementAndGet());
+            hilo.setDaemon(true);
+            hilo.setPriority(Thread.NORM_PRIORITY - 1);
+            return hilo;
+        });
+    }
+
+    /**
+     * @return servicio compartido por todas las ventanas
+     */
+    public static ServicioFotos global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Pide la miniatura de una foto. Si ya está en la caché, el futuro se
+     * devuelve completo.
+     *
+     * @param ruta ruta de la foto (recurso o archivo)
+     * @param lado lado de la miniatura
+     * @return futuro con la miniatura, o con null si la foto no existe
+     */
+    public CompletableFuture<BufferedImage> miniatura(String ruta, int lado) {
+        BufferedImage lista = consultar(ruta, lado);
+        if (lista != null || ruta == null) {
+            return CompletableFuture.completedFuture(lista);
+        }
+        String clave = ruta + '@' + lado;
+        CompletableFuture<BufferedImage> nueva = new CompletableFuture<>();
+        CompletableFuture<BufferedImage> existente = enCurso.putIfAbsent(clave, nueva);
+        if (existente != null) {
+            return existente;
+        }
+        hilos.execute(() -> {
+            try {
+                nueva.complete(cache.obtenerMiniatura(ruta, lado, configuracionPantalla()));
+            } catch (RuntimeException e) {
+                nueva.completeExceptionally(e);
+            } finally {
+                enCurso.remove(clave, nueva);
+            }
+        });
+        return nueva;
+    }
+
+    /**
+     * Empieza a cargar una miniatura que se va a necesitar pronto.
+     *
+     * @param ruta ruta de la foto
+     * @param lado lado de la miniatura
+     */
+    public void precargar(String ruta, int lado) {
+        miniatura(ruta, lado);
+    }
+
+    /**
+     * Devuelve la miniatura sólo si ya está cargada, sin esperar.
+     *
+     * @param ruta ruta de la foto
+     * @param lado lado de la miniatura
+     * @return miniatura, o null si todavía no está
+     */
+    public BufferedImage consultar(String ruta, int lado) {
+        return cache.consultarMiniatura(ruta, lado);
+    }
+
+    /**
+     * Configuración de la pantalla principal, o null si no hay pantalla.
+     */
+    private static GraphicsConfiguration configuracionPantalla() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return null;
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+    }
+}
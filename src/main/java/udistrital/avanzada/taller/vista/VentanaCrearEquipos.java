@@ -1,11 +1,13 @@
 package udistrital.avanzada.taller.vista;
 
 import java.awt.BorderLayout;
+import java.awt.Component;
 import java.awt.GridLayout;
 import java.awt.event.ActionEvent;
 import java.util.*;
 import javax.swing.*;
 import udistrital.avanzada.taller.modelo.Jugador;
+import udistrital.avanzada.taller.modelo.TablaIds;
 
 /**
  * Ventana modal para crear dos equipos a partir de jugadores disponibles.
@@ -15,6 +17,10 @@ import udistrital.avanzada.taller.modelo.Jugador;
  * - Lista centro/derecha: jugadores seleccionados para Equipo 1 y Equipo 2.
  * - Botones para mover entre listas y quitar.
  * - Validación: exactamente 4 jugadores por equipo, sin duplicados.
+ * - Foto del jugador disponible seleccionado, cargada en segundo plano.
+ * - Las listas guardan los Jugador y se pintan con su etiqueta; la lista
+ *   en que está cada jugador se guarda por id, así que saber si ya está en
+ *   un equipo no recorre ninguna lista.
  *
  * Uso:
  *  VentanaCrearEquipos dialog = new VentanaCrearEquipos(parentFrame, jugadoresDisponibles);
@@ -29,13 +35,16 @@ import udistrital.avanzada.taller.modelo.Jugador;
  */
 public class VentanaCrearEquipos extends JDialog {
 
-    private final DefaultListModel<String> modelDisponibles = new DefaultListModel<>();
-    private final DefaultListModel<String> modelEquipo1 = new DefaultListModel<>();
-    private final DefaultListModel<String> modelEquipo2 = new DefaultListModel<>();
+    /** Ubicaciones de un jugador; el número de equipo coincide con 1 y 2. */
+    private static final int DISPONIBLE = 0;
 
-    private final JList<String> listaDisponibles;
-    private final JList<String> listaEquipo1;
-    private final JList<String> listaEquipo2;
+    private final DefaultListModel<Jugador> modelDisponibles = new DefaultListModel<>();
+    private final DefaultListModel<Jugador> modelEquipo1 = new DefaultListModel<>();
+    private final DefaultListModel<Jugador> modelEquipo2 = new DefaultListModel<>();
+
+    private final JList<Jugador> listaDisponibles;
+    private final JList<Jugador> listaEquipo1;
+    private final JList<Jugador> listaEquipo2;
 
     private final JButton btnAddEq1 = new JButton("→ Equipo 1");
     private final JButton btnAddEq2 = new JButton("→ Equipo 2");
@@ -48,7 +57,8 @@ public class VentanaCrearEquipos extends JDialog {
     private final JTextField nombreEquipo1 = new JTextField("Equipo 1");
     private final JTextField nombreEquipo2 = new JTextField("Equipo 2");
 
-    private final Map<String, Jugador> labelToJugador = new HashMap<>();
+    private final TablaIds ubicacion = new TablaIds(32);
+    private final PanelFoto vistaPrevia = new PanelFoto(ServicioFotos.LADO_PEQUENO);
 
     private boolean cancelado = false;
     private boolean equiposCreados = false;
@@ -62,11 +72,12 @@ public class VentanaCrearEquipos extends JDialog {
     public VentanaCrearEquipos(JFrame parent, List<Jugador> disponibles) {
         super(parent, "Crear Nuevos Equipos", true);
 
-        // Mapear etiquetas y llenar modelo de disponibles
+        // Llenar modelo de disponibles, sin repetir jugadores
         for (Jugador j : Objects.requireNonNull(disponibles)) {
-            String etiqueta = formatoLabel(j);
-            labelToJugador.put(etiqueta, j);
-            modelDisponibles.addElement(etiqueta);
+            if (ubicacion.obtener(j.getId()) < 0) {
+                ubicacion.poner(j.getId(), DISPONIBLE);
+                modelDisponibles.addElement(j);
+            }
         }
 
         // Crear JLists
@@ -78,6 +89,10 @@ public class VentanaCrearEquipos extends JDialog {
         listaDisponibles.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
         listaEquipo1.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
         listaEquipo2.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        ListCellRenderer<Object> renderizador = new RenderizadorJugador();
+        listaDisponibles.setCellRenderer(renderizador);
+        listaEquipo1.setCellRenderer(renderizador);
+        listaEquipo2.setCellRenderer(renderizador);
 
         // Layout
         setSize(760, 520);
@@ -99,6 +114,12 @@ public class VentanaCrearEquipos extends JDialog {
         JPanel pnlDisp = new JPanel(new BorderLayout());
         pnlDisp.setBorder(BorderFactory.createTitledBorder("Disponibles"));
         pnlDisp.add(new JScrollPane(listaDisponibles), BorderLayout.CENTER);
+        pnlDisp.add(vistaPrevia, BorderLayout.SOUTH);
+        listaDisponibles.addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                mostrarVistaPrevia(listaDisponibles.getSelectedIndex());
+            }
+        });
 
         // Panel de control central (botones)
         JPanel pnlControl = new JPanel(new GridLayout(4, 1, 6, 6));
@@ -132,8 +153,8 @@ public class VentanaCrearEquipos extends JDialog {
         add(pnlBotones, BorderLayout.SOUTH);
 
         // Acciones de botones
-        btnAddEq1.addActionListener((ActionEvent e) -> moverAEquipo(modelDisponibles, modelEquipo1, modelEquipo2, listaDisponibles.getSelectedValuesList(), 1));
-        btnAddEq2.addActionListener((ActionEvent e) -> moverAEquipo(modelDisponibles, modelEquipo2, modelEquipo1, listaDisponibles.getSelectedValuesList(), 2));
+        btnAddEq1.addActionListener((ActionEvent e) -> moverAEquipo(modelDisponibles, modelEquipo1, listaDisponibles.getSelectedValuesList(), 1));
+        btnAddEq2.addActionListener((ActionEvent e) -> moverAEquipo(modelDisponibles, modelEquipo2, listaDisponibles.getSelectedValuesList(), 2));
 
         btnRemoveEq1.addActionListener((ActionEvent e) -> devolverADisponibles(modelEquipo1, modelDisponibles, listaEquipo1.getSelectedValuesList()));
         btnRemoveEq2.addActionListener((ActionEvent e) -> devolverADisponibles(modelEquipo2, modelDisponibles, listaEquipo2.getSelectedValuesList()));
@@ -150,8 +171,8 @@ public class VentanaCrearEquipos extends JDialog {
             public void mouseClicked(java.awt.event.MouseEvent evt) {
                 if (evt.getClickCount() == 2) {
                     // doble clic -> priorizar equipo 1 si tiene menos de 4, si no equipo2
-                    if (modelEquipo1.size() < 4) moverAEquipo(modelDisponibles, modelEquipo1, modelEquipo2, listaDisponibles.getSelectedValuesList(), 1);
-                    else moverAEquipo(modelDisponibles, modelEquipo2, modelEquipo1, listaDisponibles.getSelectedValuesList(), 2);
+                    if (modelEquipo1.size() < 4) moverAEquipo(modelDisponibles, modelEquipo1, listaDisponibles.getSelectedValuesList(), 1);
+                    else moverAEquipo(modelDisponibles, modelEquipo2, listaDisponibles.getSelectedValuesList(), 2);
                 }
             }
         });
@@ -159,37 +180,52 @@ public class VentanaCrearEquipos extends JDialog {
 
     // ---- helpers ----
 
+    /**
+     * Muestra la foto del disponible seleccionado y precarga la del
+     * siguiente en la lista.
+     */
+    private void mostrarVistaPrevia(int indice) {
+        if (indice < 0) {
+            vistaPrevia.mostrar(null);
+            return;
+        }
+        vistaPrevia.mostrar(modelDisponibles.getElementAt(indice));
+        if (indice + 1 < modelDisponibles.size()) {
+            Jugador siguiente = modelDisponibles.getElementAt(indice + 1);
+            ServicioFotos.global().precargar(siguiente.getRutaFoto(), ServicioFotos.LADO_PEQUENO);
+        }
+    }
+
     private static String formatoLabel(Jugador j) {
         return j.getApodo() + " (" + j.getNombre() + ")";
     }
 
     /**
-     * Mueve los elementos seleccionados desde el modelo source al target.
-     * targetOpp es el otro equipo: se evita duplicados en ambos equipos.
+     * Mueve los jugadores seleccionados desde el modelo source al target.
+     * Un jugador que ya está en el otro equipo no se mueve.
      *
      * @param source modelo de donde salen (Disponibles)
      * @param target modelo destino (Equipo 1 o 2)
-     * @param targetOpp modelo del equipo opuesto (para evitar duplicados)
-     * @param selected lista de etiquetas seleccionadas
-     * @param equipoNumero número (solo para mensajes)
+     * @param selected jugadores seleccionados
+     * @param equipoNumero número del equipo destino
      */
-    private void moverAEquipo(DefaultListModel<String> source,
-                             DefaultListModel<String> target,
-                             DefaultListModel<String> targetOpp,
-                             List<String> selected,
+    private void moverAEquipo(DefaultListModel<Jugador> source,
+                             DefaultListModel<Jugador> target,
+                             List<Jugador> selected,
                              int equipoNumero) {
         if (selected == null || selected.isEmpty()) {
             JOptionPane.showMessageDialog(this, "Selecciona al menos un jugador en Disponibles.", "Atención", JOptionPane.INFORMATION_MESSAGE);
             return;
         }
 
-        for (String etiqueta : new ArrayList<>(selected)) {
+        for (Jugador jugador : new ArrayList<>(selected)) {
+            int actual = ubicacion.obtener(jugador.getId());
+            if (actual == equipoNumero) continue; // ya está en este equipo
             // no permitir si ya está en el otro equipo
-            if (targetOpp.contains(etiqueta)) {
-                JOptionPane.showMessageDialog(this, "El jugador " + etiqueta + " ya está en el otro equipo.", "Error", JOptionPane.ERROR_MESSAGE);
+            if (actual != DISPONIBLE) {
+                JOptionPane.showMessageDialog(this, "El jugador " + formatoLabel(jugador) + " ya está en el otro equipo.", "Error", JOptionPane.ERROR_MESSAGE);
                 continue;
             }
-            if (target.contains(etiqueta)) continue; // ya está en este equipo
 
             if (target.size() >= 4) {
                 JOptionPane.showMessageDialog(this, "El Equipo " + equipoNumero + " ya tiene 4 jugadores.", "Límite alcanzado", JOptionPane.WARNING_MESSAGE);
@@ -197,19 +233,22 @@ public class VentanaCrearEquipos extends JDialog {
             }
 
             // mover: quitar de disponibles y añadir al equipo
-            if (source.contains(etiqueta)) source.removeElement(etiqueta);
-            target.addElement(etiqueta);
+            source.removeElement(jugador);
+            target.addElement(jugador);
+            ubicacion.poner(jugador.getId(), equipoNumero);
         }
     }
 
-    private void devolverADisponibles(DefaultListModel<String> from, DefaultListModel<String> dispo, List<String> selected) {
+    private void devolverADisponibles(DefaultListModel<Jugador> from, DefaultListModel<Jugador> dispo, List<Jugador> selected) {
         if (selected == null || selected.isEmpty()) {
             JOptionPane.showMessageDialog(this, "Selecciona al menos un jugador del equipo para quitar.", "Atención", JOptionPane.INFORMATION_MESSAGE);
             return;
         }
-        for (String etiqueta : new ArrayList<>(selected)) {
-            if (from.contains(etiqueta)) from.removeElement(etiqueta);
-            if (!dispo.contains(etiqueta)) dispo.addElement(etiqueta);
+        for (Jugador jugador : new ArrayList<>(selected)) {
+            if (ubicacion.obtener(jugador.getId()) == DISPONIBLE) continue;
+            from.removeElement(jugador);
+            dispo.addElement(jugador);
+            ubicacion.poner(jugador.getId(), DISPONIBLE);
         }
     }
 
@@ -223,7 +262,7 @@ public class VentanaCrearEquipos extends JDialog {
         dispose();
     }
 
-    // ---- getters que usa ControlLogica ----
+    // ---- getters que usa ControlInterfaz ----
 
     public boolean isCancelado() {
         return cancelado;
@@ -245,26 +284,27 @@ public class VentanaCrearEquipos extends JDialog {
      * Devuelve objetos Jugador seleccionados para equipo 1, en el mismo orden que aparecen.
      */
     public List<Jugador> getJugadoresEquipo1() {
-        List<Jugador> out = new ArrayList<>();
-        for (int i = 0; i < modelEquipo1.size(); i++) {
-            String etiqueta = modelEquipo1.getElementAt(i);
-            Jugador j = labelToJugador.get(etiqueta);
-            if (j != null) out.add(j);
-        }
-        return out;
+        return Collections.list(modelEquipo1.elements());
     }
 
     /**
      * Devuelve objetos Jugador seleccionados para equipo 2, en el mismo orden que aparecen.
      */
     public List<Jugador> getJugadoresEquipo2() {
-        List<Jugador> out = new ArrayList<>();
-        for (int i = 0; i < modelEquipo2.size(); i++) {
-            String etiqueta = modelEquipo2.getElementAt(i);
-            Jugador j = labelToJugador.get(etiqueta);
-            if (j != null) out.add(j);
+        return Collections.list(modelEquipo2.elements());
+    }
+
+    /**
+     * Pinta cada jugador con su etiqueta "apodo (nombre)".
+     */
+    private static final class RenderizadorJugador extends DefaultListCellRenderer {
+
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                boolean isSelected, boolean cellHasFocus) {
+            Object texto = value instanceof Jugador ? formatoLabel((Jugador) value) : value;
+            return super.getListCellRendererComponent(list, texto, index, isSelected, cellHasFocus);
         }
-        return out;
     }
 }
 
@@ -5,11 +5,20 @@
 package udistrital.avanzada.taller.vista;
 
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.swing.*;
 import udistrital.avanzada.taller.control.ControlInterfaz;
 import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.EstadoPartida;
 import udistrital.avanzada.taller.modelo.Jugador;
+import udistrital.avanzada.taller.modelo.metricas.HistogramaLatencia;
+import udistrital.avanzada.taller.modelo.metricas.RegistroMetricas;
 
 /**
  * Ventana principal mejorada del juego Argolla Llanera. Muestra información
@@ -17,6 +26,23 @@ import udistrital.avanzada.taller.modelo.Jugador;
  *
  * Actualizaciones clara del estado de la ronda, mano y partida.
  *
+ * Cada equipo muestra la foto del jugador que lanza a continuación; las
+ * fotos se cargan en segundo plano con {@link ServicioFotos} y la del
+ * jugador siguiente se precarga para que esté lista cuando le toque.
+ *
+ * El historial de lanzamientos es una {@link JList} sobre un
+ * {@link ModeloBitacora} de capacidad fija (propiedad
+ * {@code argolla.bitacora.capacidad}); las entradas más viejas se descartan
+ * o, si se indica {@code argolla.bitacora.derrame}, se pasan a ese archivo.
+ *
+ * Los cambios de la partida no se pintan uno por uno: se acumulan y un
+ * {@link PlanificadorRefresco} los aplica juntos a lo sumo una vez por
+ * cuadro (propiedad {@code argolla.refresco.fps}, 60 por defecto) con la
+ * fotografía más reciente de la partida. Las entradas del historial
+ * esperan en una cola del tamaño de la bitácora: en una ráfaga, las que ya
+ * no alcanzarían a mostrarse pasan directo al derrame, y cada cuadro agrega
+ * las pendientes a la lista con un solo aviso.
+ *
  * Creada originalmente por Juan Sebastian Bravo Rojas Modificada: Juan Ariza
  *
  * @author Juan Sebastián Bravo Rojas
@@ -24,12 +50,23 @@ import udistrital.avanzada.taller.modelo.Jugador;
  */
 public class VentanaPrincipal extends JFrame {
 
+    private static final HistogramaLatencia LATENCIA_REFRESCO =
+            RegistroMetricas.global().histograma("interfaz.actualizacion");
+
     private final ControlInterfaz control;
     private final List<Equipo> equipos;
 
     // Componentes visuales
     private JPanel panelPrincipal;
-    private JTextArea areaResultados;
+    private JList<EntradaBitacora> listaResultados;
+    private ModeloBitacora bitacora;
+    private final AtomicLong entradasBitacora = new AtomicLong();
+    private final int capacidadBitacora =
+            Integer.getInteger("argolla.bitacora.capacidad", ModeloBitacora.CAPACIDAD_POR_DEFECTO);
+    private final BlockingQueue<EntradaBitacora> entradasPendientes = new ArrayBlockingQueue<>(capacidadBitacora);
+    private final List<EntradaBitacora> loteBitacora = new ArrayList<>();
+    private final PlanificadorRefresco planificador = new PlanificadorRefresco(
+            Integer.getInteger("argolla.refresco.fps", PlanificadorRefresco.CUADROS_POR_SEGUNDO), this::refrescar);
     private JLabel labelEquipoUno;
     private JLabel labelEquipoDos;
     private JLabel labelPuntajeUno;
@@ -43,6 +80,7 @@ public class VentanaPrincipal extends JFrame {
     private JTextArea infoJugadoresUno;
     private JTextArea infoJugadoresDos;
     private JPanel panelFoto;
+    private final PanelFoto[] fotos = new PanelFoto[2];
 
     public VentanaPrincipal(ControlInterfaz control, List<Equipo> equipos) {
         this.control = control;
@@ -80,6 +118,14 @@ public class VentanaPrincipal extends JFrame {
 
         getContentPane().add(panelPrincipal);
         setSize(1200, 800);
+
+        // Precargar todas las fotos de la mesa y mostrar las del primer turno
+        for (Equipo equipo : equipos) {
+            for (Jugador jugador : equipo.getJugadores()) {
+                ServicioFotos.global().precargar(jugador.getRutaFoto(), ServicioFotos.LADO_GRANDE);
+            }
+        }
+        setFoto();
     }
 
     private JPanel crearPanelSuperior() {
@@ -188,7 +234,8 @@ public class VentanaPrincipal extends JFrame {
         panelFoto.setBorder(BorderFactory.createLineBorder(Color.DARK_GRAY, 2));
         panelFoto.setAlignmentX(Component.CENTER_ALIGNMENT);
         panelFoto.setLayout(new BorderLayout());
-        setFoto();
+        fotos[indice] = new PanelFoto(ServicioFotos.LADO_GRANDE);
+        panelFoto.add(fotos[indice], BorderLayout.CENTER);
 
         if (indice == 0) {
             infoJugadoresUno = infoJugadores;
@@ -232,13 +279,19 @@ public class VentanaPrincipal extends JFrame {
         labelTitulo.setFont(new Font("Arial", Font.BOLD, 14));
         labelTitulo.setForeground(new Color(139, 69, 19));
 
-        areaResultados = new JTextArea();
-        areaResultados.setEditable(false);
-        areaResultados.setFont(new Font("Monospaced", Font.PLAIN, 11));
-        areaResultados.setBackground(new Color(255, 255, 240));
-        areaResultados.setText("🎯 Esperando el primer lanzamiento...\n\n");
+        String derrame = System.getProperty("argolla.bitacora.derrame");
+        bitacora = new ModeloBitacora(capacidadBitacora,
+                derrame == null || derrame.isBlank() ? null : new File(derrame));
+        if (derrame != null && !derrame.isBlank()) {
+            Runtime.getRuntime().addShutdownHook(new Thread(bitacora::cerrar, "cerrar-bitacora"));
+        }
+
+        listaResultados = new JList<>(bitacora);
+        listaResultados.setCellRenderer(new RenderizadorBitacora(new Font("Monospaced", Font.PLAIN, 11)));
+        listaResultados.setBackground(new Color(255, 255, 240));
+        agregarEntrada(EntradaBitacora.Tipo.AVISO, "🎯 Esperando el primer lanzamiento...");
 
-        JScrollPane scroll = new JScrollPane(areaResultados);
+        JScrollPane scroll = new JScrollPane(listaResultados);
         scroll.setPreferredSize(new Dimension(1150, 180));
 
         panel.add(labelTitulo, BorderLayout.NORTH);
@@ -248,34 +301,155 @@ public class VentanaPrincipal extends JFrame {
     }
 
     /**
-     * Le da una imagen al panelFoto
-     *
-     * @param rutaFoto
+     * Muestra en el panel de cada equipo la foto del jugador que lanza a
+     * continuación y precarga la del siguiente en la mano.
      */
     public void setFoto() {
-        String rutaFoto = equipos.get(0).getJugadores().get(0).getRutaFoto();
-        // Crear el panel con la imagen
-        JPanelImage panelFotito = new JPanelImage(panelFoto, rutaFoto);
-        panelFoto.add(panelFotito);
-        panelFoto.revalidate();
-        panelFoto.repaint();
+        setFoto(control.getEstadoPartida());
+    }
+
+    private void setFoto(EstadoPartida estado) {
+        for (int i = 0; i < fotos.length && i < equipos.size(); i++) {
+            List<Jugador> jugadores = equipos.get(i).getJugadores();
+            if (jugadores.isEmpty()) {
+                continue;
+            }
+            int siguiente;
+            if (estado.isMuerteSubitaActiva()) {
+                siguiente = estado.getEnfrentamientoActual() % jugadores.size();
+            } else if (i == estado.getEquipoEnTurno()) {
+                siguiente = estado.getLanzamientoEnMano() % jugadores.size();
+            } else {
+                siguiente = 0;
+            }
+            fotos[i].mostrar(jugadores.get(siguiente));
+            Jugador despues = jugadores.get((siguiente + 1) % jugadores.size());
+            ServicioFotos.global().precargar(despues.getRutaFoto(), ServicioFotos.LADO_GRANDE);
+        }
     }
 
     /**
-     * Actualiza el área de resultados con nueva información
+     * Agrega el resultado de un lanzamiento al historial y pide un refresco.
+     * El tipo de la entrada se toma de la última fotografía de la partida.
+     * Puede llamarse desde cualquier hilo: la entrada se agrega a la lista,
+     * junto con las demás pendientes, en el próximo cuadro.
      */
     public void actualizarResultado(String texto) {
-        areaResultados.append(texto + "\n\n");
-        areaResultados.setCaretPosition(areaResultados.getDocument().getLength());
+        EstadoPartida estado = control.getEstadoPartida();
+        EntradaBitacora.Tipo tipo;
+        if (!estado.isPartidaActiva()) {
+            tipo = EntradaBitacora.Tipo.FIN_RONDA;
+        } else if (estado.isMuerteSubitaActiva()) {
+            tipo = EntradaBitacora.Tipo.MUERTE_SUBITA;
+        } else if (estado.getLanzamientoEnMano() == 0) {
+            tipo = EntradaBitacora.Tipo.MANO_COMPLETA;
+        } else {
+            tipo = EntradaBitacora.Tipo.LANZAMIENTO;
+        }
+        encolarEntrada(new EntradaBitacora(entradasBitacora.incrementAndGet(),
+                estado.getRondaActual(), tipo, texto));
+    }
+
+    /**
+     * Agrega un aviso al historial en el próximo cuadro. Puede llamarse
+     * desde cualquier hilo.
+     */
+    public void publicarAviso(String texto) {
+        encolarEntrada(new EntradaBitacora(entradasBitacora.incrementAndGet(),
+                control.getEstadoPartida().getRondaActual(), EntradaBitacora.Tipo.AVISO, texto));
+    }
+
+    /**
+     * Deja una entrada para el próximo cuadro. Si la cola está llena, la
+     * pendiente más vieja ya no alcanzaría a mostrarse y pasa directo al
+     * derrame.
+     */
+    private void encolarEntrada(EntradaBitacora entrada) {
+        while (!entradasPendientes.offer(entrada)) {
+            EntradaBitacora vieja = entradasPendientes.poll();
+            if (vieja != null) {
+                bitacora.derramarDirecto(vieja);
+            }
+        }
+        planificador.solicitar();
     }
 
     /**
-     * Actualiza los puntajes mostrados de ambos equipos
+     * Registra un atajo de teclado que funciona con la ventana activa.
+     *
+     * @param tecla combinación de teclas
+     * @param accion acción a ejecutar en el hilo de eventos
+     */
+    public void agregarAtajo(KeyStroke tecla, Runnable accion) {
+        String nombre = "atajo " + tecla;
+        getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(tecla, nombre);
+        getRootPane().getActionMap().put(nombre, new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                accion.run();
+            }
+        });
+    }
+
+    /**
+     * Pide que la ventana se ponga al día con la partida en el próximo
+     * cuadro. Puede llamarse desde cualquier hilo.
+     */
+    public void solicitarRefresco() {
+        planificador.solicitar();
+    }
+
+    /**
+     * Pone la ventana al día de inmediato, sin esperar al próximo cuadro.
+     * Se usa antes de mostrar un diálogo. Debe llamarse desde el hilo de
+     * eventos.
+     */
+    public void refrescarAhora() {
+        planificador.solicitar();
+        planificador.refrescarAhora();
+    }
+
+    /**
+     * Cuadro de refresco: agrega las entradas pendientes al historial y
+     * actualiza puntajes, ronda y fotos con una sola fotografía de la
+     * partida.
+     */
+    private void refrescar() {
+        long inicio = System.nanoTime();
+        entradasPendientes.drainTo(loteBitacora);
+        if (!loteBitacora.isEmpty()) {
+            bitacora.agregarTodas(loteBitacora);
+            loteBitacora.clear();
+            listaResultados.ensureIndexIsVisible(bitacora.getSize() - 1);
+        }
+        EstadoPartida estado = control.getEstadoPartida();
+        actualizarPuntajes(estado);
+        actualizarRonda(estado);
+        setFoto(estado);
+        LATENCIA_REFRESCO.registrarDesde(inicio);
+    }
+
+    /**
+     * Agrega una entrada al historial y lo desplaza hasta ella.
+     */
+    private void agregarEntrada(EntradaBitacora.Tipo tipo, String texto) {
+        int ronda = control == null ? 1 : control.getEstadoPartida().getRondaActual();
+        bitacora.agregar(new EntradaBitacora(entradasBitacora.incrementAndGet(), ronda, tipo, texto));
+        listaResultados.ensureIndexIsVisible(bitacora.getSize() - 1);
+    }
+
+    /**
+     * Actualiza los puntajes mostrados de ambos equipos a partir de la
+     * última fotografía publicada por la partida
      */
     public void actualizarPuntajes() {
-        if (equipos.size() >= 2) {
-            labelPuntajeUno.setText("Puntaje: " + equipos.get(0).getPuntaje());
-            labelPuntajeDos.setText("Puntaje: " + equipos.get(1).getPuntaje());
+        actualizarPuntajes(control.getEstadoPartida());
+    }
+
+    private void actualizarPuntajes(EstadoPartida estado) {
+        if (estado.getCantidadEquipos() >= 2) {
+            labelPuntajeUno.setText("Puntaje: " + estado.getPuntaje(0));
+            labelPuntajeDos.setText("Puntaje: " + estado.getPuntaje(1));
         }
     }
 
@@ -283,7 +457,12 @@ public class VentanaPrincipal extends JFrame {
      * Actualiza la etiqueta de ronda actual
      */
     public void actualizarRonda() {
-        labelRonda.setText("RONDA " + control.getRondaActual() + " de 2 - Juego a 21 puntos");
+        actualizarRonda(control.getEstadoPartida());
+    }
+
+    private void actualizarRonda(EstadoPartida estado) {
+        labelRonda.setText("RONDA " + estado.getRondaActual() + " de 2 - Juego a "
+                + estado.getPuntajeObjetivo() + " puntos");
     }
 
     /**
@@ -297,9 +476,10 @@ public class VentanaPrincipal extends JFrame {
      * Limpia el área de resultados para una nueva ronda
      */
     public void limpiarResultados() {
-        areaResultados.setText("🔄 Nueva ronda iniciada...\n\n"
+        bitacora.limpiar();
+        agregarEntrada(EntradaBitacora.Tipo.AVISO, "🔄 Nueva ronda iniciada...\n\n"
                 + "📌 Los puntajes se han reiniciado a 0\n"
-                + "🎯 ¡Que comience la revancha!\n\n");
+                + "🎯 ¡Que comience la revancha!");
     }
 
     /**
@@ -318,8 +498,12 @@ public class VentanaPrincipal extends JFrame {
         return botonLanzarArgollaDos;
     }
 
-    public JTextArea getAreaResultados() {
-        return areaResultados;
+    public JList<EntradaBitacora> getListaResultados() {
+        return listaResultados;
+    }
+
+    public ModeloBitacora getBitacora() {
+        return bitacora;
     }
 
     public List<Equipo> getEquipos() {
@@ -4,18 +4,23 @@
  */
 package udistrital.avanzada.taller.vista;
 
+import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.FlowLayout;
 import java.awt.Font;
 import java.util.List;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
+import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
 import udistrital.avanzada.taller.modelo.Equipo;
 import udistrital.avanzada.taller.modelo.Jugador;
 
 /**
- * Ventana emergente que muestra los resultados de una ronda.
+ * Ventana emergente que muestra los resultados de una ronda, con las fotos
+ * del equipo ganador (compartidas con la ventana principal por
+ * {@link ServicioFotos}).
  * 
  * @author Juan Ariza
  * @version 7.0
@@ -55,7 +60,18 @@ public class VentanaResultados extends JDialog {
         areaResultados.setBackground(new Color(245, 245, 220));
         
         JScrollPane scroll = new JScrollPane(areaResultados);
-        add(scroll);
+        add(scroll, BorderLayout.CENTER);
+
+        // Fotos del equipo ganador
+        JPanel panelFotos = new JPanel(new FlowLayout(FlowLayout.CENTER, 12, 6));
+        panelFotos.setBackground(new Color(245, 245, 220));
+        for (Jugador j : ganador.getJugadores()) {
+            PanelFoto foto = new PanelFoto(ServicioFotos.LADO_PEQUENO);
+            foto.setToolTipText(j.getApodo());
+            foto.mostrar(j);
+            panelFotos.add(foto);
+        }
+        add(panelFotos, BorderLayout.NORTH);
         
         // Construir el texto de resultados
         StringBuilder sb = new StringBuilder();
@@ -0,0 +1,88 @@
+package udistrital.avanzada.taller.control;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.Jugador;
+
+/**
+ * Pruebas unitarias para {@link ArmadorEquipos}.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class ArmadorEquiposTest {
+
+    private static List<Jugador> jugadores;
+    private static Map<Jugador, Double> calificaciones;
+    private static ToDoubleFunction<Jugador> calificacion;
+
+    @BeforeAll
+    static void crearJugadores() {
+        Random random = new Random(42);
+        jugadores = new ArrayList<>();
+        calificaciones = new IdentityHashMap<>();
+        for (int i = 0; i < 100_003; i++) {
+            Jugador j = new Jugador("Jugador" + i, "f.jpg", "Apodo" + i);
+            jugadores.add(j);
+            calificaciones.put(j, 1500 + 300 * random.nextGaussian());
+        }
+        calificacion = calificaciones::get;
+    }
+
+    @Test
+    void testCienMilJugadoresEquilibrados() {
+        ArmadorEquipos armador = new ArmadorEquipos(4);
+        List<List<Jugador>> equipos = armador.armar(jugadores, calificacion, 7);
+
+        assertEquals(25_000, equipos.size());
+        Set<Jugador> usados = new HashSet<>();
+        for (List<Jugador> equipo : equipos) {
+            assertEquals(4, equipo.size());
+            usados.addAll(equipo);
+        }
+        assertEquals(100_000, usados.size(), "Ningún jugador se repite.");
+
+        // Un reparto al azar tiene varianza de 4 * 300^2; el equilibrado, casi nula
+        double varianza = ArmadorEquipos.varianza(equipos, calificacion);
+        assertTrue(varianza < 4 * 300 * 300 / 100.0, "Varianza entre equipos: " + varianza);
+    }
+
+    @Test
+    void testMismaSemillaMismoReparto() {
+        List<Jugador> pocos = jugadores.subList(0, 1_000);
+        ToDoubleFunction<Jugador> plana = j -> 1;
+        ArmadorEquipos armador = new ArmadorEquipos(4);
+        assertEquals(armador.armar(pocos, calificacion, 3), armador.armar(pocos, calificacion, 3));
+        assertEquals(armador.armar(pocos, plana, 3), armador.armar(pocos, plana, 3));
+        assertNotEquals(armador.armar(pocos, plana, 3), armador.armar(pocos, plana, 4),
+                "Con calificaciones iguales la semilla decide el reparto.");
+        assertTrue(armador.armar(pocos.subList(0, 3), plana, 3).isEmpty());
+    }
+
+    @Test
+    void testControlEquiposArmaLosDisponibles() {
+        ControlEquipos control = new ControlEquipos();
+        control.setJugadoresDisponibles(jugadores.subList(0, 10));
+        List<Equipo> equipos = control.armarEquiposBalanceados("Liga", calificacion, 1);
+        assertEquals(2, equipos.size());
+        assertEquals("Liga 1", equipos.get(0).getNombre());
+        assertEquals(2, control.getJugadoresDisponibles().size(), "Sobran los dos de menor calificación.");
+        for (Jugador sobrante : control.getJugadoresDisponibles()) {
+            for (Equipo e : equipos) {
+                for (Jugador j : e.getJugadores()) {
+                    assertTrue(calificaciones.get(sobrante) <= calificaciones.get(j));
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> control.armarEquiposBalanceados(" ", calificacion, 1));
+    }
+}
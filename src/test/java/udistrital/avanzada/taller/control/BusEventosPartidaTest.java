@@ -0,0 +1,149 @@
+package udistrital.avanzada.taller.control;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import udistrital.avanzada.taller.modelo.EstadoPartida;
+import udistrital.avanzada.taller.modelo.EventoLanzamiento;
+
+/**
+ * Pruebas unitarias para {@link EscuchaPartida} y {@link BusEventosPartida}.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class BusEventosPartidaTest {
+
+    @BeforeAll
+    static void iniciarSuite() {
+        System.out.println("=== INICIO DE LAS PRUEBAS DE BUS EVENTOS PARTIDA ===");
+    }
+
+    @AfterAll
+    static void finalizarSuite() {
+        System.out.println("=== FIN DE LAS PRUEBAS DE BUS EVENTOS PARTIDA ===");
+    }
+
+    @Test
+    void testEscuchaRecibeEventosTipados() {
+        ControlPartida partida = PartidasPrueba.crearPartida(3);
+        Contador contador = new Contador();
+        partida.agregarEscucha(contador);
+
+        int llamadas = 0;
+        while (partida.isPartidaActiva()) {
+            partida.simularLanzamiento();
+            llamadas++;
+        }
+
+        assertEquals(1, contador.rondasTerminadas.get(), "La ronda termina una sola vez.");
+        assertEquals(partida.getIndiceGanador(), contador.ganador);
+        assertTrue(contador.lanzamientos.get() >= llamadas, "Cada llamada produce al menos un lanzamiento.");
+        if (contador.muertesSubitas.get() == 0) {
+            assertEquals(llamadas, contador.lanzamientos.get());
+            assertEquals(llamadas / 4, contador.manosCompletas.get());
+        }
+    }
+
+    @Test
+    void testEventosMuerteSubita() {
+        // Buscar una semilla que lleve la partida a muerte súbita
+        for (long semilla = 1; semilla < 500; semilla++) {
+            ControlPartida partida = PartidasPrueba.crearPartida(semilla);
+            Contador contador = new Contador();
+            partida.agregarEscucha(contador);
+            while (partida.isPartidaActiva()) {
+                partida.simularLanzamiento();
+            }
+            if (contador.muertesSubitas.get() > 0) {
+                assertTrue(contador.lanzamientosMuerteSubita.get() >= 2,
+                        "Cada enfrentamiento produce un lanzamiento por equipo.");
+                assertEquals(1, contador.rondasTerminadas.get());
+                return;
+            }
+        }
+        fail("Ninguna semilla produjo muerte súbita.");
+    }
+
+    @Test
+    void testSuscriptorLentoNoFrenaLaPartida() throws InterruptedException {
+        ControlPartida partida = PartidasPrueba.crearPartida(5);
+        CountDownLatch liberar = new CountDownLatch(1);
+        EscuchaPartida lenta = new EscuchaPartida() {
+            @Override
+            public void onLanzamiento(EventoLanzamiento evento) {
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        Contador rapida = new Contador();
+        try (BusEventosPartida bus = new BusEventosPartida()) {
+            bus.suscribir(lenta, 4);
+            bus.suscribir(rapida, 1 << 16);
+            partida.agregarEscucha(bus);
+
+            for (int r = 0; r < 50; r++) {
+                while (partida.isPartidaActiva()) {
+                    partida.simularLanzamiento();
+                }
+                partida.reiniciar();
+            }
+            assertTrue(bus.getDescartados(lenta) > 0, "La cola de la escucha lenta debe desbordarse.");
+            assertEquals(0, bus.getDescartados(rapida));
+            liberar.countDown();
+        }
+        assertEquals(50, rapida.rondasTerminadas.get(), "La escucha rápida recibe todos los eventos.");
+    }
+
+    @Test
+    void testQuitarEscucha() {
+        ControlPartida partida = PartidasPrueba.crearPartida(9);
+        Contador contador = new Contador();
+        partida.agregarEscucha(contador);
+        partida.simularLanzamiento();
+        assertTrue(partida.quitarEscucha(contador));
+        partida.simularLanzamiento();
+        assertEquals(1, contador.lanzamientos.get());
+    }
+
+    /**
+     * Escucha que cuenta los eventos recibidos.
+     */
+    private static class Contador implements EscuchaPartida {
+
+        final AtomicInteger lanzamientos = new AtomicInteger();
+        final AtomicInteger lanzamientosMuerteSubita = new AtomicInteger();
+        final AtomicInteger manosCompletas = new AtomicInteger();
+        final AtomicInteger muertesSubitas = new AtomicInteger();
+        final AtomicInteger rondasTerminadas = new AtomicInteger();
+        volatile int ganador = -1;
+
+        @Override
+        public void onLanzamiento(EventoLanzamiento evento) {
+            lanzamientos.incrementAndGet();
+            if (evento.isMuerteSubita()) {
+                lanzamientosMuerteSubita.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void onManoCompleta(int indiceEquipo, EstadoPartida estado) {
+            manosCompletas.incrementAndGet();
+        }
+
+        @Override
+        public void onMuerteSubita(EstadoPartida estado) {
+            muertesSubitas.incrementAndGet();
+        }
+
+        @Override
+        public void onRondaTerminada(int indiceGanador, EstadoPartida estado) {
+            rondasTerminadas.incrementAndGet();
+            ganador = indiceGanador;
+        }
+    }
+}
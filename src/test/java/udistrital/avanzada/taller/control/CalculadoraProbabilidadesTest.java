@@ -0,0 +1,113 @@
+package udistrital.avanzada.taller.control;
+
+import java.util.Random;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import udistrital.avanzada.taller.modelo.FormatoDesempate;
+import udistrital.avanzada.taller.modelo.ModeloLanzamiento;
+
+/**
+ * Pruebas unitarias para {@link CalculadoraProbabilidades}. Las probabilidades
+ * exactas se contrastan con las estimaciones de {@link SimuladorMonteCarlo}.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class CalculadoraProbabilidadesTest {
+
+    private static final int SIMULACIONES = 40000;
+    private static final double TOLERANCIA = 0.015;
+
+    @BeforeAll
+    static void iniciarSuite() {
+        System.out.println("=== INICIO DE LAS PRUEBAS DE CALCULADORA PROBABILIDADES ===");
+    }
+
+    @AfterAll
+    static void finalizarSuite() {
+        System.out.println("=== FIN DE LAS PRUEBAS DE CALCULADORA PROBABILIDADES ===");
+    }
+
+    @Test
+    void testProbabilidadesSumanUno() {
+        ControlPartida partida = PartidasPrueba.crearPartida(1);
+        double[] probabilidades = new CalculadoraProbabilidades(partida).probabilidadesVictoria(partida);
+        assertEquals(1.0, probabilidades[0] + probabilidades[1], 1e-9, "Las probabilidades deben sumar 1.");
+        assertEquals(0.5, probabilidades[0], 1e-9, "Al inicio ambos equipos tienen las mismas opciones.");
+    }
+
+    @Test
+    void testEquipoAdelantadoEsFavorito() {
+        CalculadoraProbabilidades calculadora = new CalculadoraProbabilidades(
+                new ConfiguracionPartida(), 2, ModeloLanzamiento.uniforme());
+        double[] probabilidades = calculadora.probabilidadesVictoria(new int[]{18, 2}, 0, 0);
+        assertTrue(probabilidades[0] > 0.9, "El equipo con 18 puntos contra 2 debe ser amplio favorito.");
+    }
+
+    @Test
+    void testInicioCoincideConMonteCarlo() {
+        ControlPartida partida = PartidasPrueba.crearPartida(2);
+        compararConMonteCarlo(partida, 11);
+    }
+
+    @Test
+    void testEstadoIntermedioCoincideConMonteCarlo() {
+        ControlPartida partida = PartidasPrueba.crearPartida(3);
+        // Avanzar la partida hasta un estado intermedio
+        for (int i = 0; i < 21 && partida.isPartidaActiva(); i++) {
+            partida.simularLanzamiento();
+        }
+        assertTrue(partida.isPartidaActiva(), "La semilla debe dejar la partida en curso.");
+        compararConMonteCarlo(partida, 12);
+    }
+
+    @Test
+    void testTresEquiposLanzamientoUnicoCoincideConMonteCarlo() {
+        ConfiguracionPartida configuracion = new ConfiguracionPartida(3, 15, 2, FormatoDesempate.LANZAMIENTO_UNICO);
+        ControlPartida partida = PartidasPrueba.crearPartida(3, configuracion, new Random(4));
+        compararConMonteCarlo(partida, 13);
+    }
+
+    @Test
+    void testMuerteSubitaCoincideConMonteCarlo() {
+        ControlPartida partida = PartidasPrueba.crearPartida(5);
+        // Jugar hasta que se active la muerte súbita con alguna semilla
+        int intentos = 0;
+        while (!partida.isMuerteSubitaActiva() && intentos < 500) {
+            partida.reiniciar();
+            while (partida.isPartidaActiva() && !partida.isMuerteSubitaActiva()) {
+                partida.simularLanzamiento();
+            }
+            intentos++;
+        }
+        assertTrue(partida.isMuerteSubitaActiva(), "Debe alcanzarse una muerte súbita.");
+        assertTrue(partida.isPartidaActiva(), "La muerte súbita recién activada sigue en curso.");
+        compararConMonteCarlo(partida, 14);
+    }
+
+    @Test
+    void testPartidaTerminadaEsCerteza() {
+        ControlPartida partida = PartidasPrueba.crearPartida(6);
+        while (partida.isPartidaActiva()) {
+            partida.simularLanzamiento();
+        }
+        double[] probabilidades = new CalculadoraProbabilidades(partida).probabilidadesVictoria(partida);
+        assertEquals(1.0, probabilidades[partida.getIndiceGanador()], 1e-12, "El ganador tiene probabilidad 1.");
+    }
+
+    @Test
+    void testMesaDemasiadoGrande() {
+        assertThrows(IllegalArgumentException.class, () -> new CalculadoraProbabilidades(
+                new ConfiguracionPartida(), 8, ModeloLanzamiento.uniforme()),
+                "Una mesa de 8 equipos excede el límite del cálculo exacto.");
+    }
+
+    private static void compararConMonteCarlo(ControlPartida partida, long semilla) {
+        double[] exactas = new CalculadoraProbabilidades(partida).probabilidadesVictoria(partida);
+        double[] estimadas = new SimuladorMonteCarlo(semilla).estimar(partida, SIMULACIONES);
+        for (int i = 0; i < exactas.length; i++) {
+            assertEquals(exactas[i], estimadas[i], TOLERANCIA,
+                    "La probabilidad exacta del equipo " + i + " debe coincidir con la simulación.");
+        }
+    }
+}
@@ -46,6 +46,9 @@ public class ControlLogicaTest {
         jugadoresTest.add(new Jugador("María", "foto3.jpg", "La Fiera"));
         jugadoresTest.add(new Jugador("Luisa", "foto4.jpg", "La Precisa"));
         jugadoresTest.add(new Jugador("Camilo", "foto5.jpg", "El Profe"));
+        jugadoresTest.add(new Jugador("Andrés", "foto6.jpg", "El Gato"));
+        jugadoresTest.add(new Jugador("Sofía", "foto7.jpg", "La Reina"));
+        jugadoresTest.add(new Jugador("Diego", "foto8.jpg", "El Zurdo"));
     }
 
     @AfterEach
@@ -59,6 +62,7 @@ public class ControlLogicaTest {
      */
     @Test
     void testCrearNuevoEquipoValido() {
+        cLogica.getControlEquipos().setJugadoresDisponibles(jugadoresTest);
         List<Jugador> seleccion = jugadoresTest.subList(0, 4);
         Equipo equipo = cLogica.crearNuevoEquipo("Llaneros", seleccion);
 
@@ -67,6 +71,16 @@ public class ControlLogicaTest {
         assertEquals(4, equipo.getJugadores().size(), "El equipo debe tener 4 jugadores");
     }
 
+    /**
+     * Test de creación de equipo con jugadores que no están entre los disponibles
+     */
+    @Test
+    void testCrearNuevoEquipoJugadoresNoDisponibles() {
+        assertThrows(IllegalArgumentException.class,
+                () -> cLogica.crearNuevoEquipo("Llaneros", jugadoresTest.subList(0, 4)),
+                "Los jugadores que no se cargaron no están disponibles");
+    }
+
     /**
      * Test de creación de equipo con nombre vacío
      */
@@ -136,4 +150,37 @@ public class ControlLogicaTest {
     void testReiniciarPartida() {
         assertDoesNotThrow(() -> cLogica.reiniciarPartida(), "Reiniciar partida no debe lanzar excepción");
     }
+
+    /**
+     * Test de creación de los dos equipos de la partida sin ventana
+     */
+    @Test
+    void testCrearEquiposAsignaLaPartida() {
+        List<Equipo> nuevos = cLogica.crearEquipos("Llaneros", jugadoresTest.subList(0, 4),
+                "Guaros", jugadoresTest.subList(4, 8));
+
+        assertEquals(2, nuevos.size());
+        assertEquals("Llaneros", nuevos.get(0).getNombre());
+        assertEquals(nuevos, cLogica.getEquipos(), "Los equipos creados deben quedar en la lógica");
+        assertEquals(2, cLogica.getEstadoPartida().getCantidadEquipos(), "La partida debe usar los nuevos equipos");
+    }
+
+    /**
+     * Test de creación de equipos que comparten jugadores
+     */
+    @Test
+    void testCrearEquiposConJugadorRepetido() {
+        assertThrows(IllegalArgumentException.class, () -> cLogica.crearEquipos(
+                "Llaneros", jugadoresTest.subList(0, 4), "Guaros", jugadoresTest.subList(3, 7)));
+        assertTrue(cLogica.getEquipos().isEmpty(), "Con equipos inválidos la partida no cambia");
+    }
+
+    /**
+     * Test de creación de equipos con jugadores incompletos
+     */
+    @Test
+    void testCrearEquiposIncompletos() {
+        assertThrows(IllegalArgumentException.class, () -> cLogica.crearEquipos(
+                "Llaneros", jugadoresTest.subList(0, 3), "Guaros", jugadoresTest.subList(1, 5)));
+    }
 }
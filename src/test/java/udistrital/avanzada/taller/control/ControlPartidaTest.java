@@ -1,10 +1,15 @@
 package udistrital.avanzada.taller.control;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.*;
 import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.EstadoPartida;
+import udistrital.avanzada.taller.modelo.FormatoDesempate;
 import udistrital.avanzada.taller.modelo.Jugador;
 
 /**
@@ -136,4 +141,158 @@ public class ControlPartidaTest {
         assertEquals("Guaros", control.getEquipoEnTurno().getNombre(),
                 "Después de 4 lanzamientos debe cambiar el turno al segundo equipo.");
     }
+
+    @Test
+    void testRotacionTurnoTresEquipos() {
+        List<Equipo> equipos = new ArrayList<>();
+        equipos.add(crearEquipo("Llaneros", 4));
+        equipos.add(crearEquipo("Guaros", 4));
+        equipos.add(crearEquipo("Coleros", 4));
+        control.setEquipos(equipos);
+
+        assertEquals(3, control.getCantidadEquipos(), "La partida debe tener 3 equipos.");
+        for (int i = 0; i < 4; i++) {
+            control.lanzarArgolla();
+        }
+        assertEquals("Guaros", control.getEquipoEnTurno().getNombre(), "Tras la primera mano sigue el segundo equipo.");
+        for (int i = 0; i < 4; i++) {
+            control.lanzarArgolla();
+        }
+        assertEquals("Coleros", control.getEquipoEnTurno().getNombre(), "Tras la segunda mano sigue el tercer equipo.");
+    }
+
+    @Test
+    void testManoConfigurableDosJugadores() {
+        ControlPartida partida = new ControlPartida(
+                new ConfiguracionPartida(2, 21, 2, FormatoDesempate.LANZAMIENTO_UNICO), new Random(7));
+        List<Equipo> equipos = new ArrayList<>();
+        equipos.add(crearEquipo("Llaneros", 2));
+        equipos.add(crearEquipo("Guaros", 2));
+        partida.setEquipos(equipos);
+
+        partida.lanzarArgolla();
+        partida.lanzarArgolla();
+        assertEquals("Guaros", partida.getEquipoEnTurno().getNombre(),
+                "Con manos de 2 lanzamientos el turno cambia tras 2 lanzamientos.");
+    }
+
+    @Test
+    void testSetEquiposRechazaPlantillaIncorrecta() {
+        List<Equipo> equipos = new ArrayList<>();
+        equipos.add(crearEquipo("Llaneros", 3));
+        equipos.add(crearEquipo("Guaros", 4));
+        assertThrows(IllegalArgumentException.class, () -> control.setEquipos(equipos),
+                "Debe rechazar equipos con una cantidad de jugadores distinta a la configurada.");
+    }
+
+    @Test
+    void testPartidaVariosEquiposTermina() {
+        ControlPartida partida = new ControlPartida(new ConfiguracionPartida(), new Random(42));
+        List<Equipo> equipos = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            equipos.add(crearEquipo("Equipo" + i, 4));
+        }
+        partida.setEquipos(equipos);
+
+        int lanzamientos = 0;
+        while (partida.isPartidaActiva() && lanzamientos < 10000) {
+            partida.lanzarArgolla();
+            lanzamientos++;
+        }
+        assertFalse(partida.isPartidaActiva(), "La partida de 5 equipos debe terminar.");
+        assertTrue(partida.getGanador().getPuntaje() >= partida.getPuntajeObjetivo(),
+                "El ganador debe haber alcanzado el puntaje objetivo.");
+    }
+
+    @Test
+    void testEstadoSePublicaTrasCadaLanzamiento() {
+        ControlPartida partida = new ControlPartida(new ConfiguracionPartida(), new Random(7));
+        List<Equipo> equipos = new ArrayList<>();
+        equipos.add(crearEquipo("Llaneros", 4));
+        equipos.add(crearEquipo("Guaros", 4));
+        partida.setEquipos(equipos);
+
+        EstadoPartida anterior = partida.getEstado();
+        while (partida.isPartidaActiva()) {
+            partida.lanzarArgolla();
+            EstadoPartida estado = partida.getEstado();
+            assertTrue(estado.getSecuencia() > anterior.getSecuencia(), "Cada lanzamiento publica un estado nuevo.");
+            assertEquals(partida.getPuntaje(0), estado.getPuntaje(0));
+            assertEquals(partida.getPuntaje(1), estado.getPuntaje(1));
+            assertEquals(partida.getIndiceEquipoEnTurno(), estado.getEquipoEnTurno());
+            assertEquals(partida.getLanzamientoEnMano(), estado.getLanzamientoEnMano());
+            assertEquals(partida.isMuerteSubitaActiva(), estado.isMuerteSubitaActiva());
+            anterior = estado;
+        }
+        assertFalse(anterior.isPartidaActiva());
+        assertEquals(partida.getIndiceGanador(), anterior.getIndiceGanador());
+
+        int puntajeFinal = anterior.getPuntaje(0);
+        partida.avanzarRonda();
+        assertEquals(puntajeFinal, anterior.getPuntaje(0), "Una fotografía publicada nunca cambia.");
+        assertEquals(0, partida.getEstado().getPuntaje(0));
+        assertEquals(2, partida.getEstado().getRondaActual());
+    }
+
+    @Test
+    void testEstadoLeidoDesdeOtroHiloEsConsistente() throws InterruptedException {
+        ControlPartida partida = new ControlPartida(new ConfiguracionPartida(), new Random(11));
+        List<Equipo> equipos = new ArrayList<>();
+        equipos.add(crearEquipo("Llaneros", 4));
+        equipos.add(crearEquipo("Guaros", 4));
+        partida.setEquipos(equipos);
+
+        // El lector guarda lo que vio; el hilo de la partida, lo que publicó
+        int muestras = 200000;
+        long[] secuencias = new long[muestras];
+        int[][] vistos = new int[muestras][];
+        Thread lector = new Thread(() -> {
+            for (int i = 0; i < muestras; i++) {
+                EstadoPartida estado = partida.getEstado();
+                secuencias[i] = estado.getSecuencia();
+                vistos[i] = new int[]{estado.getPuntaje(0), estado.getPuntaje(1),
+                    estado.getEquipoEnTurno(), estado.getLanzamientoEnMano()};
+            }
+        });
+        Map<Long, int[]> publicados = new HashMap<>();
+        lector.start();
+        for (int r = 0; r < 200; r++) {
+            while (partida.isPartidaActiva()) {
+                partida.simularLanzamiento();
+                registrarPublicado(partida, equipos, publicados);
+            }
+            partida.reiniciar();
+            registrarPublicado(partida, equipos, publicados);
+        }
+        lector.join();
+
+        int comparados = 0;
+        for (int i = 0; i < muestras; i++) {
+            if (i > 0) {
+                assertTrue(secuencias[i] >= secuencias[i - 1], "El lector nunca debe ver retroceder la secuencia.");
+            }
+            int[] publicado = publicados.get(secuencias[i]);
+            if (publicado != null) {
+                assertArrayEquals(publicado, vistos[i],
+                        "La fotografía " + secuencias[i] + " debe coincidir con la publicada.");
+                comparados++;
+            }
+        }
+        assertTrue(comparados > 0, "El lector debió ver alguna fotografía publicada.");
+    }
+
+    /** Anota los valores de la fotografía recién publicada, según su secuencia. */
+    private static void registrarPublicado(ControlPartida partida, List<Equipo> equipos,
+            Map<Long, int[]> publicados) {
+        publicados.put(partida.getEstado().getSecuencia(), new int[]{equipos.get(0).getPuntaje(),
+            equipos.get(1).getPuntaje(), partida.getIndiceEquipoEnTurno(), partida.getLanzamientoEnMano()});
+    }
+
+    private static Equipo crearEquipo(String nombre, int cantidadJugadores) {
+        ArrayList<Jugador> jugadores = new ArrayList<>();
+        for (int i = 1; i <= cantidadJugadores; i++) {
+            jugadores.add(new Jugador(nombre + i, "foto" + i + ".jpg", "Apodo" + nombre + i));
+        }
+        return new Equipo(nombre, jugadores);
+    }
 }
@@ -0,0 +1,228 @@
+package udistrital.avanzada.taller.control;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import udistrital.avanzada.taller.modelo.ModeloLanzamiento;
+import udistrital.avanzada.taller.modelo.TipoLanzamiento;
+
+/**
+ * Pruebas unitarias para {@link ControlReproduccion} y
+ * {@link GuionLanzamientos}.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class ControlReproduccionTest {
+
+    /** Escucha que avisa cuando termina la ronda. */
+    private static final class Espera implements EscuchaReproduccion {
+        final CountDownLatch fin = new CountDownLatch(1);
+        final AtomicInteger lanzamientos = new AtomicInteger();
+
+        @Override
+        public void onLanzamiento(String resultado, int paso) {
+            assertNotNull(resultado);
+            lanzamientos.incrementAndGet();
+        }
+
+        @Override
+        public void onRondaTerminada() {
+            fin.countDown();
+        }
+    }
+
+    @Test
+    void testJuegoAutomaticoYReproduccionExacta() throws Exception {
+        ControlPartida original = PartidasPrueba.crearPartida(7);
+        Espera espera = new Espera();
+        List<TipoLanzamiento> grabados;
+        int pasos;
+        int[] puntajes;
+        try (ControlReproduccion auto = ControlReproduccion.juegoAutomatico(original,
+                ControlReproduccion.Velocidad.MAXIMA, espera)) {
+            auto.reanudar();
+            assertTrue(espera.fin.await(10, TimeUnit.SECONDS), "La ronda automática no terminó.");
+            assertFalse(original.isPartidaActiva());
+            grabados = auto.getGrabados();
+            pasos = auto.getPaso();
+            puntajes = original.getEstado().getPuntajes();
+        }
+        assertEquals(pasos, espera.lanzamientos.get());
+        assertTrue(grabados.size() >= pasos);
+
+        // La misma grabación, con otra semilla, repite la ronda exacta
+        ControlPartida copia = PartidasPrueba.crearPartida(99);
+        Espera otra = new Espera();
+        try (ControlReproduccion repeticion = ControlReproduccion.reproducir(copia, grabados,
+                ControlReproduccion.Velocidad.MAXIMA, otra)) {
+            repeticion.reanudar();
+            assertTrue(otra.fin.await(10, TimeUnit.SECONDS), "La reproducción no terminó.");
+            assertEquals(pasos, repeticion.getPaso());
+        }
+        assertArrayEquals(puntajes, copia.getEstado().getPuntajes());
+        assertEquals(original.getIndiceGanador(), copia.getIndiceGanador());
+    }
+
+    @Test
+    void testBuscarRepiteElMismoEstado() throws Exception {
+        ControlPartida partida = PartidasPrueba.crearPartida(3);
+        try (ControlReproduccion reproduccion = ControlReproduccion.juegoAutomatico(partida,
+                ControlReproduccion.Velocidad.NORMAL, new EscuchaReproduccion() { })) {
+            assertEquals(5, (int) reproduccion.buscar(5).get(10, TimeUnit.SECONDS));
+            int[] enCinco = partida.getEstado().getPuntajes();
+            assertEquals(10, (int) reproduccion.buscar(10).get(10, TimeUnit.SECONDS));
+            assertEquals(5, (int) reproduccion.buscar(5).get(10, TimeUnit.SECONDS));
+            assertArrayEquals(enCinco, partida.getEstado().getPuntajes(), "Volver atrás repite la ronda.");
+            assertEquals(0, (int) reproduccion.buscar(0).get(10, TimeUnit.SECONDS));
+            assertArrayEquals(new int[]{0, 0}, partida.getEstado().getPuntajes());
+            assertTrue(reproduccion.isPausada());
+        }
+    }
+
+    @Test
+    void testGrabacionAgotada() throws Exception {
+        ControlPartida partida = PartidasPrueba.crearPartida(1);
+        CountDownLatch agotada = new CountDownLatch(1);
+        try (ControlReproduccion reproduccion = ControlReproduccion.reproducir(partida,
+                List.of(TipoLanzamiento.TIMBRE, TipoLanzamiento.OTRO), ControlReproduccion.Velocidad.MAXIMA,
+                new EscuchaReproduccion() {
+                    @Override
+                    public void onFinGrabacion() {
+                        agotada.countDown();
+                    }
+                })) {
+            reproduccion.reanudar();
+            assertTrue(agotada.await(10, TimeUnit.SECONDS));
+            assertEquals(2, reproduccion.getPaso());
+            assertTrue(reproduccion.isPausada());
+            assertEquals(1, partida.getEstado().getPuntaje(0));
+        }
+    }
+
+    @Test
+    void testGrabacionAgotadaEnMuerteSubitaNoTocaLaPartida() throws Exception {
+        // Graba una ronda hasta la muerte súbita y sólo el lanzamiento del primer equipo en ella
+        List<TipoLanzamiento> grabados = null;
+        for (long semilla = 1; semilla < 2000 && grabados == null; semilla++) {
+            ControlPartida partida = PartidasPrueba.crearPartida(semilla);
+            GuionLanzamientos guion = new GuionLanzamientos(List.of(), partida.getModeloLanzamiento());
+            partida.setModeloLanzamiento(guion);
+            while (partida.isPartidaActiva() && !partida.isMuerteSubitaActiva()) {
+                partida.simularLanzamiento();
+            }
+            if (partida.isMuerteSubitaActiva()) {
+                grabados = new ArrayList<>(guion.getGrabados());
+                grabados.add(TipoLanzamiento.OTRO);
+            }
+        }
+        assertNotNull(grabados, "Ninguna semilla llegó a muerte súbita.");
+
+        ControlPartida partida = PartidasPrueba.crearPartida(1);
+        CountDownLatch agotada = new CountDownLatch(1);
+        try (ControlReproduccion reproduccion = ControlReproduccion.reproducir(partida, grabados,
+                ControlReproduccion.Velocidad.MAXIMA, new EscuchaReproduccion() {
+                    @Override
+                    public void onFinGrabacion() {
+                        agotada.countDown();
+                    }
+                })) {
+            reproduccion.reanudar();
+            assertTrue(agotada.await(10, TimeUnit.SECONDS));
+            assertTrue(partida.isMuerteSubitaActiva());
+            assertEquals(0, partida.getEnfrentamientoActual(), "El turno incompleto no se aplica.");
+            assertEquals(0, partida.getPuntajeMuerteSubita(0));
+            assertEquals(0, partida.getPuntajeMuerteSubita(1));
+            GuionLanzamientos guion = (GuionLanzamientos) partida.getModeloLanzamiento();
+            assertEquals(grabados.size() - 1, guion.getPosicion(), "No se consume el lanzamiento sobrante.");
+        }
+    }
+
+    @Test
+    void testErrorDeLaPartidaNoEsFinDeGrabacion() throws Exception {
+        ControlPartida partida = PartidasPrueba.crearPartida(2);
+        partida.setModeloLanzamiento(new ModeloLanzamiento(null) {
+            @Override
+            public TipoLanzamiento sortear(Random random) {
+                throw new IllegalStateException("Falla del motor");
+            }
+        });
+        CountDownLatch fallo = new CountDownLatch(1);
+        AtomicInteger finesGrabacion = new AtomicInteger();
+        try (ControlReproduccion reproduccion = ControlReproduccion.juegoAutomatico(partida,
+                ControlReproduccion.Velocidad.MAXIMA, new EscuchaReproduccion() {
+                    @Override
+                    public void onFinGrabacion() {
+                        finesGrabacion.incrementAndGet();
+                    }
+
+                    @Override
+                    public void onError(RuntimeException error) {
+                        assertEquals("Falla del motor", error.getMessage());
+                        fallo.countDown();
+                    }
+                })) {
+            reproduccion.reanudar();
+            assertTrue(fallo.await(10, TimeUnit.SECONDS), "El error debe llegar a la escucha.");
+            assertTrue(reproduccion.isPausada());
+            assertEquals(0, finesGrabacion.get());
+        }
+    }
+
+    @Test
+    void testSiguienteRondaAvanzaEnElHiloDeLaReproduccion() throws Exception {
+        ControlPartida partida = PartidasPrueba.crearPartida(4);
+        Espera primera = new Espera();
+        Espera segunda = new Espera();
+        Espera[] actual = {primera};
+        try (ControlReproduccion reproduccion = ControlReproduccion.juegoAutomatico(partida,
+                ControlReproduccion.Velocidad.MAXIMA, new EscuchaReproduccion() {
+                    @Override
+                    public void onRondaTerminada() {
+                        actual[0].onRondaTerminada();
+                    }
+                })) {
+            reproduccion.reanudar();
+            assertTrue(primera.fin.await(10, TimeUnit.SECONDS));
+            int pasos = reproduccion.getPaso();
+            assertEquals(pasos, (int) reproduccion.buscar(5).get(10, TimeUnit.SECONDS),
+                    "Con la ronda terminada el salto no reinicia la partida.");
+            assertFalse(partida.isPartidaActiva());
+
+            actual[0] = segunda;
+            assertTrue(reproduccion.siguienteRonda().get(10, TimeUnit.SECONDS));
+            assertTrue(segunda.fin.await(10, TimeUnit.SECONDS));
+            assertEquals(2, partida.getRondaActual());
+            assertFalse(reproduccion.siguienteRonda().get(10, TimeUnit.SECONDS), "Sólo hay dos rondas.");
+        }
+    }
+
+    @Test
+    void testGuardarYLeerGrabacion() throws Exception {
+        File archivo = File.createTempFile("grabacion", ".txt");
+        archivo.deleteOnExit();
+        List<TipoLanzamiento> grabados = List.of(TipoLanzamiento.MONONA, TipoLanzamiento.HUECO,
+                TipoLanzamiento.OTRO);
+        GuionLanzamientos.guardar(grabados, archivo);
+        assertEquals(grabados, GuionLanzamientos.leer(archivo));
+    }
+
+    @Test
+    void testCerrarDevuelveElModelo() {
+        ControlPartida partida = PartidasPrueba.crearPartida(5);
+        ModeloLanzamiento modelo = partida.getModeloLanzamiento();
+        ControlReproduccion reproduccion = ControlReproduccion.juegoAutomatico(partida,
+                ControlReproduccion.Velocidad.RAPIDA, new EscuchaReproduccion() { });
+        assertTrue(partida.getModeloLanzamiento() instanceof GuionLanzamientos);
+        reproduccion.close();
+        assertSame(modelo, partida.getModeloLanzamiento());
+        assertThrows(IllegalArgumentException.class, () -> ControlReproduccion.Velocidad.desde("2x"));
+        assertEquals(ControlReproduccion.Velocidad.MAXIMA, ControlReproduccion.Velocidad.desde("MAX"));
+    }
+}
@@ -0,0 +1,129 @@
+package udistrital.avanzada.taller.control;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import udistrital.avanzada.taller.modelo.Encuentro;
+import udistrital.avanzada.taller.modelo.FormatoTorneo;
+import udistrital.avanzada.taller.modelo.persistencia.EscritorResultados;
+import udistrital.avanzada.taller.modelo.persistencia.GestorResultados;
+
+/**
+ * Pruebas unitarias para {@link ControlTorneo}.
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0 - 19/10/2026
+ */
+public class ControlTorneoTest {
+
+    @BeforeAll
+    static void iniciarSuite() {
+        System.out.println("=== INICIO DE LAS PRUEBAS DE CONTROL TORNEO ===");
+    }
+
+    @AfterAll
+    static void finalizarSuite() {
+        System.out.println("=== FIN DE LAS PRUEBAS DE CONTROL TORNEO ===");
+    }
+
+    @Test
+    void testTodosContraTodosJuegaCadaPareja() throws Exception {
+        ControlTorneo torneo = new ControlTorneo(PartidasPrueba.crearEquipos(7, 4), new ConfiguracionPartida(),
+                FormatoTorneo.TODOS_CONTRA_TODOS, 5);
+        torneo.jugar();
+
+        Set<Long> parejas = new HashSet<>();
+        int partidas = 0;
+        for (Encuentro e : torneo.getEncuentros()) {
+            int a = Math.min(e.getLocal(), e.getVisitante());
+            int b = Math.max(e.getLocal(), e.getVisitante());
+            assertTrue(parejas.add(((long) a << 32) | b), "Ninguna pareja debe repetirse.");
+            partidas++;
+        }
+        assertEquals(7 * 6 / 2, partidas, "Deben jugarse n(n-1)/2 encuentros.");
+        int victorias = 0;
+        for (int i = 0; i < 7; i++) {
+            assertEquals(6, torneo.getVictorias(i) + torneo.getDerrotas(i), "Cada equipo juega contra los otros seis.");
+            victorias += torneo.getVictorias(i);
+        }
+        assertEquals(partidas, victorias);
+    }
+
+    @Test
+    void testEliminacionSimpleTieneUnCampeon() throws Exception {
+        ControlTorneo torneo = new ControlTorneo(PartidasPrueba.crearEquipos(11, 4), new ConfiguracionPartida(),
+                FormatoTorneo.ELIMINACION_SIMPLE, 9);
+        int campeon = torneo.jugar();
+
+        assertEquals(4, torneo.getRondasJugadas(), "Con 11 equipos la llave es de 16.");
+        assertEquals(0, torneo.getDerrotas(campeon), "El campeón no pierde ningún encuentro.");
+        assertEquals(campeon, torneo.getClasificacion()[0]);
+        int eliminados = 0;
+        for (int i = 0; i < 11; i++) {
+            eliminados += torneo.getDerrotas(i);
+        }
+        assertEquals(10, eliminados, "Todos menos el campeón quedan eliminados una vez.");
+    }
+
+    @Test
+    void testSuizoEvitaRevanchas() throws Exception {
+        ControlTorneo torneo = new ControlTorneo(PartidasPrueba.crearEquipos(16, 4), new ConfiguracionPartida(),
+                FormatoTorneo.SUIZO, 21);
+        torneo.jugar();
+
+        assertEquals(4, torneo.getRondasJugadas());
+        Set<Long> parejas = new HashSet<>();
+        for (Encuentro e : torneo.getEncuentros()) {
+            int a = Math.min(e.getLocal(), e.getVisitante());
+            int b = Math.max(e.getLocal(), e.getVisitante());
+            assertTrue(parejas.add(((long) a << 32) | b), "En cuatro rondas con 16 equipos no debe haber revanchas.");
+        }
+        for (int i = 0; i < 16; i++) {
+            assertEquals(4, torneo.getVictorias(i) + torneo.getDerrotas(i));
+        }
+    }
+
+    @Test
+    void testMismaSemillaMismoResultado() throws Exception {
+        ControlTorneo primero = new ControlTorneo(PartidasPrueba.crearEquipos(9, 4), new ConfiguracionPartida(),
+                FormatoTorneo.SUIZO, 77);
+        ControlTorneo segundo = new ControlTorneo(PartidasPrueba.crearEquipos(9, 4), new ConfiguracionPartida(),
+                FormatoTorneo.SUIZO, 77);
+        primero.jugar();
+        ExecutorService virtuales = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            segundo.jugar(virtuales);
+        } finally {
+            virtuales.shutdown();
+        }
+
+        assertArrayEquals(primero.getClasificacion(), segundo.getClasificacion(),
+                "El resultado no debe depender del ejecutor ni del orden de los hilos.");
+        for (int i = 0; i < 9; i++) {
+            assertEquals(primero.getPuntosAFavor(i), segundo.getPuntosAFavor(i));
+        }
+    }
+
+    @Test
+    void testResultadosSeGuardanConUnSoloEscritor() throws Exception {
+        File archivo = File.createTempFile("torneo", ".dat");
+        archivo.deleteOnExit();
+        GestorResultados gestor = new GestorResultados(archivo);
+        gestor.limpiarResultados();
+
+        ControlTorneo torneo = new ControlTorneo(PartidasPrueba.crearEquipos(6, 4), new ConfiguracionPartida(),
+                FormatoTorneo.TODOS_CONTRA_TODOS, 3);
+        try (EscritorResultados escritor = new EscritorResultados(gestor, 4)) {
+            torneo.setEscritor(escritor);
+            torneo.jugar();
+        }
+
+        assertEquals(15 * 2, gestor.getCantidadRegistros(), "Cada encuentro guarda un registro por equipo.");
+        gestor.recorrerResultados(registro -> assertEquals(1, registro.getRonda(),
+                "Se guarda la ronda de la partida, no la del torneo."));
+    }
+}
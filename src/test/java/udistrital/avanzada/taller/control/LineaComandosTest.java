@@ -0,0 +1,126 @@
+package udistrital.avanzada.taller.control;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import udistrital.avanzada.taller.modelo.persistencia.GeneradorDatos;
+import udistrital.avanzada.taller.modelo.persistencia.GestorResultados;
+
+/**
+ * Pruebas unitarias para {@link LineaComandos}. Se ejecutan sin pantalla.
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0 - 19/10/2026
+ */
+public class LineaComandosTest {
+
+    private File equipos;
+    private File resultados;
+    private ByteArrayOutputStream salida;
+    private LineaComandos cli;
+
+    @BeforeAll
+    static void iniciarSuite() {
+        System.out.println("=== INICIO DE LAS PRUEBAS DE LINEA COMANDOS ===");
+    }
+
+    @AfterAll
+    static void finalizarSuite() {
+        System.out.println("=== FIN DE LAS PRUEBAS DE LINEA COMANDOS ===");
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        equipos = File.createTempFile("equipos", ".properties");
+        resultados = File.createTempFile("resultados", ".dat");
+        resultados.delete();
+        new GeneradorDatos(3).generarEquipos(equipos, 12, 0);
+        salida = new ByteArrayOutputStream();
+        cli = new LineaComandos(new PrintStream(salida, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void limpiar() {
+        equipos.delete();
+        resultados.delete();
+    }
+
+    private String texto() {
+        return salida.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testPartidasGuardaDosRegistrosPorPartida() {
+        int codigo = cli.ejecutar(new String[]{"partidas", equipos.getPath(), "5000",
+            "--resultados", resultados.getPath(), "--semilla", "9", "--hilos", "3"});
+        assertEquals(0, codigo);
+        assertEquals(10000, new GestorResultados(resultados).getCantidadRegistros());
+        assertTrue(texto().contains("5000 partidas en"), texto());
+        assertTrue(texto().contains("3 hilos"));
+    }
+
+    @Test
+    void testMismaSemillaMismosResultados() throws Exception {
+        File otro = File.createTempFile("resultados", ".dat");
+        otro.delete();
+        try {
+            cli.ejecutar(new String[]{"partidas", equipos.getPath(), "300", "--resultados", resultados.getPath()});
+            cli.ejecutar(new String[]{"partidas", equipos.getPath(), "300", "--resultados", otro.getPath(),
+                "--hilos", "1"});
+            assertArrayEquals(Files.readAllBytes(resultados.toPath()),
+                    Files.readAllBytes(otro.toPath()));
+        } finally {
+            otro.delete();
+        }
+    }
+
+    @Test
+    void testTorneoYConsulta() {
+        assertEquals(0, cli.ejecutar(new String[]{"torneo", equipos.getPath(), "todos",
+            "--resultados", resultados.getPath()}));
+        assertEquals(12 * 11, new GestorResultados(resultados).getCantidadRegistros());
+        assertTrue(texto().contains("Campeón:"));
+
+        assertEquals(0, cli.ejecutar(new String[]{"consulta", resultados.getPath(), "--agrupar", "ronda"}));
+        assertTrue(texto().contains("Ronda"));
+    }
+
+    @Test
+    void testArgumentosInvalidos() {
+        assertEquals(1, cli.ejecutar(new String[]{}));
+        assertEquals(1, cli.ejecutar(new String[]{"partidas", equipos.getPath(), "cero"}));
+        assertEquals(1, cli.ejecutar(new String[]{"torneo", equipos.getPath(), "liga"}));
+        assertEquals(1, cli.ejecutar(new String[]{"partidas", equipos.getPath(), "10", "--hilos"}));
+        assertEquals(1, cli.ejecutar(new String[]{"partidas", equipos.getPath(), "10"}),
+                "Sin --resultados no se simula sobre el historial del juego.");
+        assertEquals(1, cli.ejecutar(new String[]{"consulta", resultados.getPath()}));
+        assertFalse(resultados.exists(), "Con argumentos inválidos no se guarda nada.");
+    }
+
+    @Test
+    void testFallaDeEquiposNoEsErrorDeArgumentos() throws Exception {
+        File vacio = File.createTempFile("vacio", ".properties");
+        try {
+            assertEquals(3, cli.ejecutar(new String[]{"partidas", vacio.getPath(), "10",
+                "--resultados", resultados.getPath()}));
+            assertEquals(3, cli.ejecutar(new String[]{"torneo", vacio.getPath(), "suizo",
+                "--resultados", resultados.getPath(), "--hilos", "2"}));
+            assertFalse(resultados.exists());
+        } finally {
+            vacio.delete();
+        }
+    }
+
+    @Test
+    void testPartidasSeGuardanComoRondaUno() throws Exception {
+        assertEquals(0, cli.ejecutar(new String[]{"partidas", equipos.getPath(), "50",
+            "--resultados", resultados.getPath()}));
+        GestorResultados gestor = new GestorResultados(resultados);
+        gestor.recorrerResultados(r -> assertEquals(1, r.getRonda()));
+        assertEquals(100, gestor.getCantidadRegistros());
+    }
+}
@@ -0,0 +1,64 @@
+package udistrital.avanzada.taller.control;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.Jugador;
+
+/**
+ * Equipos y partidas de prueba compartidos por las pruebas y los
+ * benchmarks del paquete. Los equipos se llaman "Equipo1", "Equipo2"... y
+ * sus jugadores "Jugador" + equipo + posición, con apodos análogos.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+final class PartidasPrueba {
+
+    private PartidasPrueba() {
+    }
+
+    /**
+     * Crea equipos con jugadores distintos entre sí.
+     *
+     * @param cantidad cantidad de equipos
+     * @param jugadoresPorEquipo jugadores de cada equipo
+     * @return equipos en orden, desde "Equipo1"
+     */
+    static List<Equipo> crearEquipos(int cantidad, int jugadoresPorEquipo) {
+        List<Equipo> equipos = new ArrayList<>(cantidad);
+        for (int e = 1; e <= cantidad; e++) {
+            ArrayList<Jugador> jugadores = new ArrayList<>(jugadoresPorEquipo);
+            for (int j = 1; j <= jugadoresPorEquipo; j++) {
+                jugadores.add(new Jugador("Jugador" + e + j, "foto.jpg", "Apodo" + e + j));
+            }
+            equipos.add(new Equipo("Equipo" + e, jugadores));
+        }
+        return equipos;
+    }
+
+    /**
+     * Crea una partida lista para lanzar.
+     *
+     * @param cantidadEquipos equipos en la mesa
+     * @param configuracion configuración de la partida
+     * @param random generador de los lanzamientos
+     * @return partida con los equipos ya asignados
+     */
+    static ControlPartida crearPartida(int cantidadEquipos, ConfiguracionPartida configuracion, Random random) {
+        ControlPartida partida = new ControlPartida(configuracion, random);
+        partida.setEquipos(crearEquipos(cantidadEquipos, configuracion.getJugadoresPorEquipo()));
+        return partida;
+    }
+
+    /**
+     * Crea una partida de dos equipos con la configuración por defecto.
+     *
+     * @param semilla semilla de los lanzamientos
+     * @return partida con los equipos ya asignados
+     */
+    static ControlPartida crearPartida(long semilla) {
+        return crearPartida(2, new ConfiguracionPartida(), new Random(semilla));
+    }
+}
@@ -0,0 +1,138 @@
+package udistrital.avanzada.taller.control;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.Jugador;
+
+/**
+ * Pruebas unitarias para {@link RegistroJugadores} y su uso desde
+ * {@link ControlEquipos}.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class RegistroJugadoresTest {
+
+    @Test
+    void testRegistroYDisponibilidad() {
+        RegistroJugadores registro = new RegistroJugadores();
+        Jugador fiera = new Jugador("Pedro", "f.jpg", "La Fiera");
+        int posicion = registro.registrar(fiera);
+        assertEquals(posicion, registro.registrar(fiera), "Un jugador no se registra dos veces.");
+        assertEquals(1, registro.getCantidad());
+        assertEquals(posicion, registro.buscarPorId(fiera.getId()));
+        int homonimo = registro.registrar(new Jugador("Otro", "o.jpg", "La Fiera"));
+        assertNotEquals(posicion, homonimo, "Dos jugadores con el mismo apodo son distintos.");
+        assertEquals(posicion, registro.buscarPorApodo("LA FIERA"), "El apodo encuentra al primero.");
+        assertFalse(registro.isDisponible(posicion));
+
+        registro.setDisponible(posicion, true);
+        registro.setDisponible(posicion, true);
+        assertEquals(1, registro.getCantidadDisponibles());
+        assertEquals(posicion, registro.buscarPorApodo("la fiera"));
+        assertEquals(-1, registro.buscarPorApodo("El Toro"));
+        assertEquals(-1, registro.posicion(new Jugador("X", "x.jpg", "Nadie")));
+        assertFalse(registro.isDisponible(-1));
+        assertThrows(IllegalArgumentException.class, () -> registro.setDisponible(5, true));
+        assertEquals(-1, registro.buscarPorId(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testDisponiblesEnOrdenDeRegistro() {
+        ControlEquipos control = new ControlEquipos();
+        List<Jugador> jugadores = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            jugadores.add(new Jugador("Jugador" + i, "f" + i + ".jpg", "Apodo" + i));
+        }
+        control.setJugadoresDisponibles(jugadores);
+
+        Equipo primero = control.crearEquipo("Uno", jugadores.subList(4, 8));
+        control.crearEquipo("Dos", jugadores.subList(0, 4));
+        assertEquals(jugadores.subList(8, 12), control.getJugadoresDisponibles());
+        assertNull(control.buscarJugadorDisponible("APODO5"), "Un jugador en equipo no está disponible.");
+        assertThrows(IllegalArgumentException.class, () -> control.crearEquipo("Tres", jugadores.subList(2, 6)));
+
+        control.deshacerEquipo(primero);
+        assertSame(jugadores.get(5), control.buscarJugadorDisponible("APODO5"));
+        assertEquals(8, control.getJugadoresDisponibles().size());
+        assertEquals(jugadores.get(4), control.getJugadoresDisponibles().get(0),
+                "Los jugadores liberados vuelven a su lugar.");
+
+        control.limpiarEquipos();
+        assertEquals(jugadores, control.getJugadoresDisponibles());
+    }
+
+    @Test
+    void testApodoCompartidoDevuelveElDisponible() {
+        ControlEquipos control = new ControlEquipos();
+        List<Jugador> jugadores = new ArrayList<>();
+        jugadores.add(new Jugador("Ana", "a.jpg", "El Tigre"));
+        for (int i = 1; i <= 3; i++) {
+            jugadores.add(new Jugador("Jugador" + i, "f" + i + ".jpg", "Apodo" + i));
+        }
+        jugadores.add(new Jugador("Luis", "l.jpg", "el tigre"));
+        control.setJugadoresDisponibles(jugadores);
+
+        assertSame(jugadores.get(0), control.buscarJugadorDisponible("EL TIGRE"), "Primero en orden de registro.");
+        control.crearEquipo("Uno", jugadores.subList(0, 4));
+        assertSame(jugadores.get(4), control.buscarJugadorDisponible("EL TIGRE"),
+                "Otro jugador con el mismo apodo sigue disponible.");
+        assertNull(control.buscarJugadorDisponible("El León"));
+        assertNull(control.buscarJugadorDisponible(null));
+    }
+
+    @Test
+    void testElRegistroAsignaLosIdentificadores() {
+        RegistroJugadores registro = new RegistroJugadores();
+        registro.registrar(new Jugador(40, "Ana", "a.jpg", "Anita"));
+        Jugador sinId = new Jugador("Pedro", "p.jpg", "El Toro");
+        assertFalse(sinId.tieneId(), "Crear un jugador no le asigna identificador.");
+        assertEquals(-1, registro.posicion(sinId));
+        assertNotEquals(sinId, new Jugador("Pedro", "p.jpg", "El Toro"), "Sin identificador sólo es igual a sí mismo.");
+
+        int posicion = registro.registrar(sinId);
+        assertEquals(41, sinId.getId(), "Recibe un identificador libre de la nómina.");
+        assertEquals(posicion, registro.buscarPorId(41));
+        assertEquals(42, registro.siguienteId());
+        assertThrows(IllegalStateException.class, () -> sinId.asignarId(99));
+
+        // En otra nómina los identificadores empiezan de nuevo
+        Jugador otro = new Jugador("Luis", "l.jpg", "El Zorro");
+        new RegistroJugadores().registrar(otro);
+        assertEquals(1, otro.getId());
+    }
+
+    @Test
+    void testIdentificadorRepetidoSeRechaza() {
+        // Un jugador creado en código con un id propio puede tener el de uno del archivo
+        Jugador delArchivo = new Jugador(900_001, "Ana", "a.jpg", "Anita");
+        Jugador deCodigo = new Jugador(900_001, "Pedro", "p.jpg", "El Toro");
+        ControlEquipos control = new ControlEquipos();
+        control.setJugadoresDisponibles(List.of(delArchivo));
+
+        assertThrows(IllegalArgumentException.class, () -> control.agregarJugador(deCodigo));
+        assertEquals(List.of(delArchivo), control.getJugadoresDisponibles());
+        assertThrows(IllegalArgumentException.class, () -> control.crearEquipo("Toros",
+                List.of(deCodigo, deCodigo, deCodigo, deCodigo)), "No se toma el jugador del archivo por él.");
+        assertFalse(control.agregarJugador(new Jugador(900_001, "Ana", "otra.jpg", "Anita")),
+                "Una copia del mismo jugador no es una colisión.");
+    }
+
+    @Test
+    void testCrearJugadorUsaUnIdLibreDeLaNomina() {
+        ControlEquipos control = new ControlEquipos();
+        List<Jugador> nomina = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            nomina.add(new Jugador(950_000 + i, "Jugador" + i, "f.jpg", "Apodo" + i));
+        }
+        control.setEquipos(List.of(new Equipo("Toros", new ArrayList<>(nomina.subList(2, 4)))));
+        control.setJugadoresDisponibles(nomina.subList(0, 1));
+
+        Jugador nuevo = control.crearJugador("Nuevo", "n.jpg", "El Nuevo");
+        assertEquals(950_005, nuevo.getId(), "Mayor que los ids de la nómina, también de los equipos.");
+        assertEquals(List.of(nomina.get(0), nuevo), control.getJugadoresDisponibles());
+    }
+}
@@ -0,0 +1,102 @@
+package udistrital.avanzada.taller.control;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.persistencia.ControlPersistencia;
+import udistrital.avanzada.taller.modelo.persistencia.EscuchaProgreso;
+import udistrital.avanzada.taller.modelo.persistencia.GeneradorDatos;
+import udistrital.avanzada.taller.modelo.persistencia.GestorResultados;
+import udistrital.avanzada.taller.modelo.persistencia.RegistroResultado;
+
+/**
+ * Pruebas unitarias para {@link ServicioArchivos}: carga en segundo plano,
+ * orden entre escrituras y lecturas, avance y cancelación.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class ServicioArchivosTest {
+
+    private File equipos;
+    private File resultados;
+    private ServicioArchivos servicio;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        equipos = File.createTempFile("equipos", ".properties");
+        resultados = File.createTempFile("resultados", ".dat");
+        resultados.delete();
+        servicio = new ServicioArchivos(new ControlPersistencia(), new GestorResultados(resultados));
+    }
+
+    @AfterEach
+    void tearDown() {
+        servicio.close();
+        equipos.delete();
+        resultados.delete();
+    }
+
+    @Test
+    void testCargaFueraDelHiloQueLaPide() throws Exception {
+        new GeneradorDatos(5).generarEquipos(equipos, 50, 10);
+        Thread llamador = Thread.currentThread();
+        List<Thread> hilos = new ArrayList<>();
+        AtomicLong ultimo = new AtomicLong();
+        List<Equipo> cargados = servicio.cargarEquipos(equipos, (hechos, total) -> {
+            hilos.add(Thread.currentThread());
+            ultimo.set(hechos);
+        }).get(10, TimeUnit.SECONDS);
+
+        assertEquals(50, cargados.size());
+        assertEquals(50, ultimo.get(), "El último avance indica la carga completa.");
+        assertFalse(hilos.contains(llamador), "La carga no se hace en el hilo que la pide.");
+    }
+
+    @Test
+    void testLecturaVeLoGuardadoAntes() throws Exception {
+        List<RegistroResultado> lote = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            lote.add(new RegistroResultado(0, "Equipo" + i, new String[]{"a", "b", "c", "d"}, "GANADOR", 21, 1));
+        }
+        servicio.guardarResultados(lote, EscuchaProgreso.NINGUNA);
+        List<String> leidos = servicio.leerResultados(EscuchaProgreso.NINGUNA).get(10, TimeUnit.SECONDS);
+        assertEquals(10, leidos.size(), "Las operaciones se ejecutan en el orden en que se piden.");
+    }
+
+    @Test
+    void testCancelarLectura() throws Exception {
+        new GeneradorDatos(9).generarResultados(resultados, 200000, 8);
+        CountDownLatch empezo = new CountDownLatch(1);
+        CompletableFuture<List<String>> lectura = servicio.leerResultados((hechos, total) -> {
+            if (hechos > 0) {
+                empezo.countDown();
+            }
+        });
+        assertTrue(empezo.await(10, TimeUnit.SECONDS));
+        assertTrue(lectura.cancel(true));
+        assertThrows(CancellationException.class, lectura::join);
+
+        // El hilo de E/S sigue disponible para la siguiente operación
+        assertEquals(200000, new GestorResultados(resultados).getCantidadRegistros());
+        List<String> despues = servicio.leerResultados(EscuchaProgreso.NINGUNA).get(60, TimeUnit.SECONDS);
+        assertEquals(200000, despues.size());
+    }
+
+    @Test
+    void testErrorDeCargaSePropaga() {
+        File inexistente = new File(equipos.getPath() + ".no");
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> servicio.cargarEquipos(inexistente, EscuchaProgreso.NINGUNA).get(10, TimeUnit.SECONDS));
+        assertTrue(ex.getCause() instanceof IllegalArgumentException);
+    }
+}
@@ -0,0 +1,200 @@
+package udistrital.avanzada.taller.control;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.Jugador;
+import udistrital.avanzada.taller.modelo.persistencia.GestorResultados;
+import udistrital.avanzada.taller.modelo.persistencia.RegistroResultado;
+
+/**
+ * Pruebas unitarias para {@link ServidorMarcador}. El servidor escucha en
+ * un puerto libre de localhost.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class ServidorMarcadorTest {
+
+    private File archivo;
+    private ControlPartida partida;
+    private ServidorMarcador servidor;
+    private HttpClient cliente;
+
+    @BeforeAll
+    static void iniciarSuite() {
+        System.out.println("=== INICIO DE LAS PRUEBAS DE SERVIDOR MARCADOR ===");
+    }
+
+    @AfterAll
+    static void finalizarSuite() {
+        System.out.println("=== FIN DE LAS PRUEBAS DE SERVIDOR MARCADOR ===");
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        archivo = File.createTempFile("marcador", ".dat");
+        archivo.delete();
+        GestorResultados gestor = new GestorResultados(archivo);
+        gestor.guardarResultados(List.of(
+                new RegistroResultado(1, "Toros", new String[]{"a", "b", "c", "d"},
+                        RegistroResultado.resultado(true, false), 21, 100),
+                new RegistroResultado(1, "Llaneros", new String[]{"e", "f", "g", "h"},
+                        RegistroResultado.resultado(false, false), 12, 100)));
+
+        partida = new ControlPartida();
+        List<Equipo> equipos = new ArrayList<>();
+        equipos.add(equipo("Toros", "T"));
+        equipos.add(equipo("Llaneros", "L"));
+        partida.setEquipos(equipos);
+
+        servidor = new ServidorMarcador(partida, gestor,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        servidor.iniciar();
+        cliente = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void limpiar() {
+        servidor.close();
+        archivo.delete();
+    }
+
+    private static Equipo equipo(String nombre, String prefijo) {
+        ArrayList<Jugador> jugadores = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            jugadores.add(new Jugador(prefijo + i, "foto.jpg", "Apodo" + prefijo + i));
+        }
+        return new Equipo(nombre, jugadores);
+    }
+
+    private HttpResponse<String> get(String ruta) throws Exception {
+        return cliente.send(HttpRequest.newBuilder(
+                URI.create("http://localhost:" + servidor.getPuerto() + ruta)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    /** Abre un flujo de eventos con un socket y devuelve el lector ya pasado de las cabeceras. */
+    private BufferedReader suscribir(Socket socket) throws Exception {
+        OutputStream salida = socket.getOutputStream();
+        salida.write(("GET /eventos HTTP/1.1\r\nHost: localhost\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        salida.flush();
+        BufferedReader lector = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        assertTrue(lector.readLine().contains("200"));
+        return lector;
+    }
+
+    /** Lee hasta encontrar la línea indicada y devuelve la siguiente. */
+    private static String leerHasta(BufferedReader lector, String linea) throws Exception {
+        String l;
+        while ((l = lector.readLine()) != null) {
+            if (l.endsWith(linea)) {
+                return lector.readLine();
+            }
+        }
+        fail("El flujo terminó antes de: " + linea);
+        return null;
+    }
+
+    @Test
+    void testEstado() throws Exception {
+        partida.simularLanzamiento();
+        HttpResponse<String> respuesta = get("/estado");
+        assertEquals(200, respuesta.statusCode());
+        String json = respuesta.body();
+        assertTrue(json.contains("\"nombre\":\"Toros\""), json);
+        assertTrue(json.contains("\"nombre\":\"Llaneros\""), json);
+        assertTrue(json.contains("\"partidaActiva\":true"), json);
+        assertTrue(json.contains("\"secuencia\":" + partida.getEstado().getSecuencia()), json);
+    }
+
+    @Test
+    void testResultados() throws Exception {
+        HttpResponse<String> respuesta = get("/resultados?agrupar=equipo");
+        assertEquals(200, respuesta.statusCode());
+        assertTrue(respuesta.body().startsWith("[{\"grupo\":\"Llaneros\""), respuesta.body());
+        assertTrue(respuesta.body().contains("\"grupo\":\"Toros\",\"registros\":1"));
+
+        respuesta = get("/resultados?resultado=GANADOR&puntaje=20-21");
+        assertTrue(respuesta.body().contains("\"victorias\":1"), respuesta.body());
+
+        assertEquals(400, get("/resultados?orden=x").statusCode());
+        assertEquals(400, get("/resultados?puntaje=9-1").statusCode());
+    }
+
+    @Test
+    void testEventosDeLanzamiento() throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), servidor.getPuerto())) {
+            socket.setSoTimeout(10_000);
+            BufferedReader lector = suscribir(socket);
+            String estado = leerHasta(lector, "event: estado");
+            assertTrue(estado.startsWith("data: {\"secuencia\""), estado);
+
+            partida.simularLanzamiento();
+            String datos = leerHasta(lector, "event: lanzamiento");
+            assertTrue(datos.contains("\"nombreEquipo\":\"Toros\""), datos);
+            assertTrue(datos.contains("\"estado\":{"), datos);
+        }
+    }
+
+    @Test
+    void testUltimoEventoVisto() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            partida.simularLanzamiento();
+        }
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), servidor.getPuerto())) {
+            socket.setSoTimeout(10_000);
+            socket.getOutputStream().write(("GET /eventos HTTP/1.1\r\nHost: localhost\r\nLast-Event-ID: 1\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            BufferedReader lector = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            leerHasta(lector, "event: estado");
+            assertEquals("event: lanzamiento", leerHasta(lector, "id: 2"));
+            assertEquals("event: lanzamiento", leerHasta(lector, "id: 3"));
+        }
+    }
+
+    @Test
+    void testMilSuscriptores() throws Exception {
+        int cantidad = 1000;
+        List<Socket> sockets = new ArrayList<>();
+        List<BufferedReader> lectores = new ArrayList<>();
+        try {
+            for (int i = 0; i < cantidad; i++) {
+                Socket socket = new Socket(InetAddress.getLoopbackAddress(), servidor.getPuerto());
+                socket.setSoTimeout(20_000);
+                sockets.add(socket);
+                lectores.add(suscribir(socket));
+            }
+            for (BufferedReader lector : lectores) {
+                leerHasta(lector, "event: estado");
+            }
+            assertEquals(cantidad, servidor.getSuscriptores());
+
+            partida.simularLanzamiento();
+            for (BufferedReader lector : lectores) {
+                assertTrue(leerHasta(lector, "event: lanzamiento").startsWith("data: "));
+            }
+            assertEquals(0, servidor.getPerdidos());
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package udistrital.avanzada.taller.modelo;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import udistrital.avanzada.taller.modelo.persistencia.GestorResultados;
+import udistrital.avanzada.taller.modelo.persistencia.RegistroResultado;
+
+/**
+ * Pruebas unitarias para {@link MotorCalificaciones}. Retomar desde una
+ * instantánea debe dar lo mismo que aplicar todo el historial.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class MotorCalificacionesTest {
+
+    private static RegistroResultado registro(String equipo, boolean gano, int ronda) {
+        String[] jugadores = new String[4];
+        for (int i = 0; i < 4; i++) {
+            jugadores[i] = equipo + " " + i + " (J" + i + ")";
+        }
+        return new RegistroResultado(0, equipo, jugadores, RegistroResultado.resultado(gano, false),
+                gano ? 21 : 12, ronda);
+    }
+
+    private static List<RegistroResultado> historial(int encuentros, long semilla) {
+        Random random = new Random(semilla);
+        List<RegistroResultado> lista = new ArrayList<>();
+        for (int i = 0; i < encuentros; i++) {
+            int a = random.nextInt(8);
+            int b = (a + 1 + random.nextInt(7)) % 8;
+            // El equipo 0 gana casi siempre
+            boolean ganaA = a == 0 || (b != 0 && random.nextBoolean());
+            lista.add(registro("Equipo " + a, ganaA, i));
+            lista.add(registro("Equipo " + b, !ganaA, i));
+        }
+        return lista;
+    }
+
+    @Test
+    void testGanadorSubeYDesviacionBaja() {
+        MotorCalificaciones motor = new MotorCalificaciones();
+        motor.registrar(registro("Toros", true, 1));
+        motor.registrar(registro("Llaneros", false, 1));
+
+        assertTrue(motor.getCalificacionEquipo("Toros") > MotorCalificaciones.CALIFICACION_INICIAL);
+        assertTrue(motor.getCalificacionEquipo("Llaneros") < MotorCalificaciones.CALIFICACION_INICIAL);
+        assertEquals(motor.getCalificacionEquipo("Toros") - 1500, 1500 - motor.getCalificacionEquipo("Llaneros"), 1e-9);
+        assertTrue(motor.getDesviacionEquipo("Toros") < MotorCalificaciones.DESVIACION_INICIAL);
+        assertTrue(motor.getCalificacionJugador("Toros 0 (J0)") > MotorCalificaciones.CALIFICACION_INICIAL);
+        assertTrue(motor.probabilidadVictoria("Toros", "Llaneros") > 0.5);
+        assertEquals(MotorCalificaciones.CALIFICACION_INICIAL, motor.getCalificacionEquipo("Nadie"), 1e-9);
+    }
+
+    @Test
+    void testRegistroSinParSeDescarta() {
+        MotorCalificaciones motor = new MotorCalificaciones();
+        motor.registrar(registro("Suelto", true, 1));
+        motor.registrar(registro("Toros", true, 2));
+        motor.registrar(registro("Llaneros", false, 2));
+
+        assertEquals(2, motor.getCantidadEquipos(), "El registro suelto no forma encuentro.");
+        assertTrue(motor.getCalificacionEquipo("Toros") > MotorCalificaciones.CALIFICACION_INICIAL);
+        assertEquals(3, motor.getRegistros());
+    }
+
+    @Test
+    void testModeloLanzamientoFavoreceAlMejorCalificado() {
+        MotorCalificaciones motor = new MotorCalificaciones();
+        for (RegistroResultado r : historial(400, 3)) {
+            motor.registrar(r);
+        }
+        assertTrue(motor.getCalificacionEquipo("Equipo 0") > 1700);
+
+        ModeloLanzamiento fuerte = motor.modeloLanzamiento("Equipo 0");
+        ModeloLanzamiento uniforme = ModeloLanzamiento.uniforme();
+        assertTrue(fuerte.getProbabilidad(TipoLanzamiento.MONONA) > uniforme.getProbabilidad(TipoLanzamiento.MONONA));
+        assertSame(uniforme, motor.modeloLanzamiento("Nadie"));
+    }
+
+    @Test
+    void testInstantaneaYRetomaIgualQueHistorialCompleto() throws Exception {
+        File archivo = File.createTempFile("calificaciones", ".dat");
+        File instantanea = new File(archivo.getPath() + ".calificaciones");
+        archivo.delete();
+        try {
+            List<RegistroResultado> todo = historial(300, 7);
+            MotorCalificaciones completo = new MotorCalificaciones();
+            for (RegistroResultado r : todo) {
+                completo.registrar(r);
+            }
+
+            // Primera sesión: sigue el archivo y guarda instantáneas cada 50 registros
+            GestorResultados gestor = new GestorResultados(archivo);
+            MotorCalificaciones primero = new MotorCalificaciones();
+            primero.setInstantanea(instantanea, 50);
+            primero.seguir(gestor);
+            gestor.guardarResultados(todo.subList(0, 131));
+            gestor.guardarResultados(todo.subList(131, 400));
+            gestor.quitarEscucha(primero);
+            assertTrue(instantanea.exists());
+
+            // Segunda sesión: carga la instantánea y lee sólo lo posterior
+            gestor.guardarResultados(todo.subList(400, todo.size()));
+            MotorCalificaciones retomado = MotorCalificaciones.cargar(instantanea);
+            assertTrue(retomado.getRegistros() >= 350, "La instantánea cubre casi todo lo guardado.");
+            retomado.seguir(gestor);
+
+            assertEquals(todo.size(), retomado.getRegistros());
+            for (int i = 0; i < 8; i++) {
+                String equipo = "Equipo " + i;
+                assertEquals(completo.getCalificacionEquipo(equipo), retomado.getCalificacionEquipo(equipo), 1e-6);
+                assertEquals(completo.getDesviacionEquipo(equipo), retomado.getDesviacionEquipo(equipo), 1e-6);
+                assertEquals(completo.getCalificacionJugador(equipo + " 0 (J0)"),
+                        retomado.getCalificacionJugador(equipo + " 0 (J0)"), 1e-6);
+            }
+        } finally {
+            archivo.delete();
+            instantanea.delete();
+        }
+    }
+
+    @Test
+    void testHistorialLimpiadoEmpiezaDeCero() throws Exception {
+        File archivo = File.createTempFile("calificaciones", ".dat");
+        File instantanea = new File(archivo.getPath() + ".calificaciones");
+        archivo.delete();
+        try {
+            MotorCalificaciones motor = new MotorCalificaciones();
+            for (RegistroResultado r : historial(20, 1)) {
+                motor.registrar(r);
+            }
+            motor.guardar(instantanea);
+
+            GestorResultados gestor = new GestorResultados(archivo);
+            gestor.guardarResultados(List.of(registro("Toros", true, 1), registro("Llaneros", false, 1)));
+            MotorCalificaciones retomado = MotorCalificaciones.cargar(instantanea);
+            retomado.seguir(gestor);
+            assertEquals(2, retomado.getRegistros());
+            assertEquals(2, retomado.getCantidadEquipos());
+        } finally {
+            archivo.delete();
+            instantanea.delete();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package udistrital.avanzada.taller.modelo;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import udistrital.avanzada.taller.modelo.persistencia.GestorResultados;
+import udistrital.avanzada.taller.modelo.persistencia.RegistroResultado;
+
+/**
+ * Pruebas unitarias para {@link TablaLiga}. El orden de la tabla se compara
+ * con el de ordenar todos los equipos.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class TablaLigaTest {
+
+    private static final String[] JUGADORES = {"a", "b", "c", "d"};
+
+    private static RegistroResultado registro(String equipo, boolean gano, boolean muerteSubita, int puntaje) {
+        return new RegistroResultado(0, equipo, JUGADORES, RegistroResultado.resultado(gano, muerteSubita), puntaje, 1);
+    }
+
+    @Test
+    void testCuentaVictoriasPuntosYMuerteSubita() {
+        TablaLiga liga = new TablaLiga();
+        liga.registrar(registro("Llaneros", true, true, 22));
+        liga.registrar(registro("Toros", false, true, 21));
+        liga.registrar(registro("Toros", true, false, 21));
+        liga.registrar(registro("Llaneros", false, false, 10));
+        liga.registrar(registro("Toros", true, false, 21));
+
+        FilaLiga toros = liga.getFila("Toros");
+        assertEquals(1, toros.getPosicion());
+        assertEquals(2, toros.getVictorias());
+        assertEquals(1, toros.getDerrotas());
+        assertEquals(63, toros.getPuntos());
+        assertEquals(21.0, toros.getPromedio(), 1e-9);
+        assertEquals(0, toros.getVictoriasMuerteSubita());
+        assertEquals(1, toros.getDerrotasMuerteSubita());
+
+        FilaLiga llaneros = liga.getFila("Llaneros");
+        assertEquals(2, llaneros.getPosicion());
+        assertEquals(1, llaneros.getVictoriasMuerteSubita());
+        assertEquals(16.0, llaneros.getPromedio(), 1e-9);
+        assertNull(liga.getFila("Nadie"));
+        assertEquals(-1, liga.getPosicion("Nadie"));
+    }
+
+    @Test
+    void testOrdenCoincideConOrdenarTodo() {
+        TablaLiga liga = new TablaLiga();
+        Map<String, int[]> esperado = new HashMap<>();  // victorias, puntos, aparición
+        Random random = new Random(11);
+        for (int i = 0; i < 50000; i++) {
+            String equipo = "Equipo " + random.nextInt(2000);
+            boolean gano = random.nextBoolean();
+            int puntaje = random.nextInt(23);
+            liga.registrar(registro(equipo, gano, false, puntaje));
+            int[] datos = esperado.computeIfAbsent(equipo, k -> new int[]{0, 0, esperado.size()});
+            datos[0] += gano ? 1 : 0;
+            datos[1] += puntaje;
+        }
+        List<String> orden = new ArrayList<>(esperado.keySet());
+        orden.sort((a, b) -> {
+            int[] x = esperado.get(a);
+            int[] y = esperado.get(b);
+            if (x[0] != y[0]) return Integer.compare(y[0], x[0]);
+            if (x[1] != y[1]) return Integer.compare(y[1], x[1]);
+            return Integer.compare(x[2], y[2]);
+        });
+
+        List<FilaLiga> primeros = liga.getPrimeros(25);
+        for (int i = 0; i < primeros.size(); i++) {
+            assertEquals(orden.get(i), primeros.get(i).getEquipo());
+            assertEquals(i + 1, primeros.get(i).getPosicion());
+        }
+        for (int i = 0; i < orden.size(); i += 97) {
+            assertEquals(i + 1, liga.getPosicion(orden.get(i)));
+        }
+        assertEquals(orden.size(), liga.getPrimeros(Integer.MAX_VALUE).size());
+        assertEquals(50000, liga.getRegistros());
+    }
+
+    @Test
+    void testSigueElHistorialYLoQueSeGuarda() throws Exception {
+        File archivo = File.createTempFile("liga", ".dat");
+        archivo.delete();
+        try {
+            GestorResultados gestor = new GestorResultados(archivo);
+            gestor.guardarResultados(List.of(registro("Uno", true, false, 21), registro("Dos", false, false, 12)));
+
+            TablaLiga liga = new TablaLiga();
+            gestor.agregarEscucha(liga, true);
+            assertEquals(2, liga.getRegistros(), "Recibe el historial al registrarse.");
+
+            gestor.guardarResultados(List.of(registro("Dos", true, true, 22), registro("Uno", false, true, 21)));
+            gestor.guardarResultados(List.of(registro("Dos", true, false, 21), registro("Uno", false, false, 3)));
+            assertEquals(6, liga.getRegistros(), "Cada lote guardado se aplica una sola vez.");
+            assertEquals("Dos", liga.getPrimeros(1).get(0).getEquipo());
+            assertEquals(1, liga.getFila("Uno").getDerrotasMuerteSubita());
+        } finally {
+            archivo.delete();
+        }
+    }
+
+    @Test
+    void testEscuchaConErroresNoAfectaElGuardado() throws Exception {
+        File archivo = File.createTempFile("liga", ".dat");
+        archivo.delete();
+        try {
+            GestorResultados gestor = new GestorResultados(archivo);
+            gestor.agregarEscucha(lote -> {
+                throw new IllegalStateException("Escucha con errores");
+            }, false);
+            TablaLiga liga = new TablaLiga();
+            gestor.agregarEscucha(liga, false);
+
+            gestor.guardarResultados(List.of(registro("Uno", true, false, 21), registro("Dos", false, false, 12)));
+            assertEquals(2, gestor.getCantidadRegistros(), "El lote queda guardado aunque una escucha falle.");
+            assertEquals(2, liga.getRegistros(), "Las demás escuchas reciben el lote.");
+        } finally {
+            archivo.delete();
+        }
+    }
+}
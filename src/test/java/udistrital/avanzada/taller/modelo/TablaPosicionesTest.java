@@ -0,0 +1,88 @@
+package udistrital.avanzada.taller.modelo;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para {@link TablaPosiciones}. El orden del montículo se
+ * compara con el de ordenar la tabla completa.
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0 - 19/10/2026
+ */
+public class TablaPosicionesTest {
+
+    private static int[] ordenCompleto(TablaPosiciones tabla) {
+        Integer[] orden = new Integer[tabla.getCantidad()];
+        for (int i = 0; i < orden.length; i++) {
+            orden[i] = i;
+        }
+        Arrays.sort(orden, tabla::comparar);
+        int[] resultado = new int[orden.length];
+        for (int i = 0; i < orden.length; i++) {
+            resultado[i] = orden[i];
+        }
+        return resultado;
+    }
+
+    @Test
+    void testRegistrarActualizaLosArreglos() {
+        TablaPosiciones tabla = new TablaPosiciones(3);
+        tabla.registrar(2, 0, 21, 15);
+
+        assertEquals(1, tabla.getVictorias(2));
+        assertEquals(1, tabla.getDerrotas(0));
+        assertEquals(21, tabla.getPuntosAFavor(2));
+        assertEquals(15, tabla.getPuntosEnContra(2));
+        assertEquals(15, tabla.getPuntosAFavor(0));
+        assertEquals(2, tabla.getLider());
+        assertArrayEquals(new int[]{2, 1, 0}, tabla.getClasificacion(), "Sin jugar va antes que con derrota.");
+    }
+
+    @Test
+    void testPrimerosCoincideConOrdenarTodo() {
+        int n = 500;
+        TablaPosiciones tabla = new TablaPosiciones(n);
+        Random random = new Random(3);
+        for (int r = 0; r < 4000; r++) {
+            int a = random.nextInt(n);
+            int b = (a + 1 + random.nextInt(n - 1)) % n;
+            tabla.registrar(a, b, 21 + random.nextInt(5), random.nextInt(21));
+        }
+        int[] esperado = ordenCompleto(tabla);
+        assertArrayEquals(Arrays.copyOf(esperado, 10), tabla.getPrimeros(10));
+        assertArrayEquals(esperado, tabla.getClasificacion());
+        assertEquals(esperado[0], tabla.getLider());
+    }
+
+    @Test
+    void testLotesGrandesYPequenos() {
+        int n = 20000;
+        TablaPosiciones tabla = new TablaPosiciones(n);
+        Random random = new Random(8);
+        for (int cantidad : new int[]{n / 2, 3, n / 2, 1}) {
+            int[] ganadores = new int[cantidad];
+            int[] perdedores = new int[cantidad];
+            int[] puntosG = new int[cantidad];
+            int[] puntosP = new int[cantidad];
+            for (int i = 0; i < cantidad; i++) {
+                ganadores[i] = random.nextInt(n);
+                perdedores[i] = (ganadores[i] + 1 + random.nextInt(n - 1)) % n;
+                puntosG[i] = 21;
+                puntosP[i] = random.nextInt(21);
+            }
+            tabla.registrarLote(ganadores, perdedores, puntosG, puntosP, cantidad);
+            assertArrayEquals(Arrays.copyOf(ordenCompleto(tabla), 50), tabla.getPrimeros(50));
+        }
+    }
+
+    @Test
+    void testRechazaEncuentrosInvalidos() {
+        TablaPosiciones tabla = new TablaPosiciones(2);
+        assertThrows(IllegalArgumentException.class, () -> tabla.registrar(1, 1, 21, 0));
+        assertThrows(IllegalArgumentException.class, () -> tabla.registrar(0, 2, 21, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TablaPosiciones(0));
+    }
+}
@@ -0,0 +1,146 @@
+package udistrital.avanzada.taller.modelo.metricas;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import udistrital.avanzada.taller.control.ControlPartida;
+import udistrital.avanzada.taller.control.ConfiguracionPartida;
+import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.Jugador;
+import udistrital.avanzada.taller.modelo.persistencia.ControlPersistencia;
+import udistrital.avanzada.taller.modelo.persistencia.GeneradorDatos;
+import udistrital.avanzada.taller.modelo.persistencia.GestorResultados;
+import udistrital.avanzada.taller.modelo.persistencia.RegistroResultado;
+
+/**
+ * Pruebas de los eventos de JFR emitidos por la partida y la persistencia.
+ * Se graban con umbral cero para que aparezcan aunque sean rápidos.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class EventosJfrTest {
+
+    private static final String[] EVENTOS = {
+        "udistrital.argolla.Lanzamiento",
+        "udistrital.argolla.ManoCompleta",
+        "udistrital.argolla.MuerteSubita",
+        "udistrital.argolla.GuardarResultados",
+        "udistrital.argolla.LeerHistorial",
+        "udistrital.argolla.CargaEquipos"
+    };
+
+    @Test
+    void testEventosGrabadosConUmbralCero() throws Exception {
+        File equiposArchivo = File.createTempFile("equipos", ".properties");
+        File resultados = File.createTempFile("resultados", ".dat");
+        File grabacion = File.createTempFile("argolla", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String evento : EVENTOS) {
+                recording.enable(evento).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+
+            ControlPartida partida = new ControlPartida(new ConfiguracionPartida(), new Random(7));
+            partida.setEquipos(crearEquipos());
+            boolean huboMuerteSubita = false;
+            for (int rondas = 0; rondas < 500 && !huboMuerteSubita; rondas++) {
+                partida.reiniciar();
+                while (partida.isPartidaActiva()) {
+                    partida.lanzarArgolla();
+                    huboMuerteSubita |= partida.isMuerteSubitaActiva();
+                }
+            }
+            assertTrue(huboMuerteSubita, "Alguna ronda debe llegar a muerte súbita.");
+
+            resultados.delete();
+            GestorResultados gestor = new GestorResultados(resultados);
+            List<RegistroResultado> lote = new ArrayList<>();
+            for (Equipo e : crearEquipos()) {
+                lote.add(RegistroResultado.desde(e, "GANADOR", 1));
+            }
+            gestor.guardarResultados(lote);
+            assertEquals(2, gestor.leerTodosLosResultados().size());
+
+            new GeneradorDatos(3).generarEquipos(equiposArchivo, 3, 5);
+            new ControlPersistencia().cargarEquiposDesdeArchivo(equiposArchivo);
+
+            recording.stop();
+            recording.dump(grabacion.toPath());
+        }
+
+        Map<String, List<RecordedEvent>> porTipo = leer(grabacion.toPath());
+        try {
+            for (String evento : EVENTOS) {
+                assertTrue(porTipo.containsKey(evento), "Falta el evento " + evento);
+            }
+            RecordedEvent lanzamiento = porTipo.get("udistrital.argolla.Lanzamiento").get(0);
+            assertNotNull(lanzamiento.getString("equipo"));
+            assertNotNull(lanzamiento.getString("tipo"));
+            assertEquals(2, porTipo.get("udistrital.argolla.GuardarResultados").get(0).getInt("registros"));
+            assertEquals(3, porTipo.get("udistrital.argolla.CargaEquipos").get(0).getInt("equipos"));
+            assertTrue(porTipo.get("udistrital.argolla.MuerteSubita").get(0).getInt("equipos") >= 2);
+        } finally {
+            equiposArchivo.delete();
+            resultados.delete();
+            grabacion.delete();
+        }
+    }
+
+    @Test
+    void testUmbralesPorDefectoDescartanOperacionesRapidas() throws Exception {
+        File grabacion = File.createTempFile("argolla", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("udistrital.argolla.Lanzamiento");
+            recording.start();
+            ControlPartida partida = new ControlPartida(new ConfiguracionPartida(), new Random(11));
+            partida.setEquipos(crearEquipos());
+            for (int i = 0; i < 200; i++) {
+                if (!partida.isPartidaActiva()) {
+                    partida.reiniciar();
+                }
+                partida.lanzarArgolla();
+            }
+            recording.stop();
+            recording.dump(grabacion.toPath());
+        }
+        try {
+            // Un lanzamiento tarda microsegundos, muy por debajo del umbral de 1 ms
+            List<RecordedEvent> lanzamientos = leer(grabacion.toPath()).get("udistrital.argolla.Lanzamiento");
+            assertTrue(lanzamientos == null || lanzamientos.size() < 20,
+                    "Sólo los lanzamientos lentos superan el umbral.");
+        } finally {
+            grabacion.delete();
+        }
+    }
+
+    private static Map<String, List<RecordedEvent>> leer(Path archivo) throws Exception {
+        Map<String, List<RecordedEvent>> porTipo = new HashMap<>();
+        for (RecordedEvent e : RecordingFile.readAllEvents(archivo)) {
+            porTipo.computeIfAbsent(e.getEventType().getName(), k -> new ArrayList<>()).add(e);
+        }
+        return porTipo;
+    }
+
+    private static List<Equipo> crearEquipos() {
+        List<Equipo> equipos = new ArrayList<>();
+        for (String nombre : new String[]{"Llaneros", "Guaros"}) {
+            List<Jugador> jugadores = new ArrayList<>();
+            for (int i = 1; i <= 4; i++) {
+                jugadores.add(new Jugador(nombre + i, "foto" + i + ".jpg", "Apodo" + nombre + i));
+            }
+            equipos.add(new Equipo(nombre, new ArrayList<>(jugadores)));
+        }
+        return equipos;
+    }
+}
@@ -0,0 +1,99 @@
+package udistrital.avanzada.taller.modelo.metricas;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para {@link RegistroMetricas}, {@link Contador} y
+ * {@link HistogramaLatencia}.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class RegistroMetricasTest {
+
+    @Test
+    void testContadorConVariosHilos() throws InterruptedException {
+        RegistroMetricas registro = new RegistroMetricas();
+        Contador contador = registro.contador("eventos");
+        Thread[] hilos = new Thread[4];
+        for (int i = 0; i < hilos.length; i++) {
+            hilos[i] = new Thread(() -> {
+                for (int k = 0; k < 100000; k++) {
+                    contador.incrementar();
+                }
+            });
+            hilos[i].start();
+        }
+        for (Thread h : hilos) {
+            h.join();
+        }
+        assertEquals(400000, contador.getValor());
+        assertSame(contador, registro.contador("eventos"), "El mismo nombre devuelve la misma métrica.");
+    }
+
+    @Test
+    void testPercentilesConErrorAcotado() {
+        HistogramaLatencia histograma = new RegistroMetricas().histograma("latencia");
+        for (long v = 1; v <= 100000; v++) {
+            histograma.registrar(v * 10);
+        }
+        InstantaneaHistograma instantanea = histograma.instantanea();
+        assertEquals(100000, instantanea.getTotal());
+        assertEquals(1000000, instantanea.getMaximo());
+        assertEquals(500000, instantanea.getPercentil(50), 500000 * 0.035);
+        assertEquals(990000, instantanea.getPercentil(99), 990000 * 0.035);
+        assertEquals(500005, instantanea.getMedia(), 1e-6);
+    }
+
+    @Test
+    void testCubetasCubrenTodoElRango() {
+        long anterior = -1;
+        for (int i = 0; i < HistogramaLatencia.CANTIDAD_CUBETAS; i++) {
+            long limite = HistogramaLatencia.limiteSuperior(i);
+            if (limite < 0) {
+                break;
+            }
+            assertTrue(limite > anterior, "Las cubetas son crecientes.");
+            assertEquals(i, HistogramaLatencia.indice(limite));
+            assertEquals(i, HistogramaLatencia.indice(anterior + 1));
+            anterior = limite;
+        }
+        assertTrue(HistogramaLatencia.indice(Long.MAX_VALUE) < HistogramaLatencia.CANTIDAD_CUBETAS);
+    }
+
+    @Test
+    void testExportarArchivo() throws Exception {
+        RegistroMetricas registro = new RegistroMetricas();
+        registro.contador("partida.lanzamientos").sumar(42);
+        registro.histograma("partida.lanzamiento").registrar(1500);
+        File archivo = File.createTempFile("metricas", ".txt");
+        try {
+            registro.exportar(archivo);
+            List<String> lineas = Files.readAllLines(archivo.toPath());
+            assertTrue(lineas.contains("partida.lanzamientos=42"));
+            assertTrue(lineas.contains("partida.lanzamiento.total=1"));
+        } finally {
+            archivo.delete();
+        }
+    }
+
+    @Test
+    void testPublicacionJmx() throws Exception {
+        RegistroMetricas registro = RegistroMetricas.global();
+        registro.contador("prueba.jmx").incrementar();
+        registro.registrarJmx();
+        registro.registrarJmx();
+        Object valor = ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(new ObjectName(RegistroMetricas.NOMBRE_JMX), "prueba.jmx");
+        assertTrue(((Long) valor) >= 1);
+        Map<String, Number> instantanea = registro.instantanea();
+        assertTrue(instantanea.containsKey("prueba.jmx"));
+    }
+}
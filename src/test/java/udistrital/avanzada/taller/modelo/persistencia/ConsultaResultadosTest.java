@@ -0,0 +1,139 @@
+package udistrital.avanzada.taller.modelo.persistencia;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para {@link ConsultaResultados}. Cada consulta se
+ * compara con filtrar y agrupar los registros leídos completos.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class ConsultaResultadosTest {
+
+    private File archivo;
+    private GestorResultados gestor;
+    private final List<RegistroResultado> todos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        archivo = File.createTempFile("consulta", ".dat");
+        archivo.delete();
+        new GeneradorDatos(5).generarResultados(archivo, 4000, 40);
+        gestor = new GestorResultados(archivo);
+        gestor.guardarResultados(List.of(
+                new RegistroResultado(0, "Toros", new String[]{"Ana Ruiz (Anita)", "b", "c", "d"},
+                        RegistroResultado.resultado(true, true), 22, 9999),
+                new RegistroResultado(0, "Llaneros", new String[]{"Ana Ruiz (Nena)", "f", "g", "h"},
+                        RegistroResultado.resultado(false, true), 21, 9999)));
+        gestor.recorrerResultados(todos::add);
+    }
+
+    @AfterEach
+    void limpiar() {
+        archivo.delete();
+    }
+
+    /** Agrupa a mano: cantidad, suma, máximo y victorias por grupo. */
+    private Map<String, long[]> esperado(Predicate<RegistroResultado> filtro, AgrupacionResultados agrupacion) {
+        Map<String, long[]> grupos = new TreeMap<>();
+        for (RegistroResultado r : todos) {
+            if (!filtro.test(r)) {
+                continue;
+            }
+            String grupo = switch (agrupacion) {
+                case EQUIPO -> r.getNombreEquipo();
+                case RONDA -> String.valueOf(r.getRonda());
+                default -> "Total";
+            };
+            long[] a = grupos.computeIfAbsent(grupo, k -> new long[]{0, 0, Integer.MIN_VALUE, 0});
+            a[0]++;
+            a[1] += r.getPuntaje();
+            a[2] = Math.max(a[2], r.getPuntaje());
+            a[3] += r.isGanador() ? 1 : 0;
+        }
+        return grupos;
+    }
+
+    private static void comparar(Map<String, long[]> esperado, List<FilaConsulta> filas) {
+        assertEquals(esperado.size(), filas.size());
+        for (FilaConsulta fila : filas) {
+            long[] a = esperado.get(fila.getGrupo());
+            assertNotNull(a, "Grupo inesperado: " + fila.getGrupo());
+            assertEquals(a[0], fila.getRegistros());
+            assertEquals((double) a[1] / a[0], fila.getPromedio(), 1e-9);
+            assertEquals(a[2], fila.getMaximo());
+            assertEquals(a[3], fila.getVictorias());
+        }
+    }
+
+    @Test
+    void testTotalSinFiltros() throws Exception {
+        List<FilaConsulta> filas = gestor.consultar(new ConsultaResultados());
+        comparar(esperado(r -> true, AgrupacionResultados.NINGUNA), filas);
+        assertEquals(4002, filas.get(0).getRegistros());
+    }
+
+    @Test
+    void testFiltrosCombinadosPorEquipo() throws Exception {
+        ConsultaResultados consulta = new ConsultaResultados()
+                .ronda(2, 9999).puntaje(10, 24).resultado(RegistroResultado.GANADOR)
+                .agruparPor(AgrupacionResultados.EQUIPO);
+        List<FilaConsulta> filas = gestor.consultar(consulta);
+        comparar(esperado(r -> r.getRonda() >= 2 && r.getPuntaje() >= 10
+                && r.getPuntaje() <= 24 && r.isGanador(), AgrupacionResultados.EQUIPO), filas);
+        for (int i = 1; i < filas.size(); i++) {
+            assertTrue(filas.get(i - 1).getGrupo().compareTo(filas.get(i).getGrupo()) < 0);
+        }
+        assertTrue(filas.size() > 10);
+        filas.forEach(f -> assertEquals(1.0, f.getTasaVictorias(), 1e-9));
+    }
+
+    @Test
+    void testEquipoPorRonda() throws Exception {
+        String equipo = todos.get(17).getNombreEquipo();
+        List<FilaConsulta> filas = gestor.consultar(new ConsultaResultados().equipo(equipo)
+                .agruparPor(AgrupacionResultados.RONDA));
+        comparar(esperado(r -> r.getNombreEquipo().equals(equipo), AgrupacionResultados.RONDA), filas);
+        for (int i = 1; i < filas.size(); i++) {
+            assertTrue(Integer.parseInt(filas.get(i - 1).getGrupo()) < Integer.parseInt(filas.get(i).getGrupo()));
+        }
+    }
+
+    @Test
+    void testJugadorPorNombreOApodo() throws Exception {
+        List<FilaConsulta> porNombre = gestor.consultar(new ConsultaResultados().jugador("Ana Ruiz")
+                .agruparPor(AgrupacionResultados.EQUIPO));
+        assertEquals(2, porNombre.size());
+
+        List<FilaConsulta> porApodo = gestor.consultar(new ConsultaResultados().jugador("Ana Ruiz (Anita)"));
+        assertEquals(1, porApodo.get(0).getRegistros());
+        assertEquals(1, porApodo.get(0).getVictorias());
+
+        assertTrue(gestor.consultar(new ConsultaResultados().jugador("Ana")).isEmpty(),
+                "El nombre se compara completo.");
+    }
+
+    @Test
+    void testDesdeArgumentos() throws Exception {
+        ConsultaResultados consulta = ConsultaResultados.desdeArgumentos(
+                new String[]{"archivo", "--ronda", "9999", "--resultado", "PERDEDOR", "--agrupar", "equipo"}, 1);
+        List<FilaConsulta> filas = gestor.consultar(consulta);
+        comparar(esperado(r -> r.getRonda() == 9999 && !r.isGanador(), AgrupacionResultados.EQUIPO), filas);
+        assertEquals("Llaneros", filas.get(0).getGrupo());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ConsultaResultados.desdeArgumentos(new String[]{"--orden", "x"}, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> ConsultaResultados.desdeArgumentos(new String[]{"--puntaje", "20-10"}, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> ConsultaResultados.desdeArgumentos(new String[]{"--equipo"}, 0));
+    }
+}
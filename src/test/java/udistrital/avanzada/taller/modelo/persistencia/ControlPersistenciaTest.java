@@ -0,0 +1,96 @@
+package udistrital.avanzada.taller.modelo.persistencia;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.Jugador;
+
+/**
+ * Pruebas unitarias para los ids de jugador en {@link ControlPersistencia}.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class ControlPersistenciaTest {
+
+    private File archivo;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        archivo = File.createTempFile("equipos", ".properties");
+    }
+
+    @AfterEach
+    void limpiar() {
+        archivo.delete();
+    }
+
+    private void escribir(String... lineas) throws Exception {
+        Files.write(archivo.toPath(), List.of(lineas), StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    void testLeeLosIds() throws Exception {
+        escribir("equipo1.nombre=Uno",
+                "equipo1.jugador1.id=7", "equipo1.jugador1.nombre=Ana", "equipo1.jugador1.apodo=A", "equipo1.jugador1.foto=a.jpg",
+                "jugador.disponible1.id=9", "jugador.disponible1.nombre=Beto", "jugador.disponible1.apodo=B", "jugador.disponible1.foto=b.jpg");
+        long antes = archivo.length();
+        ControlPersistencia persistencia = new ControlPersistencia();
+
+        List<Equipo> equipos = persistencia.cargarEquiposDesdeArchivo(archivo);
+
+        assertEquals(7, equipos.get(0).getJugadores().get(0).getId());
+        assertEquals(9, persistencia.getJugadoresDisponibles().get(0).getId());
+        assertEquals(antes, archivo.length(), "Si no falta ningún id el archivo no se toca.");
+    }
+
+    @Test
+    void testAsignaLosIdsQueFaltanSinTocarElArchivo() throws Exception {
+        escribir("equipo1.nombre=Uno",
+                "equipo1.jugador1.id=4", "equipo1.jugador1.nombre=Ana", "equipo1.jugador1.apodo=A", "equipo1.jugador1.foto=a.jpg",
+                "equipo1.jugador2.nombre=Beto", "equipo1.jugador2.apodo=A", "equipo1.jugador2.foto=b.jpg");
+        byte[] antes = Files.readAllBytes(archivo.toPath());
+
+        Jugador asignado = new ControlPersistencia().cargarEquiposDesdeArchivo(archivo).get(0).getJugadores().get(1);
+        assertEquals(5, asignado.getId(), "El id asignado es mayor que los del archivo.");
+        assertArrayEquals(antes, Files.readAllBytes(archivo.toPath()), "Cargar no modifica el archivo.");
+
+        Jugador recargado = new ControlPersistencia().cargarEquiposDesdeArchivo(archivo).get(0).getJugadores().get(1);
+        assertEquals(asignado, recargado, "La misma nómina asigna los mismos ids.");
+        List<Jugador> jugadores = new ControlPersistencia().cargarEquiposDesdeArchivo(archivo).get(0).getJugadores();
+        assertNotEquals(jugadores.get(0), jugadores.get(1), "Jugadores con el mismo apodo son distintos.");
+    }
+
+    @Test
+    void testRechazaIdsRepetidosOInvalidos() throws Exception {
+        escribir("equipo1.nombre=Uno",
+                "equipo1.jugador1.id=3", "equipo1.jugador1.nombre=Ana", "equipo1.jugador1.apodo=A", "equipo1.jugador1.foto=a.jpg",
+                "equipo1.jugador2.id=3", "equipo1.jugador2.nombre=Beto", "equipo1.jugador2.apodo=B", "equipo1.jugador2.foto=b.jpg");
+        assertThrows(IllegalStateException.class, () -> new ControlPersistencia().cargarEquiposDesdeArchivo(archivo));
+
+        escribir("equipo1.nombre=Uno",
+                "equipo1.jugador1.id=cero", "equipo1.jugador1.nombre=Ana", "equipo1.jugador1.apodo=A", "equipo1.jugador1.foto=a.jpg");
+        assertThrows(IllegalStateException.class, () -> new ControlPersistencia().cargarEquiposDesdeArchivo(archivo));
+    }
+
+    @Test
+    void testGuardarResultadosEscribeElId() throws Exception {
+        Equipo equipo = new Equipo("Uno", null);
+        equipo.agregarJugador(new Jugador(42, "Ana", "a.jpg", "A"));
+        equipo.agregarJugador(new Jugador("Beto", "b.jpg", "B"));
+        new ControlPersistencia().guardarResultados(archivo, List.of(equipo));
+
+        Properties props = new Properties();
+        try (FileInputStream fis = new FileInputStream(archivo)) {
+            props.load(fis);
+        }
+        assertEquals("42", props.getProperty("equipo1.jugador1.id"));
+        assertNull(props.getProperty("equipo1.jugador2.id"), "Un jugador sin id no se guarda con uno inventado.");
+    }
+}
@@ -0,0 +1,101 @@
+package udistrital.avanzada.taller.modelo.persistencia;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para {@link EscritorResultados}.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class EscritorResultadosTest {
+
+    private static final String[] JUGADORES = {"a", "b", "c", "d"};
+
+    private File archivo;
+
+    @BeforeAll
+    static void iniciarSuite() {
+        System.out.println("=== INICIO DE LAS PRUEBAS DE ESCRITOR RESULTADOS ===");
+    }
+
+    @AfterAll
+    static void finalizarSuite() {
+        System.out.println("=== FIN DE LAS PRUEBAS DE ESCRITOR RESULTADOS ===");
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        archivo = File.createTempFile("escritor", ".dat");
+        archivo.delete();
+    }
+
+    @AfterEach
+    void limpiar() {
+        archivo.delete();
+    }
+
+    private static RegistroResultado registro(int puntaje) {
+        return new RegistroResultado(0, "Toros", JUGADORES, RegistroResultado.resultado(true, false), puntaje, 1);
+    }
+
+    @Test
+    void testGuardaTodoAlCerrar() throws Exception {
+        GestorResultados gestor = new GestorResultados(archivo);
+        try (EscritorResultados escritor = new EscritorResultados(gestor, 8)) {
+            for (int i = 0; i < 100; i++) {
+                escritor.encolar(registro(i));
+            }
+        }
+        assertEquals(100, gestor.getCantidadRegistros());
+    }
+
+    @Test
+    void testFalloDelEscritorNoBloqueaALosProductores() throws Exception {
+        CountDownLatch guardando = new CountDownLatch(1);
+        GestorResultados gestor = new GestorResultados(archivo) {
+            @Override
+            public void guardarResultados(List<RegistroResultado> registros, EscuchaProgreso progreso) {
+                guardando.countDown();
+                throw new IllegalStateException("Disco averiado");
+            }
+        };
+        EscritorResultados escritor = new EscritorResultados(gestor, 2);
+        escritor.encolar(registro(1));
+        assertTrue(guardando.await(5, TimeUnit.SECONDS));
+
+        // Con la cola llena y el escritor caído, encolar debe fallar en lugar de esperar para siempre
+        Thread productor = new Thread(() -> assertThrows(IllegalStateException.class, () -> {
+            for (int i = 0; i < 10; i++) {
+                escritor.encolar(registro(i));
+            }
+        }));
+        productor.start();
+        productor.join(5000);
+        assertFalse(productor.isAlive(), "El productor no debe quedarse bloqueado.");
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, escritor::close);
+        assertEquals("Disco averiado", error.getCause().getMessage(), "close() relanza el fallo guardado.");
+    }
+
+    @Test
+    void testErrorDeEscrituraSeInformaAlCerrar() throws Exception {
+        GestorResultados gestor = new GestorResultados(archivo) {
+            @Override
+            public void guardarResultados(List<RegistroResultado> registros, EscuchaProgreso progreso)
+                    throws IOException {
+                throw new IOException("Sin espacio");
+            }
+        };
+        EscritorResultados escritor = new EscritorResultados(gestor, 2);
+        escritor.encolar(registro(1));
+        IOException error = assertThrows(IOException.class, escritor::close);
+        assertTrue(error.getMessage().contains("Sin espacio"), error.getMessage());
+    }
+}
@@ -0,0 +1,79 @@
+package udistrital.avanzada.taller.modelo.persistencia;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import udistrital.avanzada.taller.modelo.Equipo;
+import udistrital.avanzada.taller.modelo.Jugador;
+
+/**
+ * Pruebas unitarias para {@link GeneradorDatos}. Los archivos generados se
+ * leen con las mismas clases de persistencia que usa el juego.
+ *
+ * @author Juan Ariza
+ * @version 1.0 - 19/10/2026
+ */
+public class GeneradorDatosTest {
+
+    private File archivo;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        archivo = File.createTempFile("generado", ".tmp");
+    }
+
+    @AfterEach
+    void limpiar() {
+        archivo.delete();
+    }
+
+    @Test
+    void testEquiposGeneradosSonValidos() throws Exception {
+        new GeneradorDatos(7).generarEquipos(archivo, 50, 30);
+
+        ControlPersistencia persistencia = new ControlPersistencia();
+        List<Equipo> equipos = persistencia.cargarEquiposDesdeArchivo(archivo);
+        assertEquals(50, equipos.size());
+        Set<String> apodos = new HashSet<>();
+        for (Equipo equipo : equipos) {
+            assertEquals(4, equipo.getCantidadJugadores(), "Cada equipo generado está completo.");
+            for (Jugador jugador : equipo.getJugadores()) {
+                assertTrue(apodos.add(jugador.getApodo()), "Los apodos no se repiten.");
+            }
+        }
+        assertEquals(30, persistencia.getJugadoresDisponibles().size());
+    }
+
+    @Test
+    void testResultadosTienenElFormatoDelGestor() throws Exception {
+        new GeneradorDatos(3).generarResultados(archivo, 1000, 40);
+
+        assertEquals(1000L * GeneradorDatos.TAM_REGISTRO, archivo.length());
+        GestorResultados gestor = new GestorResultados(archivo);
+        assertEquals(1000, gestor.getCantidadRegistros());
+        List<String> registros = gestor.leerTodosLosResultados();
+        assertTrue(registros.get(0).contains("REGISTRO #1 "));
+        assertTrue(registros.get(0).contains("Resultado: GANADOR"));
+        assertTrue(registros.get(1).contains("Resultado: PERDEDOR"));
+    }
+
+    @Test
+    void testMismaSemillaMismoArchivo() throws Exception {
+        File otro = File.createTempFile("generado", ".tmp");
+        try {
+            new GeneradorDatos(11).generarResultados(archivo, 500, 10);
+            new GeneradorDatos(11).generarResultados(otro, 500, 10);
+            assertArrayEquals(Files.readAllBytes(archivo.toPath()), Files.readAllBytes(otro.toPath()));
+
+            new GeneradorDatos(11).generarEquipos(archivo, 20, 20);
+            new GeneradorDatos(11).generarEquipos(otro, 20, 20);
+            assertArrayEquals(Files.readAllBytes(archivo.toPath()), Files.readAllBytes(otro.toPath()));
+        } finally {
+            otro.delete();
+        }
+    }
+}
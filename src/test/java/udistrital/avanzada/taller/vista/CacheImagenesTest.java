@@ -0,0 +1,62 @@
+package udistrital.avanzada.taller.vista;
+
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para {@link CacheImagenes}.
+ *
+ * @author Paula Martínez
+ * @version 1.0 - 19/10/2026
+ */
+public class CacheImagenesTest {
+
+    private static final String LOGO = "/Images/LogoDos.png";
+    private static final String FONDO = "/Images/Background.jpeg";
+
+    @Test
+    void testMismoTamanoDevuelveLaMismaImagen() {
+        CacheImagenes cache = new CacheImagenes(CacheImagenes.PIXELES_POR_DEFECTO);
+        BufferedImage primera = cache.obtener(LOGO, 120, 80, null);
+        assertNotNull(primera);
+        assertEquals(120, primera.getWidth());
+        assertEquals(80, primera.getHeight());
+        assertSame(primera, cache.obtener(LOGO, 120, 80, null), "Repintar no vuelve a escalar.");
+        assertNotSame(primera, cache.obtener(LOGO, 60, 40, null));
+    }
+
+    @Test
+    void testDescartaLasMenosUsadasAlPasarDelLimite() {
+        BufferedImage original = new CacheImagenes(CacheImagenes.PIXELES_POR_DEFECTO).obtenerOriginal(FONDO);
+        assertNotNull(original);
+        long pixelesOriginal = (long) original.getWidth() * original.getHeight();
+
+        CacheImagenes cache = new CacheImagenes(pixelesOriginal + 3 * 100 * 100);
+        for (int tam = 10; tam <= 100; tam += 10) {
+            cache.obtener(FONDO, tam, tam, null);
+            assertTrue(cache.getPixelesEnUso() <= pixelesOriginal + 3 * 100 * 100);
+        }
+        // El tamaño más reciente sigue en la caché
+        BufferedImage reciente = cache.obtener(FONDO, 100, 100, null);
+        assertSame(reciente, cache.obtener(FONDO, 100, 100, null));
+        assertTrue(cache.getCantidad() < 11, "Se descartaron tamaños viejos.");
+    }
+
+    @Test
+    void testRecursoInexistente() {
+        CacheImagenes cache = new CacheImagenes(CacheImagenes.PIXELES_POR_DEFECTO);
+        assertNull(cache.obtener("/Images/NoExiste.png", 10, 10, null));
+        assertNull(cache.obtener(LOGO, 0, 10, null));
+        assertEquals(0, cache.getCantidad());
+    }
+
+    @Test
+    void testReduccionGrandePorPasos() {
+        BufferedImage grande = new BufferedImage(1024, 1024, BufferedImage.TYPE_INT_RGB);
+        BufferedImage pequena = CacheImagenes.escalar(grande, 37, 50, null);
+        assertEquals(37, pequena.getWidth());
+        assertEquals(50, pequena.getHeight());
+        assertEquals(BufferedImage.TYPE_INT_RGB, pequena.getType(), "Las imágenes opacas no llevan canal alfa.");
+    }
+}
@@ -0,0 +1,154 @@
+package udistrital.avanzada.taller.vista;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para {@link ModeloBitacora}.
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0 - 19/10/2026
+ */
+public class ModeloBitacoraTest {
+
+    private static EntradaBitacora entrada(long numero) {
+        return new EntradaBitacora(numero, 1, EntradaBitacora.Tipo.LANZAMIENTO, "Lanzamiento " + numero);
+    }
+
+    @Test
+    void testConservaLasUltimasEntradas() {
+        ModeloBitacora modelo = new ModeloBitacora(3, null);
+        for (int i = 1; i <= 5; i++) {
+            modelo.agregar(entrada(i));
+        }
+        assertEquals(3, modelo.getSize());
+        assertEquals(2, modelo.getDescartadas());
+        assertEquals(3, modelo.getElementAt(0).getNumero(), "La más vieja conservada va primero.");
+        assertEquals(5, modelo.getElementAt(2).getNumero());
+        assertThrows(IndexOutOfBoundsException.class, () -> modelo.getElementAt(3));
+    }
+
+    @Test
+    void testAvisaALaLista() {
+        ModeloBitacora modelo = new ModeloBitacora(2, null);
+        List<String> eventos = new ArrayList<>();
+        modelo.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                eventos.add("+" + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                eventos.add("-" + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                eventos.add("*");
+            }
+        });
+        modelo.agregar(entrada(1));
+        modelo.agregar(entrada(2));
+        modelo.agregar(entrada(3));
+        modelo.limpiar();
+        assertEquals(List.of("+0-0", "+1-1", "-0-0", "+1-1", "-0-1"), eventos);
+        assertEquals(0, modelo.getSize());
+    }
+
+    @Test
+    void testDerramaLasDescartadas() throws Exception {
+        File archivo = File.createTempFile("bitacora", ".log");
+        archivo.deleteOnExit();
+        ModeloBitacora modelo = new ModeloBitacora(2, archivo);
+        for (int i = 1; i <= 4; i++) {
+            modelo.agregar(entrada(i));
+        }
+        modelo.limpiar();
+        modelo.cerrar();
+
+        String texto = Files.readString(archivo.toPath(), StandardCharsets.UTF_8);
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(texto.contains("# " + i + " ronda=1 LANZAMIENTO\nLanzamiento " + i + "\n"),
+                    "Falta la entrada " + i + " en el derrame.");
+        }
+        assertTrue(texto.indexOf("# 1 ") < texto.indexOf("# 4 "), "El derrame conserva el orden.");
+    }
+
+    @Test
+    void testRafagaConColaDeDerrameAcotada() throws Exception {
+        File archivo = File.createTempFile("bitacora", ".log");
+        archivo.deleteOnExit();
+        ModeloBitacora modelo = new ModeloBitacora(2, archivo, 64);
+        int total = 20000;
+        for (int i = 1; i <= total; i++) {
+            modelo.agregar(entrada(i));
+        }
+        modelo.cerrar();
+
+        long escritas = Files.readAllLines(archivo.toPath(), StandardCharsets.UTF_8).stream()
+                .filter(linea -> linea.startsWith("# "))
+                .count();
+        assertEquals(total - 2, escritas + modelo.getSinDerramar(),
+                "Cada descartada se escribe o se cuenta como no derramada.");
+        assertEquals(total - 2, modelo.getDescartadas());
+    }
+
+    @Test
+    void testLoteConUnSoloAviso() throws Exception {
+        File archivo = File.createTempFile("bitacora", ".log");
+        archivo.deleteOnExit();
+        ModeloBitacora modelo = new ModeloBitacora(3, archivo);
+        List<String> eventos = new ArrayList<>();
+        modelo.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                eventos.add("+" + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                eventos.add("-" + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                eventos.add("*" + e.getIndex0() + "-" + e.getIndex1());
+            }
+        });
+        modelo.agregarTodas(List.of(entrada(1), entrada(2)));
+        List<EntradaBitacora> rafaga = new ArrayList<>();
+        for (int i = 3; i <= 10; i++) {
+            rafaga.add(entrada(i));
+        }
+        modelo.agregarTodas(rafaga);
+        modelo.cerrar();
+
+        assertEquals(List.of("+0-1", "*0-2"), eventos, "Un aviso por lote.");
+        assertEquals(3, modelo.getSize());
+        assertEquals(8, modelo.getElementAt(0).getNumero(), "Sólo entran las últimas del lote.");
+        assertEquals(10, modelo.getElementAt(2).getNumero());
+        assertEquals(7, modelo.getDescartadas());
+
+        String texto = Files.readString(archivo.toPath(), StandardCharsets.UTF_8);
+        int anterior = -1;
+        for (int i = 1; i <= 7; i++) {
+            int posicion = texto.indexOf("# " + i + " ");
+            assertTrue(posicion > anterior, "El derrame conserva el orden en la entrada " + i + ".");
+            anterior = posicion;
+        }
+    }
+
+    @Test
+    void testCapacidadInvalida() {
+        assertThrows(IllegalArgumentException.class, () -> new ModeloBitacora(0, null));
+        assertThrows(IllegalArgumentException.class, () -> new ModeloBitacora(1, null, 0));
+    }
+}
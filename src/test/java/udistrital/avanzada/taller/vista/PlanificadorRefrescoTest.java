@@ -0,0 +1,87 @@
+package udistrital.avanzada.taller.vista;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para {@link PlanificadorRefresco}.
+ *
+ * @author Juan Sebastián Bravo Rojas
+ * @version 1.0 - 19/10/2026
+ */
+public class PlanificadorRefrescoTest {
+
+    @Test
+    void testAgrupaUnaRafagaEnPocosCuadros() throws Exception {
+        AtomicInteger estado = new AtomicInteger();
+        AtomicInteger visto = new AtomicInteger(-1);
+        AtomicInteger refrescos = new AtomicInteger();
+        AtomicBoolean fueraDelHiloDeEventos = new AtomicBoolean();
+        PlanificadorRefresco planificador = new PlanificadorRefresco(60, () -> {
+            // Un fallo dentro del hilo de eventos no llega a la prueba: se anota y se revisa después
+            if (!SwingUtilities.isEventDispatchThread()) {
+                fueraDelHiloDeEventos.set(true);
+            }
+            refrescos.incrementAndGet();
+            visto.set(estado.get());
+        });
+
+        for (int i = 1; i <= 10_000; i++) {
+            estado.set(i);
+            planificador.solicitar();
+        }
+        esperarHilosDeEventos(100);
+
+        assertFalse(fueraDelHiloDeEventos.get(), "El refresco corre en el hilo de eventos.");
+        assertEquals(10_000, visto.get(), "El último refresco ve el estado más reciente.");
+        assertTrue(refrescos.get() <= 3, "Se hicieron " + refrescos.get() + " refrescos para una ráfaga.");
+        assertEquals(refrescos.get(), planificador.getCuadros());
+    }
+
+    @Test
+    void testRespetaElIntervaloEntreCuadros() throws Exception {
+        AtomicInteger refrescos = new AtomicInteger();
+        PlanificadorRefresco planificador = new PlanificadorRefresco(10, refrescos::incrementAndGet);
+        long fin = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+        while (System.nanoTime() < fin) {
+            planificador.solicitar();
+            Thread.sleep(1);
+        }
+        esperarHilosDeEventos(150);
+        assertTrue(refrescos.get() >= 2 && refrescos.get() <= 8,
+                "A 10 cuadros por segundo hubo " + refrescos.get() + " refrescos en medio segundo.");
+    }
+
+    @Test
+    void testRefrescarAhora() throws Exception {
+        AtomicInteger refrescos = new AtomicInteger();
+        PlanificadorRefresco planificador = new PlanificadorRefresco(1, refrescos::incrementAndGet);
+        SwingUtilities.invokeAndWait(() -> {
+            planificador.refrescarAhora();
+            assertEquals(0, refrescos.get(), "Sin solicitudes no hay refresco.");
+            planificador.solicitar();
+            planificador.refrescarAhora();
+            assertEquals(1, refrescos.get());
+        });
+        esperarHilosDeEventos(50);
+        assertEquals(1, refrescos.get(), "La solicitud ya atendida no vuelve a refrescar.");
+    }
+
+    @Test
+    void testParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new PlanificadorRefresco(0, () -> { }));
+        assertThrows(IllegalArgumentException.class, () -> new PlanificadorRefresco(60, null));
+    }
+
+    private static void esperarHilosDeEventos(long milisegundos) throws Exception {
+        Thread.sleep(milisegundos);
+        CountDownLatch listo = new CountDownLatch(1);
+        SwingUtilities.invokeLater(listo::countDown);
+        assertTrue(listo.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,42 @@
+package udistrital.avanzada.taller.vista;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias para {@link ServicioFotos}.
+ *
+ * @author Paula Martínez
+ * @version 1.0 - 19/10/2026
+ */
+public class ServicioFotosTest {
+
+    private static final String FOTO = "/Images/Maluma.jpg";
+
+    @Test
+    void testMiniaturaCuadradaCompartida() throws Exception {
+        CacheImagenes cache = new CacheImagenes(CacheImagenes.PIXELES_POR_DEFECTO);
+        ServicioFotos servicio = new ServicioFotos(cache, 1);
+        assertNull(servicio.consultar(FOTO, 64), "Antes de cargar no hay miniatura.");
+
+        CompletableFuture<BufferedImage> primera = servicio.miniatura(FOTO, 64);
+        CompletableFuture<BufferedImage> segunda = servicio.miniatura(FOTO, 64);
+        BufferedImage imagen = primera.get(10, TimeUnit.SECONDS);
+        assertNotNull(imagen);
+        assertEquals(64, imagen.getWidth());
+        assertEquals(64, imagen.getHeight());
+        assertSame(imagen, segunda.get(10, TimeUnit.SECONDS), "Las ventanas comparten la miniatura.");
+        assertSame(imagen, servicio.consultar(FOTO, 64));
+        assertTrue(servicio.miniatura(FOTO, 64).isDone(), "Una miniatura cargada se entrega de inmediato.");
+    }
+
+    @Test
+    void testFotoInexistente() throws Exception {
+        ServicioFotos servicio = new ServicioFotos(new CacheImagenes(CacheImagenes.PIXELES_POR_DEFECTO), 1);
+        assertNull(servicio.miniatura("/Images/NoExiste.jpg", 64).get(10, TimeUnit.SECONDS));
+        assertNull(servicio.miniatura(null, 64).get(10, TimeUnit.SECONDS));
+    }
+}